@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.transforms.BatchTransform;
+import org.apache.iceberg.transforms.BatchTransforms;
+import org.apache.iceberg.transforms.Transform;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.SerializableFunction;
+
+/**
+ * Groups the rows of a columnar batch by partition.
+ *
+ * <p>Partition values are computed a column at a time with {@link BatchTransforms} when the
+ * transform supports the source column type. Other partition fields fall back to the functions
+ * returned by {@link Transform#bind(Type)}, one value at a time.
+ *
+ * <p>Source columns must be top-level columns of the input schema, and the columns of each batch
+ * must be in the same order as the input schema. Instances reuse buffers between batches and are
+ * not thread-safe.
+ *
+ * @param <B> the Java class of batches
+ */
+public abstract class BatchPartitioner<B> {
+  private final PartitionKey template;
+  private final int[] sourcePositions;
+  private final BatchTransform[] batchTransforms;
+  private final SerializableFunction<Object, Object>[] transforms;
+  private final boolean[] intResults;
+  private final long[][] values;
+  private final boolean[][] nulls;
+  private final Object[][] objects;
+  private int capacity = 0;
+
+  @SuppressWarnings("unchecked")
+  protected BatchPartitioner(PartitionSpec spec, Schema inputSchema) {
+    List<PartitionField> fields = spec.fields();
+    List<Types.NestedField> columns = inputSchema.columns();
+    int size = fields.size();
+
+    this.template = new PartitionKey(spec, inputSchema);
+    this.sourcePositions = new int[size];
+    this.batchTransforms = new BatchTransform[size];
+    this.transforms =
+        (SerializableFunction<Object, Object>[])
+            Array.newInstance(SerializableFunction.class, size);
+    this.intResults = new boolean[size];
+    this.values = new long[size][];
+    this.nulls = new boolean[size][];
+    this.objects = new Object[size][];
+
+    for (int i = 0; i < size; i += 1) {
+      PartitionField field = fields.get(i);
+      Types.NestedField source = inputSchema.findField(field.sourceId());
+      Preconditions.checkArgument(
+          source != null, "Cannot find source column for partition field: %s", field);
+
+      int position = columns.indexOf(source);
+      Preconditions.checkArgument(
+          position >= 0, "Cannot partition a batch by nested column: %s", source.name());
+      this.sourcePositions[i] = position;
+
+      Transform<?, ?> transform = field.transform();
+      Type sourceType = source.type();
+      if (BatchTransforms.canBind(transform, sourceType)) {
+        Type.TypeID resultType = transform.getResultType(sourceType).typeId();
+        this.batchTransforms[i] = BatchTransforms.bind(transform, sourceType);
+        this.intResults[i] = resultType == Type.TypeID.INTEGER || resultType == Type.TypeID.DATE;
+      } else {
+        this.transforms[i] = ((Transform<Object, Object>) transform).bind(sourceType);
+      }
+    }
+  }
+
+  /** Returns the number of rows in a batch. */
+  protected abstract int numRows(B batch);
+
+  /**
+   * Reads the values of an int, long, date, time, or timestamp column.
+   *
+   * <p>Int and date values must be widened to long. Values for null positions are ignored.
+   *
+   * @param batch a batch
+   * @param ordinal the position of the column in the batch
+   * @param values an array to store the column's values
+   * @param isNull an array to store whether each value is null
+   * @param numRows the number of rows to read
+   */
+  protected abstract void readLongs(
+      B batch, int ordinal, long[] values, boolean[] isNull, int numRows);
+
+  /**
+   * Returns a value from a batch using Iceberg's internal Java representation.
+   *
+   * @param batch a batch
+   * @param ordinal the position of the column in the batch
+   * @param row the position of the row in the batch
+   * @return the value, or null if the value is null
+   */
+  protected abstract Object get(B batch, int ordinal, int row);
+
+  /**
+   * Groups the rows of a batch by partition.
+   *
+   * <p>Partitions are returned in the order of the first row in each partition, and the rows of
+   * each partition are returned in ascending order.
+   *
+   * @param batch a batch
+   * @return a map from partition to the positions of the rows in that partition
+   */
+  public Map<PartitionKey, int[]> partition(B batch) {
+    int numRows = numRows(batch);
+    if (numRows == 0) {
+      return Maps.newLinkedHashMap();
+    }
+
+    ensureCapacity(numRows);
+
+    for (int i = 0; i < sourcePositions.length; i += 1) {
+      int ordinal = sourcePositions[i];
+      if (batchTransforms[i] != null) {
+        readLongs(batch, ordinal, values[i], nulls[i], numRows);
+        batchTransforms[i].apply(values[i], values[i], numRows);
+      } else {
+        Object[] transformed = objects[i];
+        for (int row = 0; row < numRows; row += 1) {
+          transformed[row] = transforms[i].apply(get(batch, ordinal, row));
+        }
+      }
+    }
+
+    Map<PartitionKey, Selection> selections = Maps.newLinkedHashMap();
+    PartitionKey key = template.copy();
+    Selection current = null;
+    for (int row = 0; row < numRows; row += 1) {
+      // rows are often clustered by partition so only look up the partition when it changes
+      if (current == null || !sameAsPreviousRow(row)) {
+        setPartition(key, row);
+        current = selections.get(key);
+        if (current == null) {
+          current = new Selection();
+          selections.put(key.copy(), current);
+        }
+      }
+
+      current.add(row);
+    }
+
+    Map<PartitionKey, int[]> partitions = Maps.newLinkedHashMap();
+    selections.forEach((partition, selection) -> partitions.put(partition, selection.toArray()));
+    return partitions;
+  }
+
+  private boolean sameAsPreviousRow(int row) {
+    for (int i = 0; i < sourcePositions.length; i += 1) {
+      if (batchTransforms[i] != null) {
+        boolean isNull = nulls[i][row];
+        if (isNull != nulls[i][row - 1] || (!isNull && values[i][row] != values[i][row - 1])) {
+          return false;
+        }
+      } else if (!Objects.equals(objects[i][row], objects[i][row - 1])) {
+        return false;
+      }
+    }
+
+    return true;
+  }
+
+  private void setPartition(PartitionKey key, int row) {
+    for (int i = 0; i < sourcePositions.length; i += 1) {
+      if (batchTransforms[i] == null) {
+        key.set(i, objects[i][row]);
+      } else if (nulls[i][row]) {
+        key.set(i, null);
+      } else if (intResults[i]) {
+        key.set(i, (int) values[i][row]);
+      } else {
+        key.set(i, values[i][row]);
+      }
+    }
+  }
+
+  private void ensureCapacity(int numRows) {
+    if (numRows <= capacity) {
+      return;
+    }
+
+    for (int i = 0; i < sourcePositions.length; i += 1) {
+      if (batchTransforms[i] != null) {
+        values[i] = new long[numRows];
+        nulls[i] = new boolean[numRows];
+      } else {
+        objects[i] = new Object[numRows];
+      }
+    }
+
+    this.capacity = numRows;
+  }
+
+  private static class Selection {
+    private int[] rows = new int[16];
+    private int size = 0;
+
+    private void add(int row) {
+      if (size == rows.length) {
+        this.rows = Arrays.copyOf(rows, size * 2);
+      }
+
+      rows[size] = row;
+      size += 1;
+    }
+
+    private int[] toArray() {
+      return Arrays.copyOf(rows, size);
+    }
+  }
+}
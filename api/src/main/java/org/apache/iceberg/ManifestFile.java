@@ -23,6 +23,7 @@ import static org.apache.iceberg.types.Types.NestedField.required;
 
 import java.nio.ByteBuffer;
 import java.util.List;
+import java.util.Map;
 import org.apache.iceberg.types.Types;
 
 /** Represents a manifest file that can be scanned to find data files in a table. */
@@ -87,7 +88,19 @@ public interface ManifestFile {
           "Summary for each partition");
   Types.NestedField KEY_METADATA =
       optional(519, "key_metadata", Types.BinaryType.get(), "Encryption key metadata blob");
-  // next ID to assign: 520
+  Types.NestedField COLUMN_LOWER_BOUNDS =
+      optional(
+          520,
+          "column_lower_bounds",
+          Types.MapType.ofRequired(521, 522, Types.IntegerType.get(), Types.BinaryType.get()),
+          "Map of column id to lower bound for all files");
+  Types.NestedField COLUMN_UPPER_BOUNDS =
+      optional(
+          523,
+          "column_upper_bounds",
+          Types.MapType.ofRequired(524, 525, Types.IntegerType.get(), Types.BinaryType.get()),
+          "Map of column id to upper bound for all files");
+  // next ID to assign: 526
 
   Schema SCHEMA =
       new Schema(
@@ -105,7 +118,9 @@ public interface ManifestFile {
           EXISTING_ROWS_COUNT,
           DELETED_ROWS_COUNT,
           PARTITION_SUMMARIES,
-          KEY_METADATA);
+          KEY_METADATA,
+          COLUMN_LOWER_BOUNDS,
+          COLUMN_UPPER_BOUNDS);
 
   static Schema schema() {
     return SCHEMA;
@@ -200,6 +215,27 @@ public interface ManifestFile {
     return null;
   }
 
+  /**
+   * Returns a map from column id to a lower bound of the column's values in all files in the
+   * manifest, or null if column bounds were not collected.
+   *
+   * <p>Bounds are only collected for selected columns. A column is missing from the map if any file
+   * in the manifest has no bounds for it.
+   */
+  default Map<Integer, ByteBuffer> columnLowerBounds() {
+    return null;
+  }
+
+  /**
+   * Returns a map from column id to an upper bound of the column's values in all files in the
+   * manifest, or null if column bounds were not collected.
+   *
+   * @see #columnLowerBounds()
+   */
+  default Map<Integer, ByteBuffer> columnUpperBounds() {
+    return null;
+  }
+
   /**
    * Copies this {@link ManifestFile manifest file}. Readers can reuse manifest file instances; use
    * this method to make defensive copies.
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg;
 
+import java.util.Comparator;
 import java.util.function.Function;
 import java.util.function.Predicate;
 
@@ -48,6 +49,26 @@ public interface RewriteManifests extends SnapshotUpdate<RewriteManifests> {
    */
   RewriteManifests clusterBy(Function<DataFile, Object> func);
 
+  /**
+   * Sorts data files within each cluster before they are written to manifests.
+   *
+   * <p>Files in a cluster are written in this order and a new manifest is started when the target
+   * manifest size is reached, so that each manifest covers a narrow range of the sort order. This
+   * is used to cluster manifests by data column ranges in addition to partitions. Sorting requires
+   * buffering the entries of rewritten manifests in memory. The sort key of each file is computed
+   * once, when the file is buffered.
+   *
+   * @param sortKeyFunc a function that returns the sort key of a data file
+   * @param keyComparator a comparator used to order sort keys within a cluster
+   * @param <K> the Java class of sort keys
+   * @return this for method chaining
+   */
+  default <K> RewriteManifests sortBy(
+      Function<DataFile, K> sortKeyFunc, Comparator<? super K> keyComparator) {
+    throw new UnsupportedOperationException(
+        this.getClass().getName() + " does not implement sortBy");
+  }
+
   /**
    * Determines which existing {@link ManifestFile} for the table should be rewritten. Manifests
    * that do not match the predicate are kept as-is. If this is not called and no predicate is set,
@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.actions;
+
+import javax.annotation.Nullable;
+import org.apache.iceberg.PartitionStatisticsFile;
+import org.immutables.value.Value;
+
+/**
+ * An action that computes and writes the partition statistics file of a snapshot and registers it
+ * in the table metadata.
+ *
+ * <p>Implementations may compute the stats incrementally from the partition statistics file of an
+ * ancestor snapshot.
+ */
+@Value.Enclosing
+public interface ComputePartitionStats
+    extends Action<ComputePartitionStats, ComputePartitionStats.Result> {
+  /**
+   * Computes partition stats for a given snapshot.
+   *
+   * <p>If not set, defaults to the table's current snapshot.
+   *
+   * @param snapshotId a snapshot ID
+   * @return this for method chaining
+   */
+  ComputePartitionStats snapshot(long snapshotId);
+
+  /** The action result that contains a summary of the execution. */
+  @Value.Immutable
+  interface Result {
+    /** Returns the partition statistics file, or null if the table has no snapshots. */
+    @Nullable
+    PartitionStatisticsFile statisticsFile();
+  }
+}
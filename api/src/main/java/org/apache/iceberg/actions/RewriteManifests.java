@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.actions;
 
+import java.util.List;
 import java.util.function.Predicate;
 import org.apache.iceberg.ManifestFile;
 import org.immutables.value.Value;
@@ -56,6 +57,20 @@ public interface RewriteManifests
    */
   RewriteManifests stagingLocation(String stagingLocation);
 
+  /**
+   * Sorts data files by the lower bounds of the given columns within each partition, so that new
+   * manifests cover narrow ranges of these columns. More than one column produces a z-order.
+   *
+   * <p>If not set, data files are only clustered by partition.
+   *
+   * @param columns names of data columns
+   * @return this for method chaining
+   */
+  default RewriteManifests sortBy(List<String> columns) {
+    throw new UnsupportedOperationException(
+        this.getClass().getName() + " does not implement sortBy");
+  }
+
   /** The action result that contains a summary of the execution. */
   @Value.Immutable
   interface Result {
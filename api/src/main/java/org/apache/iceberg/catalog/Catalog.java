@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.catalog;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import org.apache.iceberg.PartitionSpec;
@@ -28,6 +29,7 @@ import org.apache.iceberg.Transaction;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 /** A Catalog API for table create, drop, and load operations. */
 public interface Catalog {
@@ -325,6 +327,29 @@ public interface Catalog {
    */
   Table loadTable(TableIdentifier identifier);
 
+  /**
+   * Load a batch of tables.
+   *
+   * <p>Catalogs may override this to load tables using fewer requests than calling {@link
+   * #loadTable(TableIdentifier)} for each identifier.
+   *
+   * @param identifiers a collection of table identifiers
+   * @return a map from identifier to {@link Table} for each identifier that refers to a table;
+   *     identifiers of tables that do not exist are not included
+   */
+  default Map<TableIdentifier, Table> loadTables(Collection<TableIdentifier> identifiers) {
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      try {
+        tables.put(identifier, loadTable(identifier));
+      } catch (NoSuchTableException e) {
+        // tables that do not exist are not included
+      }
+    }
+
+    return tables;
+  }
+
   /**
    * Invalidate cached table metadata from current catalog.
    *
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.catalog;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -29,6 +30,7 @@ import org.apache.iceberg.exceptions.NamespaceNotEmptyException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 /** A Catalog API for table and namespace operations that includes session context. */
 public interface SessionCatalog {
@@ -196,6 +198,28 @@ public interface SessionCatalog {
    */
   Table loadTable(SessionContext context, TableIdentifier ident);
 
+  /**
+   * Load a batch of tables.
+   *
+   * @param context session context
+   * @param identifiers a collection of table identifiers
+   * @return a map from identifier to {@link Table} for each identifier that refers to a table;
+   *     identifiers of tables that do not exist are not included
+   */
+  default Map<TableIdentifier, Table> loadTables(
+      SessionContext context, Collection<TableIdentifier> identifiers) {
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : identifiers) {
+      try {
+        tables.put(identifier, loadTable(context, identifier));
+      } catch (NoSuchTableException e) {
+        // tables that do not exist are not included
+      }
+    }
+
+    return tables;
+  }
+
   /**
    * Drop a table, without requesting that files are immediately deleted.
    *
@@ -21,17 +21,24 @@ package org.apache.iceberg.expressions;
 import static org.apache.iceberg.expressions.Expressions.rewriteNot;
 
 import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 import org.apache.iceberg.ContentFile;
 import org.apache.iceberg.DataFile;
+import org.apache.iceberg.ManifestFile;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.expressions.ExpressionVisitors.BoundExpressionVisitor;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
 import org.apache.iceberg.types.Types.StructType;
 import org.apache.iceberg.util.BinaryUtil;
 import org.apache.iceberg.util.NaNUtil;
@@ -50,11 +57,17 @@ import org.apache.iceberg.util.NaNUtil;
  * the first value in a file is NaN, metrics of this file will report NaN for both upper and lower
  * bound despite that the column could contain non-NaN data. Thus in some scenarios explicitly
  * checks for NaN is necessary in order to not skip files that may contain matching data.
+ *
+ * <p>Lower and upper bounds are decoded lazily, at most once per file for each referenced column,
+ * no matter how many predicates reference the column.
  */
 public class InclusiveMetricsEvaluator {
   private static final int IN_PREDICATE_LIMIT = 200;
+  private static final Object NOT_DECODED = new Object();
 
   private final Expression expr;
+  // position of each referenced field id in the decoded bound caches
+  private final Map<Integer, Integer> boundPositions;
 
   public InclusiveMetricsEvaluator(Schema schema, Expression unbound) {
     this(schema, unbound, true);
@@ -63,6 +76,16 @@ public class InclusiveMetricsEvaluator {
   public InclusiveMetricsEvaluator(Schema schema, Expression unbound, boolean caseSensitive) {
     StructType struct = schema.asStruct();
     this.expr = Binder.bind(struct, rewriteNot(unbound), caseSensitive);
+
+    List<Expression> exprs = ImmutableList.of(expr);
+    ImmutableMap.Builder<Integer, Integer> positions = ImmutableMap.builder();
+    int pos = 0;
+    for (Integer fieldId : Binder.boundReferences(struct, exprs, caseSensitive)) {
+      positions.put(fieldId, pos);
+      pos += 1;
+    }
+
+    this.boundPositions = positions.build();
   }
 
   /**
@@ -76,6 +99,24 @@ public class InclusiveMetricsEvaluator {
     return new MetricsEvalVisitor().eval(file);
   }
 
+  /**
+   * Test whether a manifest may contain files with records that match the expression, using the
+   * manifest's column bounds.
+   *
+   * @param manifest a manifest file
+   * @return false if the manifest cannot contain rows that match the expression, true otherwise.
+   */
+  public boolean eval(ManifestFile manifest) {
+    Map<Integer, ByteBuffer> lowerBounds = manifest.columnLowerBounds();
+    Map<Integer, ByteBuffer> upperBounds = manifest.columnUpperBounds();
+    if (lowerBounds == null && upperBounds == null) {
+      return ROWS_MIGHT_MATCH;
+    }
+
+    // manifests have no value counts, so only the bounds are used
+    return new MetricsEvalVisitor().eval(null, null, null, lowerBounds, upperBounds);
+  }
+
   private static final boolean ROWS_MIGHT_MATCH = true;
   private static final boolean ROWS_CANNOT_MATCH = false;
 
@@ -85,6 +126,8 @@ public class InclusiveMetricsEvaluator {
     private Map<Integer, Long> nanCounts = null;
     private Map<Integer, ByteBuffer> lowerBounds = null;
     private Map<Integer, ByteBuffer> upperBounds = null;
+    private Object[] lowerValues = null;
+    private Object[] upperValues = null;
 
     private boolean eval(ContentFile<?> file) {
       if (file.recordCount() == 0) {
@@ -98,11 +141,27 @@ public class InclusiveMetricsEvaluator {
         return ROWS_MIGHT_MATCH;
       }
 
-      this.valueCounts = file.valueCounts();
-      this.nullCounts = file.nullValueCounts();
-      this.nanCounts = file.nanValueCounts();
-      this.lowerBounds = file.lowerBounds();
-      this.upperBounds = file.upperBounds();
+      return eval(
+          file.valueCounts(),
+          file.nullValueCounts(),
+          file.nanValueCounts(),
+          file.lowerBounds(),
+          file.upperBounds());
+    }
+
+    private boolean eval(
+        Map<Integer, Long> fileValueCounts,
+        Map<Integer, Long> fileNullCounts,
+        Map<Integer, Long> fileNanCounts,
+        Map<Integer, ByteBuffer> fileLowerBounds,
+        Map<Integer, ByteBuffer> fileUpperBounds) {
+      this.valueCounts = fileValueCounts;
+      this.nullCounts = fileNullCounts;
+      this.nanCounts = fileNanCounts;
+      this.lowerBounds = fileLowerBounds;
+      this.upperBounds = fileUpperBounds;
+      this.lowerValues = notDecoded(lowerBounds);
+      this.upperValues = notDecoded(upperBounds);
 
       return ExpressionVisitors.visitEvaluator(expr, this);
     }
@@ -207,9 +266,8 @@ public class InclusiveMetricsEvaluator {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
+      T lower = lowerBound(ref);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
           return ROWS_MIGHT_MATCH;
@@ -232,9 +290,8 @@ public class InclusiveMetricsEvaluator {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
+      T lower = lowerBound(ref);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
           return ROWS_MIGHT_MATCH;
@@ -257,9 +314,8 @@ public class InclusiveMetricsEvaluator {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-
+      T upper = upperBound(ref);
+      if (upper != null) {
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp <= 0) {
           return ROWS_CANNOT_MATCH;
@@ -277,9 +333,8 @@ public class InclusiveMetricsEvaluator {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-
+      T upper = upperBound(ref);
+      if (upper != null) {
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp < 0) {
           return ROWS_CANNOT_MATCH;
@@ -297,9 +352,8 @@ public class InclusiveMetricsEvaluator {
         return ROWS_CANNOT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
+      T lower = lowerBound(ref);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
           return ROWS_MIGHT_MATCH;
@@ -311,9 +365,8 @@ public class InclusiveMetricsEvaluator {
         }
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
-
+      T upper = upperBound(ref);
+      if (upper != null) {
         int cmp = lit.comparator().compare(upper, lit.value());
         if (cmp < 0) {
           return ROWS_CANNOT_MATCH;
@@ -345,9 +398,8 @@ public class InclusiveMetricsEvaluator {
         return ROWS_MIGHT_MATCH;
       }
 
-      if (lowerBounds != null && lowerBounds.containsKey(id)) {
-        T lower = Conversions.fromByteBuffer(ref.type(), lowerBounds.get(id));
-
+      T lower = lowerBound(ref);
+      if (lower != null) {
         if (NaNUtil.isNaN(lower)) {
           // NaN indicates unreliable bounds. See the InclusiveMetricsEvaluator docs for more.
           return ROWS_MIGHT_MATCH;
@@ -362,8 +414,8 @@ public class InclusiveMetricsEvaluator {
         }
       }
 
-      if (upperBounds != null && upperBounds.containsKey(id)) {
-        T upper = Conversions.fromByteBuffer(ref.type(), upperBounds.get(id));
+      T upper = upperBound(ref);
+      if (upper != null) {
         literals =
             literals.stream()
                 .filter(v -> ref.comparator().compare(upper, v) >= 0)
@@ -470,6 +522,46 @@ public class InclusiveMetricsEvaluator {
       return ROWS_MIGHT_MATCH;
     }
 
+    private <T> T lowerBound(BoundReference<T> ref) {
+      return bound(ref, lowerBounds, lowerValues);
+    }
+
+    private <T> T upperBound(BoundReference<T> ref) {
+      return bound(ref, upperBounds, upperValues);
+    }
+
+    /** Returns the decoded bound for a reference, or null if the file has no bound for it. */
+    @SuppressWarnings("unchecked")
+    private <T> T bound(
+        BoundReference<T> ref, Map<Integer, ByteBuffer> bounds, Object[] decodedValues) {
+      if (bounds == null) {
+        return null;
+      }
+
+      Integer pos = boundPositions.get(ref.fieldId());
+      if (pos == null || decodedValues == null) {
+        return (T) decode(ref.type(), bounds.get(ref.fieldId()));
+      }
+
+      Object value = decodedValues[pos];
+      if (value == NOT_DECODED) {
+        value = decode(ref.type(), bounds.get(ref.fieldId()));
+        decodedValues[pos] = value;
+      }
+
+      return (T) value;
+    }
+
+    private Object[] notDecoded(Map<Integer, ByteBuffer> bounds) {
+      if (bounds == null || bounds.isEmpty()) {
+        return null;
+      }
+
+      Object[] values = new Object[boundPositions.size()];
+      Arrays.fill(values, NOT_DECODED);
+      return values;
+    }
+
     private boolean mayContainNull(Integer id) {
       return nullCounts == null || (nullCounts.containsKey(id) && nullCounts.get(id) != 0);
     }
@@ -489,4 +581,51 @@ public class InclusiveMetricsEvaluator {
           && nanCounts.get(id).equals(valueCounts.get(id));
     }
   }
+
+  /**
+   * Decodes a single-value bound.
+   *
+   * <p>Fixed-width numeric bounds are read in place, without duplicating the buffer; other types
+   * use {@link Conversions#fromByteBuffer(Type, ByteBuffer)}.
+   */
+  private static Object decode(Type type, ByteBuffer buffer) {
+    if (buffer == null) {
+      return null;
+    }
+
+    switch (type.typeId()) {
+      case INTEGER:
+      case DATE:
+        return readInt(buffer);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        if (buffer.remaining() < 8) {
+          // type was later promoted to long
+          return (long) readInt(buffer);
+        }
+        return readLong(buffer);
+      case FLOAT:
+        return Float.intBitsToFloat(readInt(buffer));
+      case DOUBLE:
+        if (buffer.remaining() < 8) {
+          // type was later promoted to double
+          return (double) Float.intBitsToFloat(readInt(buffer));
+        }
+        return Double.longBitsToDouble(readLong(buffer));
+      default:
+        return Conversions.fromByteBuffer(type, buffer);
+    }
+  }
+
+  // bounds are little-endian, but the buffer's order is not changed because it may be shared
+  private static int readInt(ByteBuffer buffer) {
+    int value = buffer.getInt(buffer.position());
+    return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Integer.reverseBytes(value);
+  }
+
+  private static long readLong(ByteBuffer buffer) {
+    long value = buffer.getLong(buffer.position());
+    return buffer.order() == ByteOrder.LITTLE_ENDIAN ? value : Long.reverseBytes(value);
+  }
 }
@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import java.io.Serializable;
+
+/**
+ * A transform function that is applied to a batch of values.
+ *
+ * <p>Source values are passed as longs: int and date values are widened and long, time, and
+ * timestamp values are passed as-is. Results are also returned as longs and can be narrowed to int
+ * when the transform's result type is an int or date.
+ *
+ * <p>Batch functions do not handle nulls. Callers must track null values separately and ignore the
+ * results for those positions.
+ *
+ * @see BatchTransforms#bind(Transform, org.apache.iceberg.types.Type)
+ */
+@FunctionalInterface
+public interface BatchTransform extends Serializable {
+  /**
+   * Transforms the first {@code numValues} source values into {@code results}.
+   *
+   * <p>The results array may be the same as the values array to transform values in place.
+   *
+   * @param values an array of source values
+   * @param results an array to store the transformed values
+   * @param numValues the number of values to transform
+   */
+  void apply(long[] values, long[] results, int numValues);
+}
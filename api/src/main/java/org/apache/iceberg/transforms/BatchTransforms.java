@@ -0,0 +1,205 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import java.time.temporal.ChronoUnit;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.util.BucketUtil;
+import org.apache.iceberg.util.DateTimeUtil;
+import org.apache.iceberg.util.TruncateUtil;
+
+/**
+ * Factory methods for {@link BatchTransform} functions.
+ *
+ * <p>Batch functions are available for identity, bucket, truncate, and time transforms of int,
+ * long, date, time, and timestamp values. Results are identical to the functions returned by {@link
+ * Transform#bind(Type)}.
+ */
+public class BatchTransforms {
+
+  private BatchTransforms() {}
+
+  /**
+   * Returns whether a transform can be applied to a batch of values of the given type.
+   *
+   * @param transform a transform
+   * @param sourceType the type of source values
+   * @return true if {@link #bind(Transform, Type)} will return a batch function, false otherwise
+   */
+  public static boolean canBind(Transform<?, ?> transform, Type sourceType) {
+    return bindInternal(transform, sourceType) != null;
+  }
+
+  /**
+   * Returns a function that applies a transform to a batch of values of the given type.
+   *
+   * @param transform a transform
+   * @param sourceType the type of source values
+   * @return a batch function for the transform
+   * @throws IllegalArgumentException if the transform cannot be applied to a batch of values
+   */
+  public static BatchTransform bind(Transform<?, ?> transform, Type sourceType) {
+    BatchTransform batchTransform = bindInternal(transform, sourceType);
+    Preconditions.checkArgument(
+        batchTransform != null, "Cannot bind %s to a batch of %s values", transform, sourceType);
+    return batchTransform;
+  }
+
+  private static BatchTransform bindInternal(Transform<?, ?> transform, Type type) {
+    if (!isLongCompatible(type) || !transform.canTransform(type)) {
+      return null;
+    }
+
+    if (transform.isIdentity()) {
+      return BatchTransforms::copy;
+    } else if (transform instanceof Bucket) {
+      return bucket(((Bucket<?>) transform).numBuckets());
+    } else if (transform instanceof Truncate) {
+      return truncate(type, ((Truncate<?>) transform).width());
+    }
+
+    ChronoUnit granularity = granularity(transform);
+    if (granularity != null) {
+      return time(type, granularity);
+    }
+
+    return null;
+  }
+
+  private static ChronoUnit granularity(Transform<?, ?> transform) {
+    if (transform instanceof Years) {
+      return ChronoUnit.YEARS;
+    } else if (transform instanceof Months) {
+      return ChronoUnit.MONTHS;
+    } else if (transform instanceof Days) {
+      return ChronoUnit.DAYS;
+    } else if (transform instanceof Hours) {
+      return ChronoUnit.HOURS;
+    } else if (transform instanceof Dates) {
+      return ((Dates) transform).granularity();
+    } else if (transform instanceof Timestamps) {
+      return ((Timestamps) transform).granularity();
+    }
+
+    return null;
+  }
+
+  private static boolean isLongCompatible(Type type) {
+    switch (type.typeId()) {
+      case INTEGER:
+      case DATE:
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return true;
+      default:
+        return false;
+    }
+  }
+
+  private static void copy(long[] values, long[] results, int numValues) {
+    System.arraycopy(values, 0, results, 0, numValues);
+  }
+
+  private static BatchTransform bucket(int numBuckets) {
+    // ints are hashed as longs so both use the same hash function
+    return (values, results, numValues) -> {
+      for (int pos = 0; pos < numValues; pos += 1) {
+        results[pos] = (BucketUtil.hash(values[pos]) & Integer.MAX_VALUE) % numBuckets;
+      }
+    };
+  }
+
+  private static BatchTransform truncate(Type type, int width) {
+    switch (type.typeId()) {
+      case INTEGER:
+        return (values, results, numValues) -> {
+          for (int pos = 0; pos < numValues; pos += 1) {
+            results[pos] = TruncateUtil.truncateInt(width, (int) values[pos]);
+          }
+        };
+      case LONG:
+        return (values, results, numValues) -> {
+          for (int pos = 0; pos < numValues; pos += 1) {
+            results[pos] = TruncateUtil.truncateLong(width, values[pos]);
+          }
+        };
+      default:
+        return null;
+    }
+  }
+
+  private static BatchTransform time(Type type, ChronoUnit granularity) {
+    switch (type.typeId()) {
+      case DATE:
+        switch (granularity) {
+          case YEARS:
+            return (values, results, numValues) -> {
+              for (int pos = 0; pos < numValues; pos += 1) {
+                results[pos] = DateTimeUtil.daysToYears((int) values[pos]);
+              }
+            };
+          case MONTHS:
+            return (values, results, numValues) -> {
+              for (int pos = 0; pos < numValues; pos += 1) {
+                results[pos] = DateTimeUtil.daysToMonths((int) values[pos]);
+              }
+            };
+          case DAYS:
+            return BatchTransforms::copy;
+          default:
+            return null;
+        }
+
+      case TIMESTAMP:
+        switch (granularity) {
+          case YEARS:
+            return (values, results, numValues) -> {
+              for (int pos = 0; pos < numValues; pos += 1) {
+                results[pos] = DateTimeUtil.microsToYears(values[pos]);
+              }
+            };
+          case MONTHS:
+            return (values, results, numValues) -> {
+              for (int pos = 0; pos < numValues; pos += 1) {
+                results[pos] = DateTimeUtil.microsToMonths(values[pos]);
+              }
+            };
+          case DAYS:
+            return (values, results, numValues) -> {
+              for (int pos = 0; pos < numValues; pos += 1) {
+                results[pos] = DateTimeUtil.microsToDays(values[pos]);
+              }
+            };
+          case HOURS:
+            return (values, results, numValues) -> {
+              for (int pos = 0; pos < numValues; pos += 1) {
+                results[pos] = DateTimeUtil.microsToHours(values[pos]);
+              }
+            };
+          default:
+            return null;
+        }
+
+      default:
+        return null;
+    }
+  }
+}
@@ -73,6 +73,10 @@ enum Dates implements Transform<Integer, Integer> {
     this.apply = new Apply(granularity);
   }
 
+  ChronoUnit granularity() {
+    return granularity;
+  }
+
   @Override
   public Integer apply(Integer days) {
     return apply.apply(days);
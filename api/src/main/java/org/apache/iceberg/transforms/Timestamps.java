@@ -76,6 +76,10 @@ enum Timestamps implements Transform<Long, Integer> {
     this.apply = new Apply(granularity);
   }
 
+  ChronoUnit granularity() {
+    return granularity;
+  }
+
   @Override
   public Integer apply(Long timestampMicros) {
     return apply.apply(timestampMicros);
@@ -20,10 +20,7 @@ package org.apache.iceberg.util;
 
 import java.math.BigDecimal;
 import java.nio.ByteBuffer;
-import java.nio.charset.StandardCharsets;
 import java.util.UUID;
-import org.apache.iceberg.relocated.com.google.common.hash.HashFunction;
-import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
 
 /**
  * Contains the logic for hashing various types for use with the {@code bucket} partition
@@ -31,16 +28,14 @@ import org.apache.iceberg.relocated.com.google.common.hash.Hashing;
  */
 public class BucketUtil {
 
-  private static final HashFunction MURMUR3 = Hashing.murmur3_32_fixed();
-
   private BucketUtil() {}
 
   public static int hash(int value) {
-    return MURMUR3.hashLong((long) value).asInt();
+    return Murmur3.hashLong((long) value);
   }
 
   public static int hash(long value) {
-    return MURMUR3.hashLong(value).asInt();
+    return Murmur3.hashLong(value);
   }
 
   private static long doubleToLongBits(double value) {
@@ -56,45 +51,30 @@ public class BucketUtil {
   }
 
   public static int hash(float value) {
-    return MURMUR3.hashLong(doubleToLongBits((double) value)).asInt();
+    return Murmur3.hashLong(doubleToLongBits((double) value));
   }
 
   public static int hash(double value) {
-    return MURMUR3.hashLong(doubleToLongBits(value)).asInt();
+    return Murmur3.hashLong(doubleToLongBits(value));
   }
 
   public static int hash(CharSequence value) {
-    return MURMUR3.hashString(value, StandardCharsets.UTF_8).asInt();
+    return Murmur3.hashString(value);
   }
 
   public static int hash(ByteBuffer value) {
-    if (value.hasArray()) {
-      return MURMUR3
-          .hashBytes(value.array(), value.arrayOffset() + value.position(), value.remaining())
-          .asInt();
-    } else {
-      int position = value.position();
-      byte[] copy = new byte[value.remaining()];
-      try {
-        value.get(copy);
-      } finally {
-        // make sure the buffer position is unchanged
-        value.position(position);
-      }
-      return MURMUR3.hashBytes(copy).asInt();
-    }
+    return Murmur3.hashBytes(value);
   }
 
   public static int hash(UUID value) {
-    return MURMUR3
-        .newHasher(16)
-        .putLong(Long.reverseBytes(value.getMostSignificantBits()))
-        .putLong(Long.reverseBytes(value.getLeastSignificantBits()))
-        .hash()
-        .asInt();
+    // the most and least significant bits are hashed as big-endian bytes
+    return Murmur3.hashLongs(
+        Long.reverseBytes(value.getMostSignificantBits()),
+        Long.reverseBytes(value.getLeastSignificantBits()));
   }
 
   public static int hash(BigDecimal value) {
-    return MURMUR3.hashBytes(value.unscaledValue().toByteArray()).asInt();
+    byte[] unscaled = value.unscaledValue().toByteArray();
+    return Murmur3.hashBytes(unscaled, 0, unscaled.length);
   }
 }
@@ -35,6 +35,8 @@ public class DateTimeUtil {
   public static final LocalDate EPOCH_DAY = EPOCH.toLocalDate();
   public static final long MICROS_PER_MILLIS = 1000L;
   public static final long MICROS_PER_SECOND = 1_000_000L;
+  private static final long MICROS_PER_HOUR = 60 * 60 * MICROS_PER_SECOND;
+  private static final long MICROS_PER_DAY = 24 * MICROS_PER_HOUR;
 
   public static LocalDate dateFromDays(int daysFromEpoch) {
     return ChronoUnit.DAYS.addTo(EPOCH_DAY, daysFromEpoch);
@@ -164,11 +166,12 @@ public class DateTimeUtil {
   }
 
   public static int microsToDays(long micros) {
-    return convertMicros(micros, ChronoUnit.DAYS);
+    // UTC days and hours have a fixed length, so they don't need date-time conversion
+    return (int) Math.floorDiv(micros, MICROS_PER_DAY);
   }
 
   public static int microsToHours(long micros) {
-    return convertMicros(micros, ChronoUnit.HOURS);
+    return (int) Math.floorDiv(micros, MICROS_PER_HOUR);
   }
 
   private static int convertMicros(long micros, ChronoUnit granularity) {
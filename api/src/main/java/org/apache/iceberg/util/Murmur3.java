@@ -0,0 +1,201 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * 32-bit Murmur3 (x86 variant, seed 0) over primitive inputs without intermediate objects.
+ *
+ * <p>Results are identical to Guava's {@code Hashing.murmur3_32_fixed()}, which defines the hash
+ * used by the {@code bucket} transform in the spec. Longs are hashed as 8 little-endian bytes and
+ * strings are hashed as UTF-8 bytes, which are encoded while hashing.
+ */
+class Murmur3 {
+  private static final int C1 = 0xcc9e2d51;
+  private static final int C2 = 0x1b873593;
+
+  private Murmur3() {}
+
+  static int hashLong(long value) {
+    int h1 = mixH1(0, mixK1((int) value));
+    h1 = mixH1(h1, mixK1((int) (value >>> 32)));
+    return fmix(h1, Long.BYTES);
+  }
+
+  /** Hashes two longs as 16 little-endian bytes. */
+  static int hashLongs(long first, long second) {
+    int h1 = mixH1(0, mixK1((int) first));
+    h1 = mixH1(h1, mixK1((int) (first >>> 32)));
+    h1 = mixH1(h1, mixK1((int) second));
+    h1 = mixH1(h1, mixK1((int) (second >>> 32)));
+    return fmix(h1, 2 * Long.BYTES);
+  }
+
+  static int hashBytes(byte[] bytes, int offset, int length) {
+    int h1 = 0;
+    int pos = 0;
+    for (; pos + Integer.BYTES <= length; pos += Integer.BYTES) {
+      int index = offset + pos;
+      int k1 =
+          (bytes[index] & 0xFF)
+              | (bytes[index + 1] & 0xFF) << 8
+              | (bytes[index + 2] & 0xFF) << 16
+              | (bytes[index + 3] & 0xFF) << 24;
+      h1 = mixH1(h1, mixK1(k1));
+    }
+
+    int k1 = 0;
+    for (int shift = 0; pos < length; pos += 1, shift += 8) {
+      k1 ^= (bytes[offset + pos] & 0xFF) << shift;
+    }
+
+    h1 ^= mixK1(k1);
+    return fmix(h1, length);
+  }
+
+  /** Hashes the remaining bytes of a buffer without changing its position. */
+  static int hashBytes(ByteBuffer buffer) {
+    if (buffer.hasArray()) {
+      return hashBytes(
+          buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+    }
+
+    int start = buffer.position();
+    int length = buffer.remaining();
+    int h1 = 0;
+    int pos = 0;
+    for (; pos + Integer.BYTES <= length; pos += Integer.BYTES) {
+      int index = start + pos;
+      int k1 =
+          (buffer.get(index) & 0xFF)
+              | (buffer.get(index + 1) & 0xFF) << 8
+              | (buffer.get(index + 2) & 0xFF) << 16
+              | (buffer.get(index + 3) & 0xFF) << 24;
+      h1 = mixH1(h1, mixK1(k1));
+    }
+
+    int k1 = 0;
+    for (int shift = 0; pos < length; pos += 1, shift += 8) {
+      k1 ^= (buffer.get(start + pos) & 0xFF) << shift;
+    }
+
+    h1 ^= mixK1(k1);
+    return fmix(h1, length);
+  }
+
+  /** Hashes the UTF-8 encoding of a string. */
+  static int hashString(CharSequence value) {
+    int utf16Length = value.length();
+    int h1 = 0;
+    int pos = 0;
+    int length = 0;
+
+    // fast path for ASCII characters, 4 at a time
+    while (pos + 4 <= utf16Length) {
+      char c0 = value.charAt(pos);
+      char c1 = value.charAt(pos + 1);
+      char c2 = value.charAt(pos + 2);
+      char c3 = value.charAt(pos + 3);
+      if (c0 >= 0x80 || c1 >= 0x80 || c2 >= 0x80 || c3 >= 0x80) {
+        break;
+      }
+
+      h1 = mixH1(h1, mixK1(c0 | c1 << 8 | c2 << 16 | c3 << 24));
+      pos += 4;
+      length += 4;
+    }
+
+    long buffer = 0;
+    int shift = 0;
+    for (; pos < utf16Length; pos += 1) {
+      char ch = value.charAt(pos);
+      if (ch < 0x80) {
+        buffer |= (long) ch << shift;
+        shift += 8;
+        length += 1;
+      } else if (ch < 0x800) {
+        buffer |= twoUtf8Bytes(ch) << shift;
+        shift += 16;
+        length += 2;
+      } else if (ch < Character.MIN_SURROGATE || ch > Character.MAX_SURROGATE) {
+        buffer |= threeUtf8Bytes(ch) << shift;
+        shift += 24;
+        length += 3;
+      } else {
+        int codePoint = Character.codePointAt(value, pos);
+        if (codePoint == ch) {
+          // unpaired surrogate, let the JDK apply its replacement rules
+          byte[] bytes = value.toString().getBytes(StandardCharsets.UTF_8);
+          return hashBytes(bytes, 0, bytes.length);
+        }
+
+        pos += 1;
+        buffer |= fourUtf8Bytes(codePoint) << shift;
+        shift += 32;
+        length += 4;
+      }
+
+      if (shift >= 32) {
+        h1 = mixH1(h1, mixK1((int) buffer));
+        buffer = buffer >>> 32;
+        shift -= 32;
+      }
+    }
+
+    h1 ^= mixK1((int) buffer);
+    return fmix(h1, length);
+  }
+
+  private static long twoUtf8Bytes(char ch) {
+    return ((0x3L << 6) | (ch >>> 6)) | ((0x80 | (0x3F & ch)) << 8);
+  }
+
+  private static long threeUtf8Bytes(char ch) {
+    return ((0x7L << 5) | (ch >>> 12))
+        | ((0x80 | (0x3F & (ch >>> 6))) << 8)
+        | ((0x80 | (0x3F & ch)) << 16);
+  }
+
+  private static long fourUtf8Bytes(int codePoint) {
+    return ((0xFL << 4) | (codePoint >>> 18))
+        | ((0x80L | (0x3F & (codePoint >>> 12))) << 8)
+        | ((0x80L | (0x3F & (codePoint >>> 6))) << 16)
+        | ((0x80L | (0x3F & codePoint)) << 24);
+  }
+
+  private static int mixK1(int k1) {
+    return Integer.rotateLeft(k1 * C1, 15) * C2;
+  }
+
+  private static int mixH1(int h1, int k1) {
+    return Integer.rotateLeft(h1 ^ k1, 13) * 5 + 0xe6546b64;
+  }
+
+  private static int fmix(int h1, int length) {
+    int h = h1 ^ length;
+    h ^= h >>> 16;
+    h *= 0x85ebca6b;
+    h ^= h >>> 13;
+    h *= 0xc2b2ae35;
+    h ^= h >>> 16;
+    return h;
+  }
+}
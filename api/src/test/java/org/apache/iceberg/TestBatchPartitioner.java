@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+
+public class TestBatchPartitioner {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "ts", Types.TimestampType.withZone()),
+          Types.NestedField.optional(
+              4,
+              "location",
+              Types.StructType.of(Types.NestedField.optional(5, "lat", Types.DoubleType.get()))));
+
+  private static final long HOUR_MICROS = 3_600_000_000L;
+
+  @Test
+  public void testPartitionMatchesPartitionKey() {
+    PartitionSpec spec =
+        PartitionSpec.builderFor(SCHEMA).bucket("id", 4).truncate("data", 1).hour("ts").build();
+
+    Object[][] batch =
+        new Object[][] {
+          new Object[] {1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L},
+          new Object[] {"a", "ab", "b", null, "a", "b", "ba", null},
+          new Object[] {0L, 1L, HOUR_MICROS, null, 2L, HOUR_MICROS + 5, 3 * HOUR_MICROS, null},
+          new Object[8]
+        };
+
+    Map<PartitionKey, int[]> partitions = new ArrayBatchPartitioner(spec).partition(batch);
+
+    PartitionKey expected = new PartitionKey(spec, SCHEMA);
+    Set<PartitionKey> expectedPartitions = Sets.newHashSet();
+    for (int row = 0; row < 8; row += 1) {
+      expected.partition(row(batch, row));
+      expectedPartitions.add(expected.copy());
+    }
+
+    assertThat(partitions.keySet()).isEqualTo(expectedPartitions);
+
+    int numRows = 0;
+    for (Map.Entry<PartitionKey, int[]> entry : partitions.entrySet()) {
+      for (int row : entry.getValue()) {
+        expected.partition(row(batch, row));
+        assertThat(entry.getKey()).as("Partition for row %s", row).isEqualTo(expected);
+        numRows += 1;
+      }
+    }
+
+    assertThat(numRows).isEqualTo(8);
+  }
+
+  @Test
+  public void testPartitionOrder() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).truncate("id", 10).build();
+    Object[][] batch =
+        new Object[][] {
+          new Object[] {21L, 3L, 5L, 25L, 11L, 4L},
+          new Object[6],
+          new Object[6],
+          new Object[6]
+        };
+
+    Map<PartitionKey, int[]> partitions = new ArrayBatchPartitioner(spec).partition(batch);
+
+    List<Object> keys = Lists.newArrayList();
+    partitions.keySet().forEach(key -> keys.add(key.get(0, Long.class)));
+    assertThat(keys).containsExactly(20L, 0L, 10L);
+
+    List<int[]> rows = Lists.newArrayList(partitions.values());
+    assertThat(rows.get(0)).containsExactly(0, 3);
+    assertThat(rows.get(1)).containsExactly(1, 2, 5);
+    assertThat(rows.get(2)).containsExactly(4);
+  }
+
+  @Test
+  public void testNullPartitionValues() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).day("ts").identity("data").build();
+    Object[][] batch =
+        new Object[][] {
+          new Object[] {1L, 2L, 3L, 4L},
+          new Object[] {null, null, "a", null},
+          new Object[] {null, 0L, null, null},
+          new Object[4]
+        };
+
+    Map<PartitionKey, int[]> partitions = new ArrayBatchPartitioner(spec).partition(batch);
+
+    List<int[]> rows = Lists.newArrayList(partitions.values());
+    assertThat(rows).hasSize(3);
+    assertThat(rows.get(0)).containsExactly(0, 3);
+    assertThat(rows.get(1)).containsExactly(1);
+    assertThat(rows.get(2)).containsExactly(2);
+
+    PartitionKey first = partitions.keySet().iterator().next();
+    assertThat(first.get(0, Integer.class)).isNull();
+    assertThat(first.get(1, String.class)).isNull();
+  }
+
+  @Test
+  public void testEmptyBatch() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("id").build();
+    Object[][] batch = new Object[][] {new Object[0], new Object[0], new Object[0], new Object[0]};
+    assertThat(new ArrayBatchPartitioner(spec).partition(batch)).isEmpty();
+  }
+
+  @Test
+  public void testNestedSourceColumn() {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("location.lat").build();
+    assertThatThrownBy(() -> new ArrayBatchPartitioner(spec))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot partition a batch by nested column: lat");
+  }
+
+  private static StructLike row(Object[][] batch, int row) {
+    Object[] values = new Object[batch.length];
+    for (int ordinal = 0; ordinal < batch.length; ordinal += 1) {
+      values[ordinal] = batch[ordinal][row];
+    }
+
+    return TestHelpers.Row.of(values);
+  }
+
+  /** Partitions batches that are stored as an array of column values. */
+  private static class ArrayBatchPartitioner extends BatchPartitioner<Object[][]> {
+    private ArrayBatchPartitioner(PartitionSpec spec) {
+      super(spec, SCHEMA);
+    }
+
+    @Override
+    protected int numRows(Object[][] batch) {
+      return batch[0].length;
+    }
+
+    @Override
+    protected void readLongs(
+        Object[][] batch, int ordinal, long[] values, boolean[] isNull, int numRows) {
+      for (int row = 0; row < numRows; row += 1) {
+        Object value = batch[ordinal][row];
+        isNull[row] = value == null;
+        values[row] = value != null ? ((Number) value).longValue() : 0L;
+      }
+    }
+
+    @Override
+    protected Object get(Object[][] batch, int ordinal, int row) {
+      return batch[ordinal][row];
+    }
+  }
+}
@@ -40,6 +40,7 @@ import static org.apache.iceberg.types.Types.NestedField.optional;
 import static org.apache.iceberg.types.Types.NestedField.required;
 import static org.assertj.core.api.Assertions.assertThat;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.Schema;
@@ -839,4 +840,47 @@ public class TestInclusiveMetricsEvaluator {
     shouldRead = new InclusiveMetricsEvaluator(SCHEMA, notIn("no_nulls", "abc", "def")).eval(FILE);
     assertThat(shouldRead).as("Should read: notIn on no nulls column").isTrue();
   }
+
+  @Test
+  public void testPromotedBoundsAndRepeatedReferences() {
+    Schema schema =
+        new Schema(
+            required(1, "count", Types.LongType.get()),
+            required(2, "score", Types.DoubleType.get()));
+
+    // bounds written before promotion from int and float, in buffers with the default byte order
+    DataFile file =
+        new TestDataFile(
+            "promoted.avro",
+            Row.of(),
+            50,
+            ImmutableMap.of(1, 50L, 2, 50L),
+            ImmutableMap.of(1, 0L, 2, 0L),
+            null,
+            ImmutableMap.of(
+                1, ByteBuffer.wrap(toByteBuffer(IntegerType.get(), 30).array()),
+                2, ByteBuffer.wrap(toByteBuffer(Types.FloatType.get(), 0.5F).array())),
+            ImmutableMap.of(
+                1, ByteBuffer.wrap(toByteBuffer(IntegerType.get(), 79).array()),
+                2, ByteBuffer.wrap(toByteBuffer(Types.FloatType.get(), 1.5F).array())));
+
+    InclusiveMetricsEvaluator inRange =
+        new InclusiveMetricsEvaluator(
+            schema,
+            and(
+                and(greaterThan("count", 40L), lessThan("count", 50L)),
+                and(greaterThanOrEqual("score", 1.5D), lessThanOrEqual("score", 2.0D))));
+    assertThat(inRange.eval(file)).as("Should read: ranges overlap the bounds").isTrue();
+    assertThat(inRange.eval(FILE_2)).as("Should read: no stats for the columns").isTrue();
+    assertThat(inRange.eval(file)).as("Should read: bounds are decoded for each file").isTrue();
+
+    InclusiveMetricsEvaluator outOfRange =
+        new InclusiveMetricsEvaluator(
+            schema, and(greaterThan("count", 40L), lessThan("count", 30L)));
+    assertThat(outOfRange.eval(file)).as("Should skip: count below lower bound").isFalse();
+
+    InclusiveMetricsEvaluator aboveUpper =
+        new InclusiveMetricsEvaluator(schema, or(equal("score", 1.75D), greaterThan("count", 79L)));
+    assertThat(aboveUpper.eval(file)).as("Should skip: values above upper bounds").isFalse();
+  }
 }
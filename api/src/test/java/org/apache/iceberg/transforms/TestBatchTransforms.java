@@ -0,0 +1,131 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.transforms;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.Random;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.SerializableFunction;
+import org.junit.jupiter.api.Test;
+
+public class TestBatchTransforms {
+  private static final int NUM_VALUES = 1000;
+  private static final Random RANDOM = new Random(4328);
+
+  @Test
+  public void testIdentity() {
+    assertMatchesBind(Transforms.identity(), Types.IntegerType.get());
+    assertMatchesBind(Transforms.identity(), Types.LongType.get());
+    assertMatchesBind(Transforms.identity(), Types.DateType.get());
+    assertMatchesBind(Transforms.identity(), Types.TimeType.get());
+    assertMatchesBind(Transforms.identity(), Types.TimestampType.withZone());
+  }
+
+  @Test
+  public void testBucket() {
+    assertMatchesBind(Transforms.bucket(16), Types.IntegerType.get());
+    assertMatchesBind(Transforms.bucket(16), Types.LongType.get());
+    assertMatchesBind(Transforms.bucket(7), Types.DateType.get());
+    assertMatchesBind(Transforms.bucket(7), Types.TimeType.get());
+    assertMatchesBind(Transforms.bucket(100), Types.TimestampType.withoutZone());
+  }
+
+  @Test
+  public void testTruncate() {
+    assertMatchesBind(Transforms.truncate(10), Types.IntegerType.get());
+    assertMatchesBind(Transforms.truncate(10), Types.LongType.get());
+    assertMatchesBind(Transforms.truncate(Integer.MAX_VALUE), Types.IntegerType.get());
+  }
+
+  @Test
+  public void testDates() {
+    assertMatchesBind(Transforms.year(), Types.DateType.get());
+    assertMatchesBind(Transforms.month(), Types.DateType.get());
+    assertMatchesBind(Transforms.day(), Types.DateType.get());
+    assertMatchesBind(Transforms.year(Types.DateType.get()), Types.DateType.get());
+    assertMatchesBind(Transforms.month(Types.DateType.get()), Types.DateType.get());
+    assertMatchesBind(Transforms.day(Types.DateType.get()), Types.DateType.get());
+  }
+
+  @Test
+  public void testTimestamps() {
+    Type[] types = new Type[] {Types.TimestampType.withZone(), Types.TimestampType.withoutZone()};
+    for (Type type : types) {
+      assertMatchesBind(Transforms.year(), type);
+      assertMatchesBind(Transforms.month(), type);
+      assertMatchesBind(Transforms.day(), type);
+      assertMatchesBind(Transforms.hour(), type);
+      assertMatchesBind(Transforms.year(type), type);
+      assertMatchesBind(Transforms.month(type), type);
+      assertMatchesBind(Transforms.day(type), type);
+      assertMatchesBind(Transforms.hour(type), type);
+    }
+  }
+
+  @Test
+  public void testInPlace() {
+    long[] values = new long[] {-1L, 0L, 9L, 10L, 11L, 12L};
+    BatchTransforms.bind(Transforms.truncate(10), Types.LongType.get()).apply(values, values, 5);
+    assertThat(values).containsExactly(-10L, 0L, 0L, 10L, 10L, 12L);
+  }
+
+  @Test
+  public void testUnsupported() {
+    assertThat(BatchTransforms.canBind(Transforms.bucket(16), Types.StringType.get())).isFalse();
+    assertThat(BatchTransforms.canBind(Transforms.truncate(10), Types.DateType.get())).isFalse();
+    assertThat(BatchTransforms.canBind(Transforms.hour(), Types.DateType.get())).isFalse();
+    assertThat(BatchTransforms.canBind(Transforms.alwaysNull(), Types.LongType.get())).isFalse();
+
+    assertThatThrownBy(
+            () -> BatchTransforms.bind(Transforms.identity(), Types.DecimalType.of(9, 2)))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessage("Cannot bind identity to a batch of decimal(9, 2) values");
+  }
+
+  @SuppressWarnings("unchecked")
+  private static void assertMatchesBind(Transform<?, ?> transform, Type type) {
+    assertThat(BatchTransforms.canBind(transform, type)).isTrue();
+
+    boolean isInt = type.typeId() == Type.TypeID.INTEGER || type.typeId() == Type.TypeID.DATE;
+    long[] values = new long[NUM_VALUES];
+    values[0] = isInt ? Integer.MIN_VALUE : Long.MIN_VALUE;
+    values[1] = isInt ? Integer.MAX_VALUE : Long.MAX_VALUE;
+    values[2] = 0L;
+    values[3] = -1L;
+    for (int pos = 4; pos < NUM_VALUES; pos += 1) {
+      values[pos] = isInt ? RANDOM.nextInt() : RANDOM.nextLong() / 1000;
+    }
+
+    long[] results = new long[NUM_VALUES];
+    BatchTransforms.bind(transform, type).apply(values, results, NUM_VALUES);
+
+    SerializableFunction<Object, Object> function =
+        ((Transform<Object, Object>) transform).bind(type);
+    for (int pos = 0; pos < NUM_VALUES; pos += 1) {
+      Object value = isInt ? (Object) (int) values[pos] : (Object) values[pos];
+      Number expected = (Number) function.apply(value);
+      assertThat(results[pos])
+          .as("%s(%s) of %s", transform, type, value)
+          .isEqualTo(expected.longValue());
+    }
+  }
+}
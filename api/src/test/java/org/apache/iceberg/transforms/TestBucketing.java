@@ -283,6 +283,38 @@ public class TestBucketing {
         .isEqualTo(hashBytes(asBytes));
   }
 
+  @Test
+  public void testRandomStringsMatchUtf8Bytes() {
+    for (int i = 0; i < 1000; i += 1) {
+      // mix of 1, 2, 3, and 4 byte characters and unpaired surrogates
+      StringBuilder builder = new StringBuilder();
+      int length = testRandom.nextInt(12);
+      for (int j = 0; j < length; j += 1) {
+        switch (testRandom.nextInt(5)) {
+          case 0:
+            builder.append((char) testRandom.nextInt(0x80));
+            break;
+          case 1:
+            builder.append((char) (0x80 + testRandom.nextInt(0x780)));
+            break;
+          case 2:
+            builder.append((char) (0x800 + testRandom.nextInt(Character.MIN_SURROGATE - 0x800)));
+            break;
+          case 3:
+            builder.appendCodePoint(0x10000 + testRandom.nextInt(0x100000));
+            break;
+          default:
+            builder.append((char) (Character.MIN_SURROGATE + testRandom.nextInt(0x800)));
+        }
+      }
+
+      String string = builder.toString();
+      assertThat(BucketUtil.hash(string))
+          .as("String hash should match hash of UTF-8 bytes")
+          .isEqualTo(MURMUR3.hashString(string, StandardCharsets.UTF_8).asInt());
+    }
+  }
+
   @Test
   public void testUtf8() {
     Utf8 utf8 = new Utf8("string to test murmur3 hash");
@@ -35,4 +35,28 @@ public class TestDateTimeUtil {
     Assertions.assertThat(ZonedDateTime.parse(timestamp).toInstant().toEpochMilli())
         .isEqualTo(1000000L);
   }
+
+  @Test
+  public void microsToDaysAndHours() {
+    long microsPerHour = 3_600_000_000L;
+    long microsPerDay = 24 * microsPerHour;
+
+    Assertions.assertThat(DateTimeUtil.microsToDays(0L)).isEqualTo(0);
+    Assertions.assertThat(DateTimeUtil.microsToDays(microsPerDay - 1)).isEqualTo(0);
+    Assertions.assertThat(DateTimeUtil.microsToDays(microsPerDay)).isEqualTo(1);
+    Assertions.assertThat(DateTimeUtil.microsToDays(-1L)).isEqualTo(-1);
+    Assertions.assertThat(DateTimeUtil.microsToDays(-microsPerDay)).isEqualTo(-1);
+    Assertions.assertThat(DateTimeUtil.microsToDays(-microsPerDay - 1)).isEqualTo(-2);
+
+    Assertions.assertThat(DateTimeUtil.microsToHours(microsPerHour - 1)).isEqualTo(0);
+    Assertions.assertThat(DateTimeUtil.microsToHours(microsPerHour)).isEqualTo(1);
+    Assertions.assertThat(DateTimeUtil.microsToHours(-1L)).isEqualTo(-1);
+    Assertions.assertThat(DateTimeUtil.microsToHours(-microsPerHour)).isEqualTo(-1);
+    Assertions.assertThat(DateTimeUtil.microsToHours(-microsPerHour - 1)).isEqualTo(-2);
+
+    // 2017-12-01T10:12:55.038194Z
+    long micros = 1512123175038194L;
+    Assertions.assertThat(DateTimeUtil.microsToDays(micros)).isEqualTo(17501);
+    Assertions.assertThat(DateTimeUtil.microsToHours(micros)).isEqualTo(420034);
+  }
 }
@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.TimeStampVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.arrow.vector.util.Text;
+import org.apache.iceberg.BatchPartitioner;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.UUIDUtil;
+
+/**
+ * Groups the rows of an Arrow {@link VectorSchemaRoot} by partition.
+ *
+ * <p>The vectors of each batch must match the top-level columns of the input schema, as produced by
+ * {@link ArrowSchemaUtil#convert(Schema)}.
+ */
+public class ArrowBatchPartitioner extends BatchPartitioner<VectorSchemaRoot> {
+  private final Type.TypeID[] typeIds;
+
+  public ArrowBatchPartitioner(PartitionSpec spec, Schema inputSchema) {
+    super(spec, inputSchema);
+    List<Types.NestedField> columns = inputSchema.columns();
+    this.typeIds = new Type.TypeID[columns.size()];
+    for (int ordinal = 0; ordinal < typeIds.length; ordinal += 1) {
+      typeIds[ordinal] = columns.get(ordinal).type().typeId();
+    }
+  }
+
+  @Override
+  protected int numRows(VectorSchemaRoot batch) {
+    return batch.getRowCount();
+  }
+
+  @Override
+  protected void readLongs(
+      VectorSchemaRoot batch, int ordinal, long[] values, boolean[] isNull, int numRows) {
+    FieldVector vector = batch.getVector(ordinal);
+    Preconditions.checkArgument(
+        vector instanceof BaseFixedWidthVector,
+        "Cannot read long values from vector: %s",
+        vector.getField());
+
+    BaseFixedWidthVector fixedWidthVector = (BaseFixedWidthVector) vector;
+    ArrowBuf data = fixedWidthVector.getDataBuffer();
+    if (fixedWidthVector.getTypeWidth() == Integer.BYTES) {
+      for (int row = 0; row < numRows; row += 1) {
+        isNull[row] = fixedWidthVector.isNull(row);
+        values[row] = data.getInt((long) row * Integer.BYTES);
+      }
+    } else {
+      for (int row = 0; row < numRows; row += 1) {
+        isNull[row] = fixedWidthVector.isNull(row);
+        values[row] = data.getLong((long) row * Long.BYTES);
+      }
+    }
+  }
+
+  @Override
+  protected Object get(VectorSchemaRoot batch, int ordinal, int row) {
+    FieldVector vector = batch.getVector(ordinal);
+    if (vector.isNull(row)) {
+      return null;
+    } else if (vector instanceof TimeStampVector) {
+      // getObject returns LocalDateTime for timestamps without zone
+      return ((TimeStampVector) vector).get(row);
+    }
+
+    Object value = vector.getObject(row);
+    if (value instanceof Text) {
+      return value.toString();
+    } else if (value instanceof byte[] && typeIds[ordinal] == Type.TypeID.UUID) {
+      return UUIDUtil.convert((byte[]) value);
+    } else if (value instanceof byte[]) {
+      return ByteBuffer.wrap((byte[]) value);
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,492 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.util.List;
+import java.util.stream.Stream;
+import org.apache.arrow.memory.ArrowBuf;
+import org.apache.arrow.vector.BaseFixedWidthVector;
+import org.apache.arrow.vector.BaseVariableWidthVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FieldVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.FieldMetrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.parquet.ParquetBatchWriter;
+import org.apache.iceberg.parquet.TripleWriter;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.types.Types;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.ColumnWriteStore;
+import org.apache.parquet.column.ColumnWriter;
+import org.apache.parquet.io.api.Binary;
+import org.apache.parquet.schema.MessageType;
+import org.apache.parquet.schema.PrimitiveType;
+
+/**
+ * Builds Parquet writers for Arrow {@link VectorSchemaRoot} batches.
+ *
+ * <p>Each column of a batch is written in a single pass over the vector's buffers, without
+ * converting the batch to rows. The vectors of each batch must match the top-level columns of the
+ * schema, as produced by {@link ArrowSchemaUtil#convert(Schema)}. Nested columns are not supported,
+ * and null values in required columns are rejected.
+ *
+ * <p>Example usage:
+ *
+ * <pre>{@code
+ * FileAppender<VectorSchemaRoot> appender =
+ *     Parquet.write(outputFile)
+ *         .schema(schema)
+ *         .createWriterFunc(type -> ArrowParquetWriters.buildWriter(schema, type))
+ *         .build();
+ * }</pre>
+ */
+public class ArrowParquetWriters {
+  private ArrowParquetWriters() {}
+
+  public static ParquetBatchWriter<VectorSchemaRoot> buildWriter(Schema schema, MessageType type) {
+    List<Types.NestedField> columns = schema.columns();
+    Preconditions.checkArgument(
+        columns.size() == type.getFieldCount(),
+        "Cannot write Arrow batches: schema has %s columns but Parquet type has %s",
+        columns.size(),
+        type.getFieldCount());
+
+    ColumnBatchWriter[] writers = new ColumnBatchWriter[columns.size()];
+    for (int ordinal = 0; ordinal < writers.length; ordinal += 1) {
+      Types.NestedField field = columns.get(ordinal);
+      Preconditions.checkArgument(
+          field.type().isPrimitiveType(),
+          "Cannot write nested column from Arrow batches: %s",
+          field.name());
+      ColumnDescriptor desc =
+          type.getColumnDescription(new String[] {type.getType(ordinal).getName()});
+      writers[ordinal] = newWriter(field, desc);
+    }
+
+    return new VectorSchemaRootWriter(writers);
+  }
+
+  private static ColumnBatchWriter newWriter(Types.NestedField field, ColumnDescriptor desc) {
+    switch (field.type().typeId()) {
+      case BOOLEAN:
+        return new BooleanWriter(desc);
+      case INTEGER:
+      case DATE:
+        return new IntWriter(desc);
+      case LONG:
+      case TIME:
+      case TIMESTAMP:
+        return new LongWriter(desc);
+      case FLOAT:
+        return new FloatWriter(desc, field.fieldId());
+      case DOUBLE:
+        return new DoubleWriter(desc, field.fieldId());
+      case STRING:
+      case BINARY:
+        return new VariableWidthWriter(desc);
+      case FIXED:
+      case UUID:
+        return new FixedWidthWriter(desc);
+      case DECIMAL:
+        return newDecimalWriter(desc);
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot write Arrow batches with column type: " + field.type());
+    }
+  }
+
+  private static ColumnBatchWriter newDecimalWriter(ColumnDescriptor desc) {
+    PrimitiveType.PrimitiveTypeName physicalType = desc.getPrimitiveType().getPrimitiveTypeName();
+    switch (physicalType) {
+      case INT32:
+        return new IntDecimalWriter(desc);
+      case INT64:
+        return new LongDecimalWriter(desc);
+      case FIXED_LEN_BYTE_ARRAY:
+        return new FixedDecimalWriter(desc);
+      default:
+        throw new UnsupportedOperationException(
+            "Cannot write decimal as Parquet type: " + physicalType);
+    }
+  }
+
+  private static class VectorSchemaRootWriter implements ParquetBatchWriter<VectorSchemaRoot> {
+    private final ColumnBatchWriter[] writers;
+
+    private VectorSchemaRootWriter(ColumnBatchWriter[] writers) {
+      this.writers = writers;
+    }
+
+    @Override
+    public int numRows(VectorSchemaRoot batch) {
+      return batch.getRowCount();
+    }
+
+    @Override
+    public void write(VectorSchemaRoot batch, int startRow, int numRows) {
+      Preconditions.checkArgument(
+          batch.getFieldVectors().size() == writers.length,
+          "Cannot write batch with %s columns (expected %s)",
+          batch.getFieldVectors().size(),
+          writers.length);
+
+      int endRow = startRow + numRows;
+      for (int ordinal = 0; ordinal < writers.length; ordinal += 1) {
+        writers[ordinal].write(batch.getVector(ordinal), startRow, endRow);
+      }
+    }
+
+    @Override
+    public List<TripleWriter<?>> columns() {
+      // batch writers write columns directly and cannot be nested in other writers
+      return ImmutableList.of();
+    }
+
+    @Override
+    public void setColumnStore(ColumnWriteStore columnStore) {
+      for (ColumnBatchWriter writer : writers) {
+        writer.setColumnStore(columnStore);
+      }
+    }
+
+    @Override
+    public Stream<FieldMetrics<?>> metrics() {
+      return Stream.of(writers).flatMap(ColumnBatchWriter::metrics);
+    }
+  }
+
+  private abstract static class ColumnBatchWriter {
+    private final ColumnDescriptor desc;
+    private final int nullDefinitionLevel;
+
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    protected final int definitionLevel;
+
+    @SuppressWarnings("checkstyle:VisibilityModifier")
+    protected ColumnWriter column = null;
+
+    private ColumnBatchWriter(ColumnDescriptor desc) {
+      this.desc = desc;
+      this.definitionLevel = desc.getMaxDefinitionLevel();
+      this.nullDefinitionLevel = definitionLevel - 1;
+    }
+
+    private void setColumnStore(ColumnWriteStore columnStore) {
+      this.column = columnStore.getColumnWriter(desc);
+    }
+
+    protected void writeNull() {
+      Preconditions.checkArgument(
+          definitionLevel > 0, "Cannot write null value to required column: %s", desc);
+      column.writeNull(0, nullDefinitionLevel);
+    }
+
+    /**
+     * Writes the values of a vector from {@code startRow} up to, but not including, {@code endRow}.
+     */
+    protected abstract void write(FieldVector vector, int startRow, int endRow);
+
+    protected Stream<FieldMetrics<?>> metrics() {
+      return Stream.empty();
+    }
+  }
+
+  private static class BooleanWriter extends ColumnBatchWriter {
+    private BooleanWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      BitVector bits = (BitVector) vector;
+      for (int row = startRow; row < endRow; row += 1) {
+        if (bits.isNull(row)) {
+          writeNull();
+        } else {
+          column.write(bits.get(row) != 0, 0, definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class IntWriter extends ColumnBatchWriter {
+    private IntWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          column.write(data.getInt((long) row * Integer.BYTES), 0, definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class LongWriter extends ColumnBatchWriter {
+    private LongWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          column.write(data.getLong((long) row * Long.BYTES), 0, definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class FloatWriter extends ColumnBatchWriter {
+    private final int id;
+    private long valueCount = 0;
+    private long nullValueCount = 0;
+    private long nanValueCount = 0;
+    private float lowerBound = Float.POSITIVE_INFINITY;
+    private float upperBound = Float.NEGATIVE_INFINITY;
+
+    private FloatWriter(ColumnDescriptor desc, int id) {
+      super(desc);
+      this.id = id;
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      long nulls = 0;
+      long nans = 0;
+      float lower = lowerBound;
+      float upper = upperBound;
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+          nulls += 1;
+        } else {
+          float value = data.getFloat((long) row * Float.BYTES);
+          column.write(value, 0, definitionLevel);
+          if (Float.isNaN(value)) {
+            nans += 1;
+          } else {
+            lower = Math.min(lower, value);
+            upper = Math.max(upper, value);
+          }
+        }
+      }
+
+      this.valueCount += endRow - startRow;
+      this.nullValueCount += nulls;
+      this.nanValueCount += nans;
+      this.lowerBound = lower;
+      this.upperBound = upper;
+    }
+
+    @Override
+    protected Stream<FieldMetrics<?>> metrics() {
+      boolean hasBound = valueCount - nullValueCount - nanValueCount > 0;
+      return Stream.of(
+          new FieldMetrics<>(
+              id,
+              valueCount,
+              nullValueCount,
+              nanValueCount,
+              hasBound ? lowerBound : null,
+              hasBound ? upperBound : null));
+    }
+  }
+
+  private static class DoubleWriter extends ColumnBatchWriter {
+    private final int id;
+    private long valueCount = 0;
+    private long nullValueCount = 0;
+    private long nanValueCount = 0;
+    private double lowerBound = Double.POSITIVE_INFINITY;
+    private double upperBound = Double.NEGATIVE_INFINITY;
+
+    private DoubleWriter(ColumnDescriptor desc, int id) {
+      super(desc);
+      this.id = id;
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      long nulls = 0;
+      long nans = 0;
+      double lower = lowerBound;
+      double upper = upperBound;
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+          nulls += 1;
+        } else {
+          double value = data.getDouble((long) row * Double.BYTES);
+          column.write(value, 0, definitionLevel);
+          if (Double.isNaN(value)) {
+            nans += 1;
+          } else {
+            lower = Math.min(lower, value);
+            upper = Math.max(upper, value);
+          }
+        }
+      }
+
+      this.valueCount += endRow - startRow;
+      this.nullValueCount += nulls;
+      this.nanValueCount += nans;
+      this.lowerBound = lower;
+      this.upperBound = upper;
+    }
+
+    @Override
+    protected Stream<FieldMetrics<?>> metrics() {
+      boolean hasBound = valueCount - nullValueCount - nanValueCount > 0;
+      return Stream.of(
+          new FieldMetrics<>(
+              id,
+              valueCount,
+              nullValueCount,
+              nanValueCount,
+              hasBound ? lowerBound : null,
+              hasBound ? upperBound : null));
+    }
+  }
+
+  private static class VariableWidthWriter extends ColumnBatchWriter {
+    private VariableWidthWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf offsets = vector.getOffsetBuffer();
+      ArrowBuf data = vector.getDataBuffer();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          int start = offsets.getInt((long) row * BaseVariableWidthVector.OFFSET_WIDTH);
+          int end = offsets.getInt((long) (row + 1) * BaseVariableWidthVector.OFFSET_WIDTH);
+          // Parquet copies reused values that it needs to keep, like dictionary entries
+          column.write(
+              Binary.fromReusedByteBuffer(data.nioBuffer(start, end - start)), 0, definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class FixedWidthWriter extends ColumnBatchWriter {
+    private FixedWidthWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      int width = ((BaseFixedWidthVector) vector).getTypeWidth();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          column.write(
+              Binary.fromReusedByteBuffer(data.nioBuffer((long) row * width, width)),
+              0,
+              definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class IntDecimalWriter extends ColumnBatchWriter {
+    private IntDecimalWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      // Arrow decimals are 16-byte little-endian values, the low 8 bytes hold small values
+      ArrowBuf data = vector.getDataBuffer();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          long unscaled = data.getLong((long) row * DecimalVector.TYPE_WIDTH);
+          column.write((int) unscaled, 0, definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class LongDecimalWriter extends ColumnBatchWriter {
+    private LongDecimalWriter(ColumnDescriptor desc) {
+      super(desc);
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          column.write(data.getLong((long) row * DecimalVector.TYPE_WIDTH), 0, definitionLevel);
+        }
+      }
+    }
+  }
+
+  private static class FixedDecimalWriter extends ColumnBatchWriter {
+    private final int length;
+    private final byte[] bytes;
+
+    private FixedDecimalWriter(ColumnDescriptor desc) {
+      super(desc);
+      this.length = desc.getPrimitiveType().getTypeLength();
+      this.bytes = new byte[length];
+    }
+
+    @Override
+    protected void write(FieldVector vector, int startRow, int endRow) {
+      ArrowBuf data = vector.getDataBuffer();
+      for (int row = startRow; row < endRow; row += 1) {
+        if (vector.isNull(row)) {
+          writeNull();
+        } else {
+          // convert the low bytes of the little-endian Arrow value to big-endian
+          long offset = (long) row * DecimalVector.TYPE_WIDTH;
+          for (int pos = 0; pos < length; pos += 1) {
+            bytes[pos] = data.getByte(offset + length - 1 - pos);
+          }
+
+          column.write(Binary.fromReusedByteArray(bytes, 0, length), 0, definitionLevel);
+        }
+      }
+    }
+  }
+}
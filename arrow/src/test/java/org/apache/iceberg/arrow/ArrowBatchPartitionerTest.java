@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class ArrowBatchPartitionerTest {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "ts", Types.TimestampType.withoutZone()));
+  private static final PartitionSpec SPEC =
+      PartitionSpec.builderFor(SCHEMA).bucket("id", 4).identity("data").day("ts").build();
+  private static final long DAY_MICROS = 86_400_000_000L;
+
+  @Test
+  public void testPartition() {
+    int[] ids = new int[] {1, 2, 3, 4, 5, 6};
+    String[] data = new String[] {"a", "a", null, "b", "a", null};
+    Long[] timestamps = new Long[] {0L, 1L, -1L, DAY_MICROS, 2L, null};
+
+    try (VectorSchemaRoot root =
+        VectorSchemaRoot.create(ArrowSchemaUtil.convert(SCHEMA), ArrowAllocation.rootAllocator())) {
+      root.allocateNew();
+      IntVector idVector = (IntVector) root.getVector(0);
+      VarCharVector dataVector = (VarCharVector) root.getVector(1);
+      TimeStampMicroVector tsVector = (TimeStampMicroVector) root.getVector(2);
+      for (int row = 0; row < ids.length; row += 1) {
+        idVector.setSafe(row, ids[row]);
+        if (data[row] != null) {
+          dataVector.setSafe(row, data[row].getBytes(StandardCharsets.UTF_8));
+        } else {
+          dataVector.setNull(row);
+        }
+
+        if (timestamps[row] != null) {
+          tsVector.setSafe(row, timestamps[row]);
+        } else {
+          tsVector.setNull(row);
+        }
+      }
+
+      root.setRowCount(ids.length);
+
+      Map<PartitionKey, int[]> partitions = new ArrowBatchPartitioner(SPEC, SCHEMA).partition(root);
+
+      PartitionKey expected = new PartitionKey(SPEC, SCHEMA);
+      List<Integer> rows = Lists.newArrayList();
+      for (Map.Entry<PartitionKey, int[]> entry : partitions.entrySet()) {
+        for (int row : entry.getValue()) {
+          expected.partition(record(ids[row], data[row], timestamps[row]));
+          Assert.assertEquals("Partition for row " + row, expected, entry.getKey());
+          rows.add(row);
+        }
+      }
+
+      Assert.assertEquals("Should partition every row", ids.length, rows.size());
+    }
+  }
+
+  private static StructLike record(int id, String data, Long timestamp) {
+    Record record = GenericRecord.create(SCHEMA);
+    record.set(0, id);
+    record.set(1, data);
+    record.set(2, timestamp);
+    return record;
+  }
+}
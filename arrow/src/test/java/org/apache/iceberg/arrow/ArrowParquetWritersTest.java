@@ -0,0 +1,344 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.arrow;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.OffsetDateTime;
+import java.util.List;
+import java.util.UUID;
+import org.apache.arrow.vector.BigIntVector;
+import org.apache.arrow.vector.BitVector;
+import org.apache.arrow.vector.DateDayVector;
+import org.apache.arrow.vector.DecimalVector;
+import org.apache.arrow.vector.FixedSizeBinaryVector;
+import org.apache.arrow.vector.Float4Vector;
+import org.apache.arrow.vector.IntVector;
+import org.apache.arrow.vector.TimeStampMicroTZVector;
+import org.apache.arrow.vector.VarBinaryVector;
+import org.apache.arrow.vector.VarCharVector;
+import org.apache.arrow.vector.VectorSchemaRoot;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.hadoop.fs.Path;
+import org.apache.iceberg.Files;
+import org.apache.iceberg.Metrics;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.TableProperties;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.data.parquet.GenericParquetReaders;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.parquet.Parquet;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.DateTimeUtil;
+import org.apache.iceberg.util.UUIDUtil;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.page.PageReader;
+import org.apache.parquet.hadoop.ParquetFileReader;
+import org.apache.parquet.hadoop.util.HadoopInputFile;
+import org.assertj.core.api.Assertions;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArrowParquetWritersTest {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "score", Types.FloatType.get()),
+          Types.NestedField.optional(4, "price", Types.DecimalType.of(9, 2)),
+          Types.NestedField.optional(5, "total", Types.DecimalType.of(38, 2)),
+          Types.NestedField.optional(6, "count", Types.LongType.get()),
+          Types.NestedField.optional(7, "ts", Types.TimestampType.withZone()),
+          Types.NestedField.optional(8, "date", Types.DateType.get()),
+          Types.NestedField.optional(9, "flag", Types.BooleanType.get()),
+          Types.NestedField.optional(10, "bytes", Types.BinaryType.get()),
+          Types.NestedField.optional(11, "fixed", Types.FixedType.ofLength(4)),
+          Types.NestedField.optional(12, "uuid", Types.UUIDType.get()),
+          Types.NestedField.optional(13, "amount", Types.DecimalType.of(18, 2)));
+
+  private static final Schema SMALL_SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.IntegerType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Rule public final TemporaryFolder temp = new TemporaryFolder();
+
+  @Test
+  public void testWriteBatches() throws IOException {
+    File file = temp.newFile();
+    Assert.assertTrue("Delete should succeed", file.delete());
+
+    FileAppender<VectorSchemaRoot> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(SCHEMA)
+            .createWriterFunc(type -> ArrowParquetWriters.buildWriter(SCHEMA, type))
+            .build();
+
+    List<Object[]> expected = Lists.newArrayList();
+    try (VectorSchemaRoot root =
+        VectorSchemaRoot.create(ArrowSchemaUtil.convert(SCHEMA), ArrowAllocation.rootAllocator())) {
+      try {
+        for (int batch = 0; batch < 3; batch += 1) {
+          root.allocateNew();
+          for (int row = 0; row < 100; row += 1) {
+            Object[] values = values(batch * 100 + row);
+            set(root, row, values);
+            expected.add(values);
+          }
+
+          root.setRowCount(100);
+          appender.add(root);
+        }
+      } finally {
+        appender.close();
+      }
+    }
+
+    List<Record> records = read(file, SCHEMA);
+    Assert.assertEquals("Should read all rows", expected.size(), records.size());
+    for (int pos = 0; pos < expected.size(); pos += 1) {
+      Object[] values = expected.get(pos);
+      Record record = records.get(pos);
+      for (int column = 0; column < values.length; column += 1) {
+        assertValue(
+            "Should match row " + pos + " column " + column, values[column], record.get(column));
+      }
+    }
+
+    Metrics metrics = appender.metrics();
+    Assert.assertEquals(300L, (long) metrics.recordCount());
+    Assert.assertEquals(300L, (long) metrics.valueCounts().get(3));
+    Assert.assertEquals(54L, (long) metrics.nullValueCounts().get(3));
+    Assert.assertEquals(28L, (long) metrics.nanValueCounts().get(3));
+    Float lower = Conversions.fromByteBuffer(Types.FloatType.get(), metrics.lowerBounds().get(3));
+    Float upper = Conversions.fromByteBuffer(Types.FloatType.get(), metrics.upperBounds().get(3));
+    Assert.assertEquals("Lower bound should ignore NaN", 1.0F, lower, 0.0F);
+    Assert.assertEquals("Upper bound should ignore NaN", 299.0F, upper, 0.0F);
+    Assert.assertEquals(100L, (long) metrics.nullValueCounts().get(4));
+  }
+
+  @Test
+  public void testWriteLargeBatch() throws IOException {
+    File file = temp.newFile();
+    Assert.assertTrue("Delete should succeed", file.delete());
+
+    FileAppender<VectorSchemaRoot> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(SMALL_SCHEMA)
+            .set(TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES, String.valueOf(64 * 1024))
+            .set(TableProperties.PARQUET_PAGE_SIZE_BYTES, "1024")
+            .createWriterFunc(type -> ArrowParquetWriters.buildWriter(SMALL_SCHEMA, type))
+            .build();
+
+    int numRows = 50_000;
+    try (VectorSchemaRoot root =
+        VectorSchemaRoot.create(
+            ArrowSchemaUtil.convert(SMALL_SCHEMA), ArrowAllocation.rootAllocator())) {
+      try {
+        root.allocateNew();
+        IntVector ids = (IntVector) root.getVector(0);
+        VarCharVector data = (VarCharVector) root.getVector(1);
+        for (int row = 0; row < numRows; row += 1) {
+          ids.setSafe(row, row);
+          data.setSafe(row, ("row-" + row).getBytes(StandardCharsets.UTF_8));
+        }
+
+        root.setRowCount(numRows);
+        appender.add(root);
+      } finally {
+        appender.close();
+      }
+    }
+
+    // a single batch is split across pages and row groups
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(
+            HadoopInputFile.fromPath(new Path(file.toURI()), new Configuration()))) {
+      Assert.assertTrue("Should write several row groups", reader.getRowGroups().size() > 1);
+
+      ColumnDescriptor idColumn = reader.getFileMetaData().getSchema().getColumns().get(0);
+      PageReader pages = reader.readNextRowGroup().getPageReader(idColumn);
+      int numPages = 0;
+      while (pages.readPage() != null) {
+        numPages += 1;
+      }
+
+      Assert.assertTrue("Should write several pages in a row group", numPages > 1);
+    }
+
+    List<Record> records = read(file, SMALL_SCHEMA);
+    Assert.assertEquals("Should read all rows", numRows, records.size());
+    for (int row = 0; row < numRows; row += 1) {
+      Assert.assertEquals(row, records.get(row).get(0));
+      Assert.assertEquals("row-" + row, records.get(row).get(1));
+    }
+  }
+
+  @Test
+  public void testNullInRequiredColumn() throws IOException {
+    File file = temp.newFile();
+    Assert.assertTrue("Delete should succeed", file.delete());
+
+    FileAppender<VectorSchemaRoot> appender =
+        Parquet.write(Files.localOutput(file))
+            .schema(SMALL_SCHEMA)
+            .createWriterFunc(type -> ArrowParquetWriters.buildWriter(SMALL_SCHEMA, type))
+            .build();
+
+    try (VectorSchemaRoot root =
+        VectorSchemaRoot.create(
+            ArrowSchemaUtil.convert(SMALL_SCHEMA), ArrowAllocation.rootAllocator())) {
+      root.allocateNew();
+      IntVector ids = (IntVector) root.getVector(0);
+      ids.setSafe(0, 1);
+      ids.setNull(1);
+      root.setRowCount(2);
+
+      Assertions.assertThatThrownBy(() -> appender.add(root))
+          .as("Should reject null values in a required column")
+          .isInstanceOf(IllegalArgumentException.class)
+          .hasMessageStartingWith("Cannot write null value to required column");
+    }
+  }
+
+  private static Object[] values(int id) {
+    return new Object[] {
+      id,
+      id % 7 == 0 ? null : "row-" + id,
+      id % 11 == 0 ? Float.NaN : id % 5 == 0 ? null : (float) id,
+      id % 3 == 0 ? null : new BigDecimal(id).movePointLeft(2),
+      new BigDecimal(id).subtract(new BigDecimal("1000000000000000000000.00")),
+      id % 13 == 0 ? null : (id - 150) * 1_000_000_007L,
+      id % 4 == 0 ? null : DateTimeUtil.timestamptzFromMicros((id - 150) * 3_600_000_000_000L),
+      id % 6 == 0 ? null : DateTimeUtil.dateFromDays(id * 37 - 5000),
+      id % 9 == 0 ? null : id % 2 == 0,
+      id % 8 == 0 ? null : ByteBuffer.wrap(("bytes-" + id).getBytes(StandardCharsets.UTF_8)),
+      id % 10 == 0 ? null : new byte[] {(byte) id, (byte) (id >> 8), (byte) 0xFF, 0},
+      id % 12 == 0 ? null : new UUID(id * 31L, -id),
+      id % 14 == 0 ? null : BigDecimal.valueOf((id - 150) * 1_234_567_891_011L, 2)
+    };
+  }
+
+  private static void set(VectorSchemaRoot root, int row, Object[] values) {
+    ((IntVector) root.getVector(0)).setSafe(row, (Integer) values[0]);
+
+    VarCharVector data = (VarCharVector) root.getVector(1);
+    if (values[1] != null) {
+      data.setSafe(row, ((String) values[1]).getBytes(StandardCharsets.UTF_8));
+    } else {
+      data.setNull(row);
+    }
+
+    Float4Vector score = (Float4Vector) root.getVector(2);
+    if (values[2] != null) {
+      score.setSafe(row, (Float) values[2]);
+    } else {
+      score.setNull(row);
+    }
+
+    for (int ordinal : new int[] {3, 4, 12}) {
+      DecimalVector decimals = (DecimalVector) root.getVector(ordinal);
+      if (values[ordinal] != null) {
+        decimals.setSafe(row, (BigDecimal) values[ordinal]);
+      } else {
+        decimals.setNull(row);
+      }
+    }
+
+    BigIntVector count = (BigIntVector) root.getVector(5);
+    if (values[5] != null) {
+      count.setSafe(row, (Long) values[5]);
+    } else {
+      count.setNull(row);
+    }
+
+    TimeStampMicroTZVector ts = (TimeStampMicroTZVector) root.getVector(6);
+    if (values[6] != null) {
+      ts.setSafe(row, DateTimeUtil.microsFromTimestamptz((OffsetDateTime) values[6]));
+    } else {
+      ts.setNull(row);
+    }
+
+    DateDayVector date = (DateDayVector) root.getVector(7);
+    if (values[7] != null) {
+      date.setSafe(row, DateTimeUtil.daysFromDate((LocalDate) values[7]));
+    } else {
+      date.setNull(row);
+    }
+
+    BitVector flag = (BitVector) root.getVector(8);
+    if (values[8] != null) {
+      flag.setSafe(row, (Boolean) values[8] ? 1 : 0);
+    } else {
+      flag.setNull(row);
+    }
+
+    VarBinaryVector bytes = (VarBinaryVector) root.getVector(9);
+    if (values[9] != null) {
+      ByteBuffer buffer = (ByteBuffer) values[9];
+      bytes.setSafe(row, buffer.duplicate(), buffer.position(), buffer.remaining());
+    } else {
+      bytes.setNull(row);
+    }
+
+    FixedSizeBinaryVector fixed = (FixedSizeBinaryVector) root.getVector(10);
+    if (values[10] != null) {
+      fixed.setSafe(row, (byte[]) values[10]);
+    } else {
+      fixed.setNull(row);
+    }
+
+    FixedSizeBinaryVector uuid = (FixedSizeBinaryVector) root.getVector(11);
+    if (values[11] != null) {
+      uuid.setSafe(row, UUIDUtil.convert((UUID) values[11]));
+    } else {
+      uuid.setNull(row);
+    }
+  }
+
+  private static void assertValue(String message, Object expected, Object actual) {
+    if (expected instanceof byte[]) {
+      Assert.assertArrayEquals(message, (byte[]) expected, (byte[]) actual);
+    } else if (expected instanceof UUID && actual instanceof byte[]) {
+      // generic Parquet readers return uuid values as bytes
+      Assert.assertEquals(message, expected, UUIDUtil.convert((byte[]) actual));
+    } else {
+      Assert.assertEquals(message, expected, actual);
+    }
+  }
+
+  private static List<Record> read(File file, Schema schema) throws IOException {
+    try (CloseableIterable<Record> reader =
+        Parquet.read(Files.localInput(file))
+            .project(schema)
+            .createReaderFunc(type -> GenericParquetReaders.buildReader(schema, type))
+            .build()) {
+      return Lists.newArrayList(reader);
+    }
+  }
+}
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.jdbc;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.commons.io.FileUtils;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.CatalogProperties;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.catalog.Namespace;
+import org.apache.iceberg.catalog.TableIdentifier;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.io.Files;
+import org.apache.iceberg.types.Types;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * A benchmark that measures the commit throughput of {@link JdbcCatalog} against an embedded SQLite
+ * database.
+ *
+ * <p>To run this benchmark: <code>
+ *   ./gradlew :iceberg-core:jmh
+ *       -PjmhIncludeRegex=JdbcCatalogCommitBenchmark
+ *       -PjmhOutputPath=benchmark/jdbc-catalog-commit-benchmark.txt
+ * </code>
+ */
+@Fork(1)
+@State(Scope.Benchmark)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Threads(4)
+public class JdbcCatalogCommitBenchmark {
+
+  private static final int NUM_TABLES = 16;
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()));
+
+  @Param({"true", "false"})
+  private boolean statementCacheEnabled;
+
+  private File warehouse;
+  private JdbcCatalog catalog;
+  private List<TableIdentifier> tables;
+
+  @Setup
+  public void setupCatalog() {
+    this.warehouse = Files.createTempDir();
+
+    Map<String, String> properties = Maps.newHashMap();
+    properties.put(
+        CatalogProperties.URI,
+        "jdbc:sqlite:" + new File(warehouse, "catalog.db").getAbsolutePath());
+    properties.put(CatalogProperties.WAREHOUSE_LOCATION, warehouse.getAbsolutePath());
+    properties.put(CatalogProperties.CLIENT_POOL_SIZE, "4");
+    properties.put(
+        JdbcUtil.STATEMENT_CACHE_ENABLED_PROPERTY, String.valueOf(statementCacheEnabled));
+
+    this.catalog = new JdbcCatalog();
+    catalog.setConf(new Configuration());
+    catalog.initialize("bench", properties);
+
+    this.tables = Lists.newArrayList();
+    for (int i = 0; i < NUM_TABLES; i += 1) {
+      TableIdentifier ident = TableIdentifier.of(Namespace.of("db"), "table_" + i);
+      catalog.createTable(ident, SCHEMA, PartitionSpec.unpartitioned());
+      tables.add(ident);
+    }
+  }
+
+  @TearDown
+  public void tearDownCatalog() {
+    catalog.close();
+    try {
+      FileUtils.deleteDirectory(warehouse);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  @Benchmark
+  public void commit() {
+    ThreadLocalRandom random = ThreadLocalRandom.current();
+    Table table = catalog.loadTable(tables.get(random.nextInt(NUM_TABLES)));
+    table.updateProperties().set("commit-id", String.valueOf(random.nextLong())).commit();
+  }
+}
@@ -18,12 +18,16 @@
  */
 package org.apache.iceberg;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
 import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.metrics.MetricsReporter;
 import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
@@ -31,6 +35,8 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -68,6 +74,100 @@ public abstract class BaseMetastoreCatalog implements Catalog {
     return result;
   }
 
+  /**
+   * Loads a batch of tables.
+   *
+   * <p>Current metadata locations are looked up using {@link #loadMetadataLocations(Collection)},
+   * which catalogs can implement with a single request to the metastore. Metadata files are then
+   * read in parallel using the worker pool. If the catalog does not support batched lookups, each
+   * table is loaded in parallel using {@link #loadTable(TableIdentifier)}.
+   */
+  @Override
+  public Map<TableIdentifier, Table> loadTables(Collection<TableIdentifier> identifiers) {
+    List<TableIdentifier> distinct = identifiers.stream().distinct().collect(Collectors.toList());
+    Map<TableIdentifier, String> metadataLocations =
+        loadMetadataLocations(
+            distinct.stream().filter(this::isValidIdentifier).collect(Collectors.toList()));
+
+    // initialize the shared reporter before tables are loaded concurrently
+    metricsReporter();
+
+    Map<TableIdentifier, Table> loaded = Maps.newConcurrentMap();
+    Tasks.foreach(distinct)
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            identifier -> {
+              Table table;
+              if (metadataLocations == null) {
+                table = loadTableIfExists(identifier);
+              } else if (metadataLocations.containsKey(identifier)) {
+                table = loadTable(identifier, metadataLocations.get(identifier));
+              } else if (isValidMetadataIdentifier(identifier)) {
+                table = loadTableIfExists(identifier);
+              } else {
+                table = null;
+              }
+
+              if (table != null) {
+                loaded.put(identifier, table);
+              }
+            });
+
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : distinct) {
+      Table table = loaded.get(identifier);
+      if (table != null) {
+        tables.put(identifier, table);
+      }
+    }
+
+    LOG.info("Loaded {} of {} tables by catalog: {}", tables.size(), distinct.size(), name());
+    return tables;
+  }
+
+  /**
+   * Returns the current metadata file location for each identifier that refers to a table.
+   *
+   * <p>Catalogs that can look up many tables with a single request to the metastore should override
+   * this method. Identifiers that do not refer to a table must not be included in the result.
+   *
+   * @param identifiers valid table identifiers
+   * @return a map from identifier to metadata location, or null if batched lookups are not
+   *     supported
+   */
+  protected Map<TableIdentifier, String> loadMetadataLocations(
+      Collection<TableIdentifier> identifiers) {
+    return null;
+  }
+
+  private Table loadTable(TableIdentifier identifier, String metadataLocation) {
+    TableOperations ops = newTableOps(identifier);
+    if (ops instanceof BaseMetastoreTableOperations) {
+      try {
+        ((BaseMetastoreTableOperations) ops).refreshFromCatalogLocation(metadataLocation);
+      } catch (NotFoundException e) {
+        // the table was updated and the metadata file was removed after the lookup
+        return loadTableIfExists(identifier);
+      }
+    }
+
+    if (ops.current() == null) {
+      return null;
+    }
+
+    return new BaseTable(ops, fullTableName(name(), identifier), metricsReporter());
+  }
+
+  private Table loadTableIfExists(TableIdentifier identifier) {
+    try {
+      return loadTable(identifier);
+    } catch (NoSuchTableException e) {
+      return null;
+    }
+  }
+
   @Override
   public Table registerTable(TableIdentifier identifier, String metadataFileLocation) {
     Preconditions.checkArgument(
@@ -176,6 +176,18 @@ public abstract class BaseMetastoreTableOperations implements TableOperations {
     refreshFromMetadataLocation(newLocation, null, 20);
   }
 
+  /**
+   * Refreshes from a metadata location that the catalog already looked up for this table, such as
+   * in {@link BaseMetastoreCatalog#loadTables(java.util.Collection)}.
+   *
+   * <p>Operations that refresh with their own retry settings should override this to use them.
+   *
+   * @param metadataLocation the current metadata location of the table
+   */
+  protected void refreshFromCatalogLocation(String metadataLocation) {
+    refreshFromMetadataLocation(metadataLocation);
+  }
+
   protected void refreshFromMetadataLocation(String newLocation, int numRetries) {
     refreshFromMetadataLocation(newLocation, null, numRetries);
   }
@@ -186,7 +198,7 @@ public abstract class BaseMetastoreTableOperations implements TableOperations {
         newLocation,
         shouldRetry,
         numRetries,
-        metadataLocation -> TableMetadataParser.read(io(), metadataLocation));
+        metadataLocation -> TableMetadataCache.read(io(), metadataLocation));
   }
 
   protected void refreshFromMetadataLocation(
@@ -100,6 +100,12 @@ abstract class BaseReadOnlyTable implements Table {
         "Cannot update statistics of a " + descriptor + " table");
   }
 
+  @Override
+  public UpdatePartitionStatistics updatePartitionStatistics() {
+    throw new UnsupportedOperationException(
+        "Cannot update partition statistics of a " + descriptor + " table");
+  }
+
   @Override
   public ExpireSnapshots expireSnapshots() {
     throw new UnsupportedOperationException(
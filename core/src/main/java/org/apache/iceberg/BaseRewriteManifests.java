@@ -26,6 +26,7 @@ import static org.apache.iceberg.TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -71,6 +72,8 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests>
   private final AtomicLong entryCount = new AtomicLong(0);
 
   private Function<DataFile, Object> clusterByFunc;
+  private Function<DataFile, Object> sortKeyFunc;
+  private Comparator<Object> sortKeyComparator;
   private Predicate<ManifestFile> predicate;
 
   private final SnapshotSummary.Builder summaryBuilder = SnapshotSummary.builder();
@@ -125,6 +128,15 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests>
     return this;
   }
 
+  @Override
+  @SuppressWarnings("unchecked")
+  public <K> RewriteManifests sortBy(
+      Function<DataFile, K> keyFunc, Comparator<? super K> keyComparator) {
+    this.sortKeyFunc = (Function<DataFile, Object>) keyFunc;
+    this.sortKeyComparator = (Comparator<Object>) keyComparator;
+    return this;
+  }
+
   @Override
   public RewriteManifests rewriteIf(Predicate<ManifestFile> pred) {
     this.predicate = pred;
@@ -170,7 +182,8 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests>
         specsById,
         newFile,
         snapshotId(),
-        summaryBuilder);
+        summaryBuilder,
+        current.properties());
   }
 
   @Override
@@ -354,23 +367,45 @@ public class BaseRewriteManifests extends SnapshotProducer<RewriteManifests>
 
   class WriterWrapper {
     private final PartitionSpec spec;
+    private final List<Pair<Object, ManifestEntry<DataFile>>> sortBuffer;
     private ManifestWriter<DataFile> writer;
 
     WriterWrapper(PartitionSpec spec) {
       this.spec = spec;
+      this.sortBuffer = sortKeyFunc != null ? Lists.newArrayList() : null;
     }
 
     synchronized void addEntry(ManifestEntry<DataFile> entry) {
+      if (sortBuffer != null) {
+        // entries are reused by manifest readers so buffered entries must be copied
+        ManifestEntry<DataFile> copy = entry.copy();
+        sortBuffer.add(Pair.of(sortKeyFunc.apply(copy.file()), copy));
+      } else {
+        write(entry);
+      }
+    }
+
+    private void write(ManifestEntry<DataFile> entry) {
       if (writer == null) {
         writer = newManifestWriter(spec);
       } else if (writer.length() >= getManifestTargetSizeBytes()) {
-        close();
+        closeWriter();
         writer = newManifestWriter(spec);
       }
       writer.existing(entry);
     }
 
     synchronized void close() {
+      if (sortBuffer != null) {
+        sortBuffer.sort(Comparator.comparing(Pair::first, sortKeyComparator));
+        sortBuffer.forEach(pair -> write(pair.second()));
+        sortBuffer.clear();
+      }
+
+      closeWriter();
+    }
+
+    private void closeWriter() {
       if (writer != null) {
         try {
           writer.close();
@@ -215,6 +215,11 @@ public class BaseTable implements Table, HasTableOperations, Serializable {
     return new SetStatistics(ops);
   }
 
+  @Override
+  public UpdatePartitionStatistics updatePartitionStatistics() {
+    return new SetPartitionStatistics(ops);
+  }
+
   @Override
   public ExpireSnapshots expireSnapshots() {
     return new RemoveSnapshots(ops);
@@ -250,6 +255,11 @@ public class BaseTable implements Table, HasTableOperations, Serializable {
     return ops.current().statisticsFiles();
   }
 
+  @Override
+  public List<PartitionStatisticsFile> partitionStatisticsFiles() {
+    return ops.current().partitionStatisticsFiles();
+  }
+
   @Override
   public Map<String, SnapshotRef> refs() {
     return ops.current().refs();
@@ -245,6 +245,15 @@ public class BaseTransaction implements Transaction {
     return updateStatistics;
   }
 
+  @Override
+  public UpdatePartitionStatistics updatePartitionStatistics() {
+    checkLastOperationCommitted("UpdatePartitionStatistics");
+    UpdatePartitionStatistics updatePartitionStatistics =
+        new SetPartitionStatistics(transactionOps);
+    updates.add(updatePartitionStatistics);
+    return updatePartitionStatistics;
+  }
+
   @Override
   public ExpireSnapshots expireSnapshots() {
     checkLastOperationCommitted("ExpireSnapshots");
@@ -732,6 +741,11 @@ public class BaseTransaction implements Transaction {
       return BaseTransaction.this.updateStatistics();
     }
 
+    @Override
+    public UpdatePartitionStatistics updatePartitionStatistics() {
+      return BaseTransaction.this.updatePartitionStatistics();
+    }
+
     @Override
     public ExpireSnapshots expireSnapshots() {
       return BaseTransaction.this.expireSnapshots();
@@ -768,6 +782,11 @@ public class BaseTransaction implements Transaction {
       return current.statisticsFiles();
     }
 
+    @Override
+    public List<PartitionStatisticsFile> partitionStatisticsFiles() {
+      return current.partitionStatisticsFiles();
+    }
+
     @Override
     public Map<String, SnapshotRef> refs() {
       return current.refs();
@@ -19,21 +19,37 @@
 package org.apache.iceberg;
 
 import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.CacheLoader;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.RemovalListener;
 import com.github.benmanes.caffeine.cache.Ticker;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.iceberg.catalog.Catalog;
 import org.apache.iceberg.catalog.Namespace;
 import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.exceptions.AlreadyExistsException;
+import org.apache.iceberg.exceptions.NoSuchTableException;
+import org.apache.iceberg.metrics.Counter;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
+import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -42,9 +58,22 @@ import org.slf4j.LoggerFactory;
  *
  * <p>See {@link CatalogProperties#CACHE_EXPIRATION_INTERVAL_MS} for more details regarding special
  * values for {@code expirationIntervalMillis}.
+ *
+ * <p>Cached tables can also be refreshed in the background before they expire, see {@link
+ * CatalogProperties#CACHE_REFRESH_INTERVAL_MS}, or served while they are refreshed until they reach
+ * a maximum staleness, see {@link CatalogProperties#CACHE_MAX_STALENESS_MS}. Refreshing a cached
+ * table refreshes the table instance in place, which also refreshes the metadata tables that share
+ * its {@link TableOperations}.
  */
 public class CachingCatalog implements Catalog {
   private static final Logger LOG = LoggerFactory.getLogger(CachingCatalog.class);
+  private static final int REFRESH_POOL_SIZE = 2;
+
+  /** Holds the refresh pool shared by all caching catalogs, created on first use. */
+  private static class RefreshPoolHolder {
+    private static final ExecutorService REFRESH_POOL =
+        ThreadPools.newWorkerPool("iceberg-catalog-cache-refresh", REFRESH_POOL_SIZE);
+  }
 
   public static Catalog wrap(Catalog catalog) {
     return wrap(catalog, CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS_OFF);
@@ -59,8 +88,28 @@ public class CachingCatalog implements Catalog {
     return new CachingCatalog(catalog, caseSensitive, expirationIntervalMillis);
   }
 
+  public static Catalog wrap(
+      Catalog catalog,
+      boolean caseSensitive,
+      long expirationIntervalMillis,
+      long refreshIntervalMillis,
+      long maxStalenessMillis) {
+    return new CachingCatalog(
+        catalog,
+        caseSensitive,
+        expirationIntervalMillis,
+        refreshIntervalMillis,
+        maxStalenessMillis,
+        Ticker.systemTicker(),
+        null);
+  }
+
   private final Catalog catalog;
   private final boolean caseSensitive;
+  private final long refreshIntervalMillis;
+  private final long maxStalenessMillis;
+  private final Executor refreshExecutor;
+  private final Map<TableIdentifier, TableCacheMetrics> metrics = Maps.newConcurrentMap();
 
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected final long expirationIntervalMillis;
@@ -75,13 +124,62 @@ public class CachingCatalog implements Catalog {
   @SuppressWarnings("checkstyle:VisibilityModifier")
   protected CachingCatalog(
       Catalog catalog, boolean caseSensitive, long expirationIntervalMillis, Ticker ticker) {
+    this(
+        catalog,
+        caseSensitive,
+        expirationIntervalMillis,
+        CatalogProperties.CACHE_REFRESH_INTERVAL_MS_OFF,
+        CatalogProperties.CACHE_MAX_STALENESS_MS_OFF,
+        ticker,
+        null);
+  }
+
+  /**
+   * Creates a caching catalog.
+   *
+   * @param refreshExecutor an executor used to refresh tables in the background, or null to use a
+   *     thread pool that is shared by all caching catalogs
+   */
+  protected CachingCatalog(
+      Catalog catalog,
+      boolean caseSensitive,
+      long expirationIntervalMillis,
+      long refreshIntervalMillis,
+      long maxStalenessMillis,
+      Ticker ticker,
+      Executor refreshExecutor) {
     Preconditions.checkArgument(
         expirationIntervalMillis != 0,
         "When %s is set to 0, the catalog cache should be disabled. This indicates a bug.",
         CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS);
+    Preconditions.checkArgument(
+        refreshIntervalMillis <= 0
+            || expirationIntervalMillis < 0
+            || refreshIntervalMillis < expirationIntervalMillis,
+        "Invalid %s: %s (must be less than %s: %s)",
+        CatalogProperties.CACHE_REFRESH_INTERVAL_MS,
+        refreshIntervalMillis,
+        CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS,
+        expirationIntervalMillis);
+    Preconditions.checkArgument(
+        maxStalenessMillis <= 0
+            || (expirationIntervalMillis > 0 && maxStalenessMillis > expirationIntervalMillis),
+        "Invalid %s: %s (must be greater than %s: %s)",
+        CatalogProperties.CACHE_MAX_STALENESS_MS,
+        maxStalenessMillis,
+        CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS,
+        expirationIntervalMillis);
     this.catalog = catalog;
     this.caseSensitive = caseSensitive;
     this.expirationIntervalMillis = expirationIntervalMillis;
+    this.refreshIntervalMillis = refreshIntervalMillis;
+    this.maxStalenessMillis = maxStalenessMillis;
+    if (refreshExecutor == null && refreshAfterMillis() > 0) {
+      this.refreshExecutor = RefreshPoolHolder.REFRESH_POOL;
+    } else {
+      this.refreshExecutor = refreshExecutor;
+    }
+
     this.tableCache = createTableCache(ticker);
   }
 
@@ -99,22 +197,113 @@ public class CachingCatalog implements Catalog {
           tableCache.invalidateAll(metadataTableIdentifiers(tableIdentifier));
         }
       }
+
+      removeMetricsIfEvicted(tableIdentifier, cause);
+    }
+  }
+
+  /** RemovalListener class for removing metrics of tables that were evicted from the cache. */
+  private class MetricsRemovingRemovalListener implements RemovalListener<TableIdentifier, Table> {
+    @Override
+    public void onRemoval(TableIdentifier tableIdentifier, Table table, RemovalCause cause) {
+      removeMetricsIfEvicted(tableIdentifier, cause);
+    }
+  }
+
+  private void removeMetricsIfEvicted(TableIdentifier tableIdentifier, RemovalCause cause) {
+    // the table may have been loaded again before the listener was called
+    if (cause.wasEvicted() && !tableCache.asMap().containsKey(tableIdentifier)) {
+      metrics.remove(tableIdentifier);
+    }
+  }
+
+  /** CacheLoader class that refreshes cached tables in place using the refresh executor. */
+  private class TableRefresher implements CacheLoader<TableIdentifier, Table> {
+    @Override
+    public Table load(TableIdentifier ident) {
+      return loadAndRecord(ident);
+    }
+
+    @Override
+    public Table reload(TableIdentifier ident, Table table) {
+      try {
+        metrics(ident).refreshes().time(table::refresh);
+        return table;
+      } catch (NoSuchTableException e) {
+        LOG.info("Removing {} from the table cache because it no longer exists", ident);
+        metrics.remove(ident);
+        return null;
+      }
+    }
+
+    @Override
+    public CompletableFuture<Table> asyncReload(
+        TableIdentifier ident, Table table, Executor executor) {
+      // the cache executor runs removal listeners synchronously, refresh using a separate executor
+      return CompletableFuture.supplyAsync(() -> reload(ident, table), refreshExecutor);
+    }
+  }
+
+  private long refreshAfterMillis() {
+    if (refreshIntervalMillis > 0) {
+      return refreshIntervalMillis;
+    } else if (maxStalenessMillis > 0) {
+      return expirationIntervalMillis;
     }
+
+    return -1;
   }
 
   private Cache<TableIdentifier, Table> createTableCache(Ticker ticker) {
-    Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().softValues();
+    Caffeine<Object, Object> cacheBuilder = Caffeine.newBuilder().softValues().ticker(ticker);
+
+    long refreshAfterMillis = refreshAfterMillis();
+    if (refreshAfterMillis > 0) {
+      cacheBuilder = cacheBuilder.refreshAfterWrite(Duration.ofMillis(refreshAfterMillis));
+    }
 
     if (expirationIntervalMillis > 0) {
-      return cacheBuilder
-          .removalListener(new MetadataTableInvalidatingRemovalListener())
-          .executor(Runnable::run) // Makes the callbacks to removal listener synchronous
-          .expireAfterAccess(Duration.ofMillis(expirationIntervalMillis))
-          .ticker(ticker)
-          .build();
+      if (maxStalenessMillis > 0) {
+        cacheBuilder = cacheBuilder.expireAfterWrite(Duration.ofMillis(maxStalenessMillis));
+      } else {
+        cacheBuilder = cacheBuilder.expireAfterAccess(Duration.ofMillis(expirationIntervalMillis));
+      }
+
+      Caffeine<TableIdentifier, Table> expiringBuilder =
+          cacheBuilder
+              .removalListener(new MetadataTableInvalidatingRemovalListener())
+              .executor(Runnable::run); // Makes the callbacks to removal listener synchronous
+
+      return refreshAfterMillis > 0
+          ? expiringBuilder.build(new TableRefresher())
+          : expiringBuilder.build();
     }
 
-    return cacheBuilder.build();
+    Caffeine<TableIdentifier, Table> evictingBuilder =
+        cacheBuilder
+            .removalListener(new MetricsRemovingRemovalListener())
+            .executor(Runnable::run); // Makes the callbacks to removal listener synchronous
+
+    return refreshAfterMillis > 0
+        ? evictingBuilder.build(new TableRefresher())
+        : evictingBuilder.build();
+  }
+
+  /**
+   * Returns metrics for each table that was loaded using this catalog.
+   *
+   * <p>Metrics for a table are kept until the table is dropped, renamed, or evicted from the cache.
+   */
+  public Map<TableIdentifier, TableCacheMetrics> metrics() {
+    return ImmutableMap.copyOf(metrics);
+  }
+
+  private TableCacheMetrics metrics(TableIdentifier ident) {
+    return metrics.computeIfAbsent(ident, key -> new TableCacheMetrics());
+  }
+
+  private Table loadAndRecord(TableIdentifier ident) {
+    return metrics(ident).loads().time(() -> catalog.loadTable(ident));
   }
 
   private TableIdentifier canonicalizeIdentifier(TableIdentifier tableIdentifier) {
@@ -140,13 +329,14 @@ public class CachingCatalog implements Catalog {
     TableIdentifier canonicalized = canonicalizeIdentifier(ident);
     Table cached = tableCache.getIfPresent(canonicalized);
     if (cached != null) {
+      metrics(canonicalized).hits().increment();
       return cached;
     }
 
     if (MetadataTableUtils.hasMetadataTableName(canonicalized)) {
       TableIdentifier originTableIdentifier =
           TableIdentifier.of(canonicalized.namespace().levels());
-      Table originTable = tableCache.get(originTableIdentifier, catalog::loadTable);
+      Table originTable = tableCache.get(originTableIdentifier, this::loadAndRecord);
 
       // share TableOperations instance of origin table for all metadata tables, so that metadata
       // table instances are
@@ -163,13 +353,54 @@ public class CachingCatalog implements Catalog {
       }
     }
 
-    return tableCache.get(canonicalized, catalog::loadTable);
+    return tableCache.get(canonicalized, this::loadAndRecord);
+  }
+
+  @Override
+  public Map<TableIdentifier, Table> loadTables(Collection<TableIdentifier> identifiers) {
+    Map<TableIdentifier, Table> found = Maps.newHashMap();
+    List<TableIdentifier> toLoad = Lists.newArrayList();
+    for (TableIdentifier ident : identifiers) {
+      TableIdentifier canonicalized = canonicalizeIdentifier(ident);
+      Table cached = tableCache.getIfPresent(canonicalized);
+      if (cached != null) {
+        metrics(canonicalized).hits().increment();
+        found.put(ident, cached);
+      } else if (MetadataTableUtils.hasMetadataTableName(canonicalized)) {
+        try {
+          found.put(ident, loadTable(ident));
+        } catch (NoSuchTableException e) {
+          // tables that do not exist are not included
+        }
+      } else {
+        toLoad.add(ident);
+      }
+    }
+
+    if (!toLoad.isEmpty()) {
+      // load all tables that were not cached in one batch
+      catalog
+          .loadTables(toLoad)
+          .forEach(
+              (ident, table) ->
+                  found.put(ident, tableCache.get(canonicalizeIdentifier(ident), key -> table)));
+    }
+
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier ident : identifiers) {
+      if (found.containsKey(ident)) {
+        tables.put(ident, found.get(ident));
+      }
+    }
+
+    return tables;
   }
 
   @Override
   public boolean dropTable(TableIdentifier ident, boolean purge) {
     boolean dropped = catalog.dropTable(ident, purge);
     invalidateTable(ident);
+    metrics.remove(canonicalizeIdentifier(ident));
     return dropped;
   }
 
@@ -177,6 +408,7 @@ public class CachingCatalog implements Catalog {
   public void renameTable(TableIdentifier from, TableIdentifier to) {
     catalog.renameTable(from, to);
     invalidateTable(from);
+    metrics.remove(canonicalizeIdentifier(from));
   }
 
   @Override
@@ -299,4 +531,42 @@ public class CachingCatalog implements Catalog {
           innerBuilder.createOrReplaceTransaction(), () -> invalidateTable(ident));
     }
   }
+
+  /** Load and access metrics for a table in the cache. */
+  public static class TableCacheMetrics {
+    private final Counter hits;
+    private final Timer loads;
+    private final Timer refreshes;
+
+    private TableCacheMetrics() {
+      MetricsContext context = new DefaultMetricsContext();
+      this.hits = context.counter("hits", MetricsContext.Unit.COUNT);
+      this.loads = context.timer("loads", TimeUnit.NANOSECONDS);
+      this.refreshes = context.timer("refreshes", TimeUnit.NANOSECONDS);
+    }
+
+    /** Returns the number of times the table was returned from the cache. */
+    public Counter hits() {
+      return hits;
+    }
+
+    /** Returns the number and duration of loads that blocked the caller. */
+    public Timer loads() {
+      return loads;
+    }
+
+    /** Returns the number and duration of background refreshes. */
+    public Timer refreshes() {
+      return refreshes;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(this)
+          .add("hits", hits.value())
+          .add("loads", loads)
+          .add("refreshes", refreshes)
+          .toString();
+    }
+  }
 }
@@ -63,6 +63,32 @@ public class CatalogProperties {
   public static final long CACHE_EXPIRATION_INTERVAL_MS_DEFAULT = TimeUnit.SECONDS.toMillis(30);
   public static final long CACHE_EXPIRATION_INTERVAL_MS_OFF = -1;
 
+  /**
+   * Controls the interval after which cached tables are refreshed in the background.
+   *
+   * <p>When positive, a cached table that is accessed more than this many milliseconds after it was
+   * loaded or last refreshed is returned immediately and refreshed asynchronously, so that tables
+   * that are used frequently are kept up to date without blocking on a reload. When cache
+   * expiration is enabled, this must be less than {@link #CACHE_EXPIRATION_INTERVAL_MS}.
+   */
+  public static final String CACHE_REFRESH_INTERVAL_MS = "cache.refresh-interval-ms";
+
+  public static final long CACHE_REFRESH_INTERVAL_MS_OFF = -1;
+
+  /**
+   * Controls the maximum staleness of cached tables when serving stale tables while they are
+   * refreshed.
+   *
+   * <p>When positive, cached tables no longer expire after {@link #CACHE_EXPIRATION_INTERVAL_MS}
+   * without access. Instead, a table that was loaded or last refreshed more than the expiration
+   * interval ago is returned immediately and refreshed asynchronously. Tables that were not
+   * refreshed within this many milliseconds are removed from the cache and the next access loads
+   * the table synchronously. This must be greater than the expiration interval.
+   */
+  public static final String CACHE_MAX_STALENESS_MS = "cache.max-staleness-ms";
+
+  public static final long CACHE_MAX_STALENESS_MS_OFF = -1;
+
   /**
    * Controls whether to use caching during manifest reads or not.
    *
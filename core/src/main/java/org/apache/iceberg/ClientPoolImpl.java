@@ -55,6 +55,11 @@ public abstract class ClientPoolImpl<C, E extends Exception>
   public <R> R run(Action<R, C, E> action, boolean retry) throws E, InterruptedException {
     C client = get();
     try {
+      if (!isValid(client)) {
+        LOG.debug("Replacing invalid client from the pool");
+        client = reconnect(client);
+      }
+
       return action.run(client);
 
     } catch (Exception exc) {
@@ -84,6 +89,18 @@ public abstract class ClientPoolImpl<C, E extends Exception>
     return reconnectExc.isInstance(exc);
   }
 
+  /**
+   * Checks whether a client taken from the pool can be used.
+   *
+   * <p>Invalid clients are replaced by calling {@link #reconnect(Object)} before running an action.
+   *
+   * @param client a client from the pool
+   * @return true if the client can be used, false otherwise
+   */
+  protected boolean isValid(C client) {
+    return true;
+  }
+
   protected abstract void close(C client);
 
   @Override
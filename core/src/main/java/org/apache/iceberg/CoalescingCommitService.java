@@ -0,0 +1,301 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.Closeable;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.iceberg.exceptions.CommitStateUnknownException;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.relocated.com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An async service that coalesces appends and row deltas from many writers into fewer commits.
+ *
+ * <p>Writers in the same JVM offer files using {@link #append(Iterable)} or {@link
+ * #rowDelta(Iterable, Iterable)} from any thread. A single committer thread drains the pending
+ * requests, merges compatible requests into one snapshot and completes each request's future with
+ * the id of the snapshot that contains its files. Requests that only add data files are committed
+ * using {@link AppendFiles}, so streaming readers still see append snapshots; requests that add
+ * delete files are committed using {@link RowDelta}.
+ *
+ * <p>Equality deletes only apply to data files with a strictly lower sequence number, and all files
+ * in a commit share one sequence number. A request with equality deletes therefore always starts a
+ * new commit when an earlier request in the current commit added data files, so that its deletes
+ * still apply to that data as if the requests had been committed one at a time. If a commit of
+ * several requests fails, each request is retried in a separate commit so that one bad request does
+ * not fail the others.
+ *
+ * <p>Requests are committed without conflict validation, so this service is only suitable for
+ * writers that produce blind appends or row deltas that do not need to validate concurrent changes.
+ */
+public class CoalescingCommitService implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(CoalescingCommitService.class);
+  private static final long POLL_INTERVAL_MS = 100;
+
+  private final Table table;
+  private final int maxRequestsPerCommit;
+  private final long maxWaitMs;
+  private final BlockingQueue<CommitRequest> pendingRequests;
+  private final ExecutorService committerService;
+  private final AtomicBoolean running = new AtomicBoolean(true);
+
+  /**
+   * Constructs a {@link CoalescingCommitService} that commits whatever requests are pending as soon
+   * as the previous commit completes.
+   *
+   * @param table table to commit to
+   * @param maxRequestsPerCommit maximum number of requests to include in a commit
+   */
+  public CoalescingCommitService(Table table, int maxRequestsPerCommit) {
+    this(table, maxRequestsPerCommit, 0L);
+  }
+
+  /**
+   * Constructs a {@link CoalescingCommitService}.
+   *
+   * @param table table to commit to
+   * @param maxRequestsPerCommit maximum number of requests to include in a commit
+   * @param maxWaitMs maximum time to wait for more requests before committing a partial batch
+   */
+  public CoalescingCommitService(Table table, int maxRequestsPerCommit, long maxWaitMs) {
+    Preconditions.checkArgument(table != null, "Invalid table: null");
+    Preconditions.checkArgument(
+        maxRequestsPerCommit > 0,
+        "Invalid max requests per commit: %s (must be positive)",
+        maxRequestsPerCommit);
+    Preconditions.checkArgument(
+        maxWaitMs >= 0, "Invalid max wait: %s (must be non-negative)", maxWaitMs);
+    this.table = table;
+    this.maxRequestsPerCommit = maxRequestsPerCommit;
+    this.maxWaitMs = maxWaitMs;
+    this.pendingRequests = Queues.newLinkedBlockingQueue();
+
+    LOG.info(
+        "Creating coalescing commit service for table {} with up to {} requests per commit",
+        table,
+        maxRequestsPerCommit);
+
+    this.committerService =
+        Executors.newSingleThreadExecutor(
+            new ThreadFactoryBuilder()
+                .setDaemon(true)
+                .setNameFormat("Coalescing-Committer-Service")
+                .build());
+    committerService.submit(this::commitPendingRequests);
+  }
+
+  /**
+   * Offers data files to append to the table.
+   *
+   * @param dataFiles data files to append
+   * @return a future that completes with the id of the snapshot that added the files
+   */
+  public CompletableFuture<Long> append(Iterable<DataFile> dataFiles) {
+    return rowDelta(dataFiles, ImmutableList.of());
+  }
+
+  /**
+   * Offers data and delete files to commit to the table as a row delta.
+   *
+   * @param dataFiles data files to add
+   * @param deleteFiles delete files to add
+   * @return a future that completes with the id of the snapshot that added the files
+   */
+  public CompletableFuture<Long> rowDelta(
+      Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+    Preconditions.checkArgument(dataFiles != null, "Invalid data files: null");
+    Preconditions.checkArgument(deleteFiles != null, "Invalid delete files: null");
+    Preconditions.checkState(running.get(), "Cannot offer files to a closed commit service");
+
+    CommitRequest request = new CommitRequest(dataFiles, deleteFiles);
+    pendingRequests.add(request);
+    return request.future;
+  }
+
+  /**
+   * Commits all pending requests and stops the service.
+   *
+   * <p>Requests that are offered concurrently with closing the service may not be committed, in
+   * which case their futures are completed exceptionally.
+   */
+  @Override
+  public void close() {
+    Preconditions.checkState(
+        running.compareAndSet(true, false), "Cannot close already closed commit service");
+    LOG.info("Closing coalescing commit service for {} waiting for all commits to finish", table);
+    committerService.shutdown();
+
+    try {
+      if (!committerService.awaitTermination(120, TimeUnit.MINUTES)) {
+        LOG.warn("Commit service for {} did not finish committing within 120 minutes", table);
+        committerService.shutdownNow();
+      }
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      throw new RuntimeException("Cannot complete pending commits, commit service interrupted", e);
+    } finally {
+      CommitRequest request;
+      while ((request = pendingRequests.poll()) != null) {
+        request.future.completeExceptionally(
+            new IllegalStateException("Commit service was closed before the files were committed"));
+      }
+    }
+  }
+
+  private void commitPendingRequests() {
+    while (running.get() || !pendingRequests.isEmpty()) {
+      try {
+        CommitRequest first = pendingRequests.poll(POLL_INTERVAL_MS, TimeUnit.MILLISECONDS);
+        if (first != null) {
+          List<CommitRequest> requests = Lists.newArrayList(first);
+          collectRequests(requests);
+          for (List<CommitRequest> batch : compatibleBatches(requests)) {
+            commit(batch);
+          }
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        LOG.warn("Interrupted while waiting for commit requests for {}", table);
+        return;
+      }
+    }
+  }
+
+  private void collectRequests(List<CommitRequest> requests) throws InterruptedException {
+    long deadline = System.currentTimeMillis() + maxWaitMs;
+    while (requests.size() < maxRequestsPerCommit) {
+      long remainingMs = deadline - System.currentTimeMillis();
+      CommitRequest next =
+          remainingMs > 0 && running.get()
+              ? pendingRequests.poll(remainingMs, TimeUnit.MILLISECONDS)
+              : pendingRequests.poll();
+      if (next == null) {
+        return;
+      }
+
+      requests.add(next);
+    }
+  }
+
+  /**
+   * Splits requests, in order, into batches that can be committed in one snapshot.
+   *
+   * <p>Files in a batch get the same sequence number, so equality deletes in a batch would not
+   * apply to data files added by earlier requests in that batch. A new batch is started before each
+   * request with equality deletes if the current batch already contains data files. Data files of
+   * later requests may join the batch because the deletes must not apply to them.
+   */
+  @VisibleForTesting
+  static List<List<CommitRequest>> compatibleBatches(List<CommitRequest> requests) {
+    List<List<CommitRequest>> batches = Lists.newArrayList();
+    List<CommitRequest> batch = Lists.newArrayList();
+    boolean batchHasDataFiles = false;
+    for (CommitRequest request : requests) {
+      if (request.hasEqualityDeletes && batchHasDataFiles) {
+        batches.add(batch);
+        batch = Lists.newArrayList();
+        batchHasDataFiles = false;
+      }
+
+      batch.add(request);
+      batchHasDataFiles |= !request.dataFiles.isEmpty();
+    }
+
+    batches.add(batch);
+    return batches;
+  }
+
+  private void commit(List<CommitRequest> batch) {
+    try {
+      long snapshotId = commitFiles(batch);
+      batch.forEach(request -> request.future.complete(snapshotId));
+    } catch (CommitStateUnknownException e) {
+      // retrying could commit the files twice
+      batch.forEach(request -> request.future.completeExceptionally(e));
+    } catch (RuntimeException e) {
+      if (batch.size() > 1) {
+        LOG.warn(
+            "Failed to commit {} coalesced requests to {}, retrying individually",
+            batch.size(),
+            table,
+            e);
+        batch.forEach(request -> commit(ImmutableList.of(request)));
+      } else {
+        batch.forEach(request -> request.future.completeExceptionally(e));
+      }
+    }
+  }
+
+  private long commitFiles(List<CommitRequest> batch) {
+    Transaction transaction = table.newTransaction();
+    boolean hasDeletes = batch.stream().anyMatch(request -> !request.deleteFiles.isEmpty());
+    if (hasDeletes) {
+      RowDelta rowDelta = transaction.newRowDelta();
+      for (CommitRequest request : batch) {
+        request.dataFiles.forEach(rowDelta::addRows);
+        request.deleteFiles.forEach(rowDelta::addDeletes);
+      }
+
+      rowDelta.commit();
+    } else {
+      AppendFiles append = transaction.newAppend();
+      for (CommitRequest request : batch) {
+        request.dataFiles.forEach(append::appendFile);
+      }
+
+      append.commit();
+    }
+
+    transaction.commitTransaction();
+
+    // the transaction's table reflects the committed metadata, not concurrent commits by others
+    long snapshotId = transaction.table().currentSnapshot().snapshotId();
+    LOG.info(
+        "Committed {} coalesced requests to {} in snapshot {}", batch.size(), table, snapshotId);
+    return snapshotId;
+  }
+
+  @VisibleForTesting
+  static class CommitRequest {
+    private final List<DataFile> dataFiles;
+    private final List<DeleteFile> deleteFiles;
+    private final boolean hasEqualityDeletes;
+    private final CompletableFuture<Long> future = new CompletableFuture<>();
+
+    CommitRequest(Iterable<DataFile> dataFiles, Iterable<DeleteFile> deleteFiles) {
+      this.dataFiles = ImmutableList.copyOf(dataFiles);
+      this.deleteFiles = ImmutableList.copyOf(deleteFiles);
+      this.hasEqualityDeletes =
+          this.deleteFiles.stream()
+              .anyMatch(file -> file.content() == FileContent.EQUALITY_DELETES);
+    }
+  }
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import java.util.Map;
+import java.util.Set;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.NaNUtil;
+
+/** Summarizes the lower and upper bounds of selected columns across the files in a manifest. */
+class ColumnBoundsSummary {
+  private final Map<Integer, ColumnBounds<?>> boundsById = Maps.newLinkedHashMap();
+
+  ColumnBoundsSummary(Schema schema, Set<Integer> fieldIds) {
+    for (Integer fieldId : fieldIds) {
+      Types.NestedField field = schema.findField(fieldId);
+      if (field != null && field.type().isPrimitiveType()) {
+        boundsById.put(fieldId, new ColumnBounds<>(field.type()));
+      }
+    }
+  }
+
+  void update(ContentFile<?> file) {
+    Map<Integer, ByteBuffer> lowerBounds = file.lowerBounds();
+    Map<Integer, ByteBuffer> upperBounds = file.upperBounds();
+    for (Map.Entry<Integer, ColumnBounds<?>> entry : boundsById.entrySet()) {
+      Integer fieldId = entry.getKey();
+      entry
+          .getValue()
+          .update(
+              lowerBounds != null ? lowerBounds.get(fieldId) : null,
+              upperBounds != null ? upperBounds.get(fieldId) : null);
+    }
+  }
+
+  Map<Integer, ByteBuffer> lowerBounds() {
+    Map<Integer, ByteBuffer> lowerBounds = Maps.newLinkedHashMap();
+    boundsById.forEach(
+        (fieldId, bounds) -> {
+          if (bounds.hasBounds()) {
+            lowerBounds.put(fieldId, bounds.lowerBound());
+          }
+        });
+
+    return lowerBounds;
+  }
+
+  Map<Integer, ByteBuffer> upperBounds() {
+    Map<Integer, ByteBuffer> upperBounds = Maps.newLinkedHashMap();
+    boundsById.forEach(
+        (fieldId, bounds) -> {
+          if (bounds.hasBounds()) {
+            upperBounds.put(fieldId, bounds.upperBound());
+          }
+        });
+
+    return upperBounds;
+  }
+
+  private static class ColumnBounds<T> {
+    private final Type type;
+    private final Comparator<T> comparator;
+
+    // set when a file has no bounds for the column, which means its values are unknown
+    private boolean unbounded = false;
+    private T min = null;
+    private T max = null;
+
+    private ColumnBounds(Type type) {
+      this.type = type;
+      this.comparator = Comparators.forType(type.asPrimitiveType());
+    }
+
+    private boolean hasBounds() {
+      return !unbounded && min != null && max != null;
+    }
+
+    private ByteBuffer lowerBound() {
+      return Conversions.toByteBuffer(type, min);
+    }
+
+    private ByteBuffer upperBound() {
+      return Conversions.toByteBuffer(type, max);
+    }
+
+    private void update(ByteBuffer lowerBound, ByteBuffer upperBound) {
+      if (unbounded) {
+        return;
+      }
+
+      T lower = Conversions.fromByteBuffer(type, lowerBound);
+      T upper = Conversions.fromByteBuffer(type, upperBound);
+      if (lower == null || upper == null || NaNUtil.isNaN(lower) || NaNUtil.isNaN(upper)) {
+        // NaN bounds are unreliable, see InclusiveMetricsEvaluator
+        this.unbounded = true;
+        this.min = null;
+        this.max = null;
+        return;
+      }
+
+      if (min == null || comparator.compare(lower, min) < 0) {
+        this.min = lower;
+      }
+
+      if (max == null || comparator.compare(max, upper) < 0) {
+        this.max = upper;
+      }
+    }
+  }
+}
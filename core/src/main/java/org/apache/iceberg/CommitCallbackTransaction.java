@@ -106,6 +106,11 @@ class CommitCallbackTransaction implements Transaction {
     return wrapped.updateStatistics();
   }
 
+  @Override
+  public UpdatePartitionStatistics updatePartitionStatistics() {
+    return wrapped.updatePartitionStatistics();
+  }
+
   @Override
   public ExpireSnapshots expireSnapshots() {
     return wrapped.expireSnapshots();
@@ -18,14 +18,17 @@
  */
 package org.apache.iceberg;
 
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ExecutorService;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.exceptions.NotFoundException;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
@@ -35,6 +38,9 @@ import org.slf4j.LoggerFactory;
 abstract class FileCleanupStrategy {
   private static final Logger LOG = LoggerFactory.getLogger(FileCleanupStrategy.class);
 
+  // number of paths passed to each bulk delete call; batches are deleted concurrently
+  private static final int DELETE_BATCH_SIZE = 1000;
+
   protected final FileIO fileIO;
   protected final ExecutorService planExecutorService;
   private final Consumer<String> deleteFunc;
@@ -60,6 +66,8 @@ abstract class FileCleanupStrategy {
               "manifest_length",
               "partition_spec_id",
               "added_snapshot_id",
+              "added_data_files_count",
+              "existing_data_files_count",
               "deleted_data_files_count");
 
   protected CloseableIterable<ManifestFile> readManifests(Snapshot snapshot) {
@@ -76,14 +84,44 @@ abstract class FileCleanupStrategy {
   }
 
   protected void deleteFiles(Set<String> pathsToDelete, String fileType) {
-    Tasks.foreach(pathsToDelete)
+    if (deleteFunc == null && fileIO instanceof SupportsBulkOperations) {
+      bulkDeleteFiles((SupportsBulkOperations) fileIO, pathsToDelete, fileType);
+    } else {
+      Consumer<String> delete = deleteFunc != null ? deleteFunc : fileIO::deleteFile;
+      Tasks.foreach(pathsToDelete)
+          .executeWith(deleteExecutorService)
+          .retry(3)
+          .stopRetryOn(NotFoundException.class)
+          .suppressFailureWhenFinished()
+          .onFailure(
+              (file, thrown) -> LOG.warn("Delete failed for {} file: {}", fileType, file, thrown))
+          .run(delete::accept);
+    }
+  }
+
+  private void bulkDeleteFiles(
+      SupportsBulkOperations bulkIO, Set<String> pathsToDelete, String fileType) {
+    Iterable<List<String>> batches = Iterables.partition(pathsToDelete, DELETE_BATCH_SIZE);
+    Tasks.foreach(batches)
         .executeWith(deleteExecutorService)
-        .retry(3)
-        .stopRetryOn(NotFoundException.class)
+        .noRetry()
         .suppressFailureWhenFinished()
         .onFailure(
-            (file, thrown) -> LOG.warn("Delete failed for {} file: {}", fileType, file, thrown))
-        .run(deleteFunc::accept);
+            (batch, thrown) ->
+                LOG.warn("Bulk delete failed for {} {} files", batch.size(), fileType, thrown))
+        .run(
+            batch -> {
+              try {
+                bulkIO.deleteFiles(batch);
+              } catch (BulkDeletionFailureException e) {
+                LOG.warn(
+                    "Failed to delete {} of {} {} files",
+                    e.numberFailedObjects(),
+                    batch.size(),
+                    fileType,
+                    e);
+              }
+            });
   }
 
   protected Set<String> expiredStatisticsFilesLocations(
@@ -98,10 +136,15 @@ abstract class FileCleanupStrategy {
     Set<String> statsFileLocations = Sets.newHashSet();
 
     if (tableMetadata.statisticsFiles() != null) {
-      statsFileLocations =
-          tableMetadata.statisticsFiles().stream()
-              .map(StatisticsFile::path)
-              .collect(Collectors.toSet());
+      tableMetadata.statisticsFiles().stream()
+          .map(StatisticsFile::path)
+          .forEach(statsFileLocations::add);
+    }
+
+    if (tableMetadata.partitionStatisticsFiles() != null) {
+      tableMetadata.partitionStatisticsFiles().stream()
+          .map(PartitionStatisticsFile::path)
+          .forEach(statsFileLocations::add);
     }
 
     return statsFileLocations;
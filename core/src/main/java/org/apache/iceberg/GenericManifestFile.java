@@ -22,6 +22,7 @@ import java.io.Serializable;
 import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Stream;
 import org.apache.avro.Schema;
@@ -34,6 +35,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Objects;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ByteBuffers;
+import org.apache.iceberg.util.SerializableMap;
 
 public class GenericManifestFile
     implements ManifestFile, StructLike, IndexedRecord, SchemaConstructable, Serializable {
@@ -60,6 +62,8 @@ public class GenericManifestFile
   private Long deletedRowsCount = null;
   private PartitionFieldSummary[] partitions = null;
   private byte[] keyMetadata = null;
+  private Map<Integer, ByteBuffer> columnLowerBounds = null;
+  private Map<Integer, ByteBuffer> columnUpperBounds = null;
 
   /** Used by Avro reflection to instantiate this class when reading manifest files. */
   public GenericManifestFile(Schema avroSchema) {
@@ -120,6 +124,44 @@ public class GenericManifestFile
       long deletedRowsCount,
       List<PartitionFieldSummary> partitions,
       ByteBuffer keyMetadata) {
+    this(
+        path,
+        length,
+        specId,
+        content,
+        sequenceNumber,
+        minSequenceNumber,
+        snapshotId,
+        addedFilesCount,
+        addedRowsCount,
+        existingFilesCount,
+        existingRowsCount,
+        deletedFilesCount,
+        deletedRowsCount,
+        partitions,
+        keyMetadata,
+        null,
+        null);
+  }
+
+  public GenericManifestFile(
+      String path,
+      long length,
+      int specId,
+      ManifestContent content,
+      long sequenceNumber,
+      long minSequenceNumber,
+      Long snapshotId,
+      int addedFilesCount,
+      long addedRowsCount,
+      int existingFilesCount,
+      long existingRowsCount,
+      int deletedFilesCount,
+      long deletedRowsCount,
+      List<PartitionFieldSummary> partitions,
+      ByteBuffer keyMetadata,
+      Map<Integer, ByteBuffer> columnLowerBounds,
+      Map<Integer, ByteBuffer> columnUpperBounds) {
     this.avroSchema = AVRO_SCHEMA;
     this.manifestPath = path;
     this.length = length;
@@ -137,6 +179,8 @@ public class GenericManifestFile
     this.partitions = partitions == null ? null : partitions.toArray(new PartitionFieldSummary[0]);
     this.fromProjectionPos = null;
     this.keyMetadata = ByteBuffers.toByteArray(keyMetadata);
+    this.columnLowerBounds = SerializableByteBufferMap.wrap(columnLowerBounds);
+    this.columnUpperBounds = SerializableByteBufferMap.wrap(columnUpperBounds);
   }
 
   /**
@@ -172,6 +216,8 @@ public class GenericManifestFile
         toCopy.keyMetadata == null
             ? null
             : Arrays.copyOf(toCopy.keyMetadata, toCopy.keyMetadata.length);
+    this.columnLowerBounds = copyBounds(toCopy.columnLowerBounds);
+    this.columnUpperBounds = copyBounds(toCopy.columnUpperBounds);
   }
 
   /** Constructor for Java serialization. */
@@ -265,6 +311,16 @@ public class GenericManifestFile
     return keyMetadata == null ? null : ByteBuffer.wrap(keyMetadata);
   }
 
+  @Override
+  public Map<Integer, ByteBuffer> columnLowerBounds() {
+    return toReadableBounds(columnLowerBounds);
+  }
+
+  @Override
+  public Map<Integer, ByteBuffer> columnUpperBounds() {
+    return toReadableBounds(columnUpperBounds);
+  }
+
   @Override
   public int size() {
     return ManifestFile.schema().columns().size();
@@ -313,6 +369,10 @@ public class GenericManifestFile
         return partitions();
       case 14:
         return keyMetadata();
+      case 15:
+        return columnLowerBounds();
+      case 16:
+        return columnUpperBounds();
       default:
         throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
     }
@@ -377,6 +437,12 @@ public class GenericManifestFile
       case 14:
         this.keyMetadata = ByteBuffers.toByteArray((ByteBuffer) value);
         return;
+      case 15:
+        this.columnLowerBounds = SerializableByteBufferMap.wrap((Map<Integer, ByteBuffer>) value);
+        return;
+      case 16:
+        this.columnUpperBounds = SerializableByteBufferMap.wrap((Map<Integer, ByteBuffer>) value);
+        return;
       default:
         // ignore the object, it must be from a newer version of the format
     }
@@ -461,7 +527,9 @@ public class GenericManifestFile
                 toCopy.deletedFilesCount(),
                 toCopy.deletedRowsCount(),
                 copyList(toCopy.partitions(), PartitionFieldSummary::copy),
-                toCopy.keyMetadata());
+                toCopy.keyMetadata(),
+                toCopy.columnLowerBounds(),
+                toCopy.columnUpperBounds());
       }
     }
 
@@ -475,6 +543,14 @@ public class GenericManifestFile
     }
   }
 
+  private static Map<Integer, ByteBuffer> copyBounds(Map<Integer, ByteBuffer> bounds) {
+    return bounds == null ? null : SerializableByteBufferMap.wrap(SerializableMap.copyOf(bounds));
+  }
+
+  private static Map<Integer, ByteBuffer> toReadableBounds(Map<Integer, ByteBuffer> bounds) {
+    return bounds == null ? null : ((SerializableByteBufferMap) bounds).immutableMap();
+  }
+
   private static <E, R> List<R> copyList(List<E> list, Function<E, R> transform) {
     if (list != null) {
       List<R> copy = Lists.newArrayListWithExpectedSize(list.size());
@@ -0,0 +1,79 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.Objects;
+import java.util.StringJoiner;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+public class GenericPartitionStatisticsFile implements PartitionStatisticsFile {
+  private final long snapshotId;
+  private final String path;
+  private final long fileSizeInBytes;
+
+  public GenericPartitionStatisticsFile(long snapshotId, String path, long fileSizeInBytes) {
+    Preconditions.checkNotNull(path, "path is null");
+    this.snapshotId = snapshotId;
+    this.path = path;
+    this.fileSizeInBytes = fileSizeInBytes;
+  }
+
+  @Override
+  public long snapshotId() {
+    return snapshotId;
+  }
+
+  @Override
+  public String path() {
+    return path;
+  }
+
+  @Override
+  public long fileSizeInBytes() {
+    return fileSizeInBytes;
+  }
+
+  @Override
+  public boolean equals(Object o) {
+    if (this == o) {
+      return true;
+    }
+    if (o == null || getClass() != o.getClass()) {
+      return false;
+    }
+    GenericPartitionStatisticsFile that = (GenericPartitionStatisticsFile) o;
+    return snapshotId == that.snapshotId
+        && fileSizeInBytes == that.fileSizeInBytes
+        && Objects.equals(path, that.path);
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(snapshotId, path, fileSizeInBytes);
+  }
+
+  @Override
+  public String toString() {
+    return new StringJoiner(", ", GenericPartitionStatisticsFile.class.getSimpleName() + "[", "]")
+        .add("snapshotId=" + snapshotId)
+        .add("path='" + path + "'")
+        .add("fileSizeInBytes=" + fileSizeInBytes)
+        .toString();
+  }
+}
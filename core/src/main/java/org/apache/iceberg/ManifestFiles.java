@@ -22,6 +22,7 @@ import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
 import java.io.IOException;
 import java.util.Map;
+import java.util.Set;
 import org.apache.iceberg.ManifestReader.FileType;
 import org.apache.iceberg.avro.AvroEncoderUtil;
 import org.apache.iceberg.avro.AvroSchemaUtil;
@@ -33,8 +34,12 @@ import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -167,6 +172,53 @@ public class ManifestFiles {
         "Cannot write manifest for table version: " + formatVersion);
   }
 
+  /**
+   * Create a new {@link ManifestWriter} for the given format version that follows the manifest
+   * settings in table properties.
+   *
+   * <p>For v2 and later, the writer summarizes the bounds of the columns listed in {@link
+   * TableProperties#MANIFEST_COLUMN_BOUNDS}. Column names are resolved against the schema of the
+   * spec and unknown names are ignored.
+   *
+   * @param formatVersion a target format version
+   * @param spec a {@link PartitionSpec}
+   * @param outputFile an {@link OutputFile} where the manifest will be written
+   * @param snapshotId a snapshot ID for the manifest entries, or null for an inherited ID
+   * @param tableProperties the properties of the table the manifest is written for
+   * @return a manifest writer
+   */
+  public static ManifestWriter<DataFile> write(
+      int formatVersion,
+      PartitionSpec spec,
+      OutputFile outputFile,
+      Long snapshotId,
+      Map<String, String> tableProperties) {
+    ManifestWriter<DataFile> writer = write(formatVersion, spec, outputFile, snapshotId);
+    if (formatVersion > 1) {
+      writer.summarizeColumnBounds(columnBoundsFieldIds(spec.schema(), tableProperties));
+    }
+
+    return writer;
+  }
+
+  private static Set<Integer> columnBoundsFieldIds(
+      Schema schema, Map<String, String> tableProperties) {
+    String columns = tableProperties.get(TableProperties.MANIFEST_COLUMN_BOUNDS);
+    if (columns == null) {
+      return ImmutableSet.of();
+    }
+
+    Set<Integer> fieldIds = Sets.newHashSet();
+    for (String column : Splitter.on(',').trimResults().omitEmptyStrings().split(columns)) {
+      Types.NestedField field = schema.findField(column);
+      if (field != null) {
+        fieldIds.add(field.fieldId());
+      }
+    }
+
+    return fieldIds;
+  }
+
   /**
    * Returns a new {@link ManifestReader} for a {@link ManifestFile}.
    *
@@ -256,7 +308,8 @@ public class ManifestFiles {
       Map<Integer, PartitionSpec> specsById,
       OutputFile outputFile,
       long snapshotId,
-      SnapshotSummary.Builder summaryBuilder) {
+      SnapshotSummary.Builder summaryBuilder,
+      Map<String, String> tableProperties) {
     // use metadata that will add the current snapshot's ID for the rewrite
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.forCopy(snapshotId);
     try (ManifestReader<DataFile> reader =
@@ -267,7 +320,8 @@ public class ManifestFiles {
           outputFile,
           snapshotId,
           summaryBuilder,
-          ManifestEntry.Status.ADDED);
+          ManifestEntry.Status.ADDED,
+          tableProperties);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to close manifest: %s", toCopy.location());
     }
@@ -280,7 +334,8 @@ public class ManifestFiles {
       Map<Integer, PartitionSpec> specsById,
       OutputFile outputFile,
       long snapshotId,
-      SnapshotSummary.Builder summaryBuilder) {
+      SnapshotSummary.Builder summaryBuilder,
+      Map<String, String> tableProperties) {
     // for a rewritten manifest all snapshot ids should be set. use empty metadata to throw an
     // exception if it is not
     InheritableMetadata inheritableMetadata = InheritableMetadataFactory.empty();
@@ -292,7 +347,8 @@ public class ManifestFiles {
           outputFile,
           snapshotId,
           summaryBuilder,
-          ManifestEntry.Status.EXISTING);
+          ManifestEntry.Status.EXISTING,
+          tableProperties);
     } catch (IOException e) {
       throw new RuntimeIOException(e, "Failed to close manifest: %s", toCopy.location());
     }
@@ -305,8 +361,10 @@ public class ManifestFiles {
       OutputFile outputFile,
       long snapshotId,
       SnapshotSummary.Builder summaryBuilder,
-      ManifestEntry.Status allowedEntryStatus) {
-    ManifestWriter<DataFile> writer = write(formatVersion, reader.spec(), outputFile, snapshotId);
+      ManifestEntry.Status allowedEntryStatus,
+      Map<String, String> tableProperties) {
+    ManifestWriter<DataFile> writer =
+        write(formatVersion, reader.spec(), outputFile, snapshotId, tableProperties);
     boolean threw = true;
     try {
       for (ManifestEntry<DataFile> entry : reader.entries()) {
@@ -30,6 +30,7 @@ import java.util.function.Predicate;
 import org.apache.iceberg.expressions.Evaluator;
 import org.apache.iceberg.expressions.Expression;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
 import org.apache.iceberg.expressions.ManifestEvaluator;
 import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.expressions.ResidualEvaluator;
@@ -257,6 +258,21 @@ class ManifestGroup {
                 closeableDataManifests,
                 manifest -> evalCache.get(manifest.partitionSpecId()).eval(manifest));
 
+    if (specsById != null && dataFilter != Expressions.alwaysTrue()) {
+      // skip manifests whose column bounds summary, if present, cannot match the data filter
+      LoadingCache<Integer, InclusiveMetricsEvaluator> metricsEvalCache =
+          Caffeine.newBuilder()
+              .build(
+                  specId ->
+                      new InclusiveMetricsEvaluator(
+                          specsById.get(specId).schema(), dataFilter, caseSensitive));
+      matchingManifests =
+          CloseableIterable.filter(
+              scanMetrics.skippedDataManifests(),
+              matchingManifests,
+              manifest -> metricsEvalCache.get(manifest.partitionSpecId()).eval(manifest));
+    }
+
     if (ignoreDeleted) {
       // only scan manifests that have entries other than deletes
       // remove any manifests that don't have any existing or added files. if either the added or
@@ -19,6 +19,7 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.util.Set;
 import org.apache.iceberg.avro.Avro;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.FileAppender;
@@ -37,6 +38,7 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
   static final long UNASSIGNED_SEQ = -1L;
 
   private final OutputFile file;
+  private final PartitionSpec spec;
   private final int specId;
   private final FileAppender<ManifestEntry<F>> writer;
   private final Long snapshotId;
@@ -51,9 +53,11 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
   private int deletedFiles = 0;
   private long deletedRows = 0L;
   private Long minDataSequenceNumber = null;
+  private ColumnBoundsSummary columnBounds = null;
 
   private ManifestWriter(PartitionSpec spec, OutputFile file, Long snapshotId) {
     this.file = file;
+    this.spec = spec;
     this.specId = spec.specId();
     this.writer = newAppender(spec, file);
     this.snapshotId = snapshotId;
@@ -70,6 +74,24 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     return ManifestContent.DATA;
   }
 
+  /**
+   * Collects lower and upper bounds across all files in the manifest for the given columns.
+   *
+   * <p>The bounds are stored in the manifest list by v2 tables and are used to skip manifests that
+   * cannot contain matching files during planning.
+   *
+   * @param fieldIds ids of the columns to summarize
+   * @return this for method chaining
+   */
+  ManifestWriter<F> summarizeColumnBounds(Set<Integer> fieldIds) {
+    Preconditions.checkState(
+        addedFiles + existingFiles + deletedFiles == 0,
+        "Cannot summarize column bounds after files were added");
+    this.columnBounds =
+        fieldIds.isEmpty() ? null : new ColumnBoundsSummary(spec.schema(), fieldIds);
+    return this;
+  }
+
   void addEntry(ManifestEntry<F> entry) {
     switch (entry.status()) {
       case ADDED:
@@ -87,6 +109,9 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
     }
 
     stats.update(entry.file().partition());
+    if (columnBounds != null) {
+      columnBounds.update(entry.file());
+    }
 
     if (entry.isLive()
         && entry.dataSequenceNumber() != null
@@ -204,7 +229,9 @@ public abstract class ManifestWriter<F extends ContentFile<F>> implements FileAp
         deletedFiles,
         deletedRows,
         stats.summaries(),
-        null);
+        null,
+        columnBounds != null ? columnBounds.lowerBounds() : null,
+        columnBounds != null ? columnBounds.upperBounds() : null);
   }
 
   @Override
@@ -0,0 +1,249 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import org.apache.avro.Schema;
+import org.apache.avro.generic.IndexedRecord;
+
+/**
+ * Aggregated stats of a single partition, as stored in a {@link PartitionStatisticsFile}.
+ *
+ * <p>Positions of the values match the fields of {@link PartitionStatsUtil#schema}.
+ */
+public class PartitionStats implements IndexedRecord, StructLike {
+
+  private static final int STATS_COUNT = 11;
+
+  private StructLike partition;
+  private int specId;
+  private long dataRecordCount;
+  private int dataFileCount;
+  private long totalDataFileSizeInBytes;
+  private long positionDeleteRecordCount;
+  private int positionDeleteFileCount;
+  private long equalityDeleteRecordCount;
+  private int equalityDeleteFileCount;
+  private Long lastUpdatedAt; // null by default
+  private Long lastUpdatedSnapshotId; // null by default
+
+  private final Schema avroSchema;
+
+  /** Used by Avro reflection to instantiate this class when reading partition stats files. */
+  PartitionStats(Schema avroSchema) {
+    this.avroSchema = avroSchema;
+  }
+
+  public PartitionStats(StructLike partition, int specId) {
+    this.partition = partition;
+    this.specId = specId;
+    this.avroSchema = null;
+  }
+
+  public StructLike partition() {
+    return partition;
+  }
+
+  public int specId() {
+    return specId;
+  }
+
+  public long dataRecordCount() {
+    return dataRecordCount;
+  }
+
+  public int dataFileCount() {
+    return dataFileCount;
+  }
+
+  public long totalDataFileSizeInBytes() {
+    return totalDataFileSizeInBytes;
+  }
+
+  public long positionDeleteRecordCount() {
+    return positionDeleteRecordCount;
+  }
+
+  public int positionDeleteFileCount() {
+    return positionDeleteFileCount;
+  }
+
+  public long equalityDeleteRecordCount() {
+    return equalityDeleteRecordCount;
+  }
+
+  public int equalityDeleteFileCount() {
+    return equalityDeleteFileCount;
+  }
+
+  /** Commit time in microseconds of the snapshot that last updated this partition. */
+  public Long lastUpdatedAt() {
+    return lastUpdatedAt;
+  }
+
+  public Long lastUpdatedSnapshotId() {
+    return lastUpdatedSnapshotId;
+  }
+
+  /**
+   * Adds a live file to the stats of this partition.
+   *
+   * @param file the {@link ContentFile} from the manifest entry
+   * @param snapshot the snapshot that added the file, or null if it is no longer in the table
+   */
+  void liveEntry(ContentFile<?> file, Snapshot snapshot) {
+    // a partition may have files of several specs, report the highest for a stable result
+    this.specId = Math.max(specId, file.specId());
+
+    switch (file.content()) {
+      case DATA:
+        this.dataRecordCount += file.recordCount();
+        this.dataFileCount += 1;
+        this.totalDataFileSizeInBytes += file.fileSizeInBytes();
+        break;
+      case POSITION_DELETES:
+        this.positionDeleteRecordCount += file.recordCount();
+        this.positionDeleteFileCount += 1;
+        break;
+      case EQUALITY_DELETES:
+        this.equalityDeleteRecordCount += file.recordCount();
+        this.equalityDeleteFileCount += 1;
+        break;
+      default:
+        throw new UnsupportedOperationException("Unsupported file content type: " + file.content());
+    }
+
+    if (snapshot != null) {
+      updateSnapshotInfo(snapshot.snapshotId(), snapshot.timestampMillis() * 1000L);
+    }
+  }
+
+  private void updateSnapshotInfo(long snapshotId, long updatedAt) {
+    if (lastUpdatedAt == null || lastUpdatedAt < updatedAt) {
+      this.lastUpdatedAt = updatedAt;
+      this.lastUpdatedSnapshotId = snapshotId;
+    }
+  }
+
+  /** Combines partial stats for the same partition, for example from another manifest. */
+  void appendStats(PartitionStats other) {
+    this.specId = Math.max(specId, other.specId);
+    this.dataRecordCount += other.dataRecordCount;
+    this.dataFileCount += other.dataFileCount;
+    this.totalDataFileSizeInBytes += other.totalDataFileSizeInBytes;
+    this.positionDeleteRecordCount += other.positionDeleteRecordCount;
+    this.positionDeleteFileCount += other.positionDeleteFileCount;
+    this.equalityDeleteRecordCount += other.equalityDeleteRecordCount;
+    this.equalityDeleteFileCount += other.equalityDeleteFileCount;
+
+    if (other.lastUpdatedAt != null) {
+      updateSnapshotInfo(other.lastUpdatedSnapshotId, other.lastUpdatedAt);
+    }
+  }
+
+  @Override
+  public Schema getSchema() {
+    return avroSchema;
+  }
+
+  @Override
+  public int size() {
+    return STATS_COUNT;
+  }
+
+  @Override
+  public <T> T get(int pos, Class<T> javaClass) {
+    return javaClass.cast(get(pos));
+  }
+
+  @Override
+  public Object get(int pos) {
+    switch (pos) {
+      case 0:
+        return partition;
+      case 1:
+        return specId;
+      case 2:
+        return dataRecordCount;
+      case 3:
+        return dataFileCount;
+      case 4:
+        return totalDataFileSizeInBytes;
+      case 5:
+        return positionDeleteRecordCount;
+      case 6:
+        return positionDeleteFileCount;
+      case 7:
+        return equalityDeleteRecordCount;
+      case 8:
+        return equalityDeleteFileCount;
+      case 9:
+        return lastUpdatedAt;
+      case 10:
+        return lastUpdatedSnapshotId;
+      default:
+        throw new UnsupportedOperationException("Unknown position: " + pos);
+    }
+  }
+
+  @Override
+  public <T> void set(int pos, T value) {
+    put(pos, value);
+  }
+
+  @Override
+  public void put(int pos, Object value) {
+    switch (pos) {
+      case 0:
+        this.partition = (StructLike) value;
+        break;
+      case 1:
+        this.specId = (int) value;
+        break;
+      case 2:
+        this.dataRecordCount = (long) value;
+        break;
+      case 3:
+        this.dataFileCount = (int) value;
+        break;
+      case 4:
+        this.totalDataFileSizeInBytes = (long) value;
+        break;
+      case 5:
+        this.positionDeleteRecordCount = (long) value;
+        break;
+      case 6:
+        this.positionDeleteFileCount = (int) value;
+        break;
+      case 7:
+        this.equalityDeleteRecordCount = (long) value;
+        break;
+      case 8:
+        this.equalityDeleteFileCount = (int) value;
+        break;
+      case 9:
+        this.lastUpdatedAt = (Long) value;
+        break;
+      case 10:
+        this.lastUpdatedSnapshotId = (Long) value;
+        break;
+      default:
+        throw new UnsupportedOperationException("Unknown position: " + pos);
+    }
+  }
+}
@@ -0,0 +1,398 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import org.apache.iceberg.avro.Avro;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.ParallelIterable;
+import org.apache.iceberg.util.SnapshotUtil;
+import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.StructProjection;
+import org.apache.iceberg.util.ThreadPools;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Computes, writes, and reads {@link PartitionStatisticsFile partition statistics files}.
+ *
+ * <p>A partition statistics file holds one {@link PartitionStats} row for each partition of a table
+ * at a snapshot. When an ancestor of the snapshot already has a registered partition statistics
+ * file, the stats are computed incrementally from that file and the manifests written by the
+ * snapshots that were committed since, instead of reading all manifests of the snapshot.
+ *
+ * <p>Incremental computation only applies when every snapshot committed since the ancestor only
+ * added files. Stats only account for live files: the last update of a partition is the latest
+ * snapshot that added one of its live files, and its spec ID is the highest spec ID of those files.
+ * Removing a file can move both back, and removed entries are not subtracted from the base stats.
+ * Instead, stats are recomputed from all manifests of the snapshot when any of the new snapshots
+ * removed files, as deletes, overwrites, and compactions do.
+ */
+public class PartitionStatsUtil {
+  private static final Logger LOG = LoggerFactory.getLogger(PartitionStatsUtil.class);
+
+  private static final String RECORD_NAME = "partition_stats";
+
+  private PartitionStatsUtil() {}
+
+  /**
+   * Returns the schema of partition statistics files for a unified partition type.
+   *
+   * <p>Field IDs are shared with the partitions metadata table where the fields match.
+   *
+   * @param partitionType the unified partition type of a table, see {@link Partitioning}
+   * @return the schema of partition statistics files
+   */
+  public static Schema schema(Types.StructType partitionType) {
+    return new Schema(
+        Types.NestedField.required(1, "partition", partitionType),
+        Types.NestedField.required(4, "spec_id", Types.IntegerType.get()),
+        Types.NestedField.required(2, "record_count", Types.LongType.get()),
+        Types.NestedField.required(3, "file_count", Types.IntegerType.get()),
+        Types.NestedField.required(11, "total_data_file_size_in_bytes", Types.LongType.get()),
+        Types.NestedField.required(5, "position_delete_record_count", Types.LongType.get()),
+        Types.NestedField.required(6, "position_delete_file_count", Types.IntegerType.get()),
+        Types.NestedField.required(7, "equality_delete_record_count", Types.LongType.get()),
+        Types.NestedField.required(8, "equality_delete_file_count", Types.IntegerType.get()),
+        Types.NestedField.optional(9, "last_updated_at", Types.TimestampType.withZone()),
+        Types.NestedField.optional(10, "last_updated_snapshot_id", Types.LongType.get()));
+  }
+
+  /**
+   * Returns the partition statistics file registered for a snapshot, or null if there is none.
+   *
+   * @param table a table
+   * @param snapshotId a snapshot ID
+   * @return the partition statistics file of the snapshot or null
+   */
+  public static PartitionStatisticsFile statsFileForSnapshot(Table table, long snapshotId) {
+    for (PartitionStatisticsFile file : table.partitionStatisticsFiles()) {
+      if (file.snapshotId() == snapshotId) {
+        return file;
+      }
+    }
+
+    return null;
+  }
+
+  /**
+   * Computes and writes the partition statistics file for the current snapshot of a table.
+   *
+   * <p>The file is not registered in the table metadata; use {@link
+   * Table#updatePartitionStatistics()} to commit it.
+   *
+   * @param table a table
+   * @return the written partition statistics file, or null if the table has no snapshot
+   */
+  public static PartitionStatisticsFile computeAndWriteStatsFile(Table table) {
+    Snapshot currentSnapshot = table.currentSnapshot();
+    if (currentSnapshot == null) {
+      return null;
+    }
+
+    return computeAndWriteStatsFile(table, currentSnapshot.snapshotId());
+  }
+
+  /**
+   * Computes and writes the partition statistics file for a snapshot of a table.
+   *
+   * <p>If a partition statistics file is already registered for the snapshot, it is returned
+   * instead. The file is not registered in the table metadata; use {@link
+   * Table#updatePartitionStatistics()} to commit it.
+   *
+   * @param table a table
+   * @param snapshotId a snapshot ID
+   * @return the partition statistics file of the snapshot
+   */
+  public static PartitionStatisticsFile computeAndWriteStatsFile(Table table, long snapshotId) {
+    Snapshot snapshot = table.snapshot(snapshotId);
+    Preconditions.checkArgument(snapshot != null, "Snapshot not found: %s", snapshotId);
+
+    PartitionStatisticsFile existing = statsFileForSnapshot(table, snapshotId);
+    if (existing != null) {
+      return existing;
+    }
+
+    Types.StructType partitionType = Partitioning.partitionType(table);
+    Collection<PartitionStats> stats = computeStats(table, snapshot, partitionType);
+    return writeStatsFile(table, snapshotId, schema(partitionType), stats);
+  }
+
+  /**
+   * Reads a partition statistics file.
+   *
+   * @param schema the schema returned by {@link #schema(Types.StructType)} for the table's current
+   *     unified partition type
+   * @param inputFile a partition statistics file
+   * @return an iterable of the stats of each partition
+   */
+  public static CloseableIterable<PartitionStats> readPartitionStatsFile(
+      Schema schema, InputFile inputFile) {
+    return Avro.read(inputFile)
+        .project(schema)
+        .rename(RECORD_NAME, PartitionStats.class.getName())
+        .rename("r1", PartitionData.class.getName())
+        .classLoader(PartitionStats.class.getClassLoader())
+        .reuseContainers(false)
+        .build();
+  }
+
+  static Collection<PartitionStats> computeStats(
+      Table table, Snapshot snapshot, Types.StructType partitionType) {
+    // find the closest ancestor with stats and the snapshots committed since
+    List<Snapshot> newSnapshots = Lists.newArrayList();
+    PartitionStatisticsFile baseStatsFile = null;
+    for (Snapshot ancestor : SnapshotUtil.ancestorsOf(snapshot.snapshotId(), table::snapshot)) {
+      baseStatsFile = statsFileForSnapshot(table, ancestor.snapshotId());
+      if (baseStatsFile != null) {
+        break;
+      }
+
+      newSnapshots.add(ancestor);
+    }
+
+    if (baseStatsFile == null) {
+      return computeFullStats(table, snapshot, partitionType);
+    }
+
+    LOG.info(
+        "Computing partition stats for snapshot {} incrementally from {} ({} new snapshots)",
+        snapshot.snapshotId(),
+        baseStatsFile.path(),
+        newSnapshots.size());
+    Collection<PartitionStats> stats =
+        computeIncrementalStats(table, baseStatsFile, newSnapshots, partitionType);
+    if (stats == null) {
+      LOG.info(
+          "Computing partition stats for snapshot {} from all manifests because files were removed",
+          snapshot.snapshotId());
+      return computeFullStats(table, snapshot, partitionType);
+    }
+
+    return stats;
+  }
+
+  private static Collection<PartitionStats> computeFullStats(
+      Table table, Snapshot snapshot, Types.StructType partitionType) {
+    Iterable<CloseableIterable<PartitionStats>> tasks =
+        Lists.transform(
+            snapshot.allManifests(table.io()),
+            manifest -> {
+              // defer aggregation until the task is run by the executor
+              Iterable<PartitionStats> partials =
+                  () -> aggregateManifest(table, manifest, partitionType).iterator();
+              return CloseableIterable.withNoopClose(partials);
+            });
+
+    StructLikeMap<PartitionStats> statsMap = StructLikeMap.create(partitionType);
+    try (CloseableIterable<PartitionStats> partials =
+        new ParallelIterable<>(tasks, ThreadPools.getWorkerPool())) {
+      for (PartitionStats partial : partials) {
+        PartitionStats stats = statsMap.get(partial.partition());
+        if (stats == null) {
+          statsMap.put(partial.partition(), partial);
+        } else {
+          stats.appendStats(partial);
+        }
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return statsMap.values();
+  }
+
+  private static Collection<PartitionStats> aggregateManifest(
+      Table table, ManifestFile manifest, Types.StructType partitionType) {
+    StructLikeMap<PartitionStats> statsMap = StructLikeMap.create(partitionType);
+    StructProjection coercedPartition = coercedPartition(table, manifest, partitionType);
+
+    try (CloseableIterable<ManifestEntry<?>> entries = liveEntries(table, manifest)) {
+      for (ManifestEntry<?> entry : entries) {
+        ContentFile<?> file = entry.file();
+        PartitionStats stats =
+            statsFor(statsMap, coercedPartition.wrap(file.partition()), partitionType, file);
+        stats.liveEntry(file, table.snapshot(entry.snapshotId()));
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return statsMap.values();
+  }
+
+  /**
+   * Applies the files added by new snapshots to the stats of a base file, or returns null if a new
+   * snapshot removed files.
+   */
+  private static Collection<PartitionStats> computeIncrementalStats(
+      Table table,
+      PartitionStatisticsFile baseStatsFile,
+      List<Snapshot> newSnapshots,
+      Types.StructType partitionType) {
+    StructLikeMap<PartitionStats> statsMap = StructLikeMap.create(partitionType);
+    try (CloseableIterable<PartitionStats> baseStats =
+        readPartitionStatsFile(
+            schema(partitionType), table.io().newInputFile(baseStatsFile.path()))) {
+      for (PartitionStats stats : baseStats) {
+        statsMap.put(stats.partition(), stats);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    for (Snapshot newSnapshot : newSnapshots) {
+      long snapshotId = newSnapshot.snapshotId();
+      for (ManifestFile manifest : newSnapshot.allManifests(table.io())) {
+        if (!Objects.equals(manifest.snapshotId(), snapshotId)) {
+          // only manifests written by the snapshot can contain its changes
+          continue;
+        }
+
+        StructProjection coercedPartition = coercedPartition(table, manifest, partitionType);
+        try (CloseableIterable<ManifestEntry<?>> entries = entries(table, manifest)) {
+          for (ManifestEntry<?> entry : entries) {
+            if (!Objects.equals(entry.snapshotId(), snapshotId)) {
+              // existing entries were counted by an earlier snapshot
+              continue;
+            }
+
+            ContentFile<?> file = entry.file();
+            PartitionStats stats =
+                statsFor(statsMap, coercedPartition.wrap(file.partition()), partitionType, file);
+            if (entry.status() == ManifestEntry.Status.DELETED) {
+              // the last update and spec of a partition depend on the files that remain, which
+              // are only known by reading all manifests
+              return null;
+            }
+
+            stats.liveEntry(file, newSnapshot);
+          }
+        } catch (IOException e) {
+          throw new UncheckedIOException(e);
+        }
+      }
+    }
+
+    return statsMap.values();
+  }
+
+  private static PartitionStatisticsFile writeStatsFile(
+      Table table, long snapshotId, Schema schema, Collection<PartitionStats> stats) {
+    OutputFile outputFile = newStatsFile(table, snapshotId);
+    try (FileAppender<PartitionStats> writer =
+        Avro.write(outputFile).schema(schema).named(RECORD_NAME).overwrite().build()) {
+      writer.addAll(stats);
+    } catch (IOException e) {
+      throw new UncheckedIOException(
+          String.format("Failed to write partition stats file: %s", outputFile.location()), e);
+    }
+
+    return new GenericPartitionStatisticsFile(
+        snapshotId, outputFile.location(), outputFile.toInputFile().getLength());
+  }
+
+  private static OutputFile newStatsFile(Table table, long snapshotId) {
+    String fileName =
+        FileFormat.AVRO.addExtension(
+            String.format("partition-stats-%d-%s", snapshotId, UUID.randomUUID()));
+    String location;
+    if (table instanceof HasTableOperations) {
+      location = ((HasTableOperations) table).operations().metadataFileLocation(fileName);
+    } else {
+      location = String.format("%s/metadata/%s", table.location(), fileName);
+    }
+
+    return table.io().newOutputFile(location);
+  }
+
+  private static PartitionStats statsFor(
+      Map<StructLike, PartitionStats> statsMap,
+      StructLike partition,
+      Types.StructType partitionType,
+      ContentFile<?> file) {
+    PartitionStats stats = statsMap.get(partition);
+    if (stats == null) {
+      // copy the partition because the passed key is reused
+      PartitionData key = copyPartition(partition, partitionType);
+      stats = new PartitionStats(key, file.specId());
+      statsMap.put(key, stats);
+    }
+
+    return stats;
+  }
+
+  private static PartitionData copyPartition(StructLike partition, Types.StructType partitionType) {
+    PartitionData data = new PartitionData(partitionType);
+    for (int i = 0; i < partitionType.fields().size(); i++) {
+      Object val = partition.get(i, partitionType.fields().get(i).type().typeId().javaClass());
+      if (val != null) {
+        data.set(i, val);
+      }
+    }
+
+    return data;
+  }
+
+  private static StructProjection coercedPartition(
+      Table table, ManifestFile manifest, Types.StructType partitionType) {
+    PartitionSpec spec = table.specs().get(manifest.partitionSpecId());
+    return StructProjection.createAllowMissing(spec.partitionType(), partitionType);
+  }
+
+  private static CloseableIterable<ManifestEntry<?>> entries(Table table, ManifestFile manifest) {
+    return CloseableIterable.transform(
+        ManifestFiles.open(manifest, table.io(), table.specs())
+            .select(scanColumns(manifest.content())) // don't select stats columns
+            .entries(),
+        entry -> entry);
+  }
+
+  private static CloseableIterable<ManifestEntry<?>> liveEntries(
+      Table table, ManifestFile manifest) {
+    return CloseableIterable.transform(
+        ManifestFiles.open(manifest, table.io(), table.specs())
+            .select(scanColumns(manifest.content())) // don't select stats columns
+            .liveEntries(),
+        entry -> entry);
+  }
+
+  private static List<String> scanColumns(ManifestContent content) {
+    switch (content) {
+      case DATA:
+        return BaseScan.SCAN_COLUMNS;
+      case DELETES:
+        return BaseScan.DELETE_SCAN_COLUMNS;
+      default:
+        throw new UnsupportedOperationException("Cannot read unknown manifest type: " + content);
+    }
+  }
+}
@@ -23,13 +23,17 @@ import com.github.benmanes.caffeine.cache.LoadingCache;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
+import org.apache.iceberg.expressions.Expression;
+import org.apache.iceberg.expressions.Expressions;
 import org.apache.iceberg.expressions.ManifestEvaluator;
+import org.apache.iceberg.expressions.Projections;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.util.ParallelIterable;
-import org.apache.iceberg.util.PartitionUtil;
 import org.apache.iceberg.util.StructLikeMap;
+import org.apache.iceberg.util.StructProjection;
 
 /** A {@link Table} implementation that exposes a table's partitions as rows. */
 public class PartitionsTable extends BaseMetadataTable {
@@ -113,6 +117,11 @@ public class PartitionsTable extends BaseMetadataTable {
   }
 
   private DataTask task(StaticTableScan scan) {
+    PartitionStatisticsFile statsFile = statsFile(scan);
+    if (statsFile != null) {
+      return statsTask(scan, statsFile);
+    }
+
     Iterable<Partition> partitions = partitions(table(), scan);
     if (unpartitionedTable) {
       // the table is unpartitioned, partitions contains only the root partition
@@ -141,6 +150,65 @@ public class PartitionsTable extends BaseMetadataTable {
     }
   }
 
+  /**
+   * Returns the partition statistics file registered for the scanned snapshot, if it can be used to
+   * answer the scan instead of reading manifests.
+   */
+  private PartitionStatisticsFile statsFile(StaticTableScan scan) {
+    Snapshot snapshot = scan.snapshot();
+    if (snapshot == null || scan.filter() != Expressions.alwaysTrue()) {
+      // stats files are not pruned by partition, so filtered scans read manifests instead
+      return null;
+    }
+
+    return PartitionStatsUtil.statsFileForSnapshot(table(), snapshot.snapshotId());
+  }
+
+  private DataTask statsTask(StaticTableScan scan, PartitionStatisticsFile statsFile) {
+    Schema statsSchema = PartitionStatsUtil.schema(Partitioning.partitionType(table()));
+    List<PartitionStats> stats;
+    try (CloseableIterable<PartitionStats> statsIterable =
+        PartitionStatsUtil.readPartitionStatsFile(
+            statsSchema, io().newInputFile(statsFile.path()))) {
+      stats = Lists.newArrayList(statsIterable);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return StaticDataTask.of(
+        io().newInputFile(table().operations().current().metadataFileLocation()),
+        schema(),
+        scan.schema(),
+        stats,
+        unpartitionedTable ? PartitionsTable::convertRootStats : PartitionsTable::convertStats);
+  }
+
+  private static StaticDataTask.Row convertRootStats(PartitionStats stats) {
+    return StaticDataTask.Row.of(
+        stats.dataRecordCount(),
+        stats.dataFileCount(),
+        stats.positionDeleteRecordCount(),
+        stats.positionDeleteFileCount(),
+        stats.equalityDeleteRecordCount(),
+        stats.equalityDeleteFileCount(),
+        stats.lastUpdatedAt(),
+        stats.lastUpdatedSnapshotId());
+  }
+
+  private static StaticDataTask.Row convertStats(PartitionStats stats) {
+    return StaticDataTask.Row.of(
+        stats.partition(),
+        stats.specId(),
+        stats.dataRecordCount(),
+        stats.dataFileCount(),
+        stats.positionDeleteRecordCount(),
+        stats.positionDeleteFileCount(),
+        stats.equalityDeleteRecordCount(),
+        stats.equalityDeleteFileCount(),
+        stats.lastUpdatedAt(),
+        stats.lastUpdatedSnapshotId());
+  }
+
   private static StaticDataTask.Row convertPartition(Partition partition) {
     return StaticDataTask.Row.of(
         partition.partitionData,
@@ -158,14 +226,68 @@ public class PartitionsTable extends BaseMetadataTable {
   private static Iterable<Partition> partitions(Table table, StaticTableScan scan) {
     Types.StructType partitionType = Partitioning.partitionType(table);
     PartitionMap partitions = new PartitionMap(partitionType);
-    try (CloseableIterable<ManifestEntry<? extends ContentFile<?>>> entries = planEntries(scan)) {
+    try (CloseableIterable<Partition> partialPartitions = planPartitions(scan, partitionType)) {
+      // combine the partial aggregates produced for each manifest
+      for (Partition partial : partialPartitions) {
+        partitions.get(partial.partitionData).merge(partial);
+      }
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+
+    return partitions.all();
+  }
+
+  /**
+   * Aggregates the entries of each manifest into partial partition stats.
+   *
+   * <p>Manifests are aggregated in parallel using the scan's plan executor, so only one partial
+   * aggregate per partition and manifest is returned to the caller instead of every entry.
+   */
+  private static CloseableIterable<Partition> planPartitions(
+      StaticTableScan scan, Types.StructType partitionType) {
+    Table table = scan.table();
+
+    CloseableIterable<ManifestFile> filteredManifests =
+        filteredManifests(scan, table, scan.snapshot().allManifests(table.io()));
+    LoadingCache<Integer, Expression> partFilterCache = partitionFilterCache(scan, table);
+
+    Iterable<CloseableIterable<Partition>> tasks =
+        CloseableIterable.transform(
+            filteredManifests,
+            manifest -> {
+              Expression partFilter = partFilterCache.get(manifest.partitionSpecId());
+              // defer aggregation until the task is run by the executor
+              Iterable<Partition> partials =
+                  () -> aggregate(scan, partitionType, manifest, partFilter).iterator();
+              return CloseableIterable.withNoopClose(partials);
+            });
+
+    return new ParallelIterable<>(tasks, scan.planExecutor());
+  }
+
+  private static Iterable<Partition> aggregate(
+      StaticTableScan scan,
+      Types.StructType partitionType,
+      ManifestFile manifest,
+      Expression partFilter) {
+    Table table = scan.table();
+    PartitionSpec spec = table.specs().get(manifest.partitionSpecId());
+    StructProjection coercedPartition =
+        StructProjection.createAllowMissing(spec.partitionType(), partitionType);
+    PartitionMap partitions = new PartitionMap(partitionType);
+
+    try (CloseableIterable<? extends ManifestEntry<? extends ContentFile<?>>> entries =
+        ManifestFiles.open(manifest, table.io(), table.specs())
+            .caseSensitive(scan.isCaseSensitive())
+            .filterPartitions(partFilter)
+            .select(scanColumns(manifest.content())) // don't select stats columns
+            .liveEntries()) {
+      // entries are consumed without copies because the map copies partition keys
       for (ManifestEntry<? extends ContentFile<?>> entry : entries) {
         Snapshot snapshot = table.snapshot(entry.snapshotId());
         ContentFile<?> file = entry.file();
-        StructLike partition =
-            PartitionUtil.coercePartition(
-                partitionType, table.specs().get(file.specId()), file.partition());
-        partitions.get(partition).update(file, snapshot);
+        partitions.get(coercedPartition.wrap(file.partition())).update(file, snapshot);
       }
     } catch (IOException e) {
       throw new UncheckedIOException(e);
@@ -180,19 +302,24 @@ public class PartitionsTable extends BaseMetadataTable {
 
     CloseableIterable<ManifestFile> filteredManifests =
         filteredManifests(scan, table, scan.snapshot().allManifests(table.io()));
+    LoadingCache<Integer, Expression> partFilterCache = partitionFilterCache(scan, table);
 
     Iterable<CloseableIterable<ManifestEntry<?>>> tasks =
-        CloseableIterable.transform(filteredManifests, manifest -> readEntries(manifest, scan));
+        CloseableIterable.transform(
+            filteredManifests,
+            manifest ->
+                readEntries(manifest, scan, partFilterCache.get(manifest.partitionSpecId())));
 
     return new ParallelIterable<>(tasks, scan.planExecutor());
   }
 
   private static CloseableIterable<ManifestEntry<?>> readEntries(
-      ManifestFile manifest, StaticTableScan scan) {
+      ManifestFile manifest, StaticTableScan scan, Expression partFilter) {
     Table table = scan.table();
     return CloseableIterable.transform(
         ManifestFiles.open(manifest, table.io(), table.specs())
             .caseSensitive(scan.isCaseSensitive())
+            .filterPartitions(partFilter)
             .select(scanColumns(manifest.content())) // don't select stats columns
             .entries(),
         t ->
@@ -201,6 +328,22 @@ public class PartitionsTable extends BaseMetadataTable {
                 t.copyWithoutStats());
   }
 
+  /**
+   * Returns a cache of the scan filter projected to partition filters of each spec, which are used
+   * to skip entries of partitions that cannot match within manifests that do match.
+   */
+  private static LoadingCache<Integer, Expression> partitionFilterCache(
+      StaticTableScan scan, Table table) {
+    return Caffeine.newBuilder()
+        .build(
+            specId -> {
+              PartitionSpec spec = table.specs().get(specId);
+              PartitionSpec transformedSpec = transformSpec(scan.tableSchema(), spec);
+              return Projections.inclusive(transformedSpec, scan.isCaseSensitive())
+                  .project(scan.filter());
+            });
+  }
+
   private static List<String> scanColumns(ManifestContent content) {
     switch (content) {
       case DATA:
@@ -254,7 +397,8 @@ public class PartitionsTable extends BaseMetadataTable {
       Partition partition = partitions.get(key);
       if (partition == null) {
         partition = new Partition(key, keyType);
-        partitions.put(key, partition);
+        // use the copied partition data as the key because the passed key may be reused
+        partitions.put(partition.partitionData, partition);
       }
       return partition;
     }
@@ -288,6 +432,9 @@ public class PartitionsTable extends BaseMetadataTable {
     }
 
     void update(ContentFile<?> file, Snapshot snapshot) {
+      // a partition may have files of several specs, report the highest for a stable result
+      this.specId = Math.max(specId, file.specId());
+
       if (snapshot != null) {
         long snapshotCommitTime = snapshot.timestampMillis() * 1000;
         if (this.lastUpdatedMs == null || snapshotCommitTime > this.lastUpdatedMs) {
@@ -300,17 +447,14 @@ public class PartitionsTable extends BaseMetadataTable {
         case DATA:
           this.dataRecordCount += file.recordCount();
           this.dataFileCount += 1;
-          this.specId = file.specId();
           break;
         case POSITION_DELETES:
-          this.posDeleteRecordCount = file.recordCount();
+          this.posDeleteRecordCount += file.recordCount();
           this.posDeleteFileCount += 1;
-          this.specId = file.specId();
           break;
         case EQUALITY_DELETES:
-          this.eqDeleteRecordCount = file.recordCount();
+          this.eqDeleteRecordCount += file.recordCount();
           this.eqDeleteFileCount += 1;
-          this.specId = file.specId();
           break;
         default:
           throw new UnsupportedOperationException(
@@ -318,6 +462,23 @@ public class PartitionsTable extends BaseMetadataTable {
       }
     }
 
+    /** Combines partial stats for the same partition, for example from another manifest. */
+    void merge(Partition other) {
+      if (other.lastUpdatedMs != null
+          && (this.lastUpdatedMs == null || other.lastUpdatedMs > this.lastUpdatedMs)) {
+        this.lastUpdatedMs = other.lastUpdatedMs;
+        this.lastUpdatedSnapshotId = other.lastUpdatedSnapshotId;
+      }
+
+      this.specId = Math.max(specId, other.specId);
+      this.dataRecordCount += other.dataRecordCount;
+      this.dataFileCount += other.dataFileCount;
+      this.posDeleteRecordCount += other.posDeleteRecordCount;
+      this.posDeleteFileCount += other.posDeleteFileCount;
+      this.eqDeleteRecordCount += other.eqDeleteRecordCount;
+      this.eqDeleteFileCount += other.eqDeleteFileCount;
+    }
+
     /** Needed because StructProjection is not serializable */
     private PartitionData toPartitionData(StructLike key, Types.StructType keyType) {
       PartitionData data = new PartitionData(keyType);
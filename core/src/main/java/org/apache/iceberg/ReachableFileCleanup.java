@@ -19,6 +19,7 @@
 package org.apache.iceberg;
 
 import java.io.IOException;
+import java.math.RoundingMode;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutorService;
@@ -27,7 +28,9 @@ import java.util.stream.Collectors;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.io.CloseableIterable;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
+import org.apache.iceberg.relocated.com.google.common.math.LongMath;
 import org.apache.iceberg.util.Tasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -35,17 +38,30 @@ import org.slf4j.LoggerFactory;
 /**
  * File cleanup strategy for snapshot expiration which determines, via an in-memory reference set,
  * metadata and data files that are not reachable given the previous and current table states.
+ *
+ * <p>The reference set holds roughly {@code maxPathsInMemory} candidate paths at most. When the
+ * expired manifests contain more live entries than that, candidate paths are split by hash into
+ * several passes. Each pass reads the expired and current manifests again but only keeps its own
+ * share of the candidate paths in memory.
  */
 class ReachableFileCleanup extends FileCleanupStrategy {
 
   private static final Logger LOG = LoggerFactory.getLogger(ReachableFileCleanup.class);
 
+  private final long maxPathsInMemory;
+
   ReachableFileCleanup(
       FileIO fileIO,
       ExecutorService deleteExecutorService,
       ExecutorService planExecutorService,
-      Consumer<String> deleteFunc) {
+      Consumer<String> deleteFunc,
+      long maxPathsInMemory) {
     super(fileIO, deleteExecutorService, planExecutorService, deleteFunc);
+    Preconditions.checkArgument(
+        maxPathsInMemory > 0,
+        "Max paths in memory must be positive, cannot be: %s",
+        maxPathsInMemory);
+    this.maxPathsInMemory = maxPathsInMemory;
   }
 
   @Override
@@ -72,8 +88,20 @@ class ReachableFileCleanup extends FileCleanupStrategy {
               snapshotsAfterExpiration, deletionCandidates, currentManifests::add);
 
       if (!manifestsToDelete.isEmpty()) {
-        Set<String> dataFilesToDelete = findFilesToDelete(manifestsToDelete, currentManifests);
-        deleteFiles(dataFilesToDelete, "data");
+        int numPasses = numPasses(manifestsToDelete);
+        if (numPasses > 1) {
+          LOG.info(
+              "Finding unreachable files of {} expired manifests in {} passes",
+              manifestsToDelete.size(),
+              numPasses);
+        }
+
+        for (int pass = 0; pass < numPasses; pass += 1) {
+          Set<String> dataFilesToDelete =
+              findFilesToDelete(manifestsToDelete, currentManifests, pass, numPasses);
+          deleteFiles(dataFilesToDelete, "data");
+        }
+
         Set<String> manifestPathsToDelete =
             manifestsToDelete.stream().map(ManifestFile::path).collect(Collectors.toSet());
         deleteFiles(manifestPathsToDelete, "manifest");
@@ -82,7 +110,8 @@ class ReachableFileCleanup extends FileCleanupStrategy {
 
     deleteFiles(manifestListsToDelete, "manifest list");
 
-    if (!beforeExpiration.statisticsFiles().isEmpty()) {
+    if (!beforeExpiration.statisticsFiles().isEmpty()
+        || !beforeExpiration.partitionStatisticsFiles().isEmpty()) {
       deleteFiles(
           expiredStatisticsFilesLocations(beforeExpiration, afterExpiration), "statistics files");
     }
@@ -149,9 +178,28 @@ class ReachableFileCleanup extends FileCleanupStrategy {
     return manifestFiles;
   }
 
-  // Helper to determine data files to delete
+  // Estimates the number of candidate paths from manifest counts to bound memory of each pass
+  private int numPasses(Set<ManifestFile> manifestFilesToDelete) {
+    long numCandidates = 0L;
+    for (ManifestFile manifest : manifestFilesToDelete) {
+      if (manifest.addedFilesCount() == null || manifest.existingFilesCount() == null) {
+        // counts are missing in old manifests, do not guess
+        return 1;
+      }
+
+      numCandidates += manifest.addedFilesCount() + manifest.existingFilesCount();
+    }
+
+    long numPasses = LongMath.divide(numCandidates, maxPathsInMemory, RoundingMode.CEILING);
+    return (int) Math.max(1L, numPasses);
+  }
+
+  // Helper to determine data files to delete among the paths that belong to the given pass
   private Set<String> findFilesToDelete(
-      Set<ManifestFile> manifestFilesToDelete, Set<ManifestFile> currentManifestFiles) {
+      Set<ManifestFile> manifestFilesToDelete,
+      Set<ManifestFile> currentManifestFiles,
+      int pass,
+      int numPasses) {
     Set<String> filesToDelete = ConcurrentHashMap.newKeySet();
 
     Tasks.foreach(manifestFilesToDelete)
@@ -165,7 +213,11 @@ class ReachableFileCleanup extends FileCleanupStrategy {
         .run(
             manifest -> {
               try (CloseableIterable<String> paths = ManifestFiles.readPaths(manifest, fileIO)) {
-                paths.forEach(filesToDelete::add);
+                for (String path : paths) {
+                  if (numPasses == 1 || Math.floorMod(path.hashCode(), numPasses) == pass) {
+                    filesToDelete.add(path);
+                  }
+                }
               } catch (IOException e) {
                 throw new RuntimeIOException(e, "Failed to read manifest file: %s", manifest);
               }
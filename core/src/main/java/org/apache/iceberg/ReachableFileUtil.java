@@ -156,4 +156,29 @@ public class ReachableFileUtil {
         .map(StatisticsFile::path)
         .collect(Collectors.toList());
   }
+
+  /**
+   * Returns locations of partition statistics files in a table.
+   *
+   * @param table table for which partition statistics files needs to be listed
+   * @return the location of partition statistics files
+   */
+  public static List<String> partitionStatisticsFilesLocations(Table table) {
+    return partitionStatisticsFilesLocations(table, statisticsFile -> true);
+  }
+
+  /**
+   * Returns locations of partition statistics files for a table matching the given predicate.
+   *
+   * @param table table for which partition statistics files needs to be listed
+   * @param predicate predicate for filtering the partition statistics files
+   * @return the location of partition statistics files
+   */
+  public static List<String> partitionStatisticsFilesLocations(
+      Table table, Predicate<PartitionStatisticsFile> predicate) {
+    return table.partitionStatisticsFiles().stream()
+        .filter(predicate)
+        .map(PartitionStatisticsFile::path)
+        .collect(Collectors.toList());
+  }
 }
@@ -242,6 +242,11 @@ public class SerializableTable implements Table, Serializable {
     return lazyTable().statisticsFiles();
   }
 
+  @Override
+  public List<PartitionStatisticsFile> partitionStatisticsFiles() {
+    return lazyTable().partitionStatisticsFiles();
+  }
+
   @Override
   public Map<String, SnapshotRef> refs() {
     return refs;
@@ -347,6 +352,11 @@ public class SerializableTable implements Table, Serializable {
     throw new UnsupportedOperationException(errorMsg("updateStatistics"));
   }
 
+  @Override
+  public UpdatePartitionStatistics updatePartitionStatistics() {
+    throw new UnsupportedOperationException(errorMsg("updatePartitionStatistics"));
+  }
+
   @Override
   public ExpireSnapshots expireSnapshots() {
     throw new UnsupportedOperationException(errorMsg("expireSnapshots"));
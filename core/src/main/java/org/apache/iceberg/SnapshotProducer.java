@@ -485,8 +485,9 @@ abstract class SnapshotProducer<ThisT> implements SnapshotUpdate<ThisT> {
   }
 
   protected ManifestWriter<DataFile> newManifestWriter(PartitionSpec spec) {
+    TableMetadata current = ops.current();
     return ManifestFiles.write(
-        ops.current().formatVersion(), spec, newManifestOutput(), snapshotId());
+        current.formatVersion(), spec, newManifestOutput(), snapshotId(), current.properties());
   }
 
   protected ManifestWriter<DeleteFile> newDeleteManifestWriter(PartitionSpec spec) {
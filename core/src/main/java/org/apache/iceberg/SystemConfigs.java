@@ -61,6 +61,25 @@ public class SystemConfigs {
           8,
           Integer::parseUnsignedInt);
 
+  /**
+   * Whether to share parsed {@link TableMetadata} across all table operations in the JVM, keyed by
+   * metadata file location.
+   */
+  public static final ConfigEntry<Boolean> TABLE_METADATA_CACHE_ENABLED =
+      new ConfigEntry<>(
+          "iceberg.table-metadata.cache.enabled",
+          "ICEBERG_TABLE_METADATA_CACHE_ENABLED",
+          false,
+          Boolean::parseBoolean);
+
+  /** Maximum number of parsed {@link TableMetadata} kept in the JVM-wide metadata cache. */
+  public static final ConfigEntry<Integer> TABLE_METADATA_CACHE_MAX_ENTRIES =
+      new ConfigEntry<>(
+          "iceberg.table-metadata.cache.max-entries",
+          "ICEBERG_TABLE_METADATA_CACHE_MAX_ENTRIES",
+          1000,
+          Integer::parseUnsignedInt);
+
   public static class ConfigEntry<T> {
     private final String propertyKey;
     private final String envKey;
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A JVM-wide cache of parsed {@link TableMetadata}, keyed by {@link FileIO} instance and metadata
+ * file location.
+ *
+ * <p>Metadata files are never modified once written, so a parsed metadata object can be shared by
+ * every {@link TableOperations} instance that refreshes to the same location through the same
+ * {@link FileIO}. Metadata is not shared across FileIO instances, because the same location may
+ * resolve to different files or require different credentials in different catalogs. FileIO
+ * instances are weakly referenced, so entries are dropped once a FileIO is no longer used. Values
+ * are softly referenced and the number of entries for each FileIO is bounded by {@link
+ * SystemConfigs#TABLE_METADATA_CACHE_MAX_ENTRIES}.
+ *
+ * <p>The cache is only used when {@link SystemConfigs#TABLE_METADATA_CACHE_ENABLED} is set.
+ */
+public class TableMetadataCache {
+  private static final Logger LOG = LoggerFactory.getLogger(TableMetadataCache.class);
+
+  private static final Cache<FileIO, Cache<String, TableMetadata>> METADATA_CACHES =
+      Caffeine.newBuilder().weakKeys().build();
+
+  private TableMetadataCache() {}
+
+  @VisibleForTesting
+  static Caffeine<Object, Object> newMetadataCacheBuilder() {
+    int maxSize = SystemConfigs.TABLE_METADATA_CACHE_MAX_ENTRIES.value();
+    return Caffeine.newBuilder()
+        .softValues()
+        .maximumSize(maxSize)
+        .removalListener(
+            (location, metadata, cause) ->
+                LOG.debug("Evicted {} from table metadata cache ({})", location, cause))
+        .recordStats();
+  }
+
+  /** Returns whether the JVM-wide table metadata cache is enabled. */
+  public static boolean enabled() {
+    return SystemConfigs.TABLE_METADATA_CACHE_ENABLED.value();
+  }
+
+  /**
+   * Returns the {@link TableMetadata} stored at a location, reading and parsing it only if it is
+   * not already cached.
+   *
+   * <p>If the cache is disabled, this always reads the metadata file.
+   *
+   * @param io a FileIO used to read the metadata file on a cache miss
+   * @param metadataLocation a metadata file location
+   * @return parsed table metadata
+   */
+  public static TableMetadata read(FileIO io, String metadataLocation) {
+    return read(io, metadataLocation, enabled());
+  }
+
+  @VisibleForTesting
+  static TableMetadata read(FileIO io, String metadataLocation, boolean useCache) {
+    if (!useCache) {
+      return TableMetadataParser.read(io, metadataLocation);
+    }
+
+    Cache<String, TableMetadata> cache =
+        METADATA_CACHES.get(io, fileIO -> newMetadataCacheBuilder().build());
+    return cache.get(metadataLocation, location -> TableMetadataParser.read(io, location));
+  }
+
+  /** Drops the cached metadata for a location, if present, for every FileIO. */
+  public static void invalidate(String metadataLocation) {
+    METADATA_CACHES.asMap().values().forEach(cache -> cache.invalidate(metadataLocation));
+  }
+
+  /** Drops all cached metadata. */
+  public static void invalidateAll() {
+    METADATA_CACHES.asMap().values().forEach(Cache::invalidateAll);
+    METADATA_CACHES.invalidateAll();
+    METADATA_CACHES.cleanUp();
+  }
+
+  /** Returns hit, miss, and eviction statistics for the cache, summed over FileIO instances. */
+  public static CacheStats stats() {
+    return METADATA_CACHES.asMap().values().stream()
+        .map(Cache::stats)
+        .reduce(CacheStats.empty(), CacheStats::plus);
+  }
+
+  @VisibleForTesting
+  static long estimatedSize() {
+    return METADATA_CACHES.asMap().values().stream().mapToLong(Cache::estimatedSize).sum();
+  }
+}
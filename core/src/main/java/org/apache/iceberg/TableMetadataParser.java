@@ -109,6 +109,7 @@ public class TableMetadataParser {
   static final String METADATA_FILE = "metadata-file";
   static final String METADATA_LOG = "metadata-log";
   static final String STATISTICS = "statistics";
+  static final String PARTITION_STATISTICS = "partition-statistics";
 
   public static void overwrite(TableMetadata metadata, OutputFile outputFile) {
     internalWrite(metadata, outputFile, true);
@@ -231,6 +232,12 @@ public class TableMetadataParser {
     }
     generator.writeEndArray();
 
+    generator.writeArrayFieldStart(PARTITION_STATISTICS);
+    for (PartitionStatisticsFile partitionStatisticsFile : metadata.partitionStatisticsFiles()) {
+      PartitionStatisticsFileParser.toJson(partitionStatisticsFile, generator);
+    }
+    generator.writeEndArray();
+
     generator.writeArrayFieldStart(SNAPSHOT_LOG);
     for (HistoryEntry logEntry : metadata.snapshotLog()) {
       generator.writeStartObject();
@@ -465,6 +472,13 @@ public class TableMetadataParser {
       statisticsFiles = ImmutableList.of();
     }
 
+    List<PartitionStatisticsFile> partitionStatisticsFiles;
+    if (node.has(PARTITION_STATISTICS)) {
+      partitionStatisticsFiles = partitionStatisticsFilesFromJson(node.get(PARTITION_STATISTICS));
+    } else {
+      partitionStatisticsFiles = ImmutableList.of();
+    }
+
     ImmutableList.Builder<HistoryEntry> entries = ImmutableList.builder();
     if (node.has(SNAPSHOT_LOG)) {
       Iterator<JsonNode> logIterator = node.get(SNAPSHOT_LOG).elements();
@@ -512,6 +526,7 @@ public class TableMetadataParser {
         metadataEntries.build(),
         refs,
         statisticsFiles,
+        partitionStatisticsFiles,
         ImmutableList.of() /* no changes from the file */);
   }
 
@@ -545,4 +560,21 @@ public class TableMetadataParser {
 
     return statisticsFilesBuilder.build();
   }
+
+  private static List<PartitionStatisticsFile> partitionStatisticsFilesFromJson(
+      JsonNode partitionStatisticsFilesList) {
+    Preconditions.checkArgument(
+        partitionStatisticsFilesList.isArray(),
+        "Cannot parse partition statistics files from non-array: %s",
+        partitionStatisticsFilesList);
+
+    ImmutableList.Builder<PartitionStatisticsFile> partitionStatisticsFilesBuilder =
+        ImmutableList.builder();
+    for (JsonNode partitionStatisticsFile : partitionStatisticsFilesList) {
+      partitionStatisticsFilesBuilder.add(
+          PartitionStatisticsFileParser.fromJson(partitionStatisticsFile));
+    }
+
+    return partitionStatisticsFilesBuilder.build();
+  }
 }
@@ -117,6 +117,12 @@ public class TableProperties {
   public static final String MANIFEST_MERGE_ENABLED = "commit.manifest-merge.enabled";
   public static final boolean MANIFEST_MERGE_ENABLED_DEFAULT = true;
 
+  /**
+   * Comma-separated list of columns whose lower and upper bounds are summarized for each manifest
+   * in v2 manifest lists. Scan planning uses the summaries to skip manifests.
+   */
+  public static final String MANIFEST_COLUMN_BOUNDS = "commit.manifest.column-bounds";
+
   public static final String DEFAULT_FILE_FORMAT = "write.format.default";
   public static final String DELETE_DEFAULT_FILE_FORMAT = "write.delete.format.default";
   public static final String DEFAULT_FILE_FORMAT_DEFAULT = "parquet";
@@ -149,6 +155,9 @@ public class TableProperties {
       "write.delete.parquet.compression-level";
   public static final String PARQUET_COMPRESSION_LEVEL_DEFAULT = null;
 
+  public static final String PARQUET_COMPRESSION_THREADS = "write.parquet.compression-threads";
+  public static final int PARQUET_COMPRESSION_THREADS_DEFAULT = 1;
+
   public static final String PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT =
       "write.parquet.row-group-check-min-record-count";
   public static final String DELETE_PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT =
@@ -290,9 +299,16 @@ public class TableProperties {
   public static final String DELETE_TARGET_FILE_SIZE_BYTES = "write.delete.target-file-size-bytes";
   public static final long DELETE_TARGET_FILE_SIZE_BYTES_DEFAULT = 64 * 1024 * 1024; // 64 MB
 
+  public static final String DELETE_SORT_SPILL_THRESHOLD_BYTES =
+      "write.delete.sort.spill-threshold-bytes";
+  public static final long DELETE_SORT_SPILL_THRESHOLD_BYTES_DEFAULT = -1L; // keep in memory
+
   public static final String SPARK_WRITE_PARTITIONED_FANOUT_ENABLED = "write.spark.fanout.enabled";
   public static final boolean SPARK_WRITE_PARTITIONED_FANOUT_ENABLED_DEFAULT = false;
 
+  public static final String WRITE_FANOUT_MAX_OPEN_WRITERS = "write.fanout.max-open-writers";
+  public static final int WRITE_FANOUT_MAX_OPEN_WRITERS_DEFAULT = -1; // no limit
+
   public static final String SPARK_WRITE_ACCEPT_ANY_SCHEMA = "write.spark.accept-any-schema";
   public static final boolean SPARK_WRITE_ACCEPT_ANY_SCHEMA_DEFAULT = false;
 
@@ -323,6 +339,10 @@ public class TableProperties {
   public static final String MAX_REF_AGE_MS = "history.expire.max-ref-age-ms";
   public static final long MAX_REF_AGE_MS_DEFAULT = Long.MAX_VALUE;
 
+  public static final String EXPIRE_CLEANUP_MAX_PATHS_IN_MEMORY =
+      "history.expire.cleanup.max-paths-in-memory";
+  public static final long EXPIRE_CLEANUP_MAX_PATHS_IN_MEMORY_DEFAULT = 10_000_000L;
+
   public static final String DELETE_ISOLATION_LEVEL = "write.delete.isolation-level";
   public static final String DELETE_ISOLATION_LEVEL_DEFAULT = "serializable";
 
@@ -46,7 +46,9 @@ class V2Metadata {
           ManifestFile.ADDED_ROWS_COUNT.asRequired(),
           ManifestFile.EXISTING_ROWS_COUNT.asRequired(),
           ManifestFile.DELETED_ROWS_COUNT.asRequired(),
-          ManifestFile.PARTITION_SUMMARIES);
+          ManifestFile.PARTITION_SUMMARIES,
+          ManifestFile.COLUMN_LOWER_BOUNDS,
+          ManifestFile.COLUMN_UPPER_BOUNDS);
 
   /**
    * A wrapper class to write any ManifestFile implementation to Avro using the v2 write schema.
@@ -138,7 +140,9 @@ class V2Metadata {
         case 13:
           return wrapped.partitions();
         case 14:
-          return wrapped.keyMetadata();
+          return wrapped.columnLowerBounds();
+        case 15:
+          return wrapped.columnUpperBounds();
         default:
           throw new UnsupportedOperationException("Unknown field ordinal: " + pos);
       }
@@ -234,6 +238,16 @@ class V2Metadata {
       return wrapped.keyMetadata();
     }
 
+    @Override
+    public Map<Integer, ByteBuffer> columnLowerBounds() {
+      return wrapped.columnLowerBounds();
+    }
+
+    @Override
+    public Map<Integer, ByteBuffer> columnUpperBounds() {
+      return wrapped.columnUpperBounds();
+    }
+
     @Override
     public ManifestFile copy() {
       return wrapped.copy();
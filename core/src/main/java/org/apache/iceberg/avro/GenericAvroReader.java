@@ -20,22 +20,37 @@ package org.apache.iceberg.avro;
 
 import java.io.IOException;
 import java.util.List;
+import java.util.Objects;
 import java.util.function.Supplier;
+import org.apache.avro.JsonProperties;
 import org.apache.avro.LogicalType;
 import org.apache.avro.LogicalTypes;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.avro.io.DatumReader;
 import org.apache.avro.io.Decoder;
+import org.apache.iceberg.MetadataColumns;
 import org.apache.iceberg.common.DynClasses;
 import org.apache.iceberg.data.avro.DecoderResolver;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Pair;
 
+/**
+ * A {@link DatumReader} that reads Avro data into generic or {@link IndexedRecord} classes.
+ *
+ * <p>When the file schema can be read without Avro schema resolution (fields are only projected,
+ * reordered, missing optional fields, or promoted from int to long and float to double), this
+ * reader plans the reads once per file and decodes fields in file order directly from the decoder,
+ * skipping fields that are not projected. Otherwise, it reads through a {@link
+ * org.apache.avro.io.ResolvingDecoder}.
+ */
 public class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition {
 
   private final Schema readSchema;
   private ClassLoader loader = Thread.currentThread().getContextClassLoader();
   private Schema fileSchema = null;
   private ValueReader<T> reader = null;
+  private ValueReader<T> plannedReader = null;
 
   public static <D> GenericAvroReader<D> create(Schema schema) {
     return new GenericAvroReader<>(schema);
@@ -48,6 +63,7 @@ public class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition
   @SuppressWarnings("unchecked")
   private void initReader() {
     this.reader = (ValueReader<T>) AvroSchemaVisitor.visit(readSchema, new ReadBuilder(loader));
+    this.plannedReader = (ValueReader<T>) plan(readSchema, fileSchema);
   }
 
   @Override
@@ -65,13 +81,157 @@ public class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition
     if (reader instanceof SupportsRowPosition) {
       ((SupportsRowPosition) reader).setRowPositionSupplier(posSupplier);
     }
+
+    if (plannedReader instanceof SupportsRowPosition) {
+      ((SupportsRowPosition) plannedReader).setRowPositionSupplier(posSupplier);
+    }
   }
 
   @Override
   public T read(T reuse, Decoder decoder) throws IOException {
+    if (plannedReader != null) {
+      return plannedReader.read(decoder, reuse);
+    }
+
     return DecoderResolver.resolveAndRead(decoder, readSchema, fileSchema, reader, reuse);
   }
 
+  /**
+   * Returns a reader for data written with the file schema that does not need a resolving decoder,
+   * or null if the schemas require Avro schema resolution.
+   */
+  private ValueReader<?> plan(Schema read, Schema file) {
+    if (read.equals(file)) {
+      return AvroSchemaVisitor.visit(read, new ReadBuilder(loader));
+    }
+
+    switch (read.getType()) {
+      case RECORD:
+        return file.getType() == Schema.Type.RECORD ? planRecord(read, file) : null;
+
+      case UNION:
+        if (file.getType() != Schema.Type.UNION
+            || file.getTypes().size() != read.getTypes().size()) {
+          return null;
+        }
+
+        List<ValueReader<?>> options = Lists.newArrayList();
+        for (int i = 0; i < read.getTypes().size(); i += 1) {
+          ValueReader<?> option = plan(read.getTypes().get(i), file.getTypes().get(i));
+          if (option == null) {
+            return null;
+          }
+
+          options.add(option);
+        }
+
+        return ValueReaders.union(options);
+
+      case ARRAY:
+        // map arrays need a struct reader for their key/value records
+        if (file.getType() != Schema.Type.ARRAY
+            || read.getLogicalType() instanceof LogicalMap
+            || file.getLogicalType() instanceof LogicalMap) {
+          return null;
+        }
+
+        ValueReader<?> elementReader = plan(read.getElementType(), file.getElementType());
+        return elementReader != null ? ValueReaders.array(elementReader) : null;
+
+      case MAP:
+        if (file.getType() != Schema.Type.MAP) {
+          return null;
+        }
+
+        ValueReader<?> valueReader = plan(read.getValueType(), file.getValueType());
+        return valueReader != null ? ValueReaders.map(ValueReaders.strings(), valueReader) : null;
+
+      case LONG:
+        boolean isPlainLong = read.getLogicalType() == null;
+        return isPlainLong && isPlain(file, Schema.Type.INT) ? ValueReaders.intsAsLongs() : null;
+
+      case DOUBLE:
+        return isPlain(file, Schema.Type.FLOAT) ? ValueReaders.floatsAsDoubles() : null;
+
+      default:
+        return null;
+    }
+  }
+
+  private ValueReader<?> planRecord(Schema read, Schema file) {
+    List<Pair<Integer, ValueReader<?>>> readPlan = Lists.newArrayList();
+    boolean[] projected = new boolean[read.getFields().size()];
+    for (Schema.Field fileField : file.getFields()) {
+      Schema.Field readField = read.getField(fileField.name());
+      if (readField != null) {
+        ValueReader<?> fieldReader = plan(readField.schema(), fileField.schema());
+        if (fieldReader == null) {
+          return null;
+        }
+
+        readPlan.add(Pair.of(readField.pos(), fieldReader));
+        projected[readField.pos()] = true;
+      } else {
+        readPlan.add(Pair.of(null, ValueReaders.skip(fileField.schema())));
+      }
+    }
+
+    List<Integer> nullPositions = Lists.newArrayList();
+    for (Schema.Field readField : read.getFields()) {
+      if (projected[readField.pos()]) {
+        continue;
+      }
+
+      Integer fieldId = AvroSchemaUtil.getFieldId(readField, null, null);
+      if (Objects.equals(fieldId, MetadataColumns.ROW_POSITION.fieldId())) {
+        // _pos does not consume file data and is replaced when the row position supplier is set
+        readPlan.add(Pair.of(readField.pos(), ValueReaders.nulls()));
+      } else if (isNullDefault(readField, fieldId)) {
+        nullPositions.add(readField.pos());
+      } else {
+        return null;
+      }
+    }
+
+    int[] nulls = nullPositions.stream().mapToInt(Integer::intValue).toArray();
+    Class<? extends IndexedRecord> recordClass = recordClass(read, loader);
+    if (recordClass != null) {
+      return ValueReaders.plannedRecord(readPlan, nulls, recordClass, read);
+    }
+
+    return ValueReaders.plannedRecord(readPlan, nulls, read);
+  }
+
+  // missing optional fields are set to null; _deleted is left to the resolving reader
+  private static boolean isNullDefault(Schema.Field field, Integer fieldId) {
+    if (Objects.equals(fieldId, MetadataColumns.IS_DELETED.fieldId())) {
+      return false;
+    }
+
+    return AvroSchemaUtil.isOptionSchema(field.schema())
+        && (!field.hasDefaultValue() || field.defaultVal() == JsonProperties.NULL_VALUE);
+  }
+
+  private static boolean isPlain(Schema schema, Schema.Type type) {
+    return schema.getType() == type && schema.getLogicalType() == null;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Class<? extends IndexedRecord> recordClass(Schema record, ClassLoader loader) {
+    try {
+      Class<?> recordClass =
+          DynClasses.builder().loader(loader).impl(record.getFullName()).buildChecked();
+      if (IndexedRecord.class.isAssignableFrom(recordClass)) {
+        return (Class<? extends IndexedRecord>) recordClass;
+      }
+
+      return null;
+
+    } catch (ClassNotFoundException e) {
+      return null;
+    }
+  }
+
   private static class ReadBuilder extends AvroSchemaVisitor<ValueReader<?>> {
     private final ClassLoader loader;
 
@@ -82,18 +242,12 @@ public class GenericAvroReader<T> implements DatumReader<T>, SupportsRowPosition
     @Override
     @SuppressWarnings("unchecked")
     public ValueReader<?> record(Schema record, List<String> names, List<ValueReader<?>> fields) {
-      try {
-        Class<?> recordClass =
-            DynClasses.builder().loader(loader).impl(record.getFullName()).buildChecked();
-        if (IndexedRecord.class.isAssignableFrom(recordClass)) {
-          return ValueReaders.record(fields, (Class<? extends IndexedRecord>) recordClass, record);
-        }
-
-        return ValueReaders.record(fields, record);
-
-      } catch (ClassNotFoundException e) {
-        return ValueReaders.record(fields, record);
+      Class<? extends IndexedRecord> recordClass = recordClass(record, loader);
+      if (recordClass != null) {
+        return ValueReaders.record(fields, recordClass, record);
       }
+
+      return ValueReaders.record(fields, record);
     }
 
     @Override
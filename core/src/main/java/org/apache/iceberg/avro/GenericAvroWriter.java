@@ -81,8 +81,11 @@ public class GenericAvroWriter<T> implements MetricsAwareDatumWriter<T> {
     @Override
     public ValueWriter<?> array(Schema array, ValueWriter<?> elementWriter) {
       if (array.getLogicalType() instanceof LogicalMap) {
+        // maps with non-string keys, such as manifest column stats, are written as a single block
+        // with a negative item count and a byte size. This is valid Avro that any reader can
+        // decode, and readers that project the map away can skip it without decoding entries.
         ValueWriters.StructWriter<?> keyValueWriter = (ValueWriters.StructWriter<?>) elementWriter;
-        return ValueWriters.arrayMap(keyValueWriter.writer(0), keyValueWriter.writer(1));
+        return ValueWriters.sizedArrayMap(keyValueWriter.writer(0), keyValueWriter.writer(1));
       }
 
       return ValueWriters.array(elementWriter);
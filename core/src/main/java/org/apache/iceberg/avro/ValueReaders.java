@@ -35,6 +35,7 @@ import java.util.UUID;
 import java.util.function.Supplier;
 import org.apache.avro.Schema;
 import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
 import org.apache.avro.generic.IndexedRecord;
 import org.apache.avro.io.Decoder;
 import org.apache.avro.io.ResolvingDecoder;
@@ -44,6 +45,7 @@ import org.apache.iceberg.common.DynConstructors;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.UUIDUtil;
 
 public class ValueReaders {
@@ -149,6 +151,47 @@ public class ValueReaders {
     return new IndexedRecordReader<>(readers, recordClass, recordSchema);
   }
 
+  /**
+   * Returns a record reader that reads fields in file order without a {@link ResolvingDecoder}.
+   *
+   * @param readPlan a pair of result position and reader for each file field, in file order; a null
+   *     position means that the field is read and discarded
+   * @param nullPositions result positions that are not in the file and are set to null
+   * @param recordSchema the read schema of the record
+   */
+  public static ValueReader<GenericData.Record> plannedRecord(
+      List<Pair<Integer, ValueReader<?>>> readPlan, int[] nullPositions, Schema recordSchema) {
+    return new RecordReader(readPlan, nullPositions, recordSchema);
+  }
+
+  /**
+   * Returns a record reader that reads fields in file order without a {@link ResolvingDecoder}.
+   *
+   * @see #plannedRecord(List, int[], Schema)
+   */
+  public static <R extends IndexedRecord> ValueReader<R> plannedRecord(
+      List<Pair<Integer, ValueReader<?>>> readPlan,
+      int[] nullPositions,
+      Class<R> recordClass,
+      Schema recordSchema) {
+    return new IndexedRecordReader<>(readPlan, nullPositions, recordClass, recordSchema);
+  }
+
+  static ValueReader<Object> skip(Schema schema) {
+    return (decoder, ignored) -> {
+      GenericDatumReader.skip(schema, decoder);
+      return null;
+    };
+  }
+
+  static ValueReader<Long> intsAsLongs() {
+    return (decoder, ignored) -> (long) decoder.readInt();
+  }
+
+  static ValueReader<Double> floatsAsDoubles() {
+    return (decoder, ignored) -> (double) decoder.readFloat();
+  }
+
   private static class NullReader implements ValueReader<Object> {
     private static final NullReader INSTANCE = new NullReader();
 
@@ -566,12 +609,15 @@ public class ValueReaders {
 
   public abstract static class StructReader<S> implements ValueReader<S>, SupportsRowPosition {
     private final ValueReader<?>[] readers;
+    // result position for each reader when reading with a plan, or null otherwise
+    private final int[] readPositions;
     private final int[] positions;
     private final Object[] constants;
     private int posField = -1;
 
     protected StructReader(List<ValueReader<?>> readers, Schema schema) {
       this.readers = readers.toArray(new ValueReader[0]);
+      this.readPositions = null;
       Integer isDeletedColumnPos = null;
 
       List<Schema.Field> fields = schema.getFields();
@@ -597,6 +643,7 @@ public class ValueReaders {
     protected StructReader(
         List<ValueReader<?>> readers, Types.StructType struct, Map<Integer, ?> idToConstant) {
       this.readers = readers.toArray(new ValueReader[0]);
+      this.readPositions = null;
 
       List<Types.NestedField> fields = struct.fields();
       List<Integer> positionList = Lists.newArrayListWithCapacity(fields.size());
@@ -619,6 +666,35 @@ public class ValueReaders {
       this.constants = constantList.toArray();
     }
 
+    /**
+     * Creates a reader that reads fields in file order using a read plan.
+     *
+     * @param readPlan a pair of result position and reader for each file field, in file order; a
+     *     null position means that the field is read and discarded
+     * @param nullPositions result positions that are not in the file and are set to null
+     * @param schema the read schema of the struct
+     */
+    protected StructReader(
+        List<Pair<Integer, ValueReader<?>>> readPlan, int[] nullPositions, Schema schema) {
+      this.readers = new ValueReader[readPlan.size()];
+      this.readPositions = new int[readPlan.size()];
+      List<Schema.Field> fields = schema.getFields();
+      for (int i = 0; i < readers.length; i += 1) {
+        Pair<Integer, ValueReader<?>> step = readPlan.get(i);
+        this.readers[i] = step.second();
+        this.readPositions[i] = step.first() != null ? step.first() : -1;
+        if (step.first() != null
+            && AvroSchemaUtil.getFieldId(fields.get(step.first()))
+                == MetadataColumns.ROW_POSITION.fieldId()) {
+          // track which reader produces the _pos field for setRowPositionSupplier
+          this.posField = i;
+        }
+      }
+
+      this.positions = nullPositions;
+      this.constants = new Object[nullPositions.length];
+    }
+
     @Override
     public void setRowPositionSupplier(Supplier<Long> posSupplier) {
       if (posField >= 0) {
@@ -653,7 +729,18 @@ public class ValueReaders {
     public S read(Decoder decoder, Object reuse) throws IOException {
       S struct = reuseOrCreate(reuse);
 
-      if (decoder instanceof ResolvingDecoder) {
+      if (readPositions != null) {
+        for (int i = 0; i < readers.length; i += 1) {
+          int pos = readPositions[i];
+          if (pos >= 0) {
+            Object reusedValue = get(struct, pos);
+            set(struct, pos, readers[i].read(decoder, reusedValue));
+          } else {
+            readers[i].read(decoder, null);
+          }
+        }
+
+      } else if (decoder instanceof ResolvingDecoder) {
         // this may not set all of the fields. nulls are set by default.
         for (Schema.Field field : ((ResolvingDecoder) decoder).readFieldOrder()) {
           Object reusedValue = get(struct, field.pos());
@@ -683,6 +770,12 @@ public class ValueReaders {
       this.recordSchema = recordSchema;
     }
 
+    private RecordReader(
+        List<Pair<Integer, ValueReader<?>>> readPlan, int[] nullPositions, Schema recordSchema) {
+      super(readPlan, nullPositions, recordSchema);
+      this.recordSchema = recordSchema;
+    }
+
     @Override
     protected GenericData.Record reuseOrCreate(Object reuse) {
       if (reuse instanceof GenericData.Record) {
@@ -711,14 +804,28 @@ public class ValueReaders {
     IndexedRecordReader(List<ValueReader<?>> readers, Class<R> recordClass, Schema schema) {
       super(readers, schema);
       this.recordClass = recordClass;
-      this.ctor =
-          DynConstructors.builder(IndexedRecord.class)
-              .hiddenImpl(recordClass, Schema.class)
-              .hiddenImpl(recordClass)
-              .build();
+      this.ctor = ctor(recordClass);
       this.schema = schema;
     }
 
+    IndexedRecordReader(
+        List<Pair<Integer, ValueReader<?>>> readPlan,
+        int[] nullPositions,
+        Class<R> recordClass,
+        Schema schema) {
+      super(readPlan, nullPositions, schema);
+      this.recordClass = recordClass;
+      this.ctor = ctor(recordClass);
+      this.schema = schema;
+    }
+
+    private static <R> DynConstructors.Ctor<R> ctor(Class<R> recordClass) {
+      return DynConstructors.builder(IndexedRecord.class)
+          .hiddenImpl(recordClass, Schema.class)
+          .hiddenImpl(recordClass)
+          .build();
+    }
+
     @Override
     protected R reuseOrCreate(Object reuse) {
       if (recordClass.isInstance(reuse)) {
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.avro;
 
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.lang.reflect.Array;
 import java.math.BigDecimal;
@@ -30,7 +31,10 @@ import java.util.Map;
 import java.util.UUID;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.IndexedRecord;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.BlockingBinaryEncoder;
 import org.apache.avro.io.Encoder;
+import org.apache.avro.io.EncoderFactory;
 import org.apache.avro.util.Utf8;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.types.TypeUtil;
@@ -117,6 +121,19 @@ public class ValueWriters {
     return new ArrayMapWriter<>(keyWriter, valueWriter);
   }
 
+  /**
+   * Returns a writer for maps stored as arrays of key/value records that writes each map as a
+   * single block prefixed with its size in bytes.
+   *
+   * <p>Avro decoders use the block size to skip a map without decoding its entries, which makes
+   * skipping large maps, like the column stats in manifests, cheap for readers that do not project
+   * them. When the encoder does not support sized blocks, maps are written as regular arrays.
+   */
+  public static <K, V> ValueWriter<Map<K, V>> sizedArrayMap(
+      ValueWriter<K> keyWriter, ValueWriter<V> valueWriter) {
+    return new SizedArrayMapWriter<>(keyWriter, valueWriter);
+  }
+
   public static <K, V> ValueWriter<Map<K, V>> map(
       ValueWriter<K> keyWriter, ValueWriter<V> valueWriter) {
     return new MapWriter<>(keyWriter, valueWriter);
@@ -405,6 +422,14 @@ public class ValueWriters {
       this.valueWriter = valueWriter;
     }
 
+    protected ValueWriter<K> keyWriter() {
+      return keyWriter;
+    }
+
+    protected ValueWriter<V> valueWriter() {
+      return valueWriter;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public void write(Map<K, V> map, Encoder encoder) throws IOException {
@@ -422,6 +447,47 @@ public class ValueWriters {
     }
   }
 
+  private static class SizedArrayMapWriter<K, V> extends ArrayMapWriter<K, V> {
+    private final BlockBuffer block = new BlockBuffer();
+    private BinaryEncoder blockEncoder = null;
+
+    private SizedArrayMapWriter(ValueWriter<K> keyWriter, ValueWriter<V> valueWriter) {
+      super(keyWriter, valueWriter);
+    }
+
+    @Override
+    public void write(Map<K, V> map, Encoder encoder) throws IOException {
+      // blocking encoders manage block sizes themselves and other encoders are not binary
+      if (map.isEmpty()
+          || !(encoder instanceof BinaryEncoder)
+          || encoder instanceof BlockingBinaryEncoder) {
+        super.write(map, encoder);
+        return;
+      }
+
+      block.reset();
+      this.blockEncoder = EncoderFactory.get().directBinaryEncoder(block, blockEncoder);
+      for (Map.Entry<K, V> entry : map.entrySet()) {
+        keyWriter().write(entry.getKey(), blockEncoder);
+        valueWriter().write(entry.getValue(), blockEncoder);
+      }
+
+      blockEncoder.flush();
+
+      // a negative item count is followed by the size of the block in bytes
+      encoder.writeLong(-map.size());
+      encoder.writeLong(block.size());
+      encoder.writeFixed(block.bytes(), 0, block.size());
+      encoder.writeArrayEnd();
+    }
+  }
+
+  private static class BlockBuffer extends ByteArrayOutputStream {
+    private byte[] bytes() {
+      return buf;
+    }
+  }
+
   private static class MapWriter<K, V> implements ValueWriter<Map<K, V>> {
     private final ValueWriter<K> keyWriter;
     private final ValueWriter<V> valueWriter;
@@ -20,6 +20,7 @@ package org.apache.iceberg.catalog;
 
 import com.github.benmanes.caffeine.cache.Cache;
 import com.github.benmanes.caffeine.cache.Caffeine;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -99,6 +100,11 @@ public abstract class BaseSessionCatalog implements SessionCatalog {
       return BaseSessionCatalog.this.loadTable(context, ident);
     }
 
+    @Override
+    public Map<TableIdentifier, Table> loadTables(Collection<TableIdentifier> identifiers) {
+      return BaseSessionCatalog.this.loadTables(context, identifiers);
+    }
+
     @Override
     public boolean dropTable(TableIdentifier ident) {
       return BaseSessionCatalog.this.dropTable(context, ident);
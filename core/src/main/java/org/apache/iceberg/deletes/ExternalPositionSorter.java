@@ -0,0 +1,406 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.function.ObjLongConsumer;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.util.CharSequenceWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Sorts (path, position) pairs that may not fit in memory.
+ *
+ * <p>Paths are replaced with integer ids from a path dictionary and pairs are buffered in primitive
+ * arrays. When the buffer reaches the memory budget, it is sorted by path and position and spilled
+ * as a run to a local temporary file. {@link #forEach(ObjLongConsumer)} merges all spilled runs
+ * with the remaining in-memory buffer and produces pairs in sorted order without duplicates.
+ *
+ * <p>The memory budget covers the buffered pairs only. Distinct paths are always kept in memory.
+ * Spilled runs are deleted when the sorter is closed, so it must be closed on error paths too.
+ */
+class ExternalPositionSorter implements Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ExternalPositionSorter.class);
+
+  // path id, position and the position in the sort scratch space
+  private static final int BYTES_PER_POSITION = Integer.BYTES + 2 * Long.BYTES;
+  private static final int MIN_BUFFER_SIZE = 1024;
+  private static final int MAX_BUFFER_SIZE = Integer.MAX_VALUE - 8;
+  private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+  private final Map<CharSequenceWrapper, Integer> pathIds = Maps.newHashMap();
+  private final List<CharSequence> paths = Lists.newArrayList();
+  private final CharSequenceWrapper pathWrapper = CharSequenceWrapper.wrap(null);
+  private final List<File> runs = Lists.newArrayList();
+  private final int maxBufferSize;
+  private CharSequence lastPath = null;
+  private int lastPathId = -1;
+  private int[] bufferedPathIds;
+  private long[] bufferedPositions;
+  private int bufferSize = 0;
+  private boolean closed = false;
+
+  ExternalPositionSorter(long memoryBudgetInBytes) {
+    Preconditions.checkArgument(
+        memoryBudgetInBytes > 0,
+        "Invalid memory budget: %s (must be positive)",
+        memoryBudgetInBytes);
+    long maxPositions = memoryBudgetInBytes / BYTES_PER_POSITION;
+    this.maxBufferSize = (int) Math.max(1, Math.min(maxPositions, MAX_BUFFER_SIZE));
+    int initialSize = Math.min(MIN_BUFFER_SIZE, maxBufferSize);
+    this.bufferedPathIds = new int[initialSize];
+    this.bufferedPositions = new long[initialSize];
+  }
+
+  void add(CharSequence path, long position) {
+    Preconditions.checkState(!closed, "Cannot add positions to a closed sorter");
+
+    if (bufferSize == bufferedPositions.length) {
+      if (bufferSize < maxBufferSize) {
+        int newSize = (int) Math.min((long) bufferSize * 2, maxBufferSize);
+        this.bufferedPathIds = Arrays.copyOf(bufferedPathIds, newSize);
+        this.bufferedPositions = Arrays.copyOf(bufferedPositions, newSize);
+      } else {
+        spillOrClose();
+      }
+    }
+
+    bufferedPathIds[bufferSize] = pathId(path);
+    bufferedPositions[bufferSize] = position;
+    bufferSize += 1;
+  }
+
+  /** Returns the number of runs that were spilled to disk. */
+  int spilledRuns() {
+    return runs.size();
+  }
+
+  @VisibleForTesting
+  List<File> spilledRunFiles() {
+    return ImmutableList.copyOf(runs);
+  }
+
+  /**
+   * Passes all pairs to a consumer in ascending path and position order, skipping duplicates.
+   *
+   * @param consumer a consumer of paths and positions
+   * @throws IOException if a spilled run cannot be read
+   */
+  void forEach(ObjLongConsumer<CharSequence> consumer) throws IOException {
+    Preconditions.checkState(!closed, "Cannot read positions from a closed sorter");
+
+    int[] ranks = pathRanks();
+    PriorityQueue<SortedRun> heap =
+        new PriorityQueue<>(
+            runs.size() + 1,
+            Comparator.<SortedRun>comparingInt(run -> ranks[run.pathId()])
+                .thenComparingLong(SortedRun::position));
+    List<SpilledRun> openRuns = Lists.newArrayListWithCapacity(runs.size());
+    try {
+      for (File run : runs) {
+        SpilledRun spilledRun = new SpilledRun(run);
+        openRuns.add(spilledRun);
+        if (spilledRun.advance()) {
+          heap.add(spilledRun);
+        }
+      }
+
+      SortedRun inMemoryRun = new InMemoryRun(sortBuffer(ranks));
+      if (inMemoryRun.advance()) {
+        heap.add(inMemoryRun);
+      }
+
+      int lastPathId = -1;
+      long lastPosition = -1L;
+      while (!heap.isEmpty()) {
+        SortedRun run = heap.poll();
+        int pathId = run.pathId();
+        long position = run.position();
+        if (pathId != lastPathId || position != lastPosition) {
+          consumer.accept(paths.get(pathId), position);
+          lastPathId = pathId;
+          lastPosition = position;
+        }
+
+        if (run.advance()) {
+          heap.add(run);
+        }
+      }
+    } finally {
+      for (SpilledRun run : openRuns) {
+        run.close();
+      }
+    }
+  }
+
+  @Override
+  public void close() {
+    if (!closed) {
+      this.closed = true;
+      this.bufferedPathIds = null;
+      this.bufferedPositions = null;
+      for (File run : runs) {
+        deleteRun(run);
+      }
+
+      runs.clear();
+    }
+  }
+
+  private static void deleteRun(File run) {
+    if (!run.delete() && run.exists()) {
+      LOG.warn("Failed to delete spilled position delete run {}", run);
+    }
+  }
+
+  private int pathId(CharSequence path) {
+    if (path == lastPath) {
+      return lastPathId;
+    }
+
+    Integer id = pathIds.get(pathWrapper.set(path));
+    if (id == null) {
+      id = paths.size();
+      paths.add(path);
+      pathIds.put(CharSequenceWrapper.wrap(path), id);
+    }
+
+    this.lastPath = path;
+    this.lastPathId = id;
+    return id;
+  }
+
+  // returns the rank of each path id in the path sort order
+  private int[] pathRanks() {
+    Integer[] idsInOrder = new Integer[paths.size()];
+    for (int id = 0; id < idsInOrder.length; id += 1) {
+      idsInOrder[id] = id;
+    }
+
+    Comparator<CharSequence> pathComparator = Comparators.charSequences();
+    Arrays.sort(idsInOrder, (id1, id2) -> pathComparator.compare(paths.get(id1), paths.get(id2)));
+
+    int[] ranks = new int[idsInOrder.length];
+    for (int rank = 0; rank < idsInOrder.length; rank += 1) {
+      ranks[idsInOrder[rank]] = rank;
+    }
+
+    return ranks;
+  }
+
+  // counting sort by path rank, then sorts the positions of each path
+  private SortedBuffer sortBuffer(int[] ranks) {
+    int numPaths = ranks.length;
+    int[] idsByRank = new int[numPaths];
+    for (int id = 0; id < numPaths; id += 1) {
+      idsByRank[ranks[id]] = id;
+    }
+
+    int[] offsets = new int[numPaths + 1];
+    for (int index = 0; index < bufferSize; index += 1) {
+      offsets[ranks[bufferedPathIds[index]] + 1] += 1;
+    }
+
+    for (int rank = 0; rank < numPaths; rank += 1) {
+      offsets[rank + 1] += offsets[rank];
+    }
+
+    int[] next = Arrays.copyOf(offsets, numPaths);
+    long[] sortedPositions = new long[bufferSize];
+    for (int index = 0; index < bufferSize; index += 1) {
+      int rank = ranks[bufferedPathIds[index]];
+      sortedPositions[next[rank]] = bufferedPositions[index];
+      next[rank] += 1;
+    }
+
+    for (int rank = 0; rank < numPaths; rank += 1) {
+      Arrays.sort(sortedPositions, offsets[rank], offsets[rank + 1]);
+    }
+
+    return new SortedBuffer(idsByRank, offsets, sortedPositions);
+  }
+
+  // a failed spill deletes the runs that were already spilled because the sorter cannot be used
+  private void spillOrClose() {
+    boolean spilled = false;
+    try {
+      spill();
+      spilled = true;
+    } finally {
+      if (!spilled) {
+        close();
+      }
+    }
+  }
+
+  private void spill() {
+    SortedRun sorted = new InMemoryRun(sortBuffer(pathRanks()));
+    File run = null;
+    boolean written = false;
+    try {
+      run = Files.createTempFile("iceberg-position-deletes-", ".run").toFile();
+      try (DataOutputStream out =
+          new DataOutputStream(
+              new BufferedOutputStream(Files.newOutputStream(run.toPath()), IO_BUFFER_SIZE))) {
+        int lastPathId = -1;
+        long lastPosition = -1L;
+        while (sorted.advance()) {
+          int pathId = sorted.pathId();
+          long position = sorted.position();
+          if (pathId != lastPathId || position != lastPosition) {
+            out.writeInt(pathId);
+            out.writeLong(position);
+            lastPathId = pathId;
+            lastPosition = position;
+          }
+        }
+      }
+
+      written = true;
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to spill position deletes to " + run, e);
+    } finally {
+      if (written) {
+        runs.add(run);
+      } else if (run != null) {
+        deleteRun(run);
+      }
+    }
+
+    LOG.debug("Spilled {} position deletes to {}", bufferSize, run);
+    this.bufferSize = 0;
+  }
+
+  private static class SortedBuffer {
+    private final int[] idsByRank;
+    private final int[] offsetsByRank;
+    private final long[] positions;
+
+    private SortedBuffer(int[] idsByRank, int[] offsetsByRank, long[] positions) {
+      this.idsByRank = idsByRank;
+      this.offsetsByRank = offsetsByRank;
+      this.positions = positions;
+    }
+  }
+
+  private interface SortedRun {
+    /** Moves to the next pair and returns false if there are no more pairs. */
+    boolean advance();
+
+    int pathId();
+
+    long position();
+  }
+
+  private static class InMemoryRun implements SortedRun {
+    private final SortedBuffer buffer;
+    private int rank = 0;
+    private int index = -1;
+
+    private InMemoryRun(SortedBuffer buffer) {
+      this.buffer = buffer;
+    }
+
+    @Override
+    public boolean advance() {
+      index += 1;
+      if (index >= buffer.positions.length) {
+        return false;
+      }
+
+      while (index >= buffer.offsetsByRank[rank + 1]) {
+        rank += 1;
+      }
+
+      return true;
+    }
+
+    @Override
+    public int pathId() {
+      return buffer.idsByRank[rank];
+    }
+
+    @Override
+    public long position() {
+      return buffer.positions[index];
+    }
+  }
+
+  private static class SpilledRun implements SortedRun, Closeable {
+    private final File file;
+    private final DataInputStream in;
+    private int pathId = -1;
+    private long position = -1L;
+
+    private SpilledRun(File file) throws IOException {
+      this.file = file;
+      this.in =
+          new DataInputStream(
+              new BufferedInputStream(Files.newInputStream(file.toPath()), IO_BUFFER_SIZE));
+    }
+
+    @Override
+    public boolean advance() {
+      try {
+        this.pathId = in.readInt();
+        this.position = in.readLong();
+        return true;
+      } catch (EOFException e) {
+        return false;
+      } catch (IOException e) {
+        throw new UncheckedIOException("Failed to read spilled position deletes from " + file, e);
+      }
+    }
+
+    @Override
+    public int pathId() {
+      return pathId;
+    }
+
+    @Override
+    public long position() {
+      return position;
+    }
+
+    @Override
+    public void close() throws IOException {
+      in.close();
+    }
+  }
+}
@@ -47,6 +47,7 @@ public class PositionDeleteWriter<T> implements FileWriter<PositionDelete<T>, De
   private final StructLike partition;
   private final ByteBuffer keyMetadata;
   private final CharSequenceSet referencedDataFiles;
+  private CharSequence lastPath = null;
   private DeleteFile deleteFile = null;
 
   public PositionDeleteWriter(
@@ -67,7 +68,13 @@ public class PositionDeleteWriter<T> implements FileWriter<PositionDelete<T>, De
 
   @Override
   public void write(PositionDelete<T> positionDelete) {
-    referencedDataFiles.add(positionDelete.path());
+    // deletes are ordered by path so consecutive deletes usually share the same path instance
+    CharSequence path = positionDelete.path();
+    if (path != lastPath) {
+      referencedDataFiles.add(path);
+      this.lastPath = path;
+    }
+
     appender.add(positionDelete);
   }
 
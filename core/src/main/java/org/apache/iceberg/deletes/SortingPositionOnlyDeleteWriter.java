@@ -38,6 +38,11 @@ import org.roaringbitmap.longlong.Roaring64Bitmap;
  * records are not ordered by file and position as required by the spec. If the incoming deletes are
  * ordered by an external process, use {@link PositionDeleteWriter} instead.
  *
+ * <p>If a spill threshold is configured, this writer instead buffers (path, position) pairs in
+ * compact primitive arrays up to the threshold and spills sorted runs to local disk when the
+ * threshold is reached. The runs are merged into the delegate writer when closed, which allows
+ * writing a single well-sized delete file for deletes that do not fit in memory.
+ *
  * <p>Note this writer stores only positions. It does not store deleted records.
  */
 public class SortingPositionOnlyDeleteWriter<T>
@@ -46,18 +51,46 @@ public class SortingPositionOnlyDeleteWriter<T>
   private final FileWriter<PositionDelete<T>, DeleteWriteResult> writer;
   private final Map<CharSequenceWrapper, Roaring64Bitmap> positionsByPath;
   private final CharSequenceWrapper pathWrapper;
+  private final ExternalPositionSorter sorter;
+  private CharSequence lastPath = null;
+  private Roaring64Bitmap lastPositions = null;
   private DeleteWriteResult result = null;
 
   public SortingPositionOnlyDeleteWriter(FileWriter<PositionDelete<T>, DeleteWriteResult> writer) {
+    this(writer, -1L);
+  }
+
+  /**
+   * Creates a writer that spills deletes to local disk when they exceed a memory threshold.
+   *
+   * @param writer a writer for sorted position deletes
+   * @param spillThresholdInBytes the size of buffered deletes that triggers a spill to local disk,
+   *     or a non-positive value to keep all deletes in memory
+   */
+  public SortingPositionOnlyDeleteWriter(
+      FileWriter<PositionDelete<T>, DeleteWriteResult> writer, long spillThresholdInBytes) {
     this.writer = writer;
     this.positionsByPath = Maps.newHashMap();
     this.pathWrapper = CharSequenceWrapper.wrap(null);
+    this.sorter =
+        spillThresholdInBytes > 0 ? new ExternalPositionSorter(spillThresholdInBytes) : null;
   }
 
   @Override
   public void write(PositionDelete<T> positionDelete) {
     CharSequence path = positionDelete.path();
     long position = positionDelete.pos();
+    if (sorter != null) {
+      sorter.add(path, position);
+      return;
+    }
+
+    // avoid hashing the path when consecutive deletes share the same path instance
+    if (path == lastPath) {
+      lastPositions.add(position);
+      return;
+    }
+
     Roaring64Bitmap positions = positionsByPath.get(pathWrapper.set(path));
     if (positions != null) {
       positions.add(position);
@@ -66,6 +99,9 @@ public class SortingPositionOnlyDeleteWriter<T>
       positions.add(position);
       positionsByPath.put(CharSequenceWrapper.wrap(path), positions);
     }
+
+    this.lastPath = path;
+    this.lastPositions = positions;
   }
 
   @Override
@@ -88,15 +124,26 @@ public class SortingPositionOnlyDeleteWriter<T>
   private DeleteWriteResult writeDeletes() throws IOException {
     try {
       PositionDelete<T> positionDelete = PositionDelete.create();
-      for (CharSequenceWrapper path : sortedPaths()) {
-        // the iterator provides values in ascending sorted order
-        PeekableLongIterator positions = positionsByPath.get(path).getLongIterator();
-        while (positions.hasNext()) {
-          long position = positions.next();
-          writer.write(positionDelete.set(path.get(), position, null /* no row */));
+      if (sorter != null) {
+        // the sorter provides pairs in ascending path and position order
+        sorter.forEach(
+            (path, position) ->
+                writer.write(positionDelete.set(path, position, null /* no row */)));
+      } else {
+        for (CharSequenceWrapper path : sortedPaths()) {
+          // the iterator provides values in ascending sorted order
+          PeekableLongIterator positions = positionsByPath.get(path).getLongIterator();
+          while (positions.hasNext()) {
+            long position = positions.next();
+            writer.write(positionDelete.set(path.get(), position, null /* no row */));
+          }
         }
       }
     } finally {
+      if (sorter != null) {
+        sorter.close();
+      }
+
       writer.close();
     }
 
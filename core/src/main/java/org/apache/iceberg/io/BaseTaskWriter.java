@@ -292,6 +292,11 @@ public abstract class BaseTaskWriter<T> implements TaskWriter<T> {
       return currentRows;
     }
 
+    /** Returns the length of the current file, including bytes already flushed to storage. */
+    public long currentLength() {
+      return currentWriter != null ? length(currentWriter) : 0L;
+    }
+
     private void openCurrent() {
       if (partitionKey == null) {
         // unpartitioned
@@ -26,7 +26,8 @@ import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 
 /**
  * A data writer capable of writing to multiple specs and partitions that keeps data writers for
- * each seen spec/partition pair open until this writer is closed.
+ * each seen spec/partition pair open until this writer is closed, or until the least recently used
+ * writers are closed to stay within the max number of open writers.
  */
 public class FanoutDataWriter<T> extends FanoutWriter<T, DataWriteResult> {
 
@@ -41,6 +42,21 @@ public class FanoutDataWriter<T> extends FanoutWriter<T, DataWriteResult> {
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSizeInBytes) {
+    this(writerFactory, fileFactory, io, targetFileSizeInBytes, -1);
+  }
+
+  /**
+   * Creates a writer that keeps at most the given number of data writers open.
+   *
+   * @param maxOpenWriters the max number of open writers, or a non-positive value for no limit
+   */
+  public FanoutDataWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      int maxOpenWriters) {
+    super(maxOpenWriters);
     this.writerFactory = writerFactory;
     this.fileFactory = fileFactory;
     this.io = io;
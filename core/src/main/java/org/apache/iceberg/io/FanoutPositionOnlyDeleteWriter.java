@@ -41,6 +41,7 @@ public class FanoutPositionOnlyDeleteWriter<T>
   private final OutputFileFactory fileFactory;
   private final FileIO io;
   private final long targetFileSizeInBytes;
+  private final long spillThresholdInBytes;
   private final List<DeleteFile> deleteFiles;
   private final CharSequenceSet referencedDataFiles;
 
@@ -49,10 +50,26 @@ public class FanoutPositionOnlyDeleteWriter<T>
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSizeInBytes) {
+    this(writerFactory, fileFactory, io, targetFileSizeInBytes, -1L);
+  }
+
+  /**
+   * Creates a writer that spills buffered deletes for a partition to local disk.
+   *
+   * @param spillThresholdInBytes the size of buffered deletes per partition that triggers a spill
+   *     to local disk, or a non-positive value to keep all deletes in memory
+   */
+  public FanoutPositionOnlyDeleteWriter(
+      FileWriterFactory<T> writerFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSizeInBytes,
+      long spillThresholdInBytes) {
     this.writerFactory = writerFactory;
     this.fileFactory = fileFactory;
     this.io = io;
     this.targetFileSizeInBytes = targetFileSizeInBytes;
+    this.spillThresholdInBytes = spillThresholdInBytes;
     this.deleteFiles = Lists.newArrayList();
     this.referencedDataFiles = CharSequenceSet.empty();
   }
@@ -63,7 +80,7 @@ public class FanoutPositionOnlyDeleteWriter<T>
     FileWriter<PositionDelete<T>, DeleteWriteResult> delegate =
         new RollingPositionDeleteWriter<>(
             writerFactory, fileFactory, io, targetFileSizeInBytes, spec, partition);
-    return new SortingPositionOnlyDeleteWriter<>(delegate);
+    return new SortingPositionOnlyDeleteWriter<>(delegate, spillThresholdInBytes);
   }
 
   @Override
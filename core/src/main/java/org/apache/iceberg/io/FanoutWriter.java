@@ -19,13 +19,19 @@
 package org.apache.iceberg.io;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.Map;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.StructLike;
 import org.apache.iceberg.encryption.EncryptedOutputFile;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.StructLikeMap;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * A writer capable of writing to multiple specs and partitions that keeps files for each seen
@@ -35,12 +41,38 @@ import org.apache.iceberg.util.StructLikeMap;
  * clustered by partition spec and partition as all files are kept open. As a consequence, this
  * writer may potentially consume substantially more memory compared to {@link ClusteredWriter}. Use
  * this writer only when clustering by spec/partition is not possible (e.g. streaming).
+ *
+ * <p>The number of open files can be limited by passing a max number of open writers. When the
+ * limit is reached, the least recently used writer is closed and a new file is started if more
+ * records arrive for its spec/partition pair. This bounds memory at the cost of more files. The
+ * limit counts writers, not bytes; {@link #openWritersLength()} reports the size of the open files.
  */
 abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
+  private static final Logger LOG = LoggerFactory.getLogger(FanoutWriter.class);
 
   private final Map<Integer, StructLikeMap<FileWriter<T, R>>> writers = Maps.newHashMap();
+  private final int maxOpenWriters;
+  // open writers in access order, used to find the least recently used writer
+  private final LinkedHashMap<FileWriter<T, R>, Pair<Integer, StructLike>> writersByAccess;
+  private int openWriters = 0;
+  private int maxObservedOpenWriters = 0;
+  private long evictedWriters = 0L;
   private boolean closed = false;
 
+  protected FanoutWriter() {
+    this(-1);
+  }
+
+  /**
+   * Creates a fanout writer that keeps at most the given number of writers open.
+   *
+   * @param maxOpenWriters the max number of open writers, or a non-positive value for no limit
+   */
+  protected FanoutWriter(int maxOpenWriters) {
+    this.maxOpenWriters = maxOpenWriters;
+    this.writersByAccess = maxOpenWriters > 0 ? new LinkedHashMap<>(16, 0.75f, true) : null;
+  }
+
   protected abstract FileWriter<T, R> newWriter(PartitionSpec spec, StructLike partition);
 
   protected abstract void addResult(R result);
@@ -59,15 +91,81 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
     FileWriter<T, R> writer = specWriters.get(partition);
 
     if (writer == null) {
+      if (writersByAccess != null && openWriters >= maxOpenWriters) {
+        closeLeastRecentlyUsedWriter();
+      }
+
       // copy the partition key as the key object may be reused
       StructLike copiedPartition = StructCopy.copy(partition);
       writer = newWriter(spec, copiedPartition);
       specWriters.put(copiedPartition, writer);
+      this.openWriters += 1;
+      this.maxObservedOpenWriters = Math.max(maxObservedOpenWriters, openWriters);
+
+      if (writersByAccess != null) {
+        writersByAccess.put(writer, Pair.of(spec.specId(), copiedPartition));
+      }
+    } else if (writersByAccess != null) {
+      // mark the writer as recently used
+      writersByAccess.get(writer);
     }
 
     return writer;
   }
 
+  private void closeLeastRecentlyUsedWriter() {
+    Iterator<Map.Entry<FileWriter<T, R>, Pair<Integer, StructLike>>> iterator =
+        writersByAccess.entrySet().iterator();
+    Map.Entry<FileWriter<T, R>, Pair<Integer, StructLike>> eldest = iterator.next();
+    iterator.remove();
+
+    FileWriter<T, R> writer = eldest.getKey();
+    Pair<Integer, StructLike> specAndPartition = eldest.getValue();
+    writers.get(specAndPartition.first()).remove(specAndPartition.second());
+    this.openWriters -= 1;
+    this.evictedWriters += 1;
+
+    try {
+      writer.close();
+    } catch (IOException e) {
+      throw new UncheckedIOException("Failed to close least recently used writer", e);
+    }
+
+    addResult(writer.result());
+  }
+
+  /** Returns the number of currently open writers. */
+  public int openWriters() {
+    return openWriters;
+  }
+
+  /** Returns the max number of writers that were open at the same time. */
+  public int maxObservedOpenWriters() {
+    return maxObservedOpenWriters;
+  }
+
+  /** Returns the number of writers that were closed early to stay within the open writer limit. */
+  public long evictedWriters() {
+    return evictedWriters;
+  }
+
+  /**
+   * Returns the total length of the files of the currently open writers.
+   *
+   * <p>The length includes bytes that were already flushed to storage, so it is an upper bound of
+   * the data buffered in memory by the open writers.
+   */
+  public long openWritersLength() {
+    long length = 0L;
+    for (Map<StructLike, FileWriter<T, R>> specWriters : writers.values()) {
+      for (FileWriter<T, R> writer : specWriters.values()) {
+        length += writer.length();
+      }
+    }
+
+    return length;
+  }
+
   @Override
   public void close() throws IOException {
     if (!closed) {
@@ -87,6 +185,19 @@ abstract class FanoutWriter<T, R> implements PartitioningWriter<T, R> {
     }
 
     writers.clear();
+
+    if (writersByAccess != null) {
+      writersByAccess.clear();
+    }
+
+    if (evictedWriters > 0) {
+      LOG.info(
+          "Closed {} writers early to keep at most {} writers open",
+          evictedWriters,
+          maxOpenWriters);
+    }
+
+    this.openWriters = 0;
   }
 
   @Override
@@ -19,14 +19,19 @@
 package org.apache.iceberg.io;
 
 import java.io.IOException;
-import java.util.Map;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import org.apache.iceberg.FileFormat;
 import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
-import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
 public abstract class PartitionedFanoutWriter<T> extends BaseTaskWriter<T> {
-  private final Map<PartitionKey, RollingFileWriter> writers = Maps.newHashMap();
+  // writers in access order, used to close the least recently used writer
+  private final LinkedHashMap<PartitionKey, RollingFileWriter> writers =
+      new LinkedHashMap<>(16, 0.75f, true);
+  private final int maxOpenWriters;
+  private int maxObservedOpenWriters = 0;
+  private long evictedWriters = 0L;
 
   protected PartitionedFanoutWriter(
       PartitionSpec spec,
@@ -35,7 +40,29 @@ public abstract class PartitionedFanoutWriter<T> extends BaseTaskWriter<T> {
       OutputFileFactory fileFactory,
       FileIO io,
       long targetFileSize) {
+    this(spec, format, appenderFactory, fileFactory, io, targetFileSize, -1);
+  }
+
+  /**
+   * Creates a writer that keeps at most the given number of partition writers open. When the limit
+   * is reached, the least recently used writer is closed and a new file is started if more records
+   * arrive for its partition.
+   *
+   * <p>The limit counts writers, not bytes. Use {@link #openWritersLength()} to monitor the size of
+   * the files that are open.
+   *
+   * @param maxOpenWriters the max number of open writers, or a non-positive value for no limit
+   */
+  protected PartitionedFanoutWriter(
+      PartitionSpec spec,
+      FileFormat format,
+      FileAppenderFactory<T> appenderFactory,
+      OutputFileFactory fileFactory,
+      FileIO io,
+      long targetFileSize,
+      int maxOpenWriters) {
     super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
+    this.maxOpenWriters = maxOpenWriters;
   }
 
   /**
@@ -53,21 +80,60 @@ public abstract class PartitionedFanoutWriter<T> extends BaseTaskWriter<T> {
 
     RollingFileWriter writer = writers.get(partitionKey);
     if (writer == null) {
+      if (maxOpenWriters > 0 && writers.size() >= maxOpenWriters) {
+        Iterator<RollingFileWriter> leastRecentlyUsed = writers.values().iterator();
+        leastRecentlyUsed.next().close();
+        leastRecentlyUsed.remove();
+        this.evictedWriters += 1;
+      }
+
       // NOTICE: we need to copy a new partition key here, in case of messing up the keys in
       // writers.
       PartitionKey copiedKey = partitionKey.copy();
       writer = new RollingFileWriter(copiedKey);
       writers.put(copiedKey, writer);
+      this.maxObservedOpenWriters = Math.max(maxObservedOpenWriters, writers.size());
     }
 
     writer.write(row);
   }
 
+  /** Returns the number of currently open partition writers. */
+  public int openWriters() {
+    return writers.size();
+  }
+
+  /** Returns the max number of partition writers that were open at the same time. */
+  public int maxObservedOpenWriters() {
+    return maxObservedOpenWriters;
+  }
+
+  /** Returns the number of writers that were closed early to stay within the open writer limit. */
+  public long evictedWriters() {
+    return evictedWriters;
+  }
+
+  /**
+   * Returns the total length of the files of the currently open partition writers.
+   *
+   * <p>The length includes bytes that were already flushed to storage, so it is an upper bound of
+   * the data buffered in memory by the open writers.
+   */
+  public long openWritersLength() {
+    long length = 0L;
+    for (RollingFileWriter writer : writers.values()) {
+      length += writer.currentLength();
+    }
+
+    return length;
+  }
+
   @Override
   public void close() throws IOException {
     if (!writers.isEmpty()) {
-      for (PartitionKey key : writers.keySet()) {
-        writers.get(key).close();
+      // iterate over values as lookups would reorder the access-ordered map
+      for (RollingFileWriter writer : writers.values()) {
+        writer.close();
       }
       writers.clear();
     }
@@ -50,6 +50,8 @@ class SortedPosDeleteWriter<T> implements FileWriter<PositionDelete<T>, DeleteWr
   private final StructLike partition;
   private final long recordsNumThreshold;
 
+  private CharSequence lastPath = null;
+  private List<PosRow<T>> lastPosRows = null;
   private int records = 0;
   private boolean closed = false;
   private Throwable failure;
@@ -97,13 +99,17 @@ class SortedPosDeleteWriter<T> implements FileWriter<PositionDelete<T>, DeleteWr
   }
 
   public void delete(CharSequence path, long pos, T row) {
-    List<PosRow<T>> posRows = posDeletes.get(wrapper.set(path));
-    if (posRows != null) {
-      posRows.add(PosRow.of(pos, row));
-    } else {
-      posDeletes.put(CharSequenceWrapper.wrap(path), Lists.newArrayList(PosRow.of(pos, row)));
+    // avoid hashing the path when consecutive deletes share the same path instance
+    List<PosRow<T>> posRows = path == lastPath ? lastPosRows : posDeletes.get(wrapper.set(path));
+    if (posRows == null) {
+      posRows = Lists.newArrayList();
+      posDeletes.put(CharSequenceWrapper.wrap(path), posRows);
     }
 
+    posRows.add(PosRow.of(pos, row));
+    this.lastPath = path;
+    this.lastPosRows = posRows;
+
     records += 1;
 
     // TODO Flush buffer based on the policy that checking whether whole heap memory size exceed the
@@ -181,6 +187,8 @@ class SortedPosDeleteWriter<T> implements FileWriter<PositionDelete<T>, DeleteWr
 
     // Clear the buffered pos-deletions.
     posDeletes.clear();
+    lastPath = null;
+    lastPosRows = null;
     records = 0;
 
     // Add the referenced data files.
@@ -29,6 +29,7 @@ import java.sql.SQLTimeoutException;
 import java.sql.SQLTransientConnectionException;
 import java.util.AbstractMap;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -57,6 +58,9 @@ import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.LocationUtil;
+import org.apache.iceberg.util.PagedIterable;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.PropertyUtil;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -74,6 +78,7 @@ public class JdbcCatalog extends BaseMetastoreCatalog
   private Object conf;
   private JdbcClientPool connections;
   private Map<String, String> catalogProperties;
+  private int listPageSize = JdbcUtil.LIST_PAGE_SIZE_DEFAULT;
   private final Function<Map<String, String>, FileIO> ioBuilder;
   private final Function<Map<String, String>, JdbcClientPool> clientPoolBuilder;
   private final boolean initializeCatalogTables;
@@ -104,6 +109,11 @@ public class JdbcCatalog extends BaseMetastoreCatalog
 
     this.warehouseLocation = LocationUtil.stripTrailingSlash(inputWarehouseLocation);
     this.catalogProperties = ImmutableMap.copyOf(properties);
+    this.listPageSize =
+        PropertyUtil.propertyAsInt(
+            properties, JdbcUtil.LIST_PAGE_SIZE_PROPERTY, JdbcUtil.LIST_PAGE_SIZE_DEFAULT);
+    Preconditions.checkArgument(
+        listPageSize > 0, "Invalid %s: %s", JdbcUtil.LIST_PAGE_SIZE_PROPERTY, listPageSize);
 
     if (name != null) {
       this.catalogName = name;
@@ -229,17 +239,76 @@ public class JdbcCatalog extends BaseMetastoreCatalog
 
   @Override
   public List<TableIdentifier> listTables(Namespace namespace) {
+    return Lists.newArrayList(iterateTables(namespace));
+  }
+
+  /**
+   * Returns the identifiers of tables in a namespace, ordered by name.
+   *
+   * <p>Tables are read using one query per page, and each page is read when the previous page has
+   * been consumed.
+   */
+  public Iterable<TableIdentifier> iterateTables(Namespace namespace) {
     if (!namespaceExists(namespace)) {
       throw new NoSuchNamespaceException("Namespace does not exist: %s", namespace);
     }
 
-    return fetch(
-        row ->
-            JdbcUtil.stringToTableIdentifier(
-                row.getString(JdbcUtil.TABLE_NAMESPACE), row.getString(JdbcUtil.TABLE_NAME)),
-        JdbcUtil.LIST_TABLES_SQL,
-        catalogName,
-        JdbcUtil.namespaceToString(namespace));
+    String namespaceName = JdbcUtil.namespaceToString(namespace);
+    return new PagedIterable<>(
+        lastTableName -> {
+          List<TableIdentifier> page =
+              fetch(
+                  row ->
+                      JdbcUtil.stringToTableIdentifier(
+                          row.getString(JdbcUtil.TABLE_NAMESPACE),
+                          row.getString(JdbcUtil.TABLE_NAME)),
+                  listPageSize,
+                  JdbcUtil.LIST_TABLES_SQL,
+                  catalogName,
+                  namespaceName,
+                  lastTableName != null ? lastTableName : "");
+
+          String nextPageToken =
+              page.size() < listPageSize ? null : page.get(page.size() - 1).name();
+          return Pair.of(page, nextPageToken);
+        });
+  }
+
+  @Override
+  protected Map<TableIdentifier, String> loadMetadataLocations(
+      Collection<TableIdentifier> identifiers) {
+    Map<TableIdentifier, String> metadataLocations = Maps.newHashMap();
+    Map<Namespace, List<String>> namesByNamespace =
+        identifiers.stream()
+            .collect(
+                Collectors.groupingBy(
+                    TableIdentifier::namespace,
+                    Collectors.mapping(TableIdentifier::name, Collectors.toList())));
+
+    namesByNamespace.forEach(
+        (namespace, names) -> {
+          for (List<String> batch : Lists.partition(names, JdbcUtil.GET_TABLES_BATCH_SIZE)) {
+            String[] args = new String[batch.size() + 2];
+            args[0] = catalogName;
+            args[1] = JdbcUtil.namespaceToString(namespace);
+            for (int pos = 0; pos < batch.size(); pos += 1) {
+              args[pos + 2] = batch.get(pos);
+            }
+
+            fetch(
+                    row ->
+                        Pair.of(
+                            TableIdentifier.of(namespace, row.getString(JdbcUtil.TABLE_NAME)),
+                            row.getString(JdbcUtil.METADATA_LOCATION)),
+                    JdbcUtil.getTablesStatement(batch.size()),
+                    args)
+                .stream()
+                .filter(pair -> pair.second() != null)
+                .forEach(pair -> metadataLocations.put(pair.first(), pair.second()));
+          }
+        });
+
+    return metadataLocations;
   }
 
   @Override
@@ -518,14 +587,20 @@ public class JdbcCatalog extends BaseMetastoreCatalog
     R apply(ResultSet result) throws SQLException;
   }
 
-  @SuppressWarnings("checkstyle:NestedTryDepth")
   private <R> List<R> fetch(RowProducer<R> toRow, String sql, String... args) {
+    return fetch(toRow, 0, sql, args);
+  }
+
+  @SuppressWarnings("checkstyle:NestedTryDepth")
+  private <R> List<R> fetch(RowProducer<R> toRow, int maxRows, String sql, String... args) {
     try {
       return connections.run(
           conn -> {
             List<R> result = Lists.newArrayList();
 
             try (PreparedStatement preparedStatement = conn.prepareStatement(sql)) {
+              // limits the rows returned without relying on vendor-specific LIMIT syntax
+              preparedStatement.setMaxRows(maxRows);
               for (int pos = 0; pos < args.length; pos += 1) {
                 preparedStatement.setString(pos + 1, args[pos]);
               }
@@ -20,17 +20,31 @@ package org.apache.iceberg.jdbc;
 
 import java.sql.Connection;
 import java.sql.DriverManager;
+import java.sql.PreparedStatement;
 import java.sql.SQLException;
 import java.sql.SQLNonTransientConnectionException;
 import java.util.Map;
 import java.util.Properties;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.ClientPoolImpl;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.util.PropertyUtil;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
+  private static final Logger LOG = LoggerFactory.getLogger(JdbcClientPool.class);
+  private static final int VALIDATION_TIMEOUT_SECONDS = 5;
 
   private final String dbUrl;
   private final Map<String, String> properties;
+  private final boolean statementCacheEnabled;
+  private final long validationIntervalMs;
+  // connections are used by one thread at a time, so the per-connection maps are not synchronized
+  private final Map<Connection, Map<String, PreparedStatement>> statements =
+      Maps.newConcurrentMap();
+  private final Map<Connection, Long> lastUsedMs = Maps.newConcurrentMap();
 
   public JdbcClientPool(String dbUrl, Map<String, String> props) {
     this(
@@ -46,27 +60,112 @@ public class JdbcClientPool extends ClientPoolImpl<Connection, SQLException> {
     super(poolSize, SQLNonTransientConnectionException.class, true);
     properties = props;
     this.dbUrl = dbUrl;
+    this.statementCacheEnabled =
+        PropertyUtil.propertyAsBoolean(
+            props,
+            JdbcUtil.STATEMENT_CACHE_ENABLED_PROPERTY,
+            JdbcUtil.STATEMENT_CACHE_ENABLED_DEFAULT);
+    this.validationIntervalMs =
+        PropertyUtil.propertyAsLong(
+            props,
+            JdbcUtil.CONNECTION_VALIDATION_INTERVAL_MS_PROPERTY,
+            JdbcUtil.CONNECTION_VALIDATION_INTERVAL_MS_DEFAULT);
+  }
+
+  /**
+   * Runs an action with a prepared statement for the given SQL.
+   *
+   * <p>When statement caching is enabled, the statement is prepared once for each pooled connection
+   * and reused by later calls. The action must not close the statement.
+   */
+  <R> R runPrepared(String sql, StatementAction<R> action)
+      throws SQLException, InterruptedException {
+    return run(
+        conn -> {
+          if (!statementCacheEnabled) {
+            try (PreparedStatement statement = conn.prepareStatement(sql)) {
+              return action.run(statement);
+            }
+          }
+
+          Map<String, PreparedStatement> cached =
+              statements.computeIfAbsent(conn, key -> Maps.newHashMap());
+          PreparedStatement statement = cached.get(sql);
+          if (statement == null || statement.isClosed()) {
+            statement = conn.prepareStatement(sql);
+            cached.put(sql, statement);
+          } else {
+            statement.clearParameters();
+          }
+
+          return action.run(statement);
+        });
+  }
+
+  interface StatementAction<R> {
+    R run(PreparedStatement statement) throws SQLException;
   }
 
   @Override
   protected Connection newClient() {
     try {
-      Properties dbProps = JdbcUtil.filterAndRemovePrefix(properties, JdbcCatalog.PROPERTY_PREFIX);
-      return DriverManager.getConnection(dbUrl, dbProps);
+      Connection conn = DriverManager.getConnection(dbUrl, connectionProperties(properties));
+      lastUsedMs.put(conn, System.currentTimeMillis());
+      return conn;
     } catch (SQLException e) {
       throw new UncheckedSQLException(e, "Failed to connect: %s", dbUrl);
     }
   }
 
+  @VisibleForTesting
+  static Properties connectionProperties(Map<String, String> properties) {
+    // the catalog's own properties are not understood by drivers, some reject unknown properties
+    return JdbcUtil.filterAndRemovePrefix(
+        Maps.filterKeys(properties, key -> !JdbcUtil.CATALOG_PROPERTIES.contains(key)),
+        JdbcCatalog.PROPERTY_PREFIX);
+  }
+
   @Override
   protected Connection reconnect(Connection client) {
     close(client);
     return newClient();
   }
 
+  @Override
+  protected boolean isValid(Connection client) {
+    if (validationIntervalMs < 0) {
+      return true;
+    }
+
+    long nowMs = System.currentTimeMillis();
+    Long lastMs = lastUsedMs.put(client, nowMs);
+    if (lastMs != null && nowMs - lastMs < validationIntervalMs) {
+      // connections that were used recently are not validated
+      return true;
+    }
+
+    try {
+      if (client.isValid(VALIDATION_TIMEOUT_SECONDS)) {
+        return true;
+      }
+    } catch (SQLException e) {
+      LOG.warn("Failed to validate connection: {}", dbUrl, e);
+    }
+
+    return false;
+  }
+
   @Override
   protected void close(Connection client) {
+    lastUsedMs.remove(client);
+    Map<String, PreparedStatement> cached = statements.remove(client);
     try {
+      if (cached != null) {
+        for (PreparedStatement statement : cached.values()) {
+          statement.close();
+        }
+      }
+
       client.close();
     } catch (SQLException e) {
       throw new UncheckedSQLException(e, "Failed to close connection");
@@ -19,7 +19,6 @@
 package org.apache.iceberg.jdbc;
 
 import java.sql.DataTruncation;
-import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.SQLException;
 import java.sql.SQLIntegrityConstraintViolationException;
@@ -105,14 +104,12 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     boolean newTable = base == null;
     String newMetadataLocation = writeNewMetadataIfRequired(newTable, metadata);
     try {
-      Map<String, String> table = getTable();
-
       if (base != null) {
-        validateMetadataLocation(table, base);
         String oldMetadataLocation = base.metadataFileLocation();
-        // Start atomic update
+        // the update is conditional on the current metadata location, so the table is only read
+        // again to report the reason when the update fails
         LOG.debug("Committing existing table: {}", tableName());
-        updateTable(newMetadataLocation, oldMetadataLocation);
+        updateTable(base, newMetadataLocation, oldMetadataLocation);
       } else {
         // table not exists create it
         LOG.debug("Committing new table: {}", tableName());
@@ -147,27 +144,28 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     }
   }
 
-  private void updateTable(String newMetadataLocation, String oldMetadataLocation)
+  private void updateTable(
+      TableMetadata base, String newMetadataLocation, String oldMetadataLocation)
       throws SQLException, InterruptedException {
     int updatedRecords =
-        connections.run(
-            conn -> {
-              try (PreparedStatement sql = conn.prepareStatement(JdbcUtil.DO_COMMIT_SQL)) {
-                // UPDATE
-                sql.setString(1, newMetadataLocation);
-                sql.setString(2, oldMetadataLocation);
-                // WHERE
-                sql.setString(3, catalogName);
-                sql.setString(4, JdbcUtil.namespaceToString(tableIdentifier.namespace()));
-                sql.setString(5, tableIdentifier.name());
-                sql.setString(6, oldMetadataLocation);
-                return sql.executeUpdate();
-              }
+        connections.runPrepared(
+            JdbcUtil.DO_COMMIT_SQL,
+            sql -> {
+              // UPDATE
+              sql.setString(1, newMetadataLocation);
+              sql.setString(2, oldMetadataLocation);
+              // WHERE
+              sql.setString(3, catalogName);
+              sql.setString(4, JdbcUtil.namespaceToString(tableIdentifier.namespace()));
+              sql.setString(5, tableIdentifier.name());
+              sql.setString(6, oldMetadataLocation);
+              return sql.executeUpdate();
             });
 
     if (updatedRecords == 1) {
       LOG.debug("Successfully committed to existing table: {}", tableIdentifier);
     } else {
+      validateMetadataLocation(getTable(), base);
       throw new CommitFailedException(
           "Failed to update table %s from catalog %s", tableIdentifier, catalogName);
     }
@@ -183,16 +181,14 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
     }
 
     int insertRecord =
-        connections.run(
-            conn -> {
-              try (PreparedStatement sql =
-                  conn.prepareStatement(JdbcUtil.DO_COMMIT_CREATE_TABLE_SQL)) {
-                sql.setString(1, catalogName);
-                sql.setString(2, JdbcUtil.namespaceToString(namespace));
-                sql.setString(3, tableIdentifier.name());
-                sql.setString(4, newMetadataLocation);
-                return sql.executeUpdate();
-              }
+        connections.runPrepared(
+            JdbcUtil.DO_COMMIT_CREATE_TABLE_SQL,
+            sql -> {
+              sql.setString(1, catalogName);
+              sql.setString(2, JdbcUtil.namespaceToString(namespace));
+              sql.setString(3, tableIdentifier.name());
+              sql.setString(4, newMetadataLocation);
+              return sql.executeUpdate();
             });
 
     if (insertRecord == 1) {
@@ -226,16 +222,15 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
 
   private Map<String, String> getTable()
       throws UncheckedSQLException, SQLException, InterruptedException {
-    return connections.run(
-        conn -> {
+    return connections.runPrepared(
+        JdbcUtil.GET_TABLE_SQL,
+        sql -> {
           Map<String, String> table = Maps.newHashMap();
+          sql.setString(1, catalogName);
+          sql.setString(2, JdbcUtil.namespaceToString(tableIdentifier.namespace()));
+          sql.setString(3, tableIdentifier.name());
 
-          try (PreparedStatement sql = conn.prepareStatement(JdbcUtil.GET_TABLE_SQL)) {
-            sql.setString(1, catalogName);
-            sql.setString(2, JdbcUtil.namespaceToString(tableIdentifier.namespace()));
-            sql.setString(3, tableIdentifier.name());
-            ResultSet rs = sql.executeQuery();
-
+          try (ResultSet rs = sql.executeQuery()) {
             if (rs.next()) {
               table.put(JdbcUtil.CATALOG_NAME, rs.getString(JdbcUtil.CATALOG_NAME));
               table.put(JdbcUtil.TABLE_NAMESPACE, rs.getString(JdbcUtil.TABLE_NAMESPACE));
@@ -245,8 +240,6 @@ class JdbcTableOperations extends BaseMetastoreTableOperations {
                   JdbcUtil.PREVIOUS_METADATA_LOCATION,
                   rs.getString(JdbcUtil.PREVIOUS_METADATA_LOCATION));
             }
-
-            rs.close();
           }
 
           return table;
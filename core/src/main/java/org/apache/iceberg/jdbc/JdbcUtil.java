@@ -30,11 +30,30 @@ import org.apache.iceberg.catalog.TableIdentifier;
 import org.apache.iceberg.relocated.com.google.common.base.Joiner;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Splitter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 
 final class JdbcUtil {
   // property to control strict-mode (aka check if namespace exists when creating a table)
   static final String STRICT_MODE_PROPERTY = JdbcCatalog.PROPERTY_PREFIX + "strict-mode";
+  // property to control the number of tables read by each list query
+  static final String LIST_PAGE_SIZE_PROPERTY = JdbcCatalog.PROPERTY_PREFIX + "list-page-size";
+  static final int LIST_PAGE_SIZE_DEFAULT = 1000;
+  // property to control whether prepared statements are reused for each pooled connection
+  static final String STATEMENT_CACHE_ENABLED_PROPERTY =
+      JdbcCatalog.PROPERTY_PREFIX + "statement-cache-enabled";
+  static final boolean STATEMENT_CACHE_ENABLED_DEFAULT = true;
+  // property to control how long a pooled connection can be idle before it is validated, or -1
+  static final String CONNECTION_VALIDATION_INTERVAL_MS_PROPERTY =
+      JdbcCatalog.PROPERTY_PREFIX + "connection-validation-interval-ms";
+  static final long CONNECTION_VALIDATION_INTERVAL_MS_DEFAULT = 30_000L;
+  // catalog properties that use the jdbc. prefix but are not passed to the JDBC driver
+  static final Set<String> CATALOG_PROPERTIES =
+      ImmutableSet.of(
+          STRICT_MODE_PROPERTY,
+          LIST_PAGE_SIZE_PROPERTY,
+          STATEMENT_CACHE_ENABLED_PROPERTY,
+          CONNECTION_VALIDATION_INTERVAL_MS_PROPERTY);
 
   // Catalog Table
   static final String CATALOG_TABLE_NAME = "iceberg_tables";
@@ -93,14 +112,38 @@ final class JdbcUtil {
           + " = ? AND "
           + TABLE_NAME
           + " = ? ";
+  // keyset pagination: each page starts after the last table name of the previous page
   static final String LIST_TABLES_SQL =
-      "SELECT * FROM "
+      "SELECT "
+          + TABLE_NAMESPACE
+          + ", "
+          + TABLE_NAME
+          + " FROM "
           + CATALOG_TABLE_NAME
           + " WHERE "
           + CATALOG_NAME
           + " = ? AND "
           + TABLE_NAMESPACE
-          + " = ?";
+          + " = ? AND "
+          + TABLE_NAME
+          + " > ? ORDER BY "
+          + TABLE_NAME;
+  static final String GET_TABLES_SQL =
+      "SELECT "
+          + TABLE_NAME
+          + ", "
+          + METADATA_LOCATION
+          + " FROM "
+          + CATALOG_TABLE_NAME
+          + " WHERE "
+          + CATALOG_NAME
+          + " = ? AND "
+          + TABLE_NAMESPACE
+          + " = ? AND "
+          + TABLE_NAME
+          + " IN ";
+  // maximum number of table names bound in a single GET_TABLES_SQL query
+  static final int GET_TABLES_BATCH_SIZE = 100;
   static final String RENAME_TABLE_SQL =
       "UPDATE "
           + CATALOG_TABLE_NAME
@@ -335,6 +378,11 @@ final class JdbcUtil {
     return sqlStatement.toString();
   }
 
+  static String getTablesStatement(int size) {
+    String values = String.join(",", Collections.nCopies(size, String.valueOf('?')));
+    return GET_TABLES_SQL + "(" + values + ")";
+  }
+
   public static String deletePropertiesStatement(Set<String> properties) {
     StringBuilder sqlStatement = new StringBuilder(JdbcUtil.DELETE_NAMESPACE_PROPERTIES_SQL);
     String values = String.join(",", Collections.nCopies(properties.size(), String.valueOf('?')));
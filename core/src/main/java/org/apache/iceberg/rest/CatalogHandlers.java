@@ -25,6 +25,7 @@ import static org.apache.iceberg.TableProperties.COMMIT_TOTAL_RETRY_TIME_MS_DEFA
 
 import java.time.OffsetDateTime;
 import java.time.ZoneOffset;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -50,6 +51,7 @@ import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.NoSuchNamespaceException;
 import org.apache.iceberg.exceptions.NoSuchTableException;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.rest.requests.CreateNamespaceRequest;
@@ -63,6 +65,7 @@ import org.apache.iceberg.rest.responses.ListNamespacesResponse;
 import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.Tasks;
 
 public class CatalogHandlers {
@@ -104,6 +107,24 @@ public class CatalogHandlers {
     return ListNamespacesResponse.builder().addAll(results).build();
   }
 
+  public static ListNamespacesResponse listNamespaces(
+      SupportsNamespaces catalog, Namespace parent, String pageToken, String pageSize) {
+    List<Namespace> results;
+    if (parent.isEmpty()) {
+      results = catalog.listNamespaces();
+    } else {
+      results = catalog.listNamespaces(parent);
+    }
+
+    Pair<List<Namespace>, String> page =
+        paginate(results, Comparator.comparing(Namespace::toString), pageToken, pageSize);
+
+    return ListNamespacesResponse.builder()
+        .addAll(page.first())
+        .nextPageToken(page.second())
+        .build();
+  }
+
   public static CreateNamespaceResponse createNamespace(
       SupportsNamespaces catalog, CreateNamespaceRequest request) {
     Namespace namespace = request.namespace();
@@ -161,6 +182,56 @@ public class CatalogHandlers {
     return ListTablesResponse.builder().addAll(idents).build();
   }
 
+  public static ListTablesResponse listTables(
+      Catalog catalog, Namespace namespace, String pageToken, String pageSize) {
+    List<TableIdentifier> idents = catalog.listTables(namespace);
+    Pair<List<TableIdentifier>, String> page =
+        paginate(idents, Comparator.comparing(TableIdentifier::name), pageToken, pageSize);
+
+    return ListTablesResponse.builder().addAll(page.first()).nextPageToken(page.second()).build();
+  }
+
+  /**
+   * Returns a page of results and the token for the next page, or null if it is the last page.
+   *
+   * <p>Results are sorted so that pages are stable across requests. The page token is the offset of
+   * the first result in the page. If the page size is null, all remaining results are returned.
+   */
+  private static <T> Pair<List<T>, String> paginate(
+      List<T> results, Comparator<T> order, String pageToken, String pageSize) {
+    if (pageToken == null && pageSize == null) {
+      return Pair.of(results, null);
+    }
+
+    int start = 0;
+    if (pageToken != null && !pageToken.isEmpty()) {
+      start = parseInt(pageToken, "page token");
+      Preconditions.checkArgument(start >= 0, "Invalid page token: %s", pageToken);
+    }
+
+    int size = results.size();
+    if (pageSize != null) {
+      size = parseInt(pageSize, "page size");
+      Preconditions.checkArgument(size > 0, "Invalid page size: %s", pageSize);
+    }
+
+    List<T> sorted = results.stream().sorted(order).collect(Collectors.toList());
+    int end = (int) Math.min((long) start + size, sorted.size());
+    if (start >= end) {
+      return Pair.of(ImmutableList.of(), null);
+    }
+
+    return Pair.of(sorted.subList(start, end), end < sorted.size() ? String.valueOf(end) : null);
+  }
+
+  private static int parseInt(String value, String name) {
+    try {
+      return Integer.parseInt(value);
+    } catch (NumberFormatException e) {
+      throw new IllegalArgumentException(String.format("Invalid %s: %s", name, value), e);
+    }
+  }
+
   public static LoadTableResponse stageTableCreate(
       Catalog catalog, Namespace namespace, CreateTableRequest request) {
     request.validate();
@@ -273,7 +273,10 @@ public class HTTPClient implements RESTClient {
       responseHeaders.accept(respHeaders);
 
       // Skip parsing the response stream for any successful request not expecting a response body
+      // and for conditional (If-None-Match) requests when the resource was not modified
       if (response.getCode() == HttpStatus.SC_NO_CONTENT
+          || (response.getCode() == HttpStatus.SC_NOT_MODIFIED
+              && request.containsHeader(HttpHeaders.IF_NONE_MATCH))
           || (responseType == null && isSuccessful(response))) {
         return null;
       }
@@ -320,6 +323,18 @@ public class HTTPClient implements RESTClient {
     return execute(Method.GET, path, queryParams, null, responseType, headers, errorHandler);
   }
 
+  @Override
+  public <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return execute(
+        Method.GET, path, queryParams, null, responseType, headers, errorHandler, responseHeaders);
+  }
+
   @Override
   public <T extends RESTResponse> T post(
       String path,
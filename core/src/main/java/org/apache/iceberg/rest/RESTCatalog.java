@@ -20,6 +20,7 @@ package org.apache.iceberg.rest;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -96,6 +97,11 @@ public class RESTCatalog implements Catalog, SupportsNamespaces, Configurable<Ob
     return delegate.loadTable(ident);
   }
 
+  @Override
+  public Map<TableIdentifier, Table> loadTables(Collection<TableIdentifier> identifiers) {
+    return delegate.loadTables(identifiers);
+  }
+
   @Override
   public void invalidateTable(TableIdentifier ident) {
     delegate.invalidateTable(ident);
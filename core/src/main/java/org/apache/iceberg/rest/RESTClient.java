@@ -103,6 +103,22 @@ public interface RESTClient extends Closeable {
       Map<String, String> headers,
       Consumer<ErrorResponse> errorHandler);
 
+  /**
+   * Sends a GET request and passes the response headers to a consumer.
+   *
+   * <p>Implementations that do not support returning response headers ignore the consumer. A null
+   * response is returned if the server responds with 304 (Not Modified) to a conditional request.
+   */
+  default <T extends RESTResponse> T get(
+      String path,
+      Map<String, String> queryParams,
+      Class<T> responseType,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler,
+      Consumer<Map<String, String>> responseHeaders) {
+    return get(path, queryParams, responseType, headers, errorHandler);
+  }
+
   default <T extends RESTResponse> T post(
       String path,
       RESTRequest body,
@@ -25,6 +25,7 @@ import java.io.Closeable;
 import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.time.Duration;
+import java.util.Collection;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
@@ -35,6 +36,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.stream.Collectors;
 import org.apache.iceberg.BaseTable;
 import org.apache.iceberg.CatalogProperties;
 import org.apache.iceberg.CatalogUtil;
@@ -65,6 +67,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.auth.OAuth2Properties;
 import org.apache.iceberg.rest.auth.OAuth2Util;
 import org.apache.iceberg.rest.auth.OAuth2Util.AuthSession;
@@ -83,7 +86,10 @@ import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
 import org.apache.iceberg.rest.responses.UpdateNamespacePropertiesResponse;
 import org.apache.iceberg.util.EnvironmentUtil;
+import org.apache.iceberg.util.PagedIterable;
+import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
+import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -94,6 +100,12 @@ public class RESTSessionCatalog extends BaseSessionCatalog
   private static final String DEFAULT_FILE_IO_IMPL = "org.apache.iceberg.io.ResolvingFileIO";
   private static final String REST_METRICS_REPORTING_ENABLED = "rest-metrics-reporting-enabled";
   private static final String REST_SNAPSHOT_LOADING_MODE = "snapshot-loading-mode";
+  private static final String REST_TABLE_CACHE_ENABLED = "rest-table-cache-enabled";
+  private static final String REST_TABLE_CACHE_MAX_ENTRIES = "rest-table-cache-max-entries";
+  private static final int REST_TABLE_CACHE_MAX_ENTRIES_DEFAULT = 1000;
+  private static final String REST_TABLE_CACHE_EXPIRATION_MS = "rest-table-cache-expiration-ms";
+  private static final long REST_TABLE_CACHE_EXPIRATION_MS_DEFAULT = TimeUnit.MINUTES.toMillis(5);
+  private static final String REST_PAGE_SIZE = "rest-page-size";
   private static final List<String> TOKEN_PREFERENCE_ORDER =
       ImmutableList.of(
           OAuth2Properties.ID_TOKEN_TYPE,
@@ -111,6 +123,8 @@ public class RESTSessionCatalog extends BaseSessionCatalog
   private RESTClient client = null;
   private ResourcePaths paths = null;
   private SnapshotMode snapshotMode = null;
+  private RESTTableCache tableCache = null;
+  private Integer pageSize = null;
   private Object conf = null;
   private FileIO io = null;
   private MetricsReporter reporter = null;
@@ -213,6 +227,21 @@ public class RESTSessionCatalog extends BaseSessionCatalog
                     mergedProps, REST_SNAPSHOT_LOADING_MODE, SnapshotMode.ALL.name())
                 .toUpperCase(Locale.US));
 
+    if (PropertyUtil.propertyAsBoolean(mergedProps, REST_TABLE_CACHE_ENABLED, false)) {
+      this.tableCache =
+          new RESTTableCache(
+              PropertyUtil.propertyAsInt(
+                  mergedProps, REST_TABLE_CACHE_MAX_ENTRIES, REST_TABLE_CACHE_MAX_ENTRIES_DEFAULT),
+              PropertyUtil.propertyAsLong(
+                  mergedProps,
+                  REST_TABLE_CACHE_EXPIRATION_MS,
+                  REST_TABLE_CACHE_EXPIRATION_MS_DEFAULT));
+    }
+
+    this.pageSize = PropertyUtil.propertyAsNullableInt(mergedProps, REST_PAGE_SIZE);
+    Preconditions.checkArgument(
+        pageSize == null || pageSize > 0, "Invalid value for %s: %s", REST_PAGE_SIZE, pageSize);
+
     this.reporter = CatalogUtil.loadMetricsReporter(mergedProps);
 
     this.reportingViaRestEnabled =
@@ -240,15 +269,43 @@ public class RESTSessionCatalog extends BaseSessionCatalog
 
   @Override
   public List<TableIdentifier> listTables(SessionContext context, Namespace ns) {
+    return ImmutableList.copyOf(iterateTables(context, ns));
+  }
+
+  /**
+   * Returns the identifiers of tables in a namespace, requesting each page from the server as the
+   * previous page is consumed.
+   */
+  public Iterable<TableIdentifier> iterateTables(SessionContext context, Namespace ns) {
     checkNamespaceIsValid(ns);
 
-    ListTablesResponse response =
-        client.get(
-            paths.tables(ns),
-            ListTablesResponse.class,
-            headers(context),
-            ErrorHandlers.namespaceErrorHandler());
-    return response.identifiers();
+    return new PagedIterable<>(
+        pageToken -> {
+          ListTablesResponse response =
+              client.get(
+                  paths.tables(ns),
+                  pageParams(ImmutableMap.of(), pageToken),
+                  ListTablesResponse.class,
+                  headers(context),
+                  ErrorHandlers.namespaceErrorHandler());
+          return Pair.of(response.identifiers(), response.nextPageToken());
+        });
+  }
+
+  private Map<String, String> pageParams(Map<String, String> queryParams, String pageToken) {
+    if (pageToken == null && pageSize == null) {
+      return queryParams;
+    }
+
+    ImmutableMap.Builder<String, String> params = ImmutableMap.builder();
+    params.putAll(queryParams);
+    // an empty token requests the first page from servers that support pagination
+    params.put("pageToken", pageToken != null ? pageToken : "");
+    if (pageSize != null) {
+      params.put("pageSize", String.valueOf(pageSize));
+    }
+
+    return params.build();
   }
 
   @Override
@@ -295,23 +352,50 @@ public class RESTSessionCatalog extends BaseSessionCatalog
 
   private LoadTableResponse loadInternal(
       SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
-    return client.get(
+    return loadWithETag(context, identifier, mode).second();
+  }
+
+  private Pair<String, LoadTableResponse> loadWithETag(
+      SessionContext context, TableIdentifier identifier, SnapshotMode mode) {
+    if (tableCache == null) {
+      LoadTableResponse response =
+          client.get(
+              paths.table(identifier),
+              mode.params(),
+              LoadTableResponse.class,
+              headers(context),
+              ErrorHandlers.tableErrorHandler());
+      return Pair.of(null, response);
+    }
+
+    return tableCache.load(
+        context.sessionId(),
+        client,
         paths.table(identifier),
         mode.params(),
-        LoadTableResponse.class,
-        headers(context),
+        headers(context).get(),
         ErrorHandlers.tableErrorHandler());
   }
 
+  /** Returns the number of table loads that reused a cached response after a 304 (Not Modified). */
+  public long tableCacheHitCount() {
+    return tableCache != null ? tableCache.hitCount() : 0L;
+  }
+
+  /** Returns the number of table loads that returned a full response from the REST server. */
+  public long tableCacheMissCount() {
+    return tableCache != null ? tableCache.missCount() : 0L;
+  }
+
   @Override
   public Table loadTable(SessionContext context, TableIdentifier identifier) {
     checkIdentifierIsValid(identifier);
 
     MetadataTableType metadataType;
-    LoadTableResponse response;
+    Pair<String, LoadTableResponse> loaded;
     TableIdentifier loadedIdent;
     try {
-      response = loadInternal(context, identifier, snapshotMode);
+      loaded = loadWithETag(context, identifier, snapshotMode);
       loadedIdent = identifier;
       metadataType = null;
 
@@ -321,7 +405,7 @@ public class RESTSessionCatalog extends BaseSessionCatalog
         // attempt to load a metadata table using the identifier's namespace as the base table
         TableIdentifier baseIdent = TableIdentifier.of(identifier.namespace().levels());
         try {
-          response = loadInternal(context, baseIdent, snapshotMode);
+          loaded = loadWithETag(context, baseIdent, snapshotMode);
           loadedIdent = baseIdent;
         } catch (NoSuchTableException ignored) {
           // the base table does not exist
@@ -334,6 +418,7 @@ public class RESTSessionCatalog extends BaseSessionCatalog
     }
 
     TableIdentifier finalIdentifier = loadedIdent;
+    LoadTableResponse response = loaded.second();
     AuthSession session = tableSession(response.config(), session(context));
     TableMetadata tableMetadata;
 
@@ -353,13 +438,16 @@ public class RESTSessionCatalog extends BaseSessionCatalog
       tableMetadata = response.tableMetadata();
     }
 
+    // refresh loads all snapshots, so the ETag of a response with only refs cannot be reused
     RESTTableOperations ops =
         new RESTTableOperations(
             client,
             paths.table(finalIdentifier),
             session::headers,
             tableFileIO(context, response.config()),
-            tableMetadata);
+            tableMetadata,
+            tableCache,
+            snapshotMode == SnapshotMode.ALL ? loaded.first() : null);
 
     trackFileIO(ops);
 
@@ -375,6 +463,40 @@ public class RESTSessionCatalog extends BaseSessionCatalog
     return table;
   }
 
+  /**
+   * Loads a batch of tables using concurrent requests.
+   *
+   * <p>The REST protocol does not define a batch load endpoint, so each table is requested
+   * separately using the worker pool.
+   */
+  @Override
+  public Map<TableIdentifier, Table> loadTables(
+      SessionContext context, Collection<TableIdentifier> identifiers) {
+    List<TableIdentifier> distinct = identifiers.stream().distinct().collect(Collectors.toList());
+    Map<TableIdentifier, Table> loaded = Maps.newConcurrentMap();
+    Tasks.foreach(distinct)
+        .executeWith(ThreadPools.getWorkerPool())
+        .stopOnFailure()
+        .throwFailureWhenFinished()
+        .run(
+            identifier -> {
+              try {
+                loaded.put(identifier, loadTable(context, identifier));
+              } catch (NoSuchTableException e) {
+                // tables that do not exist are not included
+              }
+            });
+
+    Map<TableIdentifier, Table> tables = Maps.newLinkedHashMap();
+    for (TableIdentifier identifier : distinct) {
+      if (loaded.containsKey(identifier)) {
+        tables.put(identifier, loaded.get(identifier));
+      }
+    }
+
+    return tables;
+  }
+
   private void trackFileIO(RESTTableOperations ops) {
     if (io != ops.io()) {
       fileIOCloser.put(ops, ops.io());
@@ -424,6 +546,14 @@ public class RESTSessionCatalog extends BaseSessionCatalog
 
   @Override
   public List<Namespace> listNamespaces(SessionContext context, Namespace namespace) {
+    return ImmutableList.copyOf(iterateNamespaces(context, namespace));
+  }
+
+  /**
+   * Returns the namespaces underneath a namespace, requesting each page from the server as the
+   * previous page is consumed.
+   */
+  public Iterable<Namespace> iterateNamespaces(SessionContext context, Namespace namespace) {
     Map<String, String> queryParams;
     if (namespace.isEmpty()) {
       queryParams = ImmutableMap.of();
@@ -432,14 +562,17 @@ public class RESTSessionCatalog extends BaseSessionCatalog
       queryParams = ImmutableMap.of("parent", RESTUtil.NAMESPACE_JOINER.join(namespace.levels()));
     }
 
-    ListNamespacesResponse response =
-        client.get(
-            paths.namespaces(),
-            queryParams,
-            ListNamespacesResponse.class,
-            headers(context),
-            ErrorHandlers.namespaceErrorHandler());
-    return response.namespaces();
+    return new PagedIterable<>(
+        pageToken -> {
+          ListNamespacesResponse response =
+              client.get(
+                  paths.namespaces(),
+                  pageParams(queryParams, pageToken),
+                  ListNamespacesResponse.class,
+                  headers(context),
+                  ErrorHandlers.namespaceErrorHandler());
+          return Pair.of(response.namespaces(), response.nextPageToken());
+        });
   }
 
   @Override
@@ -516,6 +649,10 @@ public class RESTSessionCatalog extends BaseSessionCatalog
       fileIOCloser.invalidateAll();
       fileIOCloser.cleanUp();
     }
+
+    if (tableCache != null) {
+      tableCache.invalidateAll();
+    }
   }
 
   private void shutdownRefreshExecutor() {
@@ -618,7 +755,9 @@ public class RESTSessionCatalog extends BaseSessionCatalog
               paths.table(ident),
               session::headers,
               tableFileIO(context, response.config()),
-              response.tableMetadata());
+              response.tableMetadata(),
+              tableCache,
+              null);
 
       trackFileIO(ops);
 
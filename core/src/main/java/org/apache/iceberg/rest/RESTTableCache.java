@@ -0,0 +1,219 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
+import org.apache.iceberg.exceptions.RESTException;
+import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.rest.auth.OAuth2Properties;
+import org.apache.iceberg.rest.auth.OAuth2Util;
+import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.util.Pair;
+import org.apache.iceberg.util.PropertyUtil;
+
+/**
+ * Loads tables with conditional requests using the ETag returned by the REST server.
+ *
+ * <p>The last {@link LoadTableResponse} for each session, table path, and set of query parameters
+ * is kept along with its ETag. Later loads send the ETag in an If-None-Match header and reuse the
+ * cached response when the server responds with 304 (Not Modified). Because the server validates
+ * every request, it is responsible for changing the ETag whenever any part of the response changes,
+ * including the config returned with the table.
+ *
+ * <p>A cached response may carry a token or vended credentials in its config that the server would
+ * not return again once they expire. Entries are therefore only reused for a limited time: the
+ * configured expiration, shortened to the {@link OAuth2Properties#TOKEN_EXPIRES_IN_MS} of the
+ * response config or the expiration of its {@link OAuth2Properties#TOKEN}, if those are earlier.
+ */
+class RESTTableCache {
+  static final String ETAG_HEADER = "ETag";
+  static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+
+  private final Cache<String, Pair<String, LoadTableResponse>> responses;
+  private final AtomicLong hitCount = new AtomicLong(0);
+  private final AtomicLong missCount = new AtomicLong(0);
+
+  RESTTableCache(int maxEntries, long expirationMs) {
+    this.responses =
+        Caffeine.newBuilder()
+            .softValues()
+            .maximumSize(maxEntries)
+            .expireAfter(new ResponseExpiry(expirationMs))
+            .build();
+  }
+
+  /**
+   * Loads a table, reusing the cached response for the same session if the server reports that it
+   * has not changed.
+   *
+   * @return a pair of the response ETag, which may be null, and the load table response
+   */
+  Pair<String, LoadTableResponse> load(
+      String sessionId,
+      RESTClient client,
+      String path,
+      Map<String, String> queryParams,
+      Map<String, String> headers,
+      Consumer<ErrorResponse> errorHandler) {
+    String key = sessionId + "/" + path + "?" + queryParams;
+    Pair<String, LoadTableResponse> cached = responses.getIfPresent(key);
+    String cachedETag = cached != null ? cached.first() : null;
+
+    Pair<String, LoadTableResponse> loaded =
+        loadIfModified(client, path, queryParams, headers, cachedETag, errorHandler);
+    if (loaded.second() == null) {
+      // not modified, only possible when there was a cached response to validate
+      return cached;
+    }
+
+    if (loaded.first() != null) {
+      responses.put(key, loaded);
+    } else {
+      responses.invalidate(key);
+    }
+
+    return loaded;
+  }
+
+  /**
+   * Sends a GET request for a table, conditional on the given ETag if it is not null.
+   *
+   * @return a pair of the response ETag and the response, or a pair of the request ETag and null if
+   *     the table was not modified
+   */
+  Pair<String, LoadTableResponse> loadIfModified(
+      RESTClient client,
+      String path,
+      Map<String, String> queryParams,
+      Map<String, String> headers,
+      String etag,
+      Consumer<ErrorResponse> errorHandler) {
+    Map<String, String> requestHeaders =
+        etag != null
+            ? RESTUtil.merge(headers, ImmutableMap.of(IF_NONE_MATCH_HEADER, etag))
+            : headers;
+    AtomicReference<String> responseETag = new AtomicReference<>();
+
+    LoadTableResponse response =
+        client.get(
+            path,
+            queryParams,
+            LoadTableResponse.class,
+            requestHeaders,
+            errorHandler,
+            responseHeaders -> responseETag.set(etag(responseHeaders)));
+
+    if (response == null) {
+      if (etag == null) {
+        throw new RESTException("Invalid (null) response for unconditional load: %s", path);
+      }
+
+      hitCount.incrementAndGet();
+      return Pair.of(etag, null);
+    }
+
+    missCount.incrementAndGet();
+    return Pair.of(responseETag.get(), response);
+  }
+
+  /** Returns the number of loads that were answered with 304 (Not Modified). */
+  long hitCount() {
+    return hitCount.get();
+  }
+
+  /** Returns the number of loads that returned a full response. */
+  long missCount() {
+    return missCount.get();
+  }
+
+  @VisibleForTesting
+  long estimatedSize() {
+    responses.cleanUp();
+    return responses.estimatedSize();
+  }
+
+  void invalidateAll() {
+    responses.invalidateAll();
+  }
+
+  private static String etag(Map<String, String> responseHeaders) {
+    // header names are case-insensitive
+    for (Map.Entry<String, String> header : responseHeaders.entrySet()) {
+      if (ETAG_HEADER.equalsIgnoreCase(header.getKey())) {
+        return header.getValue();
+      }
+    }
+
+    return null;
+  }
+
+  /** Expires responses no later than the token or credentials in their config. */
+  private static class ResponseExpiry implements Expiry<String, Pair<String, LoadTableResponse>> {
+    private final long expirationMs;
+
+    private ResponseExpiry(long expirationMs) {
+      this.expirationMs = expirationMs;
+    }
+
+    @Override
+    public long expireAfterCreate(
+        String key, Pair<String, LoadTableResponse> value, long currentTime) {
+      Map<String, String> config = value.second().config();
+      long lifetimeMs = expirationMs;
+
+      if (config.containsKey(OAuth2Properties.TOKEN_EXPIRES_IN_MS)) {
+        lifetimeMs =
+            Math.min(
+                lifetimeMs,
+                PropertyUtil.propertyAsLong(
+                    config,
+                    OAuth2Properties.TOKEN_EXPIRES_IN_MS,
+                    OAuth2Properties.TOKEN_EXPIRES_IN_MS_DEFAULT));
+      }
+
+      Long tokenExpiresAtMs = OAuth2Util.expiresAtMillis(config.get(OAuth2Properties.TOKEN));
+      if (tokenExpiresAtMs != null) {
+        lifetimeMs = Math.min(lifetimeMs, tokenExpiresAtMs - System.currentTimeMillis());
+      }
+
+      return TimeUnit.MILLISECONDS.toNanos(Math.max(0L, lifetimeMs));
+    }
+
+    @Override
+    public long expireAfterUpdate(
+        String key, Pair<String, LoadTableResponse> value, long currentTime, long currentDuration) {
+      return expireAfterCreate(key, value, currentTime);
+    }
+
+    @Override
+    public long expireAfterRead(
+        String key, Pair<String, LoadTableResponse> value, long currentTime, long currentDuration) {
+      return currentDuration;
+    }
+  }
+}
@@ -35,11 +35,13 @@ import org.apache.iceberg.io.FileIO;
 import org.apache.iceberg.io.LocationProvider;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.rest.requests.UpdateTableRequest;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.util.LocationUtil;
+import org.apache.iceberg.util.Pair;
 
 class RESTTableOperations implements TableOperations {
   private static final String METADATA_FOLDER_NAME = "metadata";
@@ -56,8 +58,10 @@ class RESTTableOperations implements TableOperations {
   private final FileIO io;
   private final List<MetadataUpdate> createChanges;
   private final TableMetadata replaceBase;
+  private final RESTTableCache tableCache;
   private UpdateType updateType;
   private TableMetadata current;
+  private String etag = null;
 
   RESTTableOperations(
       RESTClient client,
@@ -68,6 +72,26 @@ class RESTTableOperations implements TableOperations {
     this(client, path, headers, io, UpdateType.SIMPLE, Lists.newArrayList(), current);
   }
 
+  RESTTableOperations(
+      RESTClient client,
+      String path,
+      Supplier<Map<String, String>> headers,
+      FileIO io,
+      TableMetadata current,
+      RESTTableCache tableCache,
+      String etag) {
+    this(
+        client,
+        path,
+        headers,
+        io,
+        UpdateType.SIMPLE,
+        Lists.newArrayList(),
+        current,
+        tableCache,
+        etag);
+  }
+
   RESTTableOperations(
       RESTClient client,
       String path,
@@ -76,6 +100,19 @@ class RESTTableOperations implements TableOperations {
       UpdateType updateType,
       List<MetadataUpdate> createChanges,
       TableMetadata current) {
+    this(client, path, headers, io, updateType, createChanges, current, null, null);
+  }
+
+  RESTTableOperations(
+      RESTClient client,
+      String path,
+      Supplier<Map<String, String>> headers,
+      FileIO io,
+      UpdateType updateType,
+      List<MetadataUpdate> createChanges,
+      TableMetadata current,
+      RESTTableCache tableCache,
+      String etag) {
     this.client = client;
     this.path = path;
     this.headers = headers;
@@ -83,10 +120,12 @@ class RESTTableOperations implements TableOperations {
     this.updateType = updateType;
     this.createChanges = createChanges;
     this.replaceBase = current;
+    this.tableCache = tableCache;
     if (updateType == UpdateType.CREATE) {
       this.current = null;
     } else {
       this.current = current;
+      this.etag = etag;
     }
   }
 
@@ -97,8 +136,28 @@ class RESTTableOperations implements TableOperations {
 
   @Override
   public TableMetadata refresh() {
-    return updateCurrentMetadata(
-        client.get(path, LoadTableResponse.class, headers, ErrorHandlers.tableErrorHandler()));
+    if (tableCache == null) {
+      return updateCurrentMetadata(
+          client.get(path, LoadTableResponse.class, headers, ErrorHandlers.tableErrorHandler()));
+    }
+
+    // only send the ETag if it was returned with the current metadata
+    Pair<String, LoadTableResponse> loaded =
+        tableCache.loadIfModified(
+            client,
+            path,
+            ImmutableMap.of(),
+            headers.get(),
+            current != null ? etag : null,
+            ErrorHandlers.tableErrorHandler());
+    this.etag = loaded.first();
+
+    if (loaded.second() == null) {
+      // the server reported that the current metadata has not changed
+      return current;
+    }
+
+    return updateCurrentMetadata(loaded.second());
   }
 
   @Override
@@ -154,6 +213,9 @@ class RESTTableOperations implements TableOperations {
     // all future commits should be simple commits
     this.updateType = UpdateType.SIMPLE;
 
+    // the commit response is not returned with an ETag
+    this.etag = null;
+
     updateCurrentMetadata(response);
   }
 
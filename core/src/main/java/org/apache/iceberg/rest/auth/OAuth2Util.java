@@ -324,7 +324,7 @@ public class OAuth2Util {
    * @param token a token String
    * @return The epoch millisecond the token expires at or null if it's not a valid JWT.
    */
-  static Long expiresAtMillis(String token) {
+  public static Long expiresAtMillis(String token) {
     if (null == token) {
       return null;
     }
@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.rest.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Collection;
 import java.util.List;
 import org.apache.iceberg.catalog.Namespace;
@@ -30,12 +31,16 @@ public class ListNamespacesResponse implements RESTResponse {
 
   private List<Namespace> namespaces;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextPageToken;
+
   public ListNamespacesResponse() {
     // Required for Jackson deserialization
   }
 
-  private ListNamespacesResponse(List<Namespace> namespaces) {
+  private ListNamespacesResponse(List<Namespace> namespaces, String nextPageToken) {
     this.namespaces = namespaces;
+    this.nextPageToken = nextPageToken;
     validate();
   }
 
@@ -48,6 +53,11 @@ public class ListNamespacesResponse implements RESTResponse {
     return namespaces != null ? namespaces : ImmutableList.of();
   }
 
+  /** Returns the token to request the next page, or null if this is the last page. */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this).add("namespaces", namespaces()).toString();
@@ -60,6 +70,8 @@ public class ListNamespacesResponse implements RESTResponse {
   public static class Builder {
     private final ImmutableList.Builder<Namespace> namespaces = ImmutableList.builder();
 
+    private String nextPageToken = null;
+
     private Builder() {}
 
     public Builder add(Namespace toAdd) {
@@ -75,8 +87,13 @@ public class ListNamespacesResponse implements RESTResponse {
       return this;
     }
 
+    public Builder nextPageToken(String pageToken) {
+      this.nextPageToken = pageToken;
+      return this;
+    }
+
     public ListNamespacesResponse build() {
-      return new ListNamespacesResponse(namespaces.build());
+      return new ListNamespacesResponse(namespaces.build(), nextPageToken);
     }
   }
 }
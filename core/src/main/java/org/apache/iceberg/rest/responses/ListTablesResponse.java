@@ -18,6 +18,7 @@
  */
 package org.apache.iceberg.rest.responses;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import java.util.Collection;
 import java.util.List;
 import org.apache.iceberg.catalog.TableIdentifier;
@@ -31,12 +32,16 @@ public class ListTablesResponse implements RESTResponse {
 
   private List<TableIdentifier> identifiers;
 
+  @JsonInclude(JsonInclude.Include.NON_NULL)
+  private String nextPageToken;
+
   public ListTablesResponse() {
     // Required for Jackson deserialization
   }
 
-  private ListTablesResponse(List<TableIdentifier> identifiers) {
+  private ListTablesResponse(List<TableIdentifier> identifiers, String nextPageToken) {
     this.identifiers = identifiers;
+    this.nextPageToken = nextPageToken;
     validate();
   }
 
@@ -49,6 +54,11 @@ public class ListTablesResponse implements RESTResponse {
     return identifiers != null ? identifiers : ImmutableList.of();
   }
 
+  /** Returns the token to request the next page, or null if this is the last page. */
+  public String nextPageToken() {
+    return nextPageToken;
+  }
+
   @Override
   public String toString() {
     return MoreObjects.toStringHelper(this).add("identifiers", identifiers).toString();
@@ -61,6 +71,8 @@ public class ListTablesResponse implements RESTResponse {
   public static class Builder {
     private final ImmutableList.Builder<TableIdentifier> identifiers = ImmutableList.builder();
 
+    private String nextPageToken = null;
+
     private Builder() {}
 
     public Builder add(TableIdentifier toAdd) {
@@ -76,8 +88,13 @@ public class ListTablesResponse implements RESTResponse {
       return this;
     }
 
+    public Builder nextPageToken(String pageToken) {
+      this.nextPageToken = pageToken;
+      return this;
+    }
+
     public ListTablesResponse build() {
-      return new ListTablesResponse(identifiers.build());
+      return new ListTablesResponse(identifiers.build(), nextPageToken);
     }
   }
 }
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.Function;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+
+/**
+ * An {@link Iterable} that fetches its elements one page at a time.
+ *
+ * <p>Pages are requested lazily using a page token. The first page is requested with a null token
+ * and each page returns the token for the next page, or null if it is the last page.
+ *
+ * @param <T> the type of elements
+ */
+public class PagedIterable<T> implements Iterable<T> {
+  private final Function<String, Pair<List<T>, String>> fetchPage;
+
+  /**
+   * Creates an iterable from a function that fetches a page for a token.
+   *
+   * @param fetchPage a function that returns a page of elements and the next page token, or null if
+   *     there are no more pages
+   */
+  public PagedIterable(Function<String, Pair<List<T>, String>> fetchPage) {
+    Preconditions.checkNotNull(fetchPage, "Invalid page function: null");
+    this.fetchPage = fetchPage;
+  }
+
+  @Override
+  public Iterator<T> iterator() {
+    return new PagedIterator();
+  }
+
+  private class PagedIterator implements Iterator<T> {
+    private Iterator<T> page = null;
+    private String nextPageToken = null;
+    private boolean lastPage = false;
+
+    @Override
+    public boolean hasNext() {
+      while (page == null || !page.hasNext()) {
+        if (lastPage) {
+          return false;
+        }
+
+        Pair<List<T>, String> next = fetchPage.apply(nextPageToken);
+        this.page = next.first().iterator();
+        this.nextPageToken = next.second();
+        this.lastPage = nextPageToken == null || nextPageToken.isEmpty();
+      }
+
+      return true;
+    }
+
+    @Override
+    public T next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      return page.next();
+    }
+  }
+}
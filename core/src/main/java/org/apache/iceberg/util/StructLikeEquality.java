@@ -0,0 +1,122 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.lang.reflect.Array;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.iceberg.StructLike;
+import org.apache.iceberg.types.Comparators;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+
+/**
+ * Equality for structs that is consistent with {@link Comparators#forType(Types.StructType)}.
+ *
+ * <p>The check for each field is resolved once per type so that values do not need to be ordered.
+ * Values with well-behaved {@code equals} are compared directly, strings avoid a char-by-char
+ * comparison when both values are {@link String}, and nested structs check each of their fields.
+ */
+class StructLikeEquality {
+  private static final Comparator<CharSequence> CHAR_SEQUENCES = Comparators.charSequences();
+
+  private static final ValueEquality<CharSequence> STRINGS =
+      (str1, str2) -> {
+        if (str1 instanceof String && str2 instanceof String) {
+          return str1.equals(str2);
+        }
+
+        return CHAR_SEQUENCES.compare(str1, str2) == 0;
+      };
+
+  private final ValueEquality<Object>[] equalities;
+  private final Class<?>[] classes;
+
+  @SuppressWarnings("unchecked")
+  StructLikeEquality(Types.StructType struct) {
+    List<Types.NestedField> fields = struct.fields();
+    this.equalities =
+        (ValueEquality<Object>[]) Array.newInstance(ValueEquality.class, fields.size());
+    this.classes = new Class<?>[fields.size()];
+    for (int pos = 0; pos < fields.size(); pos += 1) {
+      Type fieldType = fields.get(pos).type();
+      equalities[pos] = forType(fieldType);
+      classes[pos] = fieldType.typeId().javaClass();
+    }
+  }
+
+  boolean equal(StructLike struct1, StructLike struct2) {
+    if (struct1 == struct2) {
+      return true;
+    } else if (struct1 == null || struct2 == null) {
+      return false;
+    }
+
+    for (int pos = 0; pos < equalities.length; pos += 1) {
+      Class<?> valueClass = classes[pos];
+      Object value1 = struct1.get(pos, valueClass);
+      Object value2 = struct2.get(pos, valueClass);
+      if (value1 != value2) {
+        if (value1 == null || value2 == null || !equalities[pos].equal(value1, value2)) {
+          return false;
+        }
+      }
+    }
+
+    return true;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static <T> ValueEquality<T> forType(Type type) {
+    switch (type.typeId()) {
+      case BOOLEAN:
+      case INTEGER:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+      case DATE:
+      case TIME:
+      case TIMESTAMP:
+      case UUID:
+      case MAP:
+        return Object::equals;
+      case STRING:
+        return (ValueEquality<T>) STRINGS;
+      case STRUCT:
+        StructLikeEquality nested = new StructLikeEquality(type.asStructType());
+        return (ValueEquality<T>) (ValueEquality<StructLike>) nested::equal;
+      case LIST:
+        Comparator<List<Object>> listComparator = Comparators.forType(type.asListType());
+        return (ValueEquality<T>) comparing(listComparator);
+      default:
+        // decimals are equal with different scales and binary values are compared as bytes
+        return comparing(Comparators.forType(type.asPrimitiveType()));
+    }
+  }
+
+  private static <T> ValueEquality<T> comparing(Comparator<T> comparator) {
+    return (value1, value2) -> comparator.compare(value1, value2) == 0;
+  }
+
+  /** Checks whether two non-null values are equal. */
+  @FunctionalInterface
+  private interface ValueEquality<T> {
+    boolean equal(T value1, T value2);
+  }
+}
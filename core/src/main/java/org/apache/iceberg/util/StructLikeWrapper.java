@@ -18,32 +18,35 @@
  */
 package org.apache.iceberg.util;
 
-import java.util.Comparator;
 import org.apache.iceberg.StructLike;
-import org.apache.iceberg.types.Comparators;
 import org.apache.iceberg.types.JavaHash;
 import org.apache.iceberg.types.Types;
 
-/** Wrapper to adapt StructLike for use in maps and sets by implementing equals and hashCode. */
+/**
+ * Wrapper to adapt StructLike for use in maps and sets by implementing equals and hashCode.
+ *
+ * <p>The hash code is computed once for each wrapped struct. Equality is checked field by field
+ * with checks that are resolved once for the struct type.
+ */
 public class StructLikeWrapper {
 
   public static StructLikeWrapper forType(Types.StructType struct) {
     return new StructLikeWrapper(struct);
   }
 
-  private final Comparator<StructLike> comparator;
+  private final StructLikeEquality equality;
   private final JavaHash<StructLike> structHash;
-  private Integer hashCode;
+  private boolean hasHashCode = false;
+  private int hashCode;
   private StructLike struct;
 
   private StructLikeWrapper(Types.StructType type) {
-    this(Comparators.forType(type), JavaHash.forType(type));
+    this(new StructLikeEquality(type), JavaHash.forType(type));
   }
 
-  private StructLikeWrapper(Comparator<StructLike> comparator, JavaHash<StructLike> structHash) {
-    this.comparator = comparator;
+  private StructLikeWrapper(StructLikeEquality equality, JavaHash<StructLike> structHash) {
+    this.equality = equality;
     this.structHash = structHash;
-    this.hashCode = null;
   }
 
   /**
@@ -56,12 +59,12 @@ public class StructLikeWrapper {
    * @return a copy of this wrapper wrapping the give struct
    */
   public StructLikeWrapper copyFor(StructLike newStruct) {
-    return new StructLikeWrapper(comparator, structHash).set(newStruct);
+    return new StructLikeWrapper(equality, structHash).set(newStruct);
   }
 
   public StructLikeWrapper set(StructLike newStruct) {
     this.struct = newStruct;
-    this.hashCode = null;
+    this.hasHashCode = false;
     return this;
   }
 
@@ -87,13 +90,14 @@ public class StructLikeWrapper {
       return false;
     }
 
-    return comparator.compare(this.struct, that.struct) == 0;
+    return equality.equal(this.struct, that.struct);
   }
 
   @Override
   public int hashCode() {
-    if (hashCode == null) {
+    if (!hasHashCode) {
       this.hashCode = structHash.hash(struct);
+      this.hasHashCode = true;
     }
 
     return hashCode;
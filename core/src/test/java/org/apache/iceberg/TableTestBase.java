@@ -231,6 +231,21 @@ public class TableTestBase {
     return TestTables.readMetadata("test");
   }
 
+  /**
+   * Returns a read-only copy of the current table that is loaded from a metadata file.
+   *
+   * <p>Test tables do not have a metadata file location, which metadata tables such as partitions
+   * need to read rows.
+   */
+  Table staticTable() {
+    String location =
+        table
+            .ops()
+            .metadataFileLocation(String.format("static-%s.metadata.json", UUID.randomUUID()));
+    TableMetadataParser.write(table.ops().current(), table.io().newOutputFile(location));
+    return new BaseTable(new StaticTableOperations(location, table.io()), table.name());
+  }
+
   ManifestFile writeManifest(DataFile... files) throws IOException {
     return writeManifest(null, files);
   }
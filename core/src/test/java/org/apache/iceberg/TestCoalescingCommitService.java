@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import org.apache.iceberg.CoalescingCommitService.CommitRequest;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.assertj.core.api.Assertions;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestCoalescingCommitService extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  public TestCoalescingCommitService(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testAppendsAreCoalesced() throws Exception {
+    List<CompletableFuture<Long>> futures = Lists.newArrayList();
+    try (CoalescingCommitService service = new CoalescingCommitService(table, 4, 60_000)) {
+      futures.add(service.append(ImmutableList.of(FILE_A)));
+      futures.add(service.append(ImmutableList.of(FILE_B)));
+      futures.add(service.append(ImmutableList.of(FILE_C)));
+      futures.add(service.append(ImmutableList.of(FILE_D)));
+
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+    }
+
+    Snapshot snapshot = table.currentSnapshot();
+    Assert.assertEquals("Should create a single snapshot", 1, Iterables.size(table.snapshots()));
+    Assert.assertEquals("Should be an append", DataOperations.APPEND, snapshot.operation());
+    for (CompletableFuture<Long> future : futures) {
+      Assert.assertEquals(
+          "Should complete with the snapshot id", snapshot.snapshotId(), (long) future.get());
+    }
+
+    validateSnapshot(null, snapshot, FILE_A, FILE_B, FILE_C, FILE_D);
+  }
+
+  @Test
+  public void testConcurrentAppends() throws Exception {
+    int numRequests = 20;
+    ExecutorService writers = Executors.newFixedThreadPool(4);
+    List<CompletableFuture<Long>> futures;
+    try (CoalescingCommitService service = new CoalescingCommitService(table, 5)) {
+      List<Future<CompletableFuture<Long>>> submitted = Lists.newArrayList();
+      for (int i = 0; i < numRequests; i += 1) {
+        DataFile file =
+            DataFiles.builder(SPEC)
+                .copy(FILE_A)
+                .withPath("/path/to/data-" + i + ".parquet")
+                .build();
+        submitted.add(writers.submit(() -> service.append(ImmutableList.of(file))));
+      }
+
+      futures = Lists.newArrayList();
+      for (Future<CompletableFuture<Long>> future : submitted) {
+        futures.add(future.get());
+      }
+
+      CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).get(1, TimeUnit.MINUTES);
+    } finally {
+      writers.shutdown();
+    }
+
+    List<Long> snapshotIds =
+        Lists.newArrayList(table.snapshots()).stream()
+            .map(Snapshot::snapshotId)
+            .collect(Collectors.toList());
+    Assertions.assertThat(snapshotIds).hasSizeBetween(numRequests / 5, numRequests);
+    for (CompletableFuture<Long> future : futures) {
+      Assertions.assertThat(snapshotIds).contains(future.get());
+    }
+
+    long addedFiles =
+        Lists.newArrayList(table.snapshots()).stream()
+            .mapToLong(snapshot -> Iterables.size(snapshot.addedDataFiles(table.io())))
+            .sum();
+    Assert.assertEquals("Should add every file once", numRequests, addedFiles);
+  }
+
+  @Test
+  public void testRowDeltasAreCoalesced() throws Exception {
+    Assume.assumeTrue("Delete files are only supported in v2", formatVersion == 2);
+
+    CompletableFuture<Long> append;
+    CompletableFuture<Long> delta;
+    try (CoalescingCommitService service = new CoalescingCommitService(table, 2, 60_000)) {
+      append = service.append(ImmutableList.of(FILE_B));
+      delta = service.rowDelta(ImmutableList.of(FILE_A), ImmutableList.of(FILE_A_DELETES));
+
+      CompletableFuture.allOf(append, delta).get(1, TimeUnit.MINUTES);
+    }
+
+    Snapshot snapshot = table.currentSnapshot();
+    Assert.assertEquals("Should create a single snapshot", 1, Iterables.size(table.snapshots()));
+    Assert.assertEquals("Should be an overwrite", DataOperations.OVERWRITE, snapshot.operation());
+    Assert.assertEquals(snapshot.snapshotId(), (long) append.get());
+    Assert.assertEquals(snapshot.snapshotId(), (long) delta.get());
+    Assert.assertEquals(
+        "Should add the delete file", 1, Iterables.size(snapshot.addedDeleteFiles(table.io())));
+  }
+
+  @Test
+  public void testEqualityDeletesStartNewBatchAfterDataFiles() {
+    CommitRequest append = new CommitRequest(ImmutableList.of(FILE_A), ImmutableList.of());
+    CommitRequest positionDeletes =
+        new CommitRequest(ImmutableList.of(), ImmutableList.of(FILE_A_DELETES));
+    CommitRequest equalityDeletes =
+        new CommitRequest(ImmutableList.of(FILE_B), ImmutableList.of(FILE_A2_DELETES));
+    CommitRequest moreEqualityDeletes =
+        new CommitRequest(ImmutableList.of(), ImmutableList.of(FILE_C2_DELETES));
+
+    List<CommitRequest> requests =
+        ImmutableList.of(append, equalityDeletes, positionDeletes, moreEqualityDeletes, append);
+    List<List<CommitRequest>> batches = CoalescingCommitService.compatibleBatches(requests);
+
+    Assertions.assertThat(batches)
+        .containsExactly(
+            ImmutableList.of(append),
+            ImmutableList.of(equalityDeletes, positionDeletes),
+            ImmutableList.of(moreEqualityDeletes, append));
+  }
+
+  @Test
+  public void testEqualityDeletesWithoutEarlierDataFilesAreCoalesced() {
+    CommitRequest positionDeletes =
+        new CommitRequest(ImmutableList.of(), ImmutableList.of(FILE_A_DELETES));
+    CommitRequest equalityDeletes =
+        new CommitRequest(ImmutableList.of(), ImmutableList.of(FILE_A2_DELETES));
+    CommitRequest upsert =
+        new CommitRequest(ImmutableList.of(FILE_B), ImmutableList.of(FILE_C2_DELETES));
+    CommitRequest append = new CommitRequest(ImmutableList.of(FILE_C), ImmutableList.of());
+
+    List<CommitRequest> requests =
+        ImmutableList.of(positionDeletes, equalityDeletes, upsert, append);
+    List<List<CommitRequest>> batches = CoalescingCommitService.compatibleBatches(requests);
+
+    Assertions.assertThat(batches).containsExactly(requests);
+  }
+
+  @Test
+  public void testFailedRequestDoesNotFailOthers() throws Exception {
+    PartitionSpec unknownSpec = PartitionSpec.builderFor(SCHEMA).withSpecId(5).build();
+    DataFile invalid =
+        DataFiles.builder(unknownSpec)
+            .withPath("/path/to/unknown-spec.parquet")
+            .withFileSizeInBytes(10)
+            .withRecordCount(1)
+            .build();
+
+    CompletableFuture<Long> valid;
+    CompletableFuture<Long> failed;
+    try (CoalescingCommitService service = new CoalescingCommitService(table, 2, 60_000)) {
+      valid = service.append(ImmutableList.of(FILE_A));
+      failed = service.append(ImmutableList.of(invalid));
+
+      Assertions.assertThat(valid.get(1, TimeUnit.MINUTES))
+          .isEqualTo(table.currentSnapshot().snapshotId());
+    }
+
+    Assertions.assertThat(failed).isCompletedExceptionally();
+    Assert.assertEquals("Should commit the valid request", 1, Iterables.size(table.snapshots()));
+  }
+
+  @Test
+  public void testOfferAfterClose() {
+    CoalescingCommitService service = new CoalescingCommitService(table, 1);
+    service.close();
+
+    Assertions.assertThatThrownBy(() -> service.append(ImmutableList.of(FILE_A)))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot offer files to a closed commit service");
+  }
+}
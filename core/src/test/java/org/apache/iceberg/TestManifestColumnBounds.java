@@ -0,0 +1,207 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.expressions.InclusiveMetricsEvaluator;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.metrics.ScanMetricsResult;
+import org.apache.iceberg.metrics.ScanReport;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Assume;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestManifestColumnBounds extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  public TestManifestColumnBounds(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Before
+  public void setColumnBounds() {
+    table.updateProperties().set(TableProperties.MANIFEST_COLUMN_BOUNDS, "id, unknown").commit();
+  }
+
+  @Test
+  public void testManifestListBounds() {
+    table.newFastAppend().appendFile(fileWithIds("/path/to/data-1.parquet", 1, 10)).commit();
+    table
+        .newFastAppend()
+        .appendFile(fileWithIds("/path/to/data-2.parquet", 20, 25))
+        .appendFile(fileWithIds("/path/to/data-3.parquet", 15, 30))
+        .commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().dataManifests(table.io());
+    Assert.assertEquals("Should have 2 manifests", 2, manifests.size());
+
+    ManifestFile second = manifests.get(0);
+    ManifestFile first = manifests.get(1);
+    if (formatVersion == 1) {
+      Assert.assertNull("Should not write bounds to v1", first.columnLowerBounds());
+      Assert.assertNull("Should not write bounds to v1", first.columnUpperBounds());
+      return;
+    }
+
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(1)), first.columnLowerBounds());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(10)), first.columnUpperBounds());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(15)), second.columnLowerBounds());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(30)), second.columnUpperBounds());
+
+    InclusiveMetricsEvaluator evaluator =
+        new InclusiveMetricsEvaluator(table.schema(), Expressions.greaterThan("id", 12));
+    Assert.assertFalse("Should skip the first manifest", evaluator.eval(first));
+    Assert.assertTrue("Should read the second manifest", evaluator.eval(second));
+  }
+
+  @Test
+  public void testMissingBoundsAreNotSummarized() {
+    Assume.assumeTrue("Manifest bounds are only written to v2", formatVersion == 2);
+
+    table
+        .newFastAppend()
+        .appendFile(fileWithIds("/path/to/data-1.parquet", 1, 10))
+        .appendFile(FILE_A)
+        .commit();
+
+    ManifestFile manifest =
+        Iterables.getOnlyElement(table.currentSnapshot().allManifests(table.io()));
+    Assert.assertEquals(ImmutableMap.of(), manifest.columnLowerBounds());
+    Assert.assertEquals(ImmutableMap.of(), manifest.columnUpperBounds());
+
+    InclusiveMetricsEvaluator evaluator =
+        new InclusiveMetricsEvaluator(table.schema(), Expressions.greaterThan("id", 12));
+    Assert.assertTrue("Should read manifests without bounds", evaluator.eval(manifest));
+  }
+
+  @Test
+  public void testRewrittenManifestsKeepBounds() {
+    Assume.assumeTrue("Manifest bounds are only written to v2", formatVersion == 2);
+
+    table.newFastAppend().appendFile(fileWithIds("/path/to/data-1.parquet", 1, 10)).commit();
+    table.newFastAppend().appendFile(fileWithIds("/path/to/data-2.parquet", 20, 30)).commit();
+
+    table.rewriteManifests().clusterBy(file -> "all").commit();
+
+    ManifestFile manifest =
+        Iterables.getOnlyElement(table.currentSnapshot().allManifests(table.io()));
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(1)), manifest.columnLowerBounds());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(30)), manifest.columnUpperBounds());
+  }
+
+  @Test
+  public void testCopiedManifestsKeepBounds() throws IOException {
+    Assume.assumeTrue("Manifest bounds are only written to v2", formatVersion == 2);
+
+    DataFile file = fileWithIds("/path/to/data-1.parquet", 1, 10);
+    table.newFastAppend().appendManifest(writeManifest(file)).commit();
+
+    ManifestFile appended =
+        Iterables.getOnlyElement(table.currentSnapshot().allManifests(table.io()));
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(1)), appended.columnLowerBounds());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(10)), appended.columnUpperBounds());
+
+    long snapshotId = table.currentSnapshot().snapshotId();
+    ManifestFile replacement =
+        writeManifest(
+            "replacement-m0.avro", manifestEntry(ManifestEntry.Status.EXISTING, snapshotId, file));
+    table.rewriteManifests().deleteManifest(appended).addManifest(replacement).commit();
+
+    ManifestFile copied =
+        Iterables.getOnlyElement(table.currentSnapshot().allManifests(table.io()));
+    Assert.assertNotEquals("Should copy the new manifest", replacement.path(), copied.path());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(1)), copied.columnLowerBounds());
+    Assert.assertEquals(ImmutableMap.of(idFieldId(), intBound(10)), copied.columnUpperBounds());
+  }
+
+  @Test
+  public void testPlanningSkipsManifests() throws IOException {
+    table.newFastAppend().appendFile(fileWithIds("/path/to/data-1.parquet", 1, 10)).commit();
+    table.newFastAppend().appendFile(fileWithIds("/path/to/data-2.parquet", 20, 30)).commit();
+
+    List<ScanReport> reports = Lists.newArrayList();
+    List<String> paths = Lists.newArrayList();
+    TableScan scan =
+        table
+            .newScan()
+            .filter(Expressions.lessThan("id", 5))
+            .metricsReporter(report -> reports.add((ScanReport) report));
+    try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+      tasks.forEach(task -> paths.add(task.file().path().toString()));
+    }
+
+    Assert.assertEquals(Lists.newArrayList("/path/to/data-1.parquet"), paths);
+
+    ScanMetricsResult scanMetrics = Iterables.getOnlyElement(reports).scanMetrics();
+    long expectedSkipped = formatVersion == 1 ? 0L : 1L;
+    Assert.assertEquals(
+        "Should skip manifests using column bounds",
+        expectedSkipped,
+        scanMetrics.skippedDataManifests().value());
+    Assert.assertEquals(
+        "Should scan the remaining manifests",
+        2L - expectedSkipped,
+        scanMetrics.scannedDataManifests().value());
+  }
+
+  private int idFieldId() {
+    // the table assigns fresh ids, so the bounds must use the table schema's id for the column
+    return table.schema().findField("id").fieldId();
+  }
+
+  private DataFile fileWithIds(String path, int lower, int upper) {
+    int idFieldId = idFieldId();
+    Map<Integer, ByteBuffer> lowerBounds = ImmutableMap.of(idFieldId, intBound(lower));
+    Map<Integer, ByteBuffer> upperBounds = ImmutableMap.of(idFieldId, intBound(upper));
+    return DataFiles.builder(table.spec())
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(
+            new Metrics(
+                upper - lower + 1L,
+                null,
+                ImmutableMap.of(idFieldId, upper - lower + 1L),
+                ImmutableMap.of(idFieldId, 0L),
+                null,
+                lowerBounds,
+                upperBounds))
+        .build();
+  }
+
+  private static ByteBuffer intBound(int value) {
+    return Conversions.toByteBuffer(Types.IntegerType.get(), value);
+  }
+}
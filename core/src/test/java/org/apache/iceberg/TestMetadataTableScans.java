@@ -356,6 +356,76 @@ public class TestMetadataTableScans extends MetadataTableScanTestBase {
     validateSingleFieldPartition(entries, 3);
   }
 
+  @Test
+  public void testPartitionsTableCombinesManifestsAndFiltersEntries() throws IOException {
+    // FILE_A and FILE_B share a manifest, FILE_A2 is in the same partition as FILE_A
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_A2).commit();
+    if (formatVersion == 2) {
+      table.newRowDelta().addDeletes(FILE_A_DELETES).commit();
+      table.newRowDelta().addDeletes(FILE_A2_DELETES).commit();
+    }
+
+    Table partitionsTable = new PartitionsTable(staticTable());
+    TableScan scan =
+        partitionsTable.newScan().filter(Expressions.equal("partition.data_bucket", 0));
+
+    List<StructLike> rows = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = scan.planFiles()) {
+      for (FileScanTask task : tasks) {
+        Iterables.addAll(rows, task.asDataTask().rows());
+      }
+    }
+
+    Assert.assertEquals("Should skip entries of other partitions", 1, rows.size());
+    StructLike row = rows.get(0);
+    Assert.assertEquals(
+        "Should match partition", 0, (int) row.get(0, StructLike.class).get(0, Integer.class));
+    Assert.assertEquals("Should sum record counts", 2L, (long) row.get(2, Long.class));
+    Assert.assertEquals("Should sum file counts", 2, (int) row.get(3, Integer.class));
+    if (formatVersion == 2) {
+      Assert.assertEquals("Should count pos deletes", 1L, (long) row.get(4, Long.class));
+      Assert.assertEquals("Should count pos delete files", 1, (int) row.get(5, Integer.class));
+      Assert.assertEquals("Should count eq deletes", 1L, (long) row.get(6, Long.class));
+      Assert.assertEquals("Should count eq delete files", 1, (int) row.get(7, Integer.class));
+    }
+  }
+
+  @Test
+  public void testPartitionsTableReportsHighestSpecId() throws IOException {
+    table.updateSpec().addField(Expressions.truncate("data", 2)).commit();
+    PartitionSpec oldSpec = table.specs().get(0);
+    PartitionSpec newSpec = table.spec();
+
+    // both files belong to the same unified partition, with a null data_trunc_2
+    table
+        .newFastAppend()
+        .appendFile(
+            DataFiles.builder(newSpec)
+                .withPath("/path/to/data-new-spec.parquet")
+                .withFileSizeInBytes(10)
+                .withPartitionPath("data_bucket=0/data_trunc_2=__HIVE_DEFAULT_PARTITION__")
+                .withRecordCount(1)
+                .build())
+        .commit();
+    table.newFastAppend().appendFile(FILE_A).commit();
+    Assert.assertEquals("FILE_A should use the old spec", oldSpec.specId(), FILE_A.specId());
+
+    Table partitionsTable = new PartitionsTable(staticTable());
+    List<StructLike> rows = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = partitionsTable.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        Iterables.addAll(rows, task.asDataTask().rows());
+      }
+    }
+
+    Assert.assertEquals("Should combine files of both specs", 1, rows.size());
+    StructLike row = rows.get(0);
+    Assert.assertEquals("Should count both files", 2, (int) row.get(3, Integer.class));
+    Assert.assertEquals(
+        "Should report the highest spec id", newSpec.specId(), (int) row.get(1, Integer.class));
+  }
+
   @Test
   public void testPartitionsTableScanNoStats() {
     table.newFastAppend().appendFile(FILE_WITH_STATS).commit();
@@ -822,6 +822,42 @@ public class TestMetadataUpdateParser {
         MetadataUpdateParser.toJson(expected));
   }
 
+  @Test
+  public void testSetPartitionStatistics() {
+    String json =
+        "{\"action\":\"set-partition-statistics\",\"partition-statistics\":{"
+            + "\"snapshot-id\":1940541653261589030,"
+            + "\"statistics-path\":\"s3://bucket/warehouse/stats.avro\","
+            + "\"file-size-in-bytes\":43}}";
+    MetadataUpdate expected =
+        new MetadataUpdate.SetPartitionStatistics(
+            new GenericPartitionStatisticsFile(
+                1940541653261589030L, "s3://bucket/warehouse/stats.avro", 43L));
+    assertEquals(
+        MetadataUpdateParser.SET_PARTITION_STATISTICS,
+        expected,
+        MetadataUpdateParser.fromJson(json));
+    Assert.assertEquals(
+        "Set partition statistics should convert to the correct JSON value",
+        json,
+        MetadataUpdateParser.toJson(expected));
+  }
+
+  @Test
+  public void testRemovePartitionStatistics() {
+    String json =
+        "{\"action\":\"remove-partition-statistics\",\"snapshot-id\":1940541653261589030}";
+    MetadataUpdate expected = new MetadataUpdate.RemovePartitionStatistics(1940541653261589030L);
+    assertEquals(
+        MetadataUpdateParser.REMOVE_PARTITION_STATISTICS,
+        expected,
+        MetadataUpdateParser.fromJson(json));
+    Assert.assertEquals(
+        "Remove partition statistics should convert to the correct JSON value",
+        json,
+        MetadataUpdateParser.toJson(expected));
+  }
+
   public void assertEquals(
       String action, MetadataUpdate expectedUpdate, MetadataUpdate actualUpdate) {
     switch (action) {
@@ -873,6 +909,16 @@ public class TestMetadataUpdateParser {
             (MetadataUpdate.RemoveStatistics) expectedUpdate,
             (MetadataUpdate.RemoveStatistics) actualUpdate);
         break;
+      case MetadataUpdateParser.SET_PARTITION_STATISTICS:
+        assertEqualsSetPartitionStatistics(
+            (MetadataUpdate.SetPartitionStatistics) expectedUpdate,
+            (MetadataUpdate.SetPartitionStatistics) actualUpdate);
+        break;
+      case MetadataUpdateParser.REMOVE_PARTITION_STATISTICS:
+        assertEqualsRemovePartitionStatistics(
+            (MetadataUpdate.RemovePartitionStatistics) expectedUpdate,
+            (MetadataUpdate.RemovePartitionStatistics) actualUpdate);
+        break;
       case MetadataUpdateParser.ADD_SNAPSHOT:
         assertEqualsAddSnapshot(
             (MetadataUpdate.AddSnapshot) expectedUpdate, (MetadataUpdate.AddSnapshot) actualUpdate);
@@ -1062,6 +1108,22 @@ public class TestMetadataUpdateParser {
         "Snapshots to remove should be the same", expected.snapshotId(), actual.snapshotId());
   }
 
+  private static void assertEqualsSetPartitionStatistics(
+      MetadataUpdate.SetPartitionStatistics expected,
+      MetadataUpdate.SetPartitionStatistics actual) {
+    Assert.assertEquals(
+        "Partition statistics files should be equal",
+        expected.partitionStatisticsFile(),
+        actual.partitionStatisticsFile());
+  }
+
+  private static void assertEqualsRemovePartitionStatistics(
+      MetadataUpdate.RemovePartitionStatistics expected,
+      MetadataUpdate.RemovePartitionStatistics actual) {
+    Assert.assertEquals(
+        "Snapshots to remove should be the same", expected.snapshotId(), actual.snapshotId());
+  }
+
   private static void assertEqualsAddSnapshot(
       MetadataUpdate.AddSnapshot expected, MetadataUpdate.AddSnapshot actual) {
     Assert.assertEquals(
@@ -0,0 +1,273 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.junit.Assert;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class TestPartitionStatsUtil extends TableTestBase {
+  @Parameterized.Parameters(name = "formatVersion = {0}")
+  public static Object[] parameters() {
+    return new Object[] {1, 2};
+  }
+
+  public TestPartitionStatsUtil(int formatVersion) {
+    super(formatVersion);
+  }
+
+  @Test
+  public void testComputeAndRegisterStatsFile() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_A2).appendFile(FILE_B).commit();
+    long snapshotId = table.currentSnapshot().snapshotId();
+
+    PartitionStatisticsFile statsFile = PartitionStatsUtil.computeAndWriteStatsFile(table);
+    Assert.assertEquals(
+        "Should compute stats for current snapshot", snapshotId, statsFile.snapshotId());
+    Assert.assertTrue(
+        "Stats file should exist", table.io().newInputFile(statsFile.path()).exists());
+
+    table.updatePartitionStatistics().setPartitionStatistics(statsFile).commit();
+    Assert.assertEquals(
+        "Table metadata should have partition statistics files",
+        ImmutableList.of(statsFile),
+        table.partitionStatisticsFiles());
+    Assert.assertEquals(
+        "Partition statistics files should survive a metadata round trip",
+        ImmutableList.of(statsFile),
+        TableMetadataParser.fromJson(TableMetadataParser.toJson(readMetadata()))
+            .partitionStatisticsFiles());
+    Assert.assertSame(
+        "Should reuse a registered stats file",
+        statsFile,
+        PartitionStatsUtil.computeAndWriteStatsFile(table, snapshotId));
+
+    Map<Integer, PartitionStats> stats = readStats(statsFile);
+    Assert.assertEquals("Should have 2 partitions", 2, stats.size());
+    Assert.assertEquals("Should count records", 2L, stats.get(0).dataRecordCount());
+    Assert.assertEquals("Should count files", 2, stats.get(0).dataFileCount());
+    Assert.assertEquals("Should sum sizes", 20L, stats.get(0).totalDataFileSizeInBytes());
+    Assert.assertEquals("Should count files", 1, stats.get(1).dataFileCount());
+    Assert.assertEquals(
+        "Should track last updated snapshot",
+        Long.valueOf(snapshotId),
+        stats.get(1).lastUpdatedSnapshotId());
+  }
+
+  @Test
+  public void testIncrementalStatsMatchFullStats() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    long baseSnapshotId = table.currentSnapshot().snapshotId();
+    table
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsUtil.computeAndWriteStatsFile(table))
+        .commit();
+
+    table.newFastAppend().appendFile(FILE_C).commit();
+    table.newDelete().deleteFile(FILE_A).commit();
+    if (formatVersion == 2) {
+      table.newRowDelta().addDeletes(FILE_B_DELETES).addDeletes(FILE_C2_DELETES).commit();
+    }
+
+    Map<Integer, PartitionStats> incremental =
+        readStats(PartitionStatsUtil.computeAndWriteStatsFile(table));
+
+    table.updatePartitionStatistics().removePartitionStatistics(baseSnapshotId).commit();
+    Map<Integer, PartitionStats> full =
+        readStats(PartitionStatsUtil.computeAndWriteStatsFile(table));
+
+    Assert.assertEquals(
+        "Should drop partitions without files", full.keySet(), incremental.keySet());
+    Assert.assertFalse("Should not have deleted partition", incremental.containsKey(0));
+    for (Integer partition : full.keySet()) {
+      PartitionStats expected = full.get(partition);
+      PartitionStats actual = incremental.get(partition);
+      for (int pos = 1; pos < expected.size(); pos += 1) {
+        Assert.assertEquals(
+            "Stats should match for partition " + partition, expected.get(pos), actual.get(pos));
+      }
+    }
+  }
+
+  @Test
+  public void testIncrementalStatsReadOnlyNewManifests() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    long baseSnapshotId = table.currentSnapshot().snapshotId();
+    List<ManifestFile> baseManifests = table.currentSnapshot().allManifests(table.io());
+
+    table.newFastAppend().appendFile(FILE_A2).appendFile(FILE_C).commit();
+    if (formatVersion == 2) {
+      table.newRowDelta().addDeletes(FILE_A_DELETES).addDeletes(FILE_C2_DELETES).commit();
+    }
+
+    Map<Integer, PartitionStats> full =
+        readStats(PartitionStatsUtil.computeAndWriteStatsFile(table));
+    table
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsUtil.computeAndWriteStatsFile(table, baseSnapshotId))
+        .commit();
+
+    // the base stats file replaces the base manifests, so removing them should not matter
+    for (ManifestFile manifest : baseManifests) {
+      table.io().deleteFile(manifest.path());
+    }
+
+    Map<Integer, PartitionStats> incremental =
+        readStats(PartitionStatsUtil.computeAndWriteStatsFile(table));
+    assertSameStats(full, incremental);
+  }
+
+  @Test
+  public void testIncrementalStatsAfterDeleteMatchFullStats() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    table.newFastAppend().appendFile(FILE_A2).commit();
+    long baseSnapshotId = table.currentSnapshot().snapshotId();
+    table
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsUtil.computeAndWriteStatsFile(table))
+        .commit();
+
+    // removing the newest file of the partition moves its last update back
+    table.newDelete().deleteFile(FILE_A2).commit();
+
+    Map<Integer, PartitionStats> incremental =
+        readStats(PartitionStatsUtil.computeAndWriteStatsFile(table));
+
+    table.updatePartitionStatistics().removePartitionStatistics(baseSnapshotId).commit();
+    Map<Integer, PartitionStats> full =
+        readStats(PartitionStatsUtil.computeAndWriteStatsFile(table));
+
+    assertSameStats(full, incremental);
+    Assert.assertEquals("Should count the remaining file", 1, incremental.get(0).dataFileCount());
+    Assert.assertEquals(
+        "Should use the snapshot that added the remaining file",
+        table.snapshot(baseSnapshotId).parentId(),
+        incremental.get(0).lastUpdatedSnapshotId());
+  }
+
+  @Test
+  public void testPartitionsTableReadsStatsFile() throws IOException {
+    table.newFastAppend().appendFile(FILE_A).appendFile(FILE_B).commit();
+    table.newFastAppend().appendFile(FILE_A2).appendFile(FILE_C).commit();
+    table.newDelete().deleteFile(FILE_A2).commit();
+    if (formatVersion == 2) {
+      table.newRowDelta().addDeletes(FILE_B_DELETES).commit();
+    }
+
+    List<StructLike> expected = partitionRows(new PartitionsTable(staticTable()));
+
+    table
+        .updatePartitionStatistics()
+        .setPartitionStatistics(PartitionStatsUtil.computeAndWriteStatsFile(table))
+        .commit();
+
+    // the stats file is used instead of manifests, so removing them should not matter
+    for (ManifestFile manifest : table.currentSnapshot().allManifests(table.io())) {
+      table.io().deleteFile(manifest.path());
+    }
+
+    List<StructLike> actual = partitionRows(new PartitionsTable(staticTable()));
+    Assert.assertEquals(
+        "Should have the same number of partitions", expected.size(), actual.size());
+    Map<Integer, StructLike> actualByPartition = Maps.newHashMap();
+    for (StructLike row : actual) {
+      actualByPartition.put(row.get(0, StructLike.class).get(0, Integer.class), row);
+    }
+
+    for (StructLike expectedRow : expected) {
+      StructLike actualRow =
+          actualByPartition.get(expectedRow.get(0, StructLike.class).get(0, Integer.class));
+      for (int pos = 1; pos < expectedRow.size(); pos += 1) {
+        Assert.assertEquals(
+            "Partition rows should match",
+            expectedRow.get(pos, Object.class),
+            actualRow.get(pos, Object.class));
+      }
+    }
+  }
+
+  @Test
+  public void testExpireSnapshotsRemovesStatsFile() {
+    table.newFastAppend().appendFile(FILE_A).commit();
+    PartitionStatisticsFile statsFile = PartitionStatsUtil.computeAndWriteStatsFile(table);
+    table.updatePartitionStatistics().setPartitionStatistics(statsFile).commit();
+
+    table.newFastAppend().appendFile(FILE_B).commit();
+    table.expireSnapshots().expireSnapshotId(statsFile.snapshotId()).commit();
+
+    Assert.assertEquals(
+        "Should remove stats file of expired snapshot",
+        ImmutableList.of(),
+        table.partitionStatisticsFiles());
+    Assert.assertFalse(
+        "Should delete stats file of expired snapshot",
+        table.io().newInputFile(statsFile.path()).exists());
+  }
+
+  private Map<Integer, PartitionStats> readStats(PartitionStatisticsFile statsFile)
+      throws IOException {
+    Schema schema = PartitionStatsUtil.schema(Partitioning.partitionType(table));
+    Map<Integer, PartitionStats> statsByPartition = Maps.newHashMap();
+    try (CloseableIterable<PartitionStats> stats =
+        PartitionStatsUtil.readPartitionStatsFile(
+            schema, table.io().newInputFile(statsFile.path()))) {
+      for (PartitionStats partitionStats : stats) {
+        statsByPartition.put(partitionStats.partition().get(0, Integer.class), partitionStats);
+      }
+    }
+
+    return statsByPartition;
+  }
+
+  private static void assertSameStats(
+      Map<Integer, PartitionStats> expected, Map<Integer, PartitionStats> actual) {
+    Assert.assertEquals("Should have the same partitions", expected.keySet(), actual.keySet());
+    for (Integer partition : expected.keySet()) {
+      PartitionStats expectedStats = expected.get(partition);
+      PartitionStats actualStats = actual.get(partition);
+      for (int pos = 1; pos < expectedStats.size(); pos += 1) {
+        Assert.assertEquals(
+            "Stats should match for partition " + partition,
+            expectedStats.get(pos),
+            actualStats.get(pos));
+      }
+    }
+  }
+
+  private static List<StructLike> partitionRows(Table partitionsTable) throws IOException {
+    List<StructLike> rows = Lists.newArrayList();
+    try (CloseableIterable<FileScanTask> tasks = partitionsTable.newScan().planFiles()) {
+      for (FileScanTask task : tasks) {
+        Iterables.addAll(rows, task.asDataTask().rows());
+      }
+    }
+
+    return rows;
+  }
+}
@@ -31,7 +31,11 @@ import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import org.apache.iceberg.ManifestEntry.Status;
 import org.apache.iceberg.exceptions.ValidationException;
+import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.io.SupportsBulkOperations;
 import org.apache.iceberg.puffin.Blob;
 import org.apache.iceberg.puffin.Puffin;
 import org.apache.iceberg.puffin.PuffinWriter;
@@ -223,6 +227,43 @@ public class TestRemoveSnapshots extends TableTestBase {
         deletedFiles);
   }
 
+  @Test
+  public void testExpireOlderThanWithDeleteInMultiplePasses() {
+    Assume.assumeFalse("Multiple passes only apply to reachable cleanup", incrementalCleanup);
+
+    // keep at most one candidate path in memory to force a pass per deleted data file
+    table
+        .updateProperties()
+        .set(TableProperties.MANIFEST_MIN_MERGE_COUNT, "0")
+        .set(TableProperties.EXPIRE_CLEANUP_MAX_PATHS_IN_MEMORY, "1")
+        .commit();
+
+    table.newAppend().appendFile(FILE_A).appendFile(FILE_B).appendFile(FILE_C).commit();
+
+    Snapshot firstSnapshot = table.currentSnapshot();
+    waitUntilAfter(firstSnapshot.timestampMillis());
+
+    table.newDelete().deleteFile(FILE_A).deleteFile(FILE_B).commit();
+
+    table.newFastAppend().appendFile(FILE_D).commit();
+
+    long tAfterCommits = waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    Set<String> deletedFiles = Sets.newHashSet();
+
+    removeSnapshots(table).expireOlderThan(tAfterCommits).deleteWith(deletedFiles::add).commit();
+
+    Assert.assertNull(
+        "Expire should remove the oldest snapshot", table.snapshot(firstSnapshot.snapshotId()));
+    Assert.assertTrue("Should delete FILE_A", deletedFiles.contains(FILE_A.path().toString()));
+    Assert.assertTrue("Should delete FILE_B", deletedFiles.contains(FILE_B.path().toString()));
+    Assert.assertFalse("Should keep FILE_C", deletedFiles.contains(FILE_C.path().toString()));
+    Assert.assertFalse("Should keep FILE_D", deletedFiles.contains(FILE_D.path().toString()));
+    Assert.assertTrue(
+        "Should delete the expired manifest list",
+        deletedFiles.contains(firstSnapshot.manifestListLocation()));
+  }
+
   @Test
   public void testExpireOlderThanWithRollback() {
     // merge every commit
@@ -1591,6 +1632,39 @@ public class TestRemoveSnapshots extends TableTestBase {
     Assert.assertEquals(expectedDeletes, deletedFiles);
   }
 
+  @Test
+  public void testExpireUsesBulkDeletes() {
+    table.newAppend().appendFile(FILE_A).commit();
+
+    Snapshot firstSnapshot = table.currentSnapshot();
+    waitUntilAfter(firstSnapshot.timestampMillis());
+
+    table.newDelete().deleteFile(FILE_A).commit();
+
+    table.newAppend().appendFile(FILE_B).commit();
+
+    long tAfterCommits = waitUntilAfter(table.currentSnapshot().timestampMillis());
+
+    BulkDeletingFileIO bulkIO = new BulkDeletingFileIO(table.io());
+    TestTables.TestTableOperations ops =
+        new TestTables.TestTableOperations("test", tableDir) {
+          @Override
+          public FileIO io() {
+            return bulkIO;
+          }
+        };
+    Table bulkTable = new BaseTable(ops, "test");
+
+    // bulk deletion failures are logged and do not fail the expiration
+    removeSnapshots(bulkTable).expireOlderThan(tAfterCommits).commit();
+
+    Assert.assertNull(
+        "Expire should remove the oldest snapshot", bulkTable.snapshot(firstSnapshot.snapshotId()));
+    Assert.assertTrue("Should use bulk deletes", bulkIO.bulkDeleteCalls.get() > 0);
+    Assertions.assertThat(bulkIO.deletedPaths)
+        .contains(FILE_A.path().toString(), firstSnapshot.manifestListLocation());
+  }
+
   private Set<String> manifestPaths(Snapshot snapshot, FileIO io) {
     return snapshot.allManifests(io).stream().map(ManifestFile::path).collect(Collectors.toSet());
   }
@@ -1641,4 +1715,42 @@ public class TestRemoveSnapshots extends TableTestBase {
     String statsFileName = "stats-file-" + UUID.randomUUID();
     return tableLocation + "/metadata/" + statsFileName;
   }
+
+  /** A FileIO that records bulk deletes and fails each of them without deleting files. */
+  private static class BulkDeletingFileIO implements SupportsBulkOperations {
+    private final FileIO io;
+    private final Set<String> deletedPaths = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger bulkDeleteCalls = new AtomicInteger(0);
+
+    private BulkDeletingFileIO(FileIO io) {
+      this.io = io;
+    }
+
+    @Override
+    public InputFile newInputFile(String path) {
+      return io.newInputFile(path);
+    }
+
+    @Override
+    public OutputFile newOutputFile(String path) {
+      return io.newOutputFile(path);
+    }
+
+    @Override
+    public void deleteFile(String path) {
+      throw new UnsupportedOperationException("Should use bulk deletes: " + path);
+    }
+
+    @Override
+    public void deleteFiles(Iterable<String> pathsToDelete) {
+      bulkDeleteCalls.incrementAndGet();
+      int failed = 0;
+      for (String path : pathsToDelete) {
+        deletedPaths.add(path);
+        failed += 1;
+      }
+
+      throw new BulkDeletionFailureException(failed);
+    }
+  }
 }
@@ -25,6 +25,7 @@ import static org.mockito.Mockito.when;
 
 import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
@@ -35,7 +36,12 @@ import org.apache.iceberg.exceptions.CommitFailedException;
 import org.apache.iceberg.exceptions.RuntimeIOException;
 import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.expressions.Expressions;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.LowerBoundSortKey;
 import org.junit.Assert;
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -292,6 +298,47 @@ public class TestRewriteManifests extends TableTestBase {
         manifests.get(1), ids(appendId), files(FILE_B), statuses(ManifestEntry.Status.EXISTING));
   }
 
+  @Test
+  public void testReplaceManifestsSortedByLowerBounds() {
+    Table table = load();
+    table.updateProperties().set(TableProperties.MANIFEST_COLUMN_BOUNDS, "id").commit();
+    int idFieldId = table.schema().findField("id").fieldId();
+
+    DataFile file10 = fileWithLowerBound("/path/to/data-10.parquet", idFieldId, 10);
+    DataFile file20 = fileWithLowerBound("/path/to/data-20.parquet", idFieldId, 20);
+    DataFile file30 = fileWithLowerBound("/path/to/data-30.parquet", idFieldId, 30);
+    DataFile fileNeg = fileWithLowerBound("/path/to/data-neg.parquet", idFieldId, -5);
+    table.newFastAppend().appendFile(file30).appendFile(file10).commit();
+    table.newFastAppend().appendFile(fileNeg).appendFile(file20).commit();
+
+    // a small target size creates one manifest per entry, in the sort order
+    BaseRewriteManifests rewriteManifests = spy((BaseRewriteManifests) table.rewriteManifests());
+    when(rewriteManifests.getManifestTargetSizeBytes()).thenReturn(1L);
+    LowerBoundSortKey sortKey = LowerBoundSortKey.of(table.schema(), ImmutableList.of("id"));
+    rewriteManifests
+        .clusterBy(file -> "file")
+        .sortBy(sortKey::key, LowerBoundSortKey.keyComparator())
+        .commit();
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    Assert.assertEquals(4, manifests.size());
+
+    List<DataFile> expectedOrder = ImmutableList.of(fileNeg, file10, file20, file30);
+    for (int index = 0; index < expectedOrder.size(); index += 1) {
+      ManifestFile manifest = manifests.get(index);
+      DataFile expected = expectedOrder.get(index);
+      Assert.assertEquals(
+          expected.path(),
+          Iterables.getOnlyElement(ManifestFiles.read(manifest, table.io())).path());
+
+      if (formatVersion > 1) {
+        // the summaries of sorted manifests let planning skip them by id
+        Assert.assertEquals(expected.lowerBounds(), manifest.columnLowerBounds());
+        Assert.assertEquals(expected.upperBounds(), manifest.columnUpperBounds());
+      }
+    }
+  }
+
   @Test
   public void testConcurrentRewriteManifest() throws IOException {
     Table table = load();
@@ -1102,6 +1149,24 @@ public class TestRewriteManifests extends TableTestBase {
         () -> table.rewriteManifests().toBranch("someBranch").commit());
   }
 
+  private static DataFile fileWithLowerBound(String path, int fieldId, int lowerBound) {
+    ByteBuffer bound = Conversions.toByteBuffer(Types.IntegerType.get(), lowerBound);
+    return DataFiles.builder(SPEC)
+        .withPath(path)
+        .withFileSizeInBytes(10)
+        .withPartitionPath("data_bucket=0")
+        .withMetrics(
+            new Metrics(
+                1L,
+                null,
+                null,
+                null,
+                null,
+                ImmutableMap.of(fieldId, bound),
+                ImmutableMap.of(fieldId, bound)))
+        .build();
+  }
+
   private void validateSummary(
       Snapshot snapshot, int replaced, int kept, int created, int entryCount) {
     Map<String, String> summary = snapshot.summary();
@@ -168,6 +168,7 @@ public class TestTableMetadata {
             ImmutableList.of(),
             refs,
             statisticsFiles,
+            ImmutableList.of(),
             ImmutableList.of());
 
     String asJson = TableMetadataParser.toJson(expected);
@@ -290,6 +291,7 @@ public class TestTableMetadata {
             ImmutableList.of(),
             ImmutableMap.of(),
             ImmutableList.of(),
+            ImmutableList.of(),
             ImmutableList.of());
 
     String asJson = toJsonWithoutSpecAndSchemaList(expected);
@@ -434,6 +436,7 @@ public class TestTableMetadata {
                 ImmutableList.of(),
                 refs,
                 ImmutableList.of(),
+                ImmutableList.of(),
                 ImmutableList.of()));
   }
 
@@ -479,6 +482,7 @@ public class TestTableMetadata {
                 ImmutableList.of(),
                 refs,
                 ImmutableList.of(),
+                ImmutableList.of(),
                 ImmutableList.of()));
   }
 
@@ -519,6 +523,7 @@ public class TestTableMetadata {
                 ImmutableList.of(),
                 refs,
                 ImmutableList.of(),
+                ImmutableList.of(),
                 ImmutableList.of()));
   }
 
@@ -620,6 +625,7 @@ public class TestTableMetadata {
             ImmutableList.copyOf(previousMetadataLog),
             ImmutableMap.of(),
             ImmutableList.of(),
+            ImmutableList.of(),
             ImmutableList.of());
 
     String asJson = TableMetadataParser.toJson(base);
@@ -699,6 +705,7 @@ public class TestTableMetadata {
             ImmutableList.copyOf(previousMetadataLog),
             ImmutableMap.of(),
             ImmutableList.of(),
+            ImmutableList.of(),
             ImmutableList.of());
 
     previousMetadataLog.add(latestPreviousMetadata);
@@ -796,6 +803,7 @@ public class TestTableMetadata {
             ImmutableList.copyOf(previousMetadataLog),
             ImmutableMap.of(),
             ImmutableList.of(),
+            ImmutableList.of(),
             ImmutableList.of());
 
     previousMetadataLog.add(latestPreviousMetadata);
@@ -899,6 +907,7 @@ public class TestTableMetadata {
             ImmutableList.copyOf(previousMetadataLog),
             ImmutableMap.of(),
             ImmutableList.of(),
+            ImmutableList.of(),
             ImmutableList.of());
 
     previousMetadataLog.add(latestPreviousMetadata);
@@ -950,6 +959,7 @@ public class TestTableMetadata {
                 ImmutableList.of(),
                 ImmutableMap.of(),
                 ImmutableList.of(),
+                ImmutableList.of(),
                 ImmutableList.of()));
   }
 
@@ -984,6 +994,7 @@ public class TestTableMetadata {
                 ImmutableList.of(),
                 ImmutableMap.of(),
                 ImmutableList.of(),
+                ImmutableList.of(),
                 ImmutableList.of()));
   }
 
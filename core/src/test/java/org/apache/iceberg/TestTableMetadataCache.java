@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.apache.iceberg.io.FileIO;
+import org.apache.iceberg.io.InputFile;
+import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.types.Types;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestTableMetadataCache {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  @After
+  public void clearCache() {
+    TableMetadataCache.invalidateAll();
+  }
+
+  @Test
+  public void testCachedMetadataIsShared() throws IOException {
+    String location = writeMetadata();
+    CountingFileIO io = new CountingFileIO();
+
+    TableMetadata first = TableMetadataCache.read(io, location, true);
+    TableMetadata second = TableMetadataCache.read(io, location, true);
+
+    Assert.assertSame("Should reuse parsed metadata for the same FileIO", first, second);
+    Assert.assertEquals("Should read the metadata file once", 1, io.newInputFiles.get());
+    Assert.assertEquals("Should set the metadata location", location, first.metadataFileLocation());
+  }
+
+  @Test
+  public void testCacheIsScopedToFileIO() throws IOException {
+    String location = writeMetadata();
+    CountingFileIO io = new CountingFileIO();
+    CountingFileIO otherIO = new CountingFileIO();
+
+    TableMetadata first = TableMetadataCache.read(io, location, true);
+    TableMetadata second = TableMetadataCache.read(otherIO, location, true);
+
+    Assert.assertNotSame("Should not share metadata across FileIO instances", first, second);
+    Assert.assertEquals("Should read through the first FileIO once", 1, io.newInputFiles.get());
+    Assert.assertEquals(
+        "Should read through the second FileIO once", 1, otherIO.newInputFiles.get());
+    Assert.assertEquals("Should cache an entry per FileIO", 2, TableMetadataCache.estimatedSize());
+
+    TableMetadataCache.invalidate(location);
+    Assert.assertEquals(
+        "Should invalidate for every FileIO", 0, TableMetadataCache.estimatedSize());
+  }
+
+  @Test
+  public void testInvalidate() throws IOException {
+    String location = writeMetadata();
+    CountingFileIO io = new CountingFileIO();
+
+    TableMetadata first = TableMetadataCache.read(io, location, true);
+    TableMetadataCache.invalidate(location);
+    TableMetadata second = TableMetadataCache.read(io, location, true);
+
+    Assert.assertNotSame("Should reload metadata after invalidation", first, second);
+    Assert.assertEquals("Should read the metadata file twice", 2, io.newInputFiles.get());
+  }
+
+  @Test
+  public void testDisabledCacheAlwaysReads() throws IOException {
+    String location = writeMetadata();
+    CountingFileIO io = new CountingFileIO();
+
+    TableMetadata first = TableMetadataCache.read(io, location, false);
+    TableMetadata second = TableMetadataCache.read(io, location, false);
+
+    Assert.assertNotSame("Should not cache metadata", first, second);
+    Assert.assertEquals("Should read the metadata file twice", 2, io.newInputFiles.get());
+    Assert.assertEquals("Should not populate the cache", 0, TableMetadataCache.estimatedSize());
+  }
+
+  private String writeMetadata() throws IOException {
+    File tableDir = temp.newFolder();
+    TableMetadata metadata =
+        TableMetadata.newTableMetadata(
+            SCHEMA,
+            PartitionSpec.unpartitioned(),
+            SortOrder.unsorted(),
+            tableDir.toURI().toString(),
+            ImmutableMap.of());
+    File metadataFile = new File(tableDir, "00000-" + UUID.randomUUID() + ".metadata.json");
+    OutputFile out = Files.localOutput(metadataFile);
+    TableMetadataParser.write(metadata, out);
+    return metadataFile.getAbsolutePath();
+  }
+
+  private static class CountingFileIO implements FileIO {
+    private final AtomicInteger newInputFiles = new AtomicInteger(0);
+
+    @Override
+    public InputFile newInputFile(String path) {
+      newInputFiles.incrementAndGet();
+      return Files.localInput(path);
+    }
+
+    @Override
+    public OutputFile newOutputFile(String path) {
+      return Files.localOutput(path);
+    }
+
+    @Override
+    public void deleteFile(String path) {
+      new File(path).delete();
+    }
+  }
+}
@@ -37,6 +37,22 @@ public class TestableCachingCatalog extends CachingCatalog {
         catalog, true /* caseSensitive */, expirationInterval, ticker);
   }
 
+  /** Wraps a catalog with background refreshes that run synchronously in the calling thread. */
+  public static TestableCachingCatalog wrap(
+      Catalog catalog,
+      Duration expirationInterval,
+      Duration refreshInterval,
+      Duration maxStaleness,
+      Ticker ticker) {
+    return new TestableCachingCatalog(
+        catalog,
+        true /* caseSensitive */,
+        expirationInterval,
+        refreshInterval,
+        maxStaleness,
+        ticker);
+  }
+
   private final Duration cacheExpirationInterval;
 
   TestableCachingCatalog(
@@ -45,6 +61,28 @@ public class TestableCachingCatalog extends CachingCatalog {
     this.cacheExpirationInterval = expirationInterval;
   }
 
+  TestableCachingCatalog(
+      Catalog catalog,
+      boolean caseSensitive,
+      Duration expirationInterval,
+      Duration refreshInterval,
+      Duration maxStaleness,
+      Ticker ticker) {
+    super(
+        catalog,
+        caseSensitive,
+        expirationInterval.toMillis(),
+        refreshInterval != null
+            ? refreshInterval.toMillis()
+            : CatalogProperties.CACHE_REFRESH_INTERVAL_MS_OFF,
+        maxStaleness != null
+            ? maxStaleness.toMillis()
+            : CatalogProperties.CACHE_MAX_STALENESS_MS_OFF,
+        ticker,
+        Runnable::run);
+    this.cacheExpirationInterval = expirationInterval;
+  }
+
   public Cache<TableIdentifier, Table> cache() {
     // cleanUp must be called as tests apply assertions directly on the underlying map, but metadata
     // table
@@ -82,4 +82,54 @@ public class TestAvroReadProjection extends TestReadProjection {
         values2,
         ((Map<Long, List<Long>>) projected.get("map")).get(200L));
   }
+
+  @Test
+  public void testPromotedAndSkippedFields() throws IOException {
+    Schema writeSchema =
+        new Schema(
+            Types.NestedField.required(1, "count", Types.IntegerType.get()),
+            Types.NestedField.optional(
+                2,
+                "location",
+                Types.StructType.of(
+                    Types.NestedField.required(3, "lat", Types.FloatType.get()),
+                    Types.NestedField.required(4, "long", Types.FloatType.get()))),
+            Types.NestedField.optional(
+                5, "tags", Types.ListType.ofOptional(6, Types.StringType.get())),
+            Types.NestedField.optional(
+                7,
+                "properties",
+                Types.MapType.ofOptional(8, 9, Types.StringType.get(), Types.IntegerType.get())),
+            Types.NestedField.required(10, "score", Types.FloatType.get()),
+            Types.NestedField.optional(11, "data", Types.StringType.get()));
+
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(writeSchema, "table");
+    GenericData.Record location =
+        new GenericData.Record(avroSchema.getField("location").schema().getTypes().get(1));
+    location.put("lat", 52.995143f);
+    location.put("long", -1.539054f);
+
+    GenericData.Record record = new GenericData.Record(avroSchema);
+    record.put("count", 34);
+    record.put("location", location);
+    record.put("tags", ImmutableList.of("a", "b"));
+    record.put("properties", ImmutableMap.of("x", 1));
+    record.put("score", 0.5f);
+    record.put("data", "test");
+
+    Schema readSchema =
+        new Schema(
+            Types.NestedField.optional(11, "data", Types.StringType.get()),
+            Types.NestedField.optional(12, "note", Types.StringType.get()),
+            Types.NestedField.required(10, "score", Types.DoubleType.get()),
+            Types.NestedField.required(1, "count", Types.LongType.get()));
+
+    GenericData.Record projected =
+        writeAndRead("promoted_skipped", writeSchema, readSchema, record);
+    Assert.assertEquals("Should contain the data value", "test", projected.get("data").toString());
+    // missing fields are projected with a suffixed name, so check by position
+    Assert.assertNull("Should not read a missing field", projected.get(1));
+    Assert.assertEquals("Should promote score", 0.5D, projected.get("score"));
+    Assert.assertEquals("Should promote count", 34L, projected.get("count"));
+  }
 }
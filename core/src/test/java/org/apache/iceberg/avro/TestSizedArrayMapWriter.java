@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.avro;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Map;
+import org.apache.avro.Schema;
+import org.apache.avro.generic.GenericData;
+import org.apache.avro.generic.GenericDatumReader;
+import org.apache.avro.io.BinaryDecoder;
+import org.apache.avro.io.BinaryEncoder;
+import org.apache.avro.io.DecoderFactory;
+import org.apache.avro.io.EncoderFactory;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.types.Types;
+import org.junit.jupiter.api.Test;
+
+public class TestSizedArrayMapWriter {
+  private static final Map<Integer, ByteBuffer> BOUNDS =
+      ImmutableMap.of(
+          1, ByteBuffer.wrap(new byte[] {1, 2, 3}),
+          2, ByteBuffer.wrap(new byte[] {4}),
+          3, ByteBuffer.wrap(new byte[0]));
+
+  @Test
+  public void testReadSizedBlock() throws IOException {
+    BinaryDecoder decoder = decoder(write(BOUNDS));
+
+    Map<Integer, ByteBuffer> read =
+        ValueReaders.arrayMap(ValueReaders.ints(), ValueReaders.byteBuffers()).read(decoder, null);
+    assertThat(read).isEqualTo(BOUNDS);
+    assertThat(decoder.readLong()).isEqualTo(34L);
+  }
+
+  @Test
+  public void testSkipSizedBlock() throws IOException {
+    BinaryDecoder decoder = decoder(write(BOUNDS));
+
+    // the block is skipped using its size, so there are no entries left to skip one by one
+    assertThat(decoder.skipArray()).isEqualTo(0L);
+    assertThat(decoder.readLong()).isEqualTo(34L);
+  }
+
+  @Test
+  public void testEmptyMap() throws IOException {
+    BinaryDecoder decoder = decoder(write(ImmutableMap.of()));
+
+    assertThat(decoder.readArrayStart()).isEqualTo(0L);
+    assertThat(decoder.readLong()).isEqualTo(34L);
+  }
+
+  @Test
+  public void testReadWithAvroGenericDatumReader() throws IOException {
+    org.apache.iceberg.Schema schema =
+        new org.apache.iceberg.Schema(
+            Types.NestedField.required(
+                1,
+                "bounds",
+                Types.MapType.ofRequired(2, 3, Types.IntegerType.get(), Types.BinaryType.get())),
+            Types.NestedField.required(4, "id", Types.LongType.get()));
+    Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct(), "test");
+
+    GenericData.Record record = new GenericData.Record(avroSchema);
+    record.put("bounds", BOUNDS);
+    record.put("id", 34L);
+
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    GenericAvroWriter.<GenericData.Record>create(avroSchema).write(record, encoder);
+    encoder.flush();
+
+    // a plain Avro reader decodes the sized block like any other array block
+    GenericData.Record read =
+        new GenericDatumReader<GenericData.Record>(avroSchema)
+            .read(null, decoder(out.toByteArray()));
+
+    Map<Integer, ByteBuffer> readBounds = Maps.newHashMap();
+    for (Object entry : (List<?>) read.get("bounds")) {
+      GenericData.Record keyValue = (GenericData.Record) entry;
+      readBounds.put((Integer) keyValue.get("key"), (ByteBuffer) keyValue.get("value"));
+    }
+
+    assertThat(readBounds).isEqualTo(BOUNDS);
+    assertThat(read.get("id")).isEqualTo(34L);
+  }
+
+  private static byte[] write(Map<Integer, ByteBuffer> map) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    BinaryEncoder encoder = EncoderFactory.get().binaryEncoder(out, null);
+    ValueWriters.sizedArrayMap(ValueWriters.ints(), ValueWriters.byteBuffers()).write(map, encoder);
+    encoder.writeLong(34L);
+    encoder.flush();
+    return out.toByteArray();
+  }
+
+  private static BinaryDecoder decoder(byte[] bytes) {
+    return DecoderFactory.get().binaryDecoder(bytes, null);
+  }
+}
@@ -702,6 +702,32 @@ public abstract class CatalogTests<C extends Catalog & SupportsNamespaces> {
     Assertions.assertThat(table.name()).isEqualTo(catalog.name() + "." + metaIdent);
   }
 
+  @Test
+  public void testLoadTables() {
+    C catalog = catalog();
+
+    TableIdentifier missing = TableIdentifier.of(NS, "missing");
+    TableIdentifier metaIdent = TableIdentifier.of(NS.level(0), "table", "files");
+
+    if (requiresNamespaceCreate()) {
+      catalog.createNamespace(NS);
+    }
+
+    catalog.buildTable(TABLE, SCHEMA).create();
+    catalog.buildTable(RENAMED_TABLE, SCHEMA).create();
+
+    Map<TableIdentifier, Table> tables =
+        catalog.loadTables(ImmutableList.of(RENAMED_TABLE, missing, TABLE, metaIdent));
+    Assertions.assertThat(tables.keySet())
+        .as("Should load existing tables in request order and skip missing tables")
+        .containsExactly(RENAMED_TABLE, TABLE, metaIdent);
+    Assertions.assertThat(tables.get(TABLE).name()).isEqualTo(catalog.name() + "." + TABLE);
+    Assertions.assertThat(tables.get(RENAMED_TABLE).schema().asStruct())
+        .isEqualTo(TABLE_SCHEMA.asStruct());
+    Assertions.assertThat(tables.get(metaIdent)).isInstanceOf(FilesTable.class);
+    Assertions.assertThat(catalog.loadTables(ImmutableList.of(missing))).isEmpty();
+  }
+
   @Test
   public void testLoadMissingTable() {
     C catalog = catalog();
@@ -0,0 +1,139 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.TreeSet;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.Test;
+
+public class TestExternalPositionSorter {
+
+  @Test
+  public void testInMemorySort() throws IOException {
+    try (ExternalPositionSorter sorter = new ExternalPositionSorter(1024 * 1024)) {
+      sorter.add("file_b.parquet", 7L);
+      sorter.add(new Utf8("file_a.parquet"), 3L);
+      sorter.add("file_b.parquet", 1L);
+      sorter.add("file_a.parquet", 3L);
+      sorter.add("file_a.parquet", 0L);
+
+      assertThat(sorter.spilledRuns()).isEqualTo(0);
+      assertThat(sorted(sorter))
+          .containsExactly(
+              Pair.of("file_a.parquet", 0L),
+              Pair.of("file_a.parquet", 3L),
+              Pair.of("file_b.parquet", 1L),
+              Pair.of("file_b.parquet", 7L));
+    }
+  }
+
+  @Test
+  public void testSpilledRunsAreMerged() throws IOException {
+    Random random = new Random(42);
+    Set<Pair<String, Long>> expected =
+        new TreeSet<>(
+            Comparator.<Pair<String, Long>, String>comparing(Pair::first)
+                .thenComparing(Pair::second));
+
+    // a budget of 10 positions forces many spilled runs
+    try (ExternalPositionSorter sorter = new ExternalPositionSorter(200)) {
+      for (int i = 0; i < 1000; i += 1) {
+        String path = "file_" + random.nextInt(20) + ".parquet";
+        long position = random.nextInt(100);
+        sorter.add(path, position);
+        expected.add(Pair.of(path, position));
+      }
+
+      assertThat(sorter.spilledRuns()).isGreaterThan(1);
+      assertThat(sorted(sorter)).containsExactlyElementsOf(expected);
+    }
+  }
+
+  @Test
+  public void testEmptySorter() throws IOException {
+    try (ExternalPositionSorter sorter = new ExternalPositionSorter(1024)) {
+      assertThat(sorted(sorter)).isEmpty();
+    }
+  }
+
+  @Test
+  public void testClosedSorter() {
+    ExternalPositionSorter sorter = new ExternalPositionSorter(1024);
+    sorter.close();
+
+    assertThatThrownBy(() -> sorter.add("file_a.parquet", 1L))
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Cannot add positions to a closed sorter");
+  }
+
+  @Test
+  public void testCloseDeletesSpilledRuns() throws IOException {
+    List<File> runs;
+    try (ExternalPositionSorter sorter = new ExternalPositionSorter(200)) {
+      for (int i = 0; i < 100; i += 1) {
+        sorter.add("file_a.parquet", i);
+      }
+
+      runs = sorter.spilledRunFiles();
+      assertThat(runs).isNotEmpty().allMatch(File::exists);
+    }
+
+    assertThat(runs).noneMatch(File::exists);
+  }
+
+  @Test
+  public void testFailedReadDeletesSpilledRunsOnClose() {
+    ExternalPositionSorter sorter = new ExternalPositionSorter(200);
+    for (int i = 0; i < 100; i += 1) {
+      sorter.add("file_a.parquet", i);
+    }
+
+    List<File> runs = sorter.spilledRunFiles();
+    assertThatThrownBy(
+            () -> {
+              try (ExternalPositionSorter closing = sorter) {
+                closing.forEach(
+                    (path, position) -> {
+                      throw new IllegalStateException("Failed to write " + path);
+                    });
+              }
+            })
+        .isInstanceOf(IllegalStateException.class)
+        .hasMessage("Failed to write file_a.parquet");
+
+    assertThat(runs).isNotEmpty().noneMatch(File::exists);
+  }
+
+  private static List<Pair<String, Long>> sorted(ExternalPositionSorter sorter) throws IOException {
+    List<Pair<String, Long>> result = Lists.newArrayList();
+    sorter.forEach((path, position) -> result.add(Pair.of(path.toString(), position)));
+    return result;
+  }
+}
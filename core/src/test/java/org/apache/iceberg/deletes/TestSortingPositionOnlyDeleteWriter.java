@@ -0,0 +1,90 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.deletes;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.util.List;
+import org.apache.iceberg.io.DeleteWriteResult;
+import org.apache.iceberg.io.FileWriter;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class TestSortingPositionOnlyDeleteWriter {
+  private static final List<Pair<String, Long>> EXPECTED =
+      ImmutableList.of(
+          Pair.of("file_a.parquet", 0L),
+          Pair.of("file_a.parquet", 4L),
+          Pair.of("file_a.parquet", 5L),
+          Pair.of("file_b.parquet", 1L),
+          Pair.of("file_b.parquet", 2L));
+
+  @ParameterizedTest
+  @ValueSource(longs = {-1L, 1L})
+  public void testRepeatedAndInterleavedPaths(long spillThreshold) throws IOException {
+    String fileA = "file_a.parquet";
+    String fileB = "file_b.parquet";
+    CollectingWriter collector = new CollectingWriter();
+    SortingPositionOnlyDeleteWriter<Object> writer =
+        new SortingPositionOnlyDeleteWriter<>(collector, spillThreshold);
+
+    PositionDelete<Object> delete = PositionDelete.create();
+    writer.write(delete.set(fileB, 2L, null));
+    writer.write(delete.set(fileB, 1L, null));
+    writer.write(delete.set(fileA, 5L, null));
+    writer.write(delete.set(fileA, 0L, null));
+    writer.write(delete.set(fileB, 2L, null));
+    writer.write(delete.set(new StringBuilder("file_a").append(".parquet"), 4L, null));
+    writer.write(delete.set(fileA, 4L, null));
+    writer.close();
+
+    assertThat(collector.deletes).isEqualTo(EXPECTED);
+    assertThat(collector.closed).isTrue();
+  }
+
+  private static class CollectingWriter
+      implements FileWriter<PositionDelete<Object>, DeleteWriteResult> {
+    private final List<Pair<String, Long>> deletes = Lists.newArrayList();
+    private boolean closed = false;
+
+    @Override
+    public void write(PositionDelete<Object> delete) {
+      deletes.add(Pair.of(delete.path().toString(), delete.pos()));
+    }
+
+    @Override
+    public long length() {
+      return 0;
+    }
+
+    @Override
+    public DeleteWriteResult result() {
+      return new DeleteWriteResult(ImmutableList.of());
+    }
+
+    @Override
+    public void close() {
+      this.closed = true;
+    }
+  }
+}
@@ -24,6 +24,7 @@ import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Locale;
+import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
@@ -97,6 +98,25 @@ public class TestCachingCatalog extends HadoopTableTestBase {
     Assertions.assertThat(manifestsMetaTable2.currentSnapshot()).isEqualTo(table.currentSnapshot());
   }
 
+  @Test
+  public void testLoadTablesUsesCache() throws Exception {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(hadoopCatalog(), EXPIRATION_TTL, ticker);
+    TableIdentifier cachedIdent = TableIdentifier.of("db", "cached");
+    TableIdentifier otherIdent = TableIdentifier.of("db", "other");
+    TableIdentifier missingIdent = TableIdentifier.of("db", "missing");
+    Table cached = catalog.createTable(cachedIdent, SCHEMA, SPEC, ImmutableMap.of());
+    catalog.createTable(otherIdent, SCHEMA, SPEC, ImmutableMap.of());
+    catalog.invalidateTable(otherIdent);
+
+    Map<TableIdentifier, Table> tables =
+        catalog.loadTables(Arrays.asList(otherIdent, missingIdent, cachedIdent));
+    Assertions.assertThat(tables.keySet()).containsExactly(otherIdent, cachedIdent);
+    Assertions.assertThat(tables.get(cachedIdent)).isSameAs(cached);
+    Assertions.assertThat(catalog.cache().asMap()).containsKey(otherIdent);
+    Assertions.assertThat(catalog.loadTable(otherIdent)).isSameAs(tables.get(otherIdent));
+  }
+
   @Test
   public void testInvalidateMetadataTablesIfBaseTableIsDropped() throws IOException {
     Catalog catalog = CachingCatalog.wrap(hadoopCatalog());
@@ -194,6 +214,104 @@ public class TestCachingCatalog extends HadoopTableTestBase {
         .isNotSameAs(table);
   }
 
+  @Test
+  public void testRefreshAheadRefreshesAccessedTables() throws IOException {
+    Catalog underlying = hadoopCatalog();
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(
+            underlying, EXPIRATION_TTL, HALF_OF_EXPIRATION.minusSeconds(30), null, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of());
+    // the created table refreshes on first access, read it before the table is changed
+    Assertions.assertThat(table.currentSnapshot()).isNull();
+
+    // commit through the underlying catalog so that the cached table is out of date
+    underlying.loadTable(tableIdent).newAppend().appendFile(FILE_A).commit();
+    Snapshot newSnapshot = underlying.loadTable(tableIdent).currentSnapshot();
+    Assertions.assertThat(catalog.loadTable(tableIdent).currentSnapshot()).isNull();
+
+    ticker.advance(HALF_OF_EXPIRATION);
+    Assertions.assertThat(catalog.loadTable(tableIdent))
+        .as("CachingCatalog should return the cached instance while refreshing")
+        .isSameAs(table);
+    Assertions.assertThat(table.currentSnapshot())
+        .as("Cached table should be refreshed in the background")
+        .isEqualTo(newSnapshot);
+
+    CachingCatalog.TableCacheMetrics metrics = catalog.metrics().get(tableIdent);
+    Assertions.assertThat(metrics.hits().value()).isEqualTo(2);
+    Assertions.assertThat(metrics.loads().count()).isEqualTo(0);
+    Assertions.assertThat(metrics.refreshes().count()).isEqualTo(1);
+  }
+
+  @Test
+  public void testStaleWhileRevalidate() throws IOException {
+    Catalog underlying = hadoopCatalog();
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(
+            underlying, EXPIRATION_TTL, null, EXPIRATION_TTL.multipliedBy(3), ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "tbl");
+    Table table = catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of());
+    underlying.loadTable(tableIdent).newAppend().appendFile(FILE_A).commit();
+
+    // a stale table is returned and refreshed instead of expiring after the expiration interval
+    ticker.advance(EXPIRATION_TTL.plus(HALF_OF_EXPIRATION));
+    Assertions.assertThat(catalog.loadTable(tableIdent)).isSameAs(table);
+    Assertions.assertThat(table.currentSnapshot()).isNotNull();
+
+    CachingCatalog.TableCacheMetrics metrics = catalog.metrics().get(tableIdent);
+    Assertions.assertThat(metrics.hits().value()).isEqualTo(1);
+    Assertions.assertThat(metrics.refreshes().count()).isEqualTo(1);
+
+    // tables that are not refreshed within the max staleness are loaded again
+    ticker.advance(EXPIRATION_TTL.multipliedBy(3));
+    catalog.cache().cleanUp();
+    Assertions.assertThat(catalog.cache().asMap()).doesNotContainKey(tableIdent);
+    Assertions.assertThat(catalog.metrics())
+        .as("Metrics of evicted tables should be removed")
+        .doesNotContainKey(tableIdent);
+    Assertions.assertThat(catalog.loadTable(tableIdent)).isNotSameAs(table);
+
+    metrics = catalog.metrics().get(tableIdent);
+    Assertions.assertThat(metrics.hits().value()).isEqualTo(0);
+    Assertions.assertThat(metrics.loads().count()).isEqualTo(1);
+    Assertions.assertThat(metrics.refreshes().count()).isEqualTo(0);
+  }
+
+  @Test
+  public void testEvictionRemovesMetrics() throws IOException {
+    TestableCachingCatalog catalog =
+        TestableCachingCatalog.wrap(hadoopCatalog(), EXPIRATION_TTL, ticker);
+    TableIdentifier tableIdent = TableIdentifier.of("db", "tbl");
+    catalog.createTable(tableIdent, SCHEMA, SPEC, ImmutableMap.of());
+    catalog.loadTable(tableIdent);
+    Assertions.assertThat(catalog.metrics()).containsKey(tableIdent);
+
+    ticker.advance(EXPIRATION_TTL.plus(Duration.ofSeconds(10)));
+    catalog.cache().cleanUp();
+    Assertions.assertThat(catalog.cache().asMap()).isEmpty();
+    Assertions.assertThat(catalog.metrics())
+        .as("Metrics of evicted tables should be removed")
+        .isEmpty();
+  }
+
+  @Test
+  public void testInvalidRefreshConfiguration() throws IOException {
+    Catalog underlying = hadoopCatalog();
+    Assertions.assertThatThrownBy(
+            () ->
+                TestableCachingCatalog.wrap(
+                    underlying, EXPIRATION_TTL, EXPIRATION_TTL, null, ticker))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid cache.refresh-interval-ms");
+    Assertions.assertThatThrownBy(
+            () ->
+                TestableCachingCatalog.wrap(
+                    underlying, EXPIRATION_TTL, null, HALF_OF_EXPIRATION, ticker))
+        .isInstanceOf(IllegalArgumentException.class)
+        .hasMessageStartingWith("Invalid cache.max-staleness-ms");
+  }
+
   @Test
   public void testCatalogExpirationTtlRefreshesAfterAccessViaCatalog() throws IOException {
     TestableCachingCatalog catalog =
@@ -459,6 +459,23 @@ public class TestJdbcCatalog extends CatalogTests<JdbcCatalog> {
         .hasMessage("Namespace does not exist: db.ns1.ns2");
   }
 
+  @Test
+  public void testListTablesInPages() {
+    JdbcCatalog pagedCatalog =
+        initCatalog("paged_catalog", ImmutableMap.of(JdbcUtil.LIST_PAGE_SIZE_PROPERTY, "2"));
+    List<TableIdentifier> expected = Lists.newArrayList();
+    for (int i = 0; i < 5; i += 1) {
+      TableIdentifier ident = TableIdentifier.of("db", "tbl" + i);
+      pagedCatalog.createTable(ident, SCHEMA, PartitionSpec.unpartitioned());
+      expected.add(ident);
+    }
+
+    assertThat(pagedCatalog.iterateTables(Namespace.of("db")))
+        .as("Should list all tables in name order across pages")
+        .containsExactlyElementsOf(expected);
+    assertThat(pagedCatalog.listTables(Namespace.of("db"))).hasSize(5);
+  }
+
   @Test
   public void testCallingLocationProviderWhenNoCurrentMetadata() {
     TableIdentifier tableIdent = TableIdentifier.of("ns1", "ns2", "table1");
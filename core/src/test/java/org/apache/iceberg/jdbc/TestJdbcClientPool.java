@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.jdbc;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Map;
+import java.util.Properties;
+import java.util.UUID;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.assertj.core.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class TestJdbcClientPool {
+  private static final String QUERY = "SELECT 1";
+
+  private static String newDbUrl() {
+    return "jdbc:sqlite:file::memory:?ic" + UUID.randomUUID().toString().replace("-", "");
+  }
+
+  @Test
+  public void testPreparedStatementsAreReused() throws Exception {
+    try (JdbcClientPool pool = new JdbcClientPool(1, newDbUrl(), ImmutableMap.of())) {
+      PreparedStatement first = pool.runPrepared(QUERY, statement -> statement);
+      PreparedStatement second = pool.runPrepared(QUERY, statement -> statement);
+      Assertions.assertThat(second).isSameAs(first);
+      Assertions.assertThat(pool.runPrepared(QUERY, TestJdbcClientPool::selectOne)).isEqualTo(1);
+      Assertions.assertThat(first.isClosed()).isFalse();
+
+      pool.close();
+      Assertions.assertThat(first.isClosed())
+          .as("Cached statements should be closed with the pool")
+          .isTrue();
+    }
+  }
+
+  @Test
+  public void testPreparedStatementCacheDisabled() throws Exception {
+    Map<String, String> props = ImmutableMap.of(JdbcUtil.STATEMENT_CACHE_ENABLED_PROPERTY, "false");
+    try (JdbcClientPool pool = new JdbcClientPool(1, newDbUrl(), props)) {
+      PreparedStatement statement = pool.runPrepared(QUERY, stmt -> stmt);
+      Assertions.assertThat(statement.isClosed()).isTrue();
+      Assertions.assertThat(pool.runPrepared(QUERY, TestJdbcClientPool::selectOne)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void testInvalidConnectionIsReplaced() throws Exception {
+    Map<String, String> props =
+        ImmutableMap.of(JdbcUtil.CONNECTION_VALIDATION_INTERVAL_MS_PROPERTY, "0");
+    try (JdbcClientPool pool = new JdbcClientPool(1, newDbUrl(), props)) {
+      Connection closed =
+          pool.run(
+              conn -> {
+                conn.close();
+                return conn;
+              });
+
+      Connection replaced = pool.run(conn -> conn);
+      Assertions.assertThat(replaced).isNotSameAs(closed);
+      Assertions.assertThat(replaced.isClosed()).isFalse();
+      Assertions.assertThat(pool.runPrepared(QUERY, TestJdbcClientPool::selectOne)).isEqualTo(1);
+    }
+  }
+
+  @Test
+  public void testCatalogPropertiesAreNotPassedToDriver() {
+    Map<String, String> props =
+        ImmutableMap.<String, String>builder()
+            .put(JdbcCatalog.PROPERTY_PREFIX + "user", "iceberg")
+            .put(JdbcCatalog.PROPERTY_PREFIX + "password", "secret")
+            .put(JdbcUtil.STRICT_MODE_PROPERTY, "true")
+            .put(JdbcUtil.LIST_PAGE_SIZE_PROPERTY, "10")
+            .put(JdbcUtil.STATEMENT_CACHE_ENABLED_PROPERTY, "false")
+            .put(JdbcUtil.CONNECTION_VALIDATION_INTERVAL_MS_PROPERTY, "0")
+            .put("warehouse", "file:/tmp/warehouse")
+            .build();
+
+    Properties dbProps = JdbcClientPool.connectionProperties(props);
+    Assertions.assertThat(dbProps)
+        .containsOnly(Assertions.entry("user", "iceberg"), Assertions.entry("password", "secret"));
+  }
+
+  private static int selectOne(PreparedStatement statement) throws SQLException {
+    try (ResultSet rs = statement.executeQuery()) {
+      rs.next();
+      return rs.getInt(1);
+    }
+  }
+}
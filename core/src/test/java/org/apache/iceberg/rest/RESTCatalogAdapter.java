@@ -271,7 +271,10 @@ public class RESTCatalogAdapter implements RESTClient {
             ns = Namespace.empty();
           }
 
-          return castResponse(responseType, CatalogHandlers.listNamespaces(asNamespaceCatalog, ns));
+          return castResponse(
+              responseType,
+              CatalogHandlers.listNamespaces(
+                  asNamespaceCatalog, ns, vars.get("pageToken"), vars.get("pageSize")));
         }
         break;
 
@@ -312,7 +315,10 @@ public class RESTCatalogAdapter implements RESTClient {
       case LIST_TABLES:
         {
           Namespace namespace = namespaceFromPathVars(vars);
-          return castResponse(responseType, CatalogHandlers.listTables(catalog, namespace));
+          return castResponse(
+              responseType,
+              CatalogHandlers.listTables(
+                  catalog, namespace, vars.get("pageToken"), vars.get("pageSize")));
         }
 
       case CREATE_TABLE:
@@ -41,6 +41,7 @@ import org.apache.hc.core5.http.HttpRequestInterceptor;
 import org.apache.hc.core5.http.protocol.HttpContext;
 import org.apache.iceberg.IcebergBuild;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.rest.responses.ErrorResponse;
 import org.apache.iceberg.rest.responses.ErrorResponseParser;
 import org.assertj.core.api.Assertions;
@@ -121,6 +122,48 @@ public class TestHTTPClient {
     testHttpMethodOnFailure(HttpMethod.HEAD);
   }
 
+  @Test
+  public void testConditionalGetNotModified() {
+    String path = "conditional_get";
+    String etag = "\"v1\"";
+    mockServer
+        .when(request("/" + path).withMethod("GET").withHeader("If-None-Match", etag))
+        .respond(response().withStatusCode(304).withHeader("ETag", etag));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    Map<String, String> responseHeaders = Maps.newHashMap();
+    Item response =
+        restClient.get(
+            path,
+            ImmutableMap.of(),
+            Item.class,
+            ImmutableMap.of("If-None-Match", etag),
+            onError,
+            responseHeaders::putAll);
+
+    assertThat(response).as("Should not return a body for a 304 response").isNull();
+    assertThat(responseHeaders).containsEntry("ETag", etag);
+    verify(onError, never()).accept(any());
+  }
+
+  @Test
+  public void testNotModifiedWithoutConditionalRequestFails() {
+    String path = "unconditional_get";
+    mockServer.when(request("/" + path).withMethod("GET")).respond(response().withStatusCode(304));
+
+    ErrorHandler onError = mock(ErrorHandler.class);
+    doThrow(new RuntimeException("Called error handler for 304")).when(onError).accept(any());
+
+    Assertions.assertThatThrownBy(
+            () ->
+                restClient.get(
+                    path, ImmutableMap.of(), Item.class, ImmutableMap.of(), onError, h -> {}))
+        .isInstanceOf(RuntimeException.class)
+        .hasMessage("Called error handler for 304");
+
+    verify(onError).accept(any());
+  }
+
   @Test
   public void testDynamicHttpRequestInterceptorLoading() {
     Map<String, String> properties = ImmutableMap.of("key", "val");
@@ -72,6 +72,7 @@ import org.apache.iceberg.rest.auth.OAuth2Properties;
 import org.apache.iceberg.rest.auth.OAuth2Util;
 import org.apache.iceberg.rest.responses.ConfigResponse;
 import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.ListTablesResponse;
 import org.apache.iceberg.rest.responses.LoadTableResponse;
 import org.apache.iceberg.rest.responses.OAuthTokenResponse;
 import org.apache.iceberg.types.Types;
@@ -342,6 +343,37 @@ public class TestRESTCatalog extends CatalogTests<RESTCatalog> {
             any());
   }
 
+  @Test
+  public void testPaginatedListTables() {
+    RESTCatalogAdapter adapter = Mockito.spy(new RESTCatalogAdapter(backendCatalog));
+
+    RESTCatalog catalog =
+        new RESTCatalog(SessionCatalog.SessionContext.createEmpty(), (config) -> adapter);
+    catalog.initialize(
+        "prod", ImmutableMap.of(CatalogProperties.URI, "ignored", "rest-page-size", "2"));
+
+    Namespace namespace = Namespace.of("ns");
+    catalog.createNamespace(namespace);
+    for (int i = 0; i < 5; i += 1) {
+      catalog.createTable(TableIdentifier.of(namespace, "table" + i), SCHEMA);
+    }
+
+    assertThat(catalog.listTables(namespace))
+        .extracting(TableIdentifier::name)
+        .containsExactly("table0", "table1", "table2", "table3", "table4");
+
+    // 3 pages of at most 2 tables
+    verify(adapter, times(3))
+        .execute(
+            eq(HTTPMethod.GET),
+            eq("v1/namespaces/ns/tables"),
+            any(),
+            any(),
+            eq(ListTablesResponse.class),
+            any(),
+            any());
+  }
+
   @Test
   public void testCatalogCredential() {
     Map<String, String> emptyHeaders = ImmutableMap.of();
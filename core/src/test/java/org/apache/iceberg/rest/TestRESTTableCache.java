@@ -0,0 +1,208 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.rest;
+
+import static org.apache.iceberg.types.Types.NestedField.required;
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.SortOrder;
+import org.apache.iceberg.TableMetadata;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.rest.auth.OAuth2Properties;
+import org.apache.iceberg.rest.responses.ErrorResponse;
+import org.apache.iceberg.rest.responses.LoadTableResponse;
+import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.Pair;
+import org.junit.jupiter.api.Test;
+
+public class TestRESTTableCache {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.LongType.get()), required(2, "data", Types.StringType.get()));
+  private static final TableMetadata METADATA =
+      TableMetadata.newTableMetadata(
+          SCHEMA,
+          PartitionSpec.unpartitioned(),
+          SortOrder.unsorted(),
+          "file:/tmp/table",
+          ImmutableMap.of());
+  private static final long EXPIRATION_MS = TimeUnit.MINUTES.toMillis(5);
+
+  @Test
+  public void testNotModifiedReusesCachedResponse() {
+    ETagClient client = new ETagClient("\"v1\"");
+    RESTTableCache cache = new RESTTableCache(10, EXPIRATION_MS);
+
+    Pair<String, LoadTableResponse> first = load(cache, client, "session");
+    Pair<String, LoadTableResponse> second = load(cache, client, "session");
+
+    assertThat(first.first()).isEqualTo("\"v1\"");
+    assertThat(second.second()).isSameAs(first.second());
+    assertThat(client.ifNoneMatch).containsExactly(null, "\"v1\"");
+    assertThat(cache.hitCount()).isEqualTo(1);
+    assertThat(cache.missCount()).isEqualTo(1);
+  }
+
+  @Test
+  public void testModifiedReplacesCachedResponse() {
+    ETagClient client = new ETagClient("\"v1\"");
+    RESTTableCache cache = new RESTTableCache(10, EXPIRATION_MS);
+
+    Pair<String, LoadTableResponse> first = load(cache, client, "session");
+    client.etag = "\"v2\"";
+    Pair<String, LoadTableResponse> second = load(cache, client, "session");
+
+    assertThat(second.first()).isEqualTo("\"v2\"");
+    assertThat(second.second()).isNotSameAs(first.second());
+    assertThat(cache.hitCount()).isEqualTo(0);
+    assertThat(cache.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void testSessionsAreCachedSeparately() {
+    ETagClient client = new ETagClient("\"v1\"");
+    RESTTableCache cache = new RESTTableCache(10, EXPIRATION_MS);
+
+    load(cache, client, "s1");
+    load(cache, client, "s2");
+
+    assertThat(client.ifNoneMatch).containsExactly(null, null);
+    assertThat(cache.estimatedSize()).isEqualTo(2);
+  }
+
+  @Test
+  public void testExpiredResponsesAreNotReused() {
+    ETagClient client = new ETagClient("\"v1\"");
+    RESTTableCache cache = new RESTTableCache(10, 0L);
+
+    load(cache, client, "session");
+    load(cache, client, "session");
+
+    assertThat(client.ifNoneMatch).containsExactly(null, null);
+    assertThat(cache.estimatedSize()).isEqualTo(0);
+    assertThat(cache.missCount()).isEqualTo(2);
+  }
+
+  @Test
+  public void testResponsesExpireWithConfigToken() {
+    ETagClient client = new ETagClient("\"v1\"");
+    client.config = ImmutableMap.of(OAuth2Properties.TOKEN_EXPIRES_IN_MS, "0");
+    RESTTableCache cache = new RESTTableCache(10, EXPIRATION_MS);
+
+    load(cache, client, "session");
+    load(cache, client, "session");
+
+    assertThat(client.ifNoneMatch)
+        .as("Should not replay a response with an expired token")
+        .containsExactly(null, null);
+    assertThat(cache.hitCount()).isEqualTo(0);
+  }
+
+  private static Pair<String, LoadTableResponse> load(
+      RESTTableCache cache, RESTClient client, String sessionId) {
+    String path = "v1/namespaces/ns/tables/t";
+    return cache.load(sessionId, client, path, ImmutableMap.of(), ImmutableMap.of(), e -> {});
+  }
+
+  /** A client that returns 304 (Not Modified) when the If-None-Match header matches its ETag. */
+  private static class ETagClient implements RESTClient {
+    private final List<String> ifNoneMatch = Lists.newArrayList();
+    private String etag;
+    private Map<String, String> config = ImmutableMap.of();
+
+    private ETagClient(String etag) {
+      this.etag = etag;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T extends RESTResponse> T get(
+        String path,
+        Map<String, String> queryParams,
+        Class<T> responseType,
+        Map<String, String> headers,
+        Consumer<ErrorResponse> errorHandler,
+        Consumer<Map<String, String>> responseHeaders) {
+      String requested = headers.get(RESTTableCache.IF_NONE_MATCH_HEADER);
+      ifNoneMatch.add(requested);
+      responseHeaders.accept(ImmutableMap.of("etag", etag));
+      if (etag.equals(requested)) {
+        return null;
+      }
+
+      return (T)
+          LoadTableResponse.builder().withTableMetadata(METADATA).addAllConfig(config).build();
+    }
+
+    @Override
+    public <T extends RESTResponse> T get(
+        String path,
+        Map<String, String> queryParams,
+        Class<T> responseType,
+        Map<String, String> headers,
+        Consumer<ErrorResponse> errorHandler) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public void head(
+        String path, Map<String, String> headers, Consumer<ErrorResponse> errorHandler) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public <T extends RESTResponse> T delete(
+        String path,
+        Class<T> responseType,
+        Map<String, String> headers,
+        Consumer<ErrorResponse> errorHandler) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public <T extends RESTResponse> T post(
+        String path,
+        RESTRequest body,
+        Class<T> responseType,
+        Map<String, String> headers,
+        Consumer<ErrorResponse> errorHandler) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public <T extends RESTResponse> T postForm(
+        String path,
+        Map<String, String> formData,
+        Class<T> responseType,
+        Map<String, String> headers,
+        Consumer<ErrorResponse> errorHandler) {
+      throw new UnsupportedOperationException("Not implemented");
+    }
+
+    @Override
+    public void close() {}
+  }
+}
@@ -42,6 +42,14 @@ public class TestListNamespacesResponse extends RequestResponseTestBase<ListName
     assertRoundTripSerializesEquallyFrom(emptyNamespaces, ListNamespacesResponse.builder().build());
   }
 
+  @Test
+  public void testRoundTripSerDeWithPageToken() throws JsonProcessingException {
+    String json = "{\"namespaces\":[[\"accounting\"],[\"tax\"]],\"next-page-token\":\"2\"}";
+    ListNamespacesResponse value =
+        ListNamespacesResponse.builder().addAll(NAMESPACES).nextPageToken("2").build();
+    assertRoundTripSerializesEquallyFrom(json, value);
+  }
+
   @Test
   public void testDeserializeInvalidResponseThrows() {
     String jsonNamespacesHasWrongType = "{\"namespaces\":\"accounting\"}";
@@ -99,6 +107,9 @@ public class TestListNamespacesResponse extends RequestResponseTestBase<ListName
         .as("Namespaces list should be equal")
         .hasSize(expected.namespaces().size())
         .containsExactlyInAnyOrderElementsOf(expected.namespaces());
+    Assertions.assertThat(actual.nextPageToken())
+        .as("Next page token should be equal")
+        .isEqualTo(expected.nextPageToken());
   }
 
   @Override
@@ -44,6 +44,15 @@ public class TestListTablesResponse extends RequestResponseTestBase<ListTablesRe
     assertRoundTripSerializesEquallyFrom(emptyIdentifiers, ListTablesResponse.builder().build());
   }
 
+  @Test
+  public void testRoundTripSerDeWithPageToken() throws JsonProcessingException {
+    String json =
+        "{\"identifiers\":[{\"namespace\":[\"accounting\",\"tax\"],\"name\":\"paid\"}],"
+            + "\"next-page-token\":\"token\"}";
+    assertRoundTripSerializesEquallyFrom(
+        json, ListTablesResponse.builder().addAll(IDENTIFIERS).nextPageToken("token").build());
+  }
+
   @Test
   public void testDeserializeInvalidResponsesThrows() {
     String identifiersHasWrongType = "{\"identifiers\":\"accounting%1Ftax\"}";
@@ -121,6 +130,9 @@ public class TestListTablesResponse extends RequestResponseTestBase<ListTablesRe
         .as("Identifiers should be equal")
         .hasSameSizeAs(expected.identifiers())
         .containsExactlyInAnyOrderElementsOf(expected.identifiers());
+    Assertions.assertThat(actual.nextPageToken())
+        .as("Next page token should be equal")
+        .isEqualTo(expected.nextPageToken());
   }
 
   @Override
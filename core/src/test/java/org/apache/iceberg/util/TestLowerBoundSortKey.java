@@ -0,0 +1,91 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
+
+import java.nio.ByteBuffer;
+import java.util.Comparator;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.types.Conversions;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestLowerBoundSortKey {
+  private static final Schema SCHEMA =
+      new Schema(
+          required(1, "id", Types.IntegerType.get()), optional(2, "data", Types.StringType.get()));
+
+  private static final Comparator<byte[]> COMPARATOR = LowerBoundSortKey.keyComparator();
+
+  @Test
+  public void testSingleStringColumnUsesFullBound() {
+    LowerBoundSortKey sortKey = LowerBoundSortKey.of(SCHEMA, ImmutableList.of("data"));
+
+    // both bounds share the first 8 bytes
+    byte[] first = sortKey.key(string("partition-a"));
+    byte[] second = sortKey.key(string("partition-b"));
+
+    Assert.assertTrue("Should order by the full bound", COMPARATOR.compare(first, second) < 0);
+    Assert.assertTrue(
+        "Missing bounds should sort first",
+        COMPARATOR.compare(sortKey.key((ByteBuffer) null), first) < 0);
+  }
+
+  @Test
+  public void testSingleIntegerColumn() {
+    LowerBoundSortKey sortKey = LowerBoundSortKey.of(SCHEMA, ImmutableList.of("id"));
+
+    byte[] negative = sortKey.key(integer(-5));
+    byte[] positive = sortKey.key(integer(10));
+
+    Assert.assertTrue("Should order signed values", COMPARATOR.compare(negative, positive) < 0);
+    Assert.assertTrue(
+        "Missing bounds should sort first",
+        COMPARATOR.compare(sortKey.key((ByteBuffer) null), negative) < 0);
+  }
+
+  @Test
+  public void testMultipleColumnsInterleaveBounds() {
+    LowerBoundSortKey sortKey = LowerBoundSortKey.of(SCHEMA, ImmutableList.of("id", "data"));
+
+    byte[] key = sortKey.key(integer(1), string("a"));
+    Assert.assertEquals("Should use 8 bytes per column", 16, key.length);
+  }
+
+  @Test
+  public void testUnsupportedColumn() {
+    Schema schema =
+        new Schema(optional(1, "list", Types.ListType.ofOptional(2, Types.IntegerType.get())));
+    Assert.assertThrows(
+        IllegalArgumentException.class,
+        () -> LowerBoundSortKey.of(schema, ImmutableList.of("list")));
+  }
+
+  private static ByteBuffer string(String value) {
+    return Conversions.toByteBuffer(Types.StringType.get(), value);
+  }
+
+  private static ByteBuffer integer(int value) {
+    return Conversions.toByteBuffer(Types.IntegerType.get(), value);
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.util;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import org.apache.avro.util.Utf8;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestStructLikeWrapper {
+  private static final Types.StructType NESTED_TYPE =
+      Types.StructType.of(
+          Types.NestedField.optional(11, "name", Types.StringType.get()),
+          Types.NestedField.optional(12, "amount", Types.DecimalType.of(9, 2)));
+  private static final Types.StructType STRUCT_TYPE =
+      Types.StructType.of(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "bytes", Types.BinaryType.get()),
+          Types.NestedField.optional(4, "nested", NESTED_TYPE));
+
+  @Test
+  public void testEqualStructsWithDifferentRepresentations() {
+    Record nested1 = GenericRecord.create(NESTED_TYPE);
+    nested1.set(0, "a");
+    nested1.set(1, new BigDecimal("1.50"));
+    Record record1 = GenericRecord.create(STRUCT_TYPE);
+    record1.set(0, 1L);
+    record1.set(1, "data");
+    record1.set(2, ByteBuffer.wrap(new byte[] {1, 2, 3}));
+    record1.set(3, nested1);
+
+    Record nested2 = GenericRecord.create(NESTED_TYPE);
+    nested2.set(0, new Utf8("a"));
+    nested2.set(1, new BigDecimal("1.50"));
+    Record record2 = GenericRecord.create(STRUCT_TYPE);
+    record2.set(0, 1L);
+    record2.set(1, new Utf8("data"));
+    record2.set(2, ByteBuffer.wrap(new byte[] {0, 1, 2, 3}, 1, 3));
+    record2.set(3, nested2);
+
+    StructLikeWrapper wrapper = StructLikeWrapper.forType(STRUCT_TYPE);
+    StructLikeWrapper wrapper1 = wrapper.copyFor(record1);
+    StructLikeWrapper wrapper2 = wrapper.copyFor(record2);
+
+    Assert.assertEquals(wrapper1, wrapper2);
+    Assert.assertEquals(wrapper1.hashCode(), wrapper2.hashCode());
+    Assert.assertEquals("Should be equal after hashing", wrapper1, wrapper2);
+  }
+
+  @Test
+  public void testDecimalsWithDifferentScalesAfterHashing() {
+    Record nested1 = GenericRecord.create(NESTED_TYPE);
+    nested1.set(1, new BigDecimal("1.5"));
+    Record nested2 = GenericRecord.create(NESTED_TYPE);
+    nested2.set(1, new BigDecimal("1.50"));
+
+    StructLikeWrapper wrapper = StructLikeWrapper.forType(NESTED_TYPE);
+    StructLikeWrapper wrapper1 = wrapper.copyFor(nested1);
+    StructLikeWrapper wrapper2 = wrapper.copyFor(nested2);
+    wrapper1.hashCode();
+    wrapper2.hashCode();
+
+    // equality follows the comparator and does not depend on cached hash codes
+    Assert.assertEquals(wrapper1, wrapper2);
+  }
+
+  @Test
+  public void testNullsAndDifferentValues() {
+    Record record1 = GenericRecord.create(STRUCT_TYPE);
+    record1.set(0, 1L);
+    Record record2 = GenericRecord.create(STRUCT_TYPE);
+    record2.set(0, 1L);
+    record2.set(1, "data");
+    Record record3 = GenericRecord.create(STRUCT_TYPE);
+    record3.set(0, 2L);
+
+    StructLikeWrapper wrapper = StructLikeWrapper.forType(STRUCT_TYPE);
+    StructLikeWrapper wrapper1 = wrapper.copyFor(record1);
+
+    Assert.assertEquals(wrapper1, wrapper.copyFor(record1.copy()));
+    Assert.assertNotEquals(wrapper1, wrapper.copyFor(record2));
+    Assert.assertNotEquals(wrapper.copyFor(record2), wrapper1);
+    Assert.assertNotEquals(wrapper1, wrapper.copyFor(record3));
+    Assert.assertNotEquals(wrapper1, wrapper.copyFor(null));
+    Assert.assertEquals(wrapper.copyFor(null), wrapper.copyFor(null));
+  }
+
+  @Test
+  public void testReusedWrapperResetsHashCode() {
+    Record record1 = GenericRecord.create(STRUCT_TYPE);
+    record1.set(0, 1L);
+    Record record2 = GenericRecord.create(STRUCT_TYPE);
+    record2.set(0, 2L);
+
+    StructLikeWrapper reused = StructLikeWrapper.forType(STRUCT_TYPE).set(record1);
+    StructLikeWrapper wrapper2 = reused.copyFor(record2);
+    int hash1 = reused.hashCode();
+
+    reused.set(record2);
+    Assert.assertEquals(wrapper2.hashCode(), reused.hashCode());
+    Assert.assertEquals(wrapper2, reused);
+
+    reused.set(record1);
+    Assert.assertEquals(hash1, reused.hashCode());
+    Assert.assertNotEquals(wrapper2, reused);
+  }
+}
@@ -26,7 +26,9 @@ import java.nio.file.Paths;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Collectors;
+import org.apache.iceberg.DataFile;
 import org.apache.iceberg.FileFormat;
+import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.RowDelta;
 import org.apache.iceberg.TableTestBase;
@@ -34,6 +36,7 @@ import org.apache.iceberg.data.GenericAppenderFactory;
 import org.apache.iceberg.data.GenericRecord;
 import org.apache.iceberg.data.IcebergGenerics;
 import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.util.StructLikeSet;
 import org.junit.Assert;
@@ -191,6 +194,65 @@ public class TestBaseTaskWriter extends TableTestBase {
         "Should have expected records", expectedRowSet(expected), actualRowSet("*"));
   }
 
+  @Test
+  public void testPartitionedFanoutWriterClosesLeastRecentlyUsedWriters() throws IOException {
+    table.updateSpec().addField("data").commit();
+    PartitionSpec spec = table.spec();
+    OutputFileFactory partitionedFileFactory =
+        OutputFileFactory.builderFor(table, 1, 2).format(format).build();
+    FileAppenderFactory<Record> partitionedAppenderFactory =
+        new GenericAppenderFactory(table.schema(), spec);
+    PartitionKey partitionKey = new PartitionKey(spec, table.schema());
+
+    PartitionedFanoutWriter<Record> writer =
+        new PartitionedFanoutWriter<Record>(
+            spec,
+            format,
+            partitionedAppenderFactory,
+            partitionedFileFactory,
+            table.io(),
+            128 * 1024 * 1024,
+            2) {
+          @Override
+          protected PartitionKey partition(Record row) {
+            partitionKey.partition(row);
+            return partitionKey;
+          }
+        };
+
+    List<Record> records =
+        ImmutableList.of(
+            createRecord(1, "aaa"),
+            createRecord(2, "bbb"),
+            createRecord(3, "aaa"),
+            // closes the writer for bbb as aaa was used more recently
+            createRecord(4, "ccc"),
+            // closes the writer for aaa and opens a new writer for bbb
+            createRecord(5, "bbb"),
+            createRecord(6, "ccc"));
+    for (Record record : records) {
+      writer.write(record);
+    }
+
+    Assert.assertEquals("Must have 2 open writers", 2, writer.openWriters());
+    Assert.assertEquals("Must close 2 writers early", 2, writer.evictedWriters());
+    Assert.assertEquals("Must not exceed 2 open writers", 2, writer.maxObservedOpenWriters());
+
+    WriteResult result = writer.complete();
+    Assert.assertEquals("Must have no open writers", 0, writer.openWriters());
+    Assert.assertEquals("Must be 4 data files", 4, result.dataFiles().length);
+    Assert.assertEquals(
+        "Must write every record once",
+        records.size(),
+        Arrays.stream(result.dataFiles()).mapToLong(DataFile::recordCount).sum());
+
+    RowDelta rowDelta = table.newRowDelta();
+    Arrays.stream(result.dataFiles()).forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    Assert.assertEquals("Records should match", expectedRowSet(records), actualRowSet("*"));
+  }
+
   private StructLikeSet expectedRowSet(Iterable<Record> records) {
     StructLikeSet set = StructLikeSet.create(table.schema().asStruct());
     records.forEach(set::add);
@@ -463,6 +463,50 @@ public abstract class TestPartitioningWriters<T> extends WriterTestBase<T> {
     Assert.assertEquals("Records should match", toSet(expectedRows), actualRowSet("*"));
   }
 
+  @Test
+  public void testFanoutDataWriterClosesLeastRecentlyUsedWriters() throws IOException {
+    table.updateSpec().addField(Expressions.ref("data")).commit();
+
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+    FanoutDataWriter<T> writer =
+        new FanoutDataWriter<>(writerFactory, fileFactory, table.io(), TARGET_FILE_SIZE, 2);
+
+    PartitionSpec spec = table.spec();
+
+    writer.write(toRow(1, "aaa"), spec, partitionKey(spec, "aaa"));
+    writer.write(toRow(2, "bbb"), spec, partitionKey(spec, "bbb"));
+    writer.write(toRow(3, "aaa"), spec, partitionKey(spec, "aaa"));
+    // closes the writer for bbb as aaa was used more recently
+    writer.write(toRow(4, "ccc"), spec, partitionKey(spec, "ccc"));
+    // closes the writer for aaa and opens a new writer for bbb
+    writer.write(toRow(5, "bbb"), spec, partitionKey(spec, "bbb"));
+    writer.write(toRow(6, "ccc"), spec, partitionKey(spec, "ccc"));
+
+    Assert.assertEquals("Must have 2 open writers", 2, writer.openWriters());
+    Assert.assertEquals("Must close 2 writers early", 2, writer.evictedWriters());
+
+    writer.close();
+
+    Assert.assertEquals("Must not exceed 2 open writers", 2, writer.maxObservedOpenWriters());
+
+    DataWriteResult result = writer.result();
+    Assert.assertEquals("Must be 4 data files", 4, result.dataFiles().size());
+
+    RowDelta rowDelta = table.newRowDelta();
+    result.dataFiles().forEach(rowDelta::addRows);
+    rowDelta.commit();
+
+    List<T> expectedRows =
+        ImmutableList.of(
+            toRow(1, "aaa"),
+            toRow(2, "bbb"),
+            toRow(3, "aaa"),
+            toRow(4, "ccc"),
+            toRow(5, "bbb"),
+            toRow(6, "ccc"));
+    Assert.assertEquals("Records should match", toSet(expectedRows), actualRowSet("*"));
+  }
+
   @Test
   public void testFanoutPositionOnlyDeleteWriterNoRecords() throws IOException {
     FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
@@ -557,4 +601,43 @@ public abstract class TestPartitioningWriters<T> extends WriterTestBase<T> {
     List<T> expectedRows = ImmutableList.of(toRow(12, "bbb"));
     Assert.assertEquals("Records should match", toSet(expectedRows), actualRowSet("*"));
   }
+
+  @Test
+  public void testFanoutPositionOnlyDeleteWriterSpillsToDisk() throws IOException {
+    FileWriterFactory<T> writerFactory = newWriterFactory(table.schema());
+
+    // add two unpartitioned data files
+    ImmutableList<T> rows1 = ImmutableList.of(toRow(1, "aaa"), toRow(2, "aaa"), toRow(3, "aaa"));
+    DataFile dataFile1 = writeData(writerFactory, fileFactory, rows1, table.spec(), null);
+    ImmutableList<T> rows2 = ImmutableList.of(toRow(4, "bbb"), toRow(5, "bbb"), toRow(6, "bbb"));
+    DataFile dataFile2 = writeData(writerFactory, fileFactory, rows2, table.spec(), null);
+    table.newFastAppend().appendFile(dataFile1).appendFile(dataFile2).commit();
+
+    // a tiny threshold spills every buffered delete to disk
+    FanoutPositionOnlyDeleteWriter<T> writer =
+        new FanoutPositionOnlyDeleteWriter<>(
+            writerFactory, fileFactory, table.io(), TARGET_FILE_SIZE, 1L);
+
+    PartitionSpec spec = table.spec();
+    writer.write(positionDelete(dataFile2.path(), 2L, null), spec, null);
+    writer.write(positionDelete(dataFile1.path(), 1L, null), spec, null);
+    writer.write(positionDelete(dataFile2.path(), 0L, null), spec, null);
+    writer.write(positionDelete(dataFile1.path(), 1L, null), spec, null);
+    writer.write(positionDelete(dataFile1.path(), 0L, null), spec, null);
+
+    writer.close();
+
+    DeleteWriteResult result = writer.result();
+    Assert.assertEquals("Must be 1 delete file", 1, result.deleteFiles().size());
+    Assert.assertEquals(
+        "Must contain distinct deletes", 4, result.deleteFiles().get(0).recordCount());
+    Assert.assertEquals("Must reference 2 data files", 2, result.referencedDataFiles().size());
+
+    RowDelta rowDelta = table.newRowDelta();
+    result.deleteFiles().forEach(rowDelta::addDeletes);
+    rowDelta.commit();
+
+    List<T> expectedRows = ImmutableList.of(toRow(3, "aaa"), toRow(5, "bbb"));
+    Assert.assertEquals("Records should match", toSet(expectedRows), actualRowSet("*"));
+  }
 }
@@ -27,6 +27,7 @@ import org.apache.iceberg.PartitionKey;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Table;
+import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.flink.RowDataWrapper;
 import org.apache.iceberg.io.FileAppenderFactory;
 import org.apache.iceberg.io.FileIO;
@@ -38,6 +39,7 @@ import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.Sets;
 import org.apache.iceberg.types.TypeUtil;
 import org.apache.iceberg.util.ArrayUtil;
+import org.apache.iceberg.util.PropertyUtil;
 
 public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
   private final Table table;
@@ -131,7 +133,11 @@ public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
             io,
             targetFileSizeBytes,
             schema,
-            flinkSchema);
+            flinkSchema,
+            PropertyUtil.propertyAsInt(
+                table.properties(),
+                TableProperties.WRITE_FANOUT_MAX_OPEN_WRITERS,
+                TableProperties.WRITE_FANOUT_MAX_OPEN_WRITERS_DEFAULT));
       }
     } else {
       // Initialize a task writer to write both INSERT and equality DELETE.
@@ -176,8 +182,9 @@ public class RowDataTaskWriterFactory implements TaskWriterFactory<RowData> {
         FileIO io,
         long targetFileSize,
         Schema schema,
-        RowType flinkSchema) {
-      super(spec, format, appenderFactory, fileFactory, io, targetFileSize);
+        RowType flinkSchema,
+        int maxOpenWriters) {
+      super(spec, format, appenderFactory, fileFactory, io, targetFileSize, maxOpenWriters);
       this.partitionKey = new PartitionKey(spec, schema);
       this.rowDataWrapper = new RowDataWrapper(flinkSchema, schema.asStruct());
     }
@@ -18,7 +18,9 @@
  */
 package org.apache.iceberg.hive;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -54,6 +56,7 @@ import org.apache.iceberg.relocated.com.google.common.base.MoreObjects;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.util.LocationUtil;
 import org.apache.thrift.TException;
@@ -163,6 +166,53 @@ public class HiveCatalog extends BaseMetastoreCatalog implements SupportsNamespa
     }
   }
 
+  @Override
+  protected Map<TableIdentifier, String> loadMetadataLocations(
+      Collection<TableIdentifier> identifiers) {
+    Map<TableIdentifier, String> metadataLocations = Maps.newHashMap();
+    Map<String, List<TableIdentifier>> identifiersByDatabase =
+        identifiers.stream().collect(Collectors.groupingBy(ident -> ident.namespace().level(0)));
+
+    for (Map.Entry<String, List<TableIdentifier>> entry : identifiersByDatabase.entrySet()) {
+      String database = entry.getKey();
+      // the metastore returns lower case table names
+      Map<String, List<TableIdentifier>> byName =
+          entry.getValue().stream()
+              .collect(Collectors.groupingBy(ident -> ident.name().toLowerCase(Locale.ROOT)));
+      List<String> tableNames = Lists.newArrayList(byName.keySet());
+
+      try {
+        List<Table> tableObjects =
+            clients.run(client -> client.getTableObjectsByName(database, tableNames));
+        for (Table table : tableObjects) {
+          Map<String, String> parameters = table.getParameters();
+          List<TableIdentifier> idents = byName.get(table.getTableName().toLowerCase(Locale.ROOT));
+          if (idents != null
+              && parameters != null
+              && BaseMetastoreTableOperations.ICEBERG_TABLE_TYPE_VALUE.equalsIgnoreCase(
+                  parameters.get(BaseMetastoreTableOperations.TABLE_TYPE_PROP))
+              && parameters.get(BaseMetastoreTableOperations.METADATA_LOCATION_PROP) != null) {
+            String metadataLocation =
+                parameters.get(BaseMetastoreTableOperations.METADATA_LOCATION_PROP);
+            idents.forEach(ident -> metadataLocations.put(ident, metadataLocation));
+          }
+        }
+
+      } catch (UnknownDBException | NoSuchObjectException e) {
+        // tables in a database that does not exist are not included
+
+      } catch (TException e) {
+        throw new RuntimeException("Failed to load tables from database " + database, e);
+
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new RuntimeException("Interrupted in call to loadTables", e);
+      }
+    }
+
+    return metadataLocations;
+  }
+
   @Override
   public String name() {
     return name;
@@ -21,6 +21,8 @@ package org.apache.iceberg.hive;
 import static org.apache.iceberg.TableProperties.GC_ENABLED;
 
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import java.util.Collections;
 import java.util.Locale;
 import java.util.Map;
@@ -80,10 +82,19 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
   // characters, see https://issues.apache.org/jira/browse/HIVE-12274
   // set to 0 to not expose Iceberg metadata in HMS Table properties.
   private static final String HIVE_TABLE_PROPERTY_MAX_SIZE = "iceberg.hive.table-property-max-size";
+  // when enabled, commits without Hive locks fall back to Hive locks if the metastore does not
+  // support conditional alter_table, see https://issues.apache.org/jira/browse/HIVE-26882
+  @VisibleForTesting
+  static final String HIVE_LOCK_FREE_CHECK_ENABLED = "iceberg.hive.lock-free-check-enabled";
+
   private static final String NO_LOCK_EXPECTED_KEY = "expected_parameter_key";
   private static final String NO_LOCK_EXPECTED_VALUE = "expected_parameter_value";
   private static final long HIVE_TABLE_PROPERTY_MAX_SIZE_DEFAULT = 32672;
   private static final int HIVE_ICEBERG_METADATA_REFRESH_MAX_RETRIES_DEFAULT = 2;
+  private static final boolean HIVE_LOCK_FREE_CHECK_ENABLED_DEFAULT = false;
+  // whether the metastore behind each client pool supports conditional alter_table
+  private static final Cache<ClientPool<?, ?>, Boolean> CONDITIONAL_ALTER_SUPPORT =
+      Caffeine.newBuilder().weakKeys().build();
   private static final BiMap<String, String> ICEBERG_TO_HMS_TRANSLATION =
       ImmutableBiMap.of(
           // gc.enabled in Iceberg and external.table.purge in Hive are meant to do the same things
@@ -178,6 +189,11 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
     refreshFromMetadataLocation(metadataLocation, metadataRefreshMaxRetries);
   }
 
+  @Override
+  protected void refreshFromCatalogLocation(String metadataLocation) {
+    refreshFromMetadataLocation(metadataLocation, metadataRefreshMaxRetries);
+  }
+
   @SuppressWarnings("checkstyle:CyclomaticComplexity")
   @Override
   protected void doCommit(TableMetadata base, TableMetadata metadata) {
@@ -244,8 +260,7 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
       lock.ensureActive();
 
       try {
-        persistTable(
-            tbl, updateHiveTable, hiveLockEnabled(metadata, conf) ? null : baseMetadataLocation);
+        persistTable(tbl, updateHiveTable, lock instanceof NoLock ? baseMetadataLocation : null);
         lock.ensureActive();
 
         commitStatus = CommitStatus.SUCCESS;
@@ -626,8 +641,33 @@ public class HiveTableOperations extends BaseMetastoreTableOperations {
   HiveLock lockObject(TableMetadata metadata) {
     if (hiveLockEnabled(metadata, conf)) {
       return new MetastoreLock(conf, metaClients, catalogName, database, tableName);
+    } else if (conf.getBoolean(HIVE_LOCK_FREE_CHECK_ENABLED, HIVE_LOCK_FREE_CHECK_ENABLED_DEFAULT)
+        && !conditionalAlterSupported()) {
+      LOG.warn(
+          "Hive locks are disabled for {}, but the metastore does not support conditional "
+              + "alter_table (HIVE-26882): committing with Hive locks",
+          fullName);
+      return new MetastoreLock(conf, metaClients, catalogName, database, tableName);
     } else {
       return new NoLock();
     }
   }
+
+  private boolean conditionalAlterSupported() {
+    return CONDITIONAL_ALTER_SUPPORT.get(
+        metaClients,
+        pool -> {
+          try {
+            String version = metaClients.run(MetastoreUtil::serverVersion);
+            LOG.info("Using Hive metastore server version: {}", version);
+            return MetastoreUtil.supportsConditionalAlter(version);
+          } catch (TException | RuntimeException e) {
+            LOG.warn("Failed to get the Hive metastore server version", e);
+            return false;
+          } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while getting the metastore version", e);
+          }
+        });
+  }
 }
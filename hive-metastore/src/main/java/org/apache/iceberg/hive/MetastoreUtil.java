@@ -24,6 +24,7 @@ import org.apache.hadoop.hive.metastore.IMetaStoreClient;
 import org.apache.hadoop.hive.metastore.api.EnvironmentContext;
 import org.apache.hadoop.hive.metastore.api.Table;
 import org.apache.iceberg.common.DynMethods;
+import org.apache.iceberg.relocated.com.google.common.base.Splitter;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 
@@ -47,8 +48,38 @@ public class MetastoreUtil {
           .impl(IMetaStoreClient.class, "alter_table", String.class, String.class, Table.class)
           .build();
 
+  private static final DynMethods.UnboundMethod GET_SERVER_VERSION =
+      DynMethods.builder("getServerVersion").impl(IMetaStoreClient.class).orNoop().build();
+
   private MetastoreUtil() {}
 
+  /**
+   * Returns the version of the metastore server, or null if the metastore client does not support
+   * requesting it.
+   */
+  public static String serverVersion(IMetaStoreClient client) {
+    return GET_SERVER_VERSION.invoke(client);
+  }
+
+  /**
+   * Returns whether a metastore server version supports conditional alter_table calls that check an
+   * expected table parameter value, added by HIVE-26882 in Hive 4.
+   *
+   * <p>Servers that do not report a version are assumed not to support conditional alter_table.
+   */
+  static boolean supportsConditionalAlter(String serverVersion) {
+    if (serverVersion == null) {
+      return false;
+    }
+
+    String major = Splitter.on('.').split(serverVersion.trim()).iterator().next();
+    try {
+      return Integer.parseInt(major) >= 4;
+    } catch (NumberFormatException e) {
+      return false;
+    }
+  }
+
   /**
    * Calls alter_table method using the metastore client. If the HMS supports it, environmental
    * context will be set in a way that turns off stats updates to avoid recursive file listing.
@@ -34,6 +34,7 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -70,6 +71,8 @@ import org.apache.iceberg.exceptions.NotFoundException;
 import org.apache.iceberg.hadoop.ConfigProperties;
 import org.apache.iceberg.hadoop.HadoopCatalog;
 import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Types;
@@ -347,6 +350,53 @@ public class HiveTableTest extends HiveTableBaseTest {
     metastoreClient.dropTable(DB_NAME, hiveTableName);
   }
 
+  @Test
+  public void testLoadTablesByMetadataLocation() throws TException, IOException {
+    String hiveTableName = "test_hive_table";
+    metastoreClient.createTable(createHiveTable(hiveTableName));
+
+    TableIdentifier upperCaseIdent =
+        TableIdentifier.of(DB_NAME, TABLE_NAME.toUpperCase(Locale.ROOT));
+    TableIdentifier hiveTableIdent = TableIdentifier.of(DB_NAME, hiveTableName);
+    TableIdentifier missingTableIdent = TableIdentifier.of(DB_NAME, "missing_table");
+    TableIdentifier missingDatabaseIdent = TableIdentifier.of("missing_db", TABLE_NAME);
+    List<TableIdentifier> idents =
+        ImmutableList.of(
+            TABLE_IDENTIFIER,
+            upperCaseIdent,
+            hiveTableIdent,
+            missingTableIdent,
+            missingDatabaseIdent);
+
+    String expectedLocation =
+        ((HasTableOperations) catalog.loadTable(TABLE_IDENTIFIER))
+            .operations()
+            .current()
+            .metadataFileLocation();
+
+    Map<TableIdentifier, String> metadataLocations = catalog.loadMetadataLocations(idents);
+    Assert.assertEquals(
+        "Should only find Iceberg tables, ignoring name case",
+        ImmutableSet.of(TABLE_IDENTIFIER, upperCaseIdent),
+        metadataLocations.keySet());
+    Assert.assertEquals(expectedLocation, metadataLocations.get(TABLE_IDENTIFIER));
+    Assert.assertEquals(expectedLocation, metadataLocations.get(upperCaseIdent));
+
+    Map<TableIdentifier, Table> tables = catalog.loadTables(idents);
+    Assert.assertEquals(
+        "Should load only Iceberg tables",
+        ImmutableSet.of(TABLE_IDENTIFIER, upperCaseIdent),
+        tables.keySet());
+    Assert.assertEquals(
+        expectedLocation,
+        ((HasTableOperations) tables.get(upperCaseIdent))
+            .operations()
+            .current()
+            .metadataFileLocation());
+
+    metastoreClient.dropTable(DB_NAME, hiveTableName);
+  }
+
   private org.apache.hadoop.hive.metastore.api.Table createHiveTable(String hiveTableName)
       throws IOException {
     Map<String, String> parameters = Maps.newHashMap();
@@ -532,4 +532,28 @@ public class TestHiveCommitLocks extends HiveTableBaseTest {
         context.get("expected_parameter_key"), HiveTableOperations.METADATA_LOCATION_PROP);
     Assert.assertEquals(context.get("expected_parameter_value"), metadataV2.metadataFileLocation());
   }
+
+  @Test
+  public void testNoLockFallsBackToMetastoreLock() {
+    Configuration confWithCheck = new Configuration(overriddenHiveConf);
+    confWithCheck.setBoolean(ConfigProperties.LOCK_HIVE_ENABLED, false);
+    confWithCheck.setBoolean(HiveTableOperations.HIVE_LOCK_FREE_CHECK_ENABLED, true);
+
+    HiveTableOperations checkedOps =
+        new HiveTableOperations(
+            confWithCheck,
+            spyCachedClientPool,
+            ops.io(),
+            catalog.name(),
+            TABLE_IDENTIFIER.namespace().level(0),
+            TABLE_IDENTIFIER.name());
+
+    // the test metastore does not support conditional alter_table
+    Assertions.assertThat(checkedOps.lockObject(metadataV2)).isInstanceOf(MetastoreLock.class);
+
+    Assert.assertFalse(MetastoreUtil.supportsConditionalAlter(null));
+    Assert.assertFalse(MetastoreUtil.supportsConditionalAlter("2.3.9"));
+    Assert.assertFalse(MetastoreUtil.supportsConditionalAlter("unknown"));
+    Assert.assertTrue(MetastoreUtil.supportsConditionalAlter("4.0.0-alpha-2"));
+  }
 }
@@ -76,6 +76,13 @@ class Namespace(BaseModel):
     )
 
 
+class PageToken(BaseModel):
+    __root__: Optional[str] = Field(
+        None,
+        description='An opaque token that allows clients to request the next page of a list response. If the server returns a token, clients may send it as `pageToken` to request the next page. The last page does not include a token.',
+    )
+
+
 class TableIdentifier(BaseModel):
     namespace: Namespace
     name: str
@@ -538,10 +545,12 @@ class GetNamespaceResponse(BaseModel):
 
 
 class ListTablesResponse(BaseModel):
+    next_page_token: Optional[PageToken] = Field(None, alias='next-page-token')
     identifiers: Optional[List[TableIdentifier]] = Field(None, unique_items=True)
 
 
 class ListNamespacesResponse(BaseModel):
+    next_page_token: Optional[PageToken] = Field(None, alias='next-page-token')
     namespaces: Optional[List[Namespace]] = Field(None, unique_items=True)
 
 
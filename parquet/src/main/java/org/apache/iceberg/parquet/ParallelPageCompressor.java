@@ -0,0 +1,348 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.relocated.com.google.common.collect.Queues;
+import org.apache.iceberg.util.ThreadPools;
+import org.apache.parquet.bytes.BytesInput;
+import org.apache.parquet.column.ColumnDescriptor;
+import org.apache.parquet.column.Encoding;
+import org.apache.parquet.column.page.DictionaryPage;
+import org.apache.parquet.column.page.PageWriteStore;
+import org.apache.parquet.column.page.PageWriter;
+import org.apache.parquet.column.statistics.Statistics;
+import org.apache.parquet.compression.CompressionCodecFactory.BytesInputCompressor;
+import org.apache.parquet.hadoop.CodecFactory;
+import org.apache.parquet.hadoop.ColumnChunkPageWriteStore;
+import org.apache.parquet.hadoop.metadata.CompressionCodecName;
+
+/**
+ * Compresses the pages of a row group on a shared thread pool while the writer encodes more rows.
+ *
+ * <p>Encoded pages are copied and handed to the {@link ColumnChunkPageWriteStore} of the current
+ * row group by tasks that run in order for each column, so pages of different columns are
+ * compressed concurrently and each column chunk is identical to one written inline. The number of
+ * pages in flight is limited to the number of threads, which bounds the memory used for copies.
+ *
+ * <p>Buffered sizes are reported after a column's pending pages are written so that row group size
+ * checks see the same sizes as an inline writer and the file layout does not change. As a result,
+ * the writer's row group size checks and {@code length()}, which call {@link
+ * PageWriter#getMemSize()}, drain the pages of each column that are still being compressed.
+ */
+class ParallelPageCompressor implements Closeable {
+  private static volatile ExecutorService compressionPool = null;
+
+  private final Configuration conf;
+  private final CompressionCodecName codec;
+  private final int pageSize;
+  private final int threads;
+  private final Semaphore permits;
+  private final Queue<BytesInputCompressor> idle = Queues.newConcurrentLinkedQueue();
+  private final Queue<BytesInputCompressor> compressors = Queues.newConcurrentLinkedQueue();
+  private final ThreadLocal<BytesInputCompressor> taskCompressor = new ThreadLocal<>();
+  private final AtomicReference<Throwable> failure = new AtomicReference<>();
+  private final LongAdder compressNanos = new LongAdder();
+  private final List<ColumnPageWriter> columns = Lists.newArrayList();
+  private long throttleNanos = 0L;
+  private long waitNanos = 0L;
+
+  ParallelPageCompressor(
+      Configuration conf, CompressionCodecName codec, int pageSize, int threads) {
+    Preconditions.checkArgument(threads > 1, "Invalid number of compression threads: %s", threads);
+    this.conf = conf;
+    this.codec = codec;
+    this.pageSize = pageSize;
+    this.threads = threads;
+    this.permits = new Semaphore(threads);
+  }
+
+  /**
+   * Returns a compressor for the page store of each row group.
+   *
+   * <p>The compressor may only be called by page tasks, which lend it a compressor from this pool.
+   */
+  BytesInputCompressor compressor() {
+    return new TaskCompressor();
+  }
+
+  /**
+   * Returns a page store that writes the pages of a row group to the given store in parallel.
+   *
+   * @param pageStore a page store created with {@link #compressor()}
+   * @return a page store that must be passed to the column write store of the row group
+   */
+  PageWriteStore wrap(ColumnChunkPageWriteStore pageStore) {
+    Preconditions.checkState(
+        columns.stream().allMatch(ColumnPageWriter::isDone),
+        "Cannot start a row group while pages are pending");
+    columns.clear();
+    Map<ColumnDescriptor, ColumnPageWriter> writers = Maps.newHashMap();
+    return path ->
+        writers.computeIfAbsent(
+            path,
+            desc -> {
+              ColumnPageWriter writer = new ColumnPageWriter(pageStore.getPageWriter(desc));
+              columns.add(writer);
+              return writer;
+            });
+  }
+
+  /** Waits until all pages of the current row group have been written to its page store. */
+  void awaitPages() {
+    for (ColumnPageWriter column : columns) {
+      column.await();
+    }
+  }
+
+  int threads() {
+    return threads;
+  }
+
+  /** Returns the time spent compressing pages, summed across threads. */
+  long compressNanos() {
+    return compressNanos.sum();
+  }
+
+  /** Returns the time the writer spent waiting because the maximum number of pages were pending. */
+  long throttleNanos() {
+    return throttleNanos;
+  }
+
+  /** Returns the time the writer spent waiting for page tasks, including throttling. */
+  long waitNanos() {
+    return waitNanos;
+  }
+
+  @Override
+  public void close() {
+    BytesInputCompressor compressor;
+    while ((compressor = compressors.poll()) != null) {
+      compressor.release();
+    }
+  }
+
+  private static ExecutorService pool() {
+    if (compressionPool == null) {
+      synchronized (ParallelPageCompressor.class) {
+        if (compressionPool == null) {
+          compressionPool = ThreadPools.newWorkerPool("iceberg-parquet-compression");
+        }
+      }
+    }
+
+    return compressionPool;
+  }
+
+  private void checkFailure() {
+    Throwable cause = failure.get();
+    if (cause instanceof IOException) {
+      throw new UncheckedIOException("Failed to write page", (IOException) cause);
+    } else if (cause != null) {
+      throw new IllegalStateException("Failed to write page", cause);
+    }
+  }
+
+  private void runTask(PageTask task) {
+    BytesInputCompressor compressor = null;
+    try {
+      compressor = idle.poll();
+      if (compressor == null) {
+        compressor = new CodecFactory(conf, pageSize).getCompressor(codec);
+        compressors.add(compressor);
+      }
+
+      taskCompressor.set(compressor);
+      if (failure.get() == null) {
+        task.run();
+      }
+    } catch (Throwable t) {
+      // any failure must be reported to the writer, which would otherwise wait for the permit
+      failure.compareAndSet(null, t);
+    } finally {
+      taskCompressor.remove();
+      if (compressor != null) {
+        idle.add(compressor);
+      }
+
+      permits.release();
+    }
+  }
+
+  private interface PageTask {
+    void run() throws IOException;
+  }
+
+  private class TaskCompressor implements BytesInputCompressor {
+    @Override
+    public BytesInput compress(BytesInput bytes) throws IOException {
+      BytesInputCompressor compressor = taskCompressor.get();
+      Preconditions.checkState(compressor != null, "Cannot compress outside of a page task");
+      long start = System.nanoTime();
+      try {
+        return compressor.compress(bytes);
+      } finally {
+        compressNanos.add(System.nanoTime() - start);
+      }
+    }
+
+    @Override
+    public CompressionCodecName getCodecName() {
+      return codec;
+    }
+
+    @Override
+    public void release() {
+      // compressors are released when the writer is closed
+    }
+  }
+
+  private class ColumnPageWriter implements PageWriter {
+    private final PageWriter pages;
+    private CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+
+    private ColumnPageWriter(PageWriter pages) {
+      this.pages = pages;
+    }
+
+    private boolean isDone() {
+      return tail.isDone();
+    }
+
+    private void submit(PageTask task) {
+      checkFailure();
+      long start = System.nanoTime();
+      permits.acquireUninterruptibly();
+      long duration = System.nanoTime() - start;
+      throttleNanos += duration;
+      waitNanos += duration;
+      this.tail = tail.thenRunAsync(() -> runTask(task), pool());
+    }
+
+    private void await() {
+      if (!tail.isDone()) {
+        long start = System.nanoTime();
+        tail.join();
+        waitNanos += System.nanoTime() - start;
+      }
+
+      checkFailure();
+    }
+
+    @Override
+    @Deprecated
+    public void writePage(
+        BytesInput bytesInput,
+        int valueCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      BytesInput copy = BytesInput.copy(bytesInput);
+      submit(
+          () ->
+              pages.writePage(
+                  copy, valueCount, statistics, rlEncoding, dlEncoding, valuesEncoding));
+    }
+
+    @Override
+    public void writePage(
+        BytesInput bytesInput,
+        int valueCount,
+        int rowCount,
+        Statistics<?> statistics,
+        Encoding rlEncoding,
+        Encoding dlEncoding,
+        Encoding valuesEncoding)
+        throws IOException {
+      BytesInput copy = BytesInput.copy(bytesInput);
+      submit(
+          () ->
+              pages.writePage(
+                  copy, valueCount, rowCount, statistics, rlEncoding, dlEncoding, valuesEncoding));
+    }
+
+    @Override
+    public void writePageV2(
+        int rowCount,
+        int nullCount,
+        int valueCount,
+        BytesInput repetitionLevels,
+        BytesInput definitionLevels,
+        Encoding dataEncoding,
+        BytesInput data,
+        Statistics<?> statistics)
+        throws IOException {
+      BytesInput rlCopy = BytesInput.copy(repetitionLevels);
+      BytesInput dlCopy = BytesInput.copy(definitionLevels);
+      BytesInput dataCopy = BytesInput.copy(data);
+      submit(
+          () ->
+              pages.writePageV2(
+                  rowCount,
+                  nullCount,
+                  valueCount,
+                  rlCopy,
+                  dlCopy,
+                  dataEncoding,
+                  dataCopy,
+                  statistics));
+    }
+
+    @Override
+    public void writeDictionaryPage(DictionaryPage dictionaryPage) throws IOException {
+      DictionaryPage copy = dictionaryPage.copy();
+      submit(() -> pages.writeDictionaryPage(copy));
+    }
+
+    /** Waits for this column's pending pages and returns the size of its compressed pages. */
+    @Override
+    public long getMemSize() {
+      await();
+      return pages.getMemSize();
+    }
+
+    @Override
+    public long allocatedSize() {
+      await();
+      return pages.allocatedSize();
+    }
+
+    @Override
+    public String memUsageString(String prefix) {
+      await();
+      return pages.memUsageString(prefix);
+    }
+  }
+}
@@ -33,6 +33,8 @@ import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL;
 import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_LEVEL_DEFAULT;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_THREADS;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_THREADS_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_DICT_SIZE_BYTES_DEFAULT;
 import static org.apache.iceberg.TableProperties.PARQUET_PAGE_ROW_LIMIT;
@@ -83,6 +85,7 @@ import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.InputFile;
 import org.apache.iceberg.io.OutputFile;
 import org.apache.iceberg.mapping.NameMapping;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.parquet.ParquetValueWriters.PositionDeleteStructWriter;
 import org.apache.iceberg.parquet.ParquetValueWriters.StructWriter;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
@@ -114,6 +117,15 @@ import org.apache.parquet.schema.MessageType;
 public class Parquet {
   private Parquet() {}
 
+  /** Timer for the time a writer spent encoding values while pages were compressed in parallel. */
+  public static final String WRITE_ENCODE_DURATION = "parquet-write-encode-duration";
+
+  /** Timer for the time spent compressing pages in parallel, summed across threads. */
+  public static final String WRITE_COMPRESS_DURATION = "parquet-write-compress-duration";
+
+  /** Timer for the time a writer spent waiting for pages that were compressed in parallel. */
+  public static final String WRITE_COMPRESS_WAIT_DURATION = "parquet-write-compress-wait-duration";
+
   private static final Collection<String> READ_PROPERTIES_TO_REMOVE =
       Sets.newHashSet(
           "parquet.read.filter",
@@ -140,6 +152,7 @@ public class Parquet {
     private Function<Map<String, String>, Context> createContextFunc = Context::dataContext;
     private ByteBuffer fileEncryptionKey = null;
     private ByteBuffer fileAADPrefix = null;
+    private MetricsContext metricsContext = MetricsContext.nullMetrics();
 
     private WriteBuilder(OutputFile file) {
       this.file = file;
@@ -198,6 +211,20 @@ public class Parquet {
       return this;
     }
 
+    /**
+     * Sets a metrics context that receives the timers of writers that compress pages in parallel.
+     *
+     * <p>When a writer is closed, it records {@link #WRITE_ENCODE_DURATION}, {@link
+     * #WRITE_COMPRESS_DURATION}, and {@link #WRITE_COMPRESS_WAIT_DURATION}.
+     *
+     * @param newMetricsContext a metrics context
+     * @return this for method chaining
+     */
+    public WriteBuilder metricsContext(MetricsContext newMetricsContext) {
+      this.metricsContext = newMetricsContext;
+      return this;
+    }
+
     public WriteBuilder overwrite() {
       return overwrite(true);
     }
@@ -266,6 +293,7 @@ public class Parquet {
       int dictionaryPageSize = context.dictionaryPageSize();
       String compressionLevel = context.compressionLevel();
       CompressionCodecName codec = context.codec();
+      int compressionThreads = context.compressionThreads();
       int rowGroupCheckMinRecordCount = context.rowGroupCheckMinRecordCount();
       int rowGroupCheckMaxRecordCount = context.rowGroupCheckMaxRecordCount();
       int bloomFilterMaxBytes = context.bloomFilterMaxBytes();
@@ -342,10 +370,12 @@ public class Parquet {
             metadata,
             createWriterFunc,
             codec,
+            compressionThreads,
             parquetProperties,
             metricsConfig,
             writeMode,
-            fileEncryptionProperties);
+            fileEncryptionProperties,
+            metricsContext);
       } else {
         ParquetWriteBuilder<D> parquetWriteBuilder =
             new ParquetWriteBuilder<D>(ParquetIO.file(file))
@@ -380,6 +410,7 @@ public class Parquet {
       private final int dictionaryPageSize;
       private final CompressionCodecName codec;
       private final String compressionLevel;
+      private final int compressionThreads;
       private final int rowGroupCheckMinRecordCount;
       private final int rowGroupCheckMaxRecordCount;
       private final int bloomFilterMaxBytes;
@@ -393,6 +424,7 @@ public class Parquet {
           int dictionaryPageSize,
           CompressionCodecName codec,
           String compressionLevel,
+          int compressionThreads,
           int rowGroupCheckMinRecordCount,
           int rowGroupCheckMaxRecordCount,
           int bloomFilterMaxBytes,
@@ -404,6 +436,7 @@ public class Parquet {
         this.dictionaryPageSize = dictionaryPageSize;
         this.codec = codec;
         this.compressionLevel = compressionLevel;
+        this.compressionThreads = compressionThreads;
         this.rowGroupCheckMinRecordCount = rowGroupCheckMinRecordCount;
         this.rowGroupCheckMaxRecordCount = rowGroupCheckMaxRecordCount;
         this.bloomFilterMaxBytes = bloomFilterMaxBytes;
@@ -439,6 +472,11 @@ public class Parquet {
         String compressionLevel =
             config.getOrDefault(PARQUET_COMPRESSION_LEVEL, PARQUET_COMPRESSION_LEVEL_DEFAULT);
 
+        int compressionThreads =
+            PropertyUtil.propertyAsInt(
+                config, PARQUET_COMPRESSION_THREADS, PARQUET_COMPRESSION_THREADS_DEFAULT);
+        Preconditions.checkArgument(compressionThreads > 0, "Compression threads must be > 0");
+
         int rowGroupCheckMinRecordCount =
             PropertyUtil.propertyAsInt(
                 config,
@@ -476,6 +514,7 @@ public class Parquet {
             dictionaryPageSize,
             codec,
             compressionLevel,
+            compressionThreads,
             rowGroupCheckMinRecordCount,
             rowGroupCheckMaxRecordCount,
             bloomFilterMaxBytes,
@@ -543,6 +582,7 @@ public class Parquet {
             dictionaryPageSize,
             codec,
             compressionLevel,
+            dataContext.compressionThreads(),
             rowGroupCheckMinRecordCount,
             rowGroupCheckMaxRecordCount,
             PARQUET_BLOOM_FILTER_MAX_BYTES_DEFAULT,
@@ -582,6 +622,10 @@ public class Parquet {
         return compressionLevel;
       }
 
+      int compressionThreads() {
+        return compressionThreads;
+      }
+
       int rowGroupCheckMinRecordCount() {
         return rowGroupCheckMinRecordCount;
       }
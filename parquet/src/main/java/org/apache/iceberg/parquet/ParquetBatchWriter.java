@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.parquet;
+
+/**
+ * A {@link ParquetValueWriter} that writes a batch of rows for each value.
+ *
+ * <p>Batch writers write all of the values of each column in a range of rows at once, without
+ * pivoting the batch into rows. Parquet can only cut pages and row groups between records, so large
+ * batches are written in slices and records are ended after all columns of a slice are written.
+ *
+ * @param <B> the Java class of batches
+ */
+public interface ParquetBatchWriter<B> extends ParquetValueWriter<B> {
+  /**
+   * Returns the number of rows in a batch.
+   *
+   * @param batch a batch
+   * @return the number of rows that {@link #write(int, Object)} will write for the batch
+   */
+  int numRows(B batch);
+
+  /**
+   * Writes a range of rows of a batch.
+   *
+   * @param batch a batch
+   * @param startRow the position of the first row to write
+   * @param numRows the number of rows to write
+   */
+  void write(B batch, int startRow, int numRows);
+
+  @Override
+  default void write(int repetitionLevel, B batch) {
+    write(batch, 0, numRows(batch));
+  }
+}
@@ -23,6 +23,7 @@ import java.io.IOException;
 import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.Metrics;
@@ -30,10 +31,12 @@ import org.apache.iceberg.MetricsConfig;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.io.FileAppender;
 import org.apache.iceberg.io.OutputFile;
+import org.apache.iceberg.metrics.MetricsContext;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.parquet.column.ColumnWriteStore;
 import org.apache.parquet.column.ParquetProperties;
+import org.apache.parquet.column.page.PageWriteStore;
 import org.apache.parquet.crypto.FileEncryptionProperties;
 import org.apache.parquet.crypto.InternalFileEncryptor;
 import org.apache.parquet.hadoop.CodecFactory;
@@ -41,8 +44,11 @@ import org.apache.parquet.hadoop.ColumnChunkPageWriteStore;
 import org.apache.parquet.hadoop.ParquetFileWriter;
 import org.apache.parquet.hadoop.metadata.CompressionCodecName;
 import org.apache.parquet.schema.MessageType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 class ParquetWriter<T> implements FileAppender<T>, Closeable {
+  private static final Logger LOG = LoggerFactory.getLogger(ParquetWriter.class);
 
   private static final Metrics EMPTY_METRICS = new Metrics(0L, null, null, null, null);
 
@@ -50,14 +56,17 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private final Map<String, String> metadata;
   private final ParquetProperties props;
   private final CodecFactory.BytesCompressor compressor;
+  private final ParallelPageCompressor parallelCompressor;
   private final MessageType parquetSchema;
   private final ParquetValueWriter<T> model;
+  private final ParquetBatchWriter<T> batchModel;
   private final MetricsConfig metricsConfig;
   private final int columnIndexTruncateLength;
   private final ParquetFileWriter.Mode writeMode;
   private final OutputFile output;
   private final Configuration conf;
   private final InternalFileEncryptor fileEncryptor;
+  private final MetricsContext metricsContext;
 
   private ColumnChunkPageWriteStore pageStore = null;
   private ColumnWriteStore writeStore;
@@ -66,6 +75,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
   private boolean closed;
   private ParquetFileWriter writer;
   private int rowGroupOrdinal;
+  private long encodeNanos = 0L;
 
   private static final String COLUMN_INDEX_TRUNCATE_LENGTH = "parquet.columnindex.truncate.length";
   private static final int DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH = 64;
@@ -79,16 +89,27 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       Map<String, String> metadata,
       Function<MessageType, ParquetValueWriter<?>> createWriterFunc,
       CompressionCodecName codec,
+      int compressionThreads,
       ParquetProperties properties,
       MetricsConfig metricsConfig,
       ParquetFileWriter.Mode writeMode,
-      FileEncryptionProperties encryptionProperties) {
+      FileEncryptionProperties encryptionProperties,
+      MetricsContext metricsContext) {
     this.targetRowGroupSize = rowGroupSize;
     this.props = properties;
     this.metadata = ImmutableMap.copyOf(metadata);
-    this.compressor = new CodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+    if (compressionThreads > 1 && codec != CompressionCodecName.UNCOMPRESSED) {
+      this.compressor = null;
+      this.parallelCompressor =
+          new ParallelPageCompressor(conf, codec, props.getPageSizeThreshold(), compressionThreads);
+    } else {
+      this.compressor = new CodecFactory(conf, props.getPageSizeThreshold()).getCompressor(codec);
+      this.parallelCompressor = null;
+    }
+
     this.parquetSchema = ParquetSchemaUtil.convert(schema, "table");
     this.model = (ParquetValueWriter<T>) createWriterFunc.apply(parquetSchema);
+    this.batchModel = model instanceof ParquetBatchWriter ? (ParquetBatchWriter<T>) model : null;
     this.metricsConfig = metricsConfig;
     this.columnIndexTruncateLength =
         conf.getInt(COLUMN_INDEX_TRUNCATE_LENGTH, DEFAULT_COLUMN_INDEX_TRUNCATE_LENGTH);
@@ -98,6 +119,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
     this.rowGroupOrdinal = 0;
     this.fileEncryptor =
         (encryptionProperties == null ? null : new InternalFileEncryptor(encryptionProperties));
+    this.metricsContext = metricsContext;
 
     startRowGroup();
   }
@@ -130,12 +152,44 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
 
   @Override
   public void add(T value) {
+    if (batchModel != null) {
+      addBatch(value);
+      return;
+    }
+
+    long start = parallelCompressor != null ? System.nanoTime() : 0L;
     recordCount += 1;
     model.write(0, value);
     writeStore.endRecord();
+    if (parallelCompressor != null) {
+      encodeNanos += System.nanoTime() - start;
+    }
+
     checkSize();
   }
 
+  private void addBatch(T batch) {
+    // pages and row groups are only cut between records, so write slices of at most the number of
+    // rows between page size checks and check the row group size after each slice
+    int numRows = batchModel.numRows(batch);
+    int sliceSize = props.getMinRowCountForPageSizeCheck();
+    for (int startRow = 0; startRow < numRows; startRow += sliceSize) {
+      int sliceRows = Math.min(sliceSize, numRows - startRow);
+      long start = parallelCompressor != null ? System.nanoTime() : 0L;
+      recordCount += sliceRows;
+      batchModel.write(batch, startRow, sliceRows);
+      for (int row = 0; row < sliceRows; row += 1) {
+        writeStore.endRecord();
+      }
+
+      if (parallelCompressor != null) {
+        encodeNanos += System.nanoTime() - start;
+      }
+
+      checkSize();
+    }
+  }
+
   @Override
   public Metrics metrics() {
     Preconditions.checkState(closed, "Cannot return metrics for unclosed writer");
@@ -151,6 +205,9 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
    * <p>Prior to calling {@link ParquetWriter#close}, the result is approximate. After calling
    * close, the length is exact.
    *
+   * <p>When pages are compressed in parallel, this waits for the pages of the current row group
+   * that are still being compressed so that their compressed sizes are included.
+   *
    * @return the approximate length of the output file produced by this writer or the exact length
    *     if this writer is closed.
    */
@@ -209,6 +266,10 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
         ensureWriterInitialized();
         writer.startBlock(recordCount);
         writeStore.flush();
+        if (parallelCompressor != null) {
+          parallelCompressor.awaitPages();
+        }
+
         pageStore.flushToFileWriter(writer);
         writer.endBlock();
         if (!finished) {
@@ -232,7 +293,7 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
 
     this.pageStore =
         new ColumnChunkPageWriteStore(
-            compressor,
+            parallelCompressor != null ? parallelCompressor.compressor() : compressor,
             parquetSchema,
             props.getAllocator(),
             this.columnIndexTruncateLength,
@@ -241,7 +302,9 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
             rowGroupOrdinal);
     this.rowGroupOrdinal++;
 
-    this.writeStore = props.newColumnWriteStore(parquetSchema, pageStore, pageStore);
+    PageWriteStore pages =
+        parallelCompressor != null ? parallelCompressor.wrap(pageStore) : pageStore;
+    this.writeStore = props.newColumnWriteStore(parquetSchema, pages, pageStore);
 
     model.setColumnStore(writeStore);
   }
@@ -258,6 +321,28 @@ class ParquetWriter<T> implements FileAppender<T>, Closeable {
       if (compressor != null) {
         compressor.release();
       }
+      if (parallelCompressor != null) {
+        parallelCompressor.close();
+        long encode = encodeNanos - parallelCompressor.throttleNanos();
+        long compress = parallelCompressor.compressNanos();
+        long wait = parallelCompressor.waitNanos();
+        metricsContext
+            .timer(Parquet.WRITE_ENCODE_DURATION, TimeUnit.NANOSECONDS)
+            .record(encode, TimeUnit.NANOSECONDS);
+        metricsContext
+            .timer(Parquet.WRITE_COMPRESS_DURATION, TimeUnit.NANOSECONDS)
+            .record(compress, TimeUnit.NANOSECONDS);
+        metricsContext
+            .timer(Parquet.WRITE_COMPRESS_WAIT_DURATION, TimeUnit.NANOSECONDS)
+            .record(wait, TimeUnit.NANOSECONDS);
+        LOG.debug(
+            "Wrote {} using {} compression threads: encode {} ms, compress {} ms, waited {} ms",
+            output.location(),
+            parallelCompressor.threads(),
+            TimeUnit.NANOSECONDS.toMillis(encode),
+            TimeUnit.NANOSECONDS.toMillis(compress),
+            TimeUnit.NANOSECONDS.toMillis(wait));
+      }
     }
   }
 }
@@ -19,18 +19,23 @@
 package org.apache.iceberg.parquet;
 
 import static org.apache.iceberg.Files.localInput;
+import static org.apache.iceberg.TableProperties.PARQUET_COMPRESSION_THREADS;
+import static org.apache.iceberg.TableProperties.PARQUET_PAGE_SIZE_BYTES;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MAX_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_CHECK_MIN_RECORD_COUNT;
 import static org.apache.iceberg.TableProperties.PARQUET_ROW_GROUP_SIZE_BYTES;
 import static org.apache.iceberg.parquet.ParquetWritingTestUtils.createTempFile;
 import static org.apache.iceberg.parquet.ParquetWritingTestUtils.write;
 import static org.apache.iceberg.types.Types.NestedField.optional;
+import static org.apache.iceberg.types.Types.NestedField.required;
 
 import java.io.File;
 import java.io.IOException;
 import java.nio.ByteBuffer;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 import org.apache.avro.generic.GenericData;
 import org.apache.avro.generic.GenericRecord;
@@ -39,9 +44,16 @@ import org.apache.hadoop.fs.Path;
 import org.apache.iceberg.Files;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.avro.AvroSchemaUtil;
+import org.apache.iceberg.io.FileAppender;
+import org.apache.iceberg.metrics.DefaultMetricsContext;
+import org.apache.iceberg.metrics.DefaultTimer;
+import org.apache.iceberg.metrics.MetricsContext;
+import org.apache.iceberg.metrics.Timer;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.types.Types;
 import org.apache.iceberg.types.Types.IntegerType;
 import org.apache.iceberg.util.Pair;
@@ -119,6 +131,113 @@ public class TestParquet {
     Assert.assertEquals(expectedSize, actualSize);
   }
 
+  @Test
+  public void testParallelCompressionWritesIdenticalFiles() throws IOException {
+    Schema schema =
+        new Schema(
+            required(1, "id", Types.LongType.get()),
+            optional(2, "data", Types.StringType.get()),
+            optional(3, "value", Types.DoubleType.get()));
+
+    int recordCount = 20_000;
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    GenericData.Record[] records = new GenericData.Record[recordCount];
+    for (int i = 0; i < recordCount; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", (long) i);
+      record.put("data", i % 7 == 0 ? null : "data-" + (i % 1000));
+      record.put("value", i % 5 == 0 ? null : i * 0.25);
+      records[i] = record;
+    }
+
+    Map<String, String> properties =
+        ImmutableMap.of(PARQUET_ROW_GROUP_SIZE_BYTES, "65536", PARQUET_PAGE_SIZE_BYTES, "4096");
+    File inlineFile = createTempFile(temp);
+    long inlineSize =
+        write(inlineFile, schema, properties, ParquetAvroWriter::buildWriter, records);
+
+    Map<String, String> parallelProperties =
+        ImmutableMap.<String, String>builder()
+            .putAll(properties)
+            .put(PARQUET_COMPRESSION_THREADS, "4")
+            .build();
+    File parallelFile = new File(inlineFile.getParentFile(), "parallel.parquet");
+    long parallelSize =
+        write(parallelFile, schema, parallelProperties, ParquetAvroWriter::buildWriter, records);
+
+    Assert.assertEquals("Should report the same length", inlineSize, parallelSize);
+    Assert.assertArrayEquals(
+        "Should write identical files",
+        java.nio.file.Files.readAllBytes(inlineFile.toPath()),
+        java.nio.file.Files.readAllBytes(parallelFile.toPath()));
+
+    try (ParquetFileReader reader =
+        ParquetFileReader.open(ParquetIO.file(localInput(parallelFile)))) {
+      Assert.assertTrue("Should write several row groups", reader.getRowGroups().size() > 1);
+    }
+
+    List<GenericData.Record> readRecords =
+        Lists.newArrayList(
+            Parquet.read(Files.localInput(parallelFile)).project(schema).callInit().build());
+    Assert.assertEquals("Should read all records", recordCount, readRecords.size());
+    for (int i = 0; i < recordCount; i++) {
+      Assert.assertEquals(records[i].get("id"), readRecords.get(i).get("id"));
+      Assert.assertEquals(records[i].get("value"), readRecords.get(i).get("value"));
+    }
+  }
+
+  @Test
+  public void testParallelCompressionReportsTimers() throws IOException {
+    Schema schema =
+        new Schema(
+            required(1, "id", Types.LongType.get()), optional(2, "data", Types.StringType.get()));
+
+    org.apache.avro.Schema avroSchema = AvroSchemaUtil.convert(schema.asStruct());
+    List<GenericData.Record> records = Lists.newArrayList();
+    for (int i = 0; i < 10_000; i++) {
+      GenericData.Record record = new GenericData.Record(avroSchema);
+      record.put("id", (long) i);
+      record.put("data", "data-" + i);
+      records.add(record);
+    }
+
+    Map<String, Timer> timers = Maps.newHashMap();
+    MetricsContext metricsContext =
+        new DefaultMetricsContext() {
+          @Override
+          public Timer timer(String name, TimeUnit unit) {
+            return timers.computeIfAbsent(name, ignored -> new DefaultTimer(unit));
+          }
+        };
+
+    File file = createTempFile(temp);
+    try (FileAppender<GenericData.Record> writer =
+        Parquet.write(Files.localOutput(file))
+            .schema(schema)
+            .set(PARQUET_PAGE_SIZE_BYTES, "4096")
+            .set(PARQUET_COMPRESSION_THREADS, "2")
+            .metricsContext(metricsContext)
+            .createWriterFunc(ParquetAvroWriter::buildWriter)
+            .build()) {
+      writer.addAll(records);
+    }
+
+    Assert.assertEquals(
+        "Should record encode, compress, and wait timers",
+        ImmutableSet.of(
+            Parquet.WRITE_ENCODE_DURATION,
+            Parquet.WRITE_COMPRESS_DURATION,
+            Parquet.WRITE_COMPRESS_WAIT_DURATION),
+        timers.keySet());
+    for (Timer timer : timers.values()) {
+      Assert.assertEquals("Should record once per file", 1L, timer.count());
+    }
+
+    Assert.assertTrue(
+        "Should record compression time",
+        timers.get(Parquet.WRITE_COMPRESS_DURATION).totalDuration().toNanos() > 0);
+  }
+
   @Test
   public void testTwoLevelList() throws IOException {
     Schema schema =
@@ -0,0 +1,115 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.UUID;
+import org.apache.iceberg.BatchPartitioner;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.types.Type;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.types.BinaryType;
+import org.apache.spark.sql.types.BooleanType;
+import org.apache.spark.sql.types.DataType;
+import org.apache.spark.sql.types.DateType;
+import org.apache.spark.sql.types.DecimalType;
+import org.apache.spark.sql.types.DoubleType;
+import org.apache.spark.sql.types.FloatType;
+import org.apache.spark.sql.types.IntegerType;
+import org.apache.spark.sql.types.StringType;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+
+/**
+ * Groups the rows of a Spark {@link ColumnarBatch} by partition.
+ *
+ * <p>The columns of each batch must match the top-level columns of the input schema.
+ */
+public class SparkBatchPartitioner extends BatchPartitioner<ColumnarBatch> {
+  private final Type.TypeID[] typeIds;
+
+  public SparkBatchPartitioner(PartitionSpec spec, Schema inputSchema) {
+    super(spec, inputSchema);
+    List<Types.NestedField> columns = inputSchema.columns();
+    this.typeIds = new Type.TypeID[columns.size()];
+    for (int ordinal = 0; ordinal < typeIds.length; ordinal += 1) {
+      typeIds[ordinal] = columns.get(ordinal).type().typeId();
+    }
+  }
+
+  @Override
+  protected int numRows(ColumnarBatch batch) {
+    return batch.numRows();
+  }
+
+  @Override
+  protected void readLongs(
+      ColumnarBatch batch, int ordinal, long[] values, boolean[] isNull, int numRows) {
+    ColumnVector vector = batch.column(ordinal);
+    DataType type = vector.dataType();
+    if (type instanceof IntegerType || type instanceof DateType) {
+      for (int row = 0; row < numRows; row += 1) {
+        isNull[row] = vector.isNullAt(row);
+        if (!isNull[row]) {
+          values[row] = vector.getInt(row);
+        }
+      }
+    } else {
+      for (int row = 0; row < numRows; row += 1) {
+        isNull[row] = vector.isNullAt(row);
+        if (!isNull[row]) {
+          values[row] = vector.getLong(row);
+        }
+      }
+    }
+  }
+
+  @Override
+  protected Object get(ColumnarBatch batch, int ordinal, int row) {
+    ColumnVector vector = batch.column(ordinal);
+    if (vector.isNullAt(row)) {
+      return null;
+    }
+
+    DataType type = vector.dataType();
+    if (type instanceof StringType && typeIds[ordinal] == Type.TypeID.UUID) {
+      // Spark represents UUIDs as strings
+      return UUID.fromString(vector.getUTF8String(row).toString());
+    } else if (type instanceof StringType) {
+      return vector.getUTF8String(row).toString();
+    } else if (type instanceof DecimalType) {
+      DecimalType decimal = (DecimalType) type;
+      return vector.getDecimal(row, decimal.precision(), decimal.scale()).toJavaBigDecimal();
+    } else if (type instanceof BinaryType) {
+      return ByteBuffer.wrap(vector.getBinary(row));
+    } else if (type instanceof BooleanType) {
+      return vector.getBoolean(row);
+    } else if (type instanceof IntegerType || type instanceof DateType) {
+      return vector.getInt(row);
+    } else if (type instanceof FloatType) {
+      return vector.getFloat(row);
+    } else if (type instanceof DoubleType) {
+      return vector.getDouble(row);
+    }
+
+    return vector.getLong(row);
+  }
+}
@@ -104,6 +104,12 @@ import org.apache.spark.sql.util.CaseInsensitiveStringMap;
  *   <li><code>cache.expiration-interval-ms</code> - interval in millis before expiring tables from
  *       catalog cache. Refer to {@link CatalogProperties#CACHE_EXPIRATION_INTERVAL_MS} for further
  *       details and significant values.
+ *   <li><code>cache.refresh-interval-ms</code> - interval in millis after which cached tables are
+ *       refreshed in the background when accessed. Refer to {@link
+ *       CatalogProperties#CACHE_REFRESH_INTERVAL_MS} for further details.
+ *   <li><code>cache.max-staleness-ms</code> - maximum age in millis of cached tables that are
+ *       returned while they are refreshed in the background. Refer to {@link
+ *       CatalogProperties#CACHE_MAX_STALENESS_MS} for further details.
  *   <li><code>table-default.$tablePropertyKey</code> - table property $tablePropertyKey default at
  *       catalog level
  *   <li><code>table-override.$tablePropertyKey</code> - table property $tablePropertyKey enforced
@@ -542,6 +548,18 @@ public class SparkCatalog extends BaseCatalog {
             CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS,
             CatalogProperties.CACHE_EXPIRATION_INTERVAL_MS_DEFAULT);
 
+    long cacheRefreshIntervalMs =
+        PropertyUtil.propertyAsLong(
+            options,
+            CatalogProperties.CACHE_REFRESH_INTERVAL_MS,
+            CatalogProperties.CACHE_REFRESH_INTERVAL_MS_OFF);
+
+    long cacheMaxStalenessMs =
+        PropertyUtil.propertyAsLong(
+            options,
+            CatalogProperties.CACHE_MAX_STALENESS_MS,
+            CatalogProperties.CACHE_MAX_STALENESS_MS_OFF);
+
     // An expiration interval of 0ms effectively disables caching.
     // Do not wrap with CachingCatalog.
     if (cacheExpirationIntervalMs == 0) {
@@ -556,7 +574,12 @@ public class SparkCatalog extends BaseCatalog {
         new HadoopTables(SparkUtil.hadoopConfCatalogOverrides(SparkSession.active(), name));
     this.icebergCatalog =
         cacheEnabled
-            ? CachingCatalog.wrap(catalog, cacheCaseSensitive, cacheExpirationIntervalMs)
+            ? CachingCatalog.wrap(
+                catalog,
+                cacheCaseSensitive,
+                cacheExpirationIntervalMs,
+                cacheRefreshIntervalMs,
+                cacheMaxStalenessMs)
             : catalog;
     if (catalog instanceof SupportsNamespaces) {
       this.asNamespaceCatalog = (SupportsNamespaces) catalog;
@@ -190,6 +190,23 @@ public class SparkWriteConf {
         .parse();
   }
 
+  public int fanoutMaxOpenWriters() {
+    return confParser
+        .intConf()
+        .option(SparkWriteOptions.FANOUT_MAX_OPEN_WRITERS)
+        .tableProperty(TableProperties.WRITE_FANOUT_MAX_OPEN_WRITERS)
+        .defaultValue(TableProperties.WRITE_FANOUT_MAX_OPEN_WRITERS_DEFAULT)
+        .parse();
+  }
+
+  public long deleteSortSpillThreshold() {
+    return confParser
+        .longConf()
+        .tableProperty(TableProperties.DELETE_SORT_SPILL_THRESHOLD_BYTES)
+        .defaultValue(TableProperties.DELETE_SORT_SPILL_THRESHOLD_BYTES_DEFAULT)
+        .parse();
+  }
+
   public Map<String, String> extraSnapshotMetadata() {
     Map<String, String> extraSnapshotMetadata = Maps.newHashMap();
 
@@ -47,6 +47,9 @@ public class SparkWriteOptions {
   // Overrides table property write.spark.fanout.enabled(default: false)
   public static final String FANOUT_ENABLED = "fanout-enabled";
 
+  // Overrides table property write.fanout.max-open-writers(default: -1, no limit)
+  public static final String FANOUT_MAX_OPEN_WRITERS = "fanout-max-open-writers";
+
   // Checks if input schema and table schema are same(default: true)
   public static final String CHECK_ORDERING = "check-ordering";
 
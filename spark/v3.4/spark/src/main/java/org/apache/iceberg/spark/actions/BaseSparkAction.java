@@ -42,6 +42,7 @@ import org.apache.iceberg.ManifestContent;
 import org.apache.iceberg.ManifestFiles;
 import org.apache.iceberg.MetadataTableType;
 import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionStatisticsFile;
 import org.apache.iceberg.ReachableFileUtil;
 import org.apache.iceberg.StaticTableOperations;
 import org.apache.iceberg.StatisticsFile;
@@ -205,13 +206,19 @@ abstract class BaseSparkAction<ThisT> {
 
   protected Dataset<FileInfo> statisticsFileDS(Table table, Set<Long> snapshotIds) {
     Predicate<StatisticsFile> predicate;
+    Predicate<PartitionStatisticsFile> partitionStatsPredicate;
     if (snapshotIds == null) {
       predicate = statisticsFile -> true;
+      partitionStatsPredicate = statisticsFile -> true;
     } else {
       predicate = statisticsFile -> snapshotIds.contains(statisticsFile.snapshotId());
+      partitionStatsPredicate = statisticsFile -> snapshotIds.contains(statisticsFile.snapshotId());
     }
 
-    List<String> statisticsFiles = ReachableFileUtil.statisticsFilesLocations(table, predicate);
+    List<String> statisticsFiles =
+        Lists.newArrayList(ReachableFileUtil.statisticsFilesLocations(table, predicate));
+    statisticsFiles.addAll(
+        ReachableFileUtil.partitionStatisticsFilesLocations(table, partitionStatsPredicate));
     return toFileInfoDS(statisticsFiles, STATISTICS_FILES);
   }
 
@@ -228,6 +235,7 @@ abstract class BaseSparkAction<ThisT> {
     otherMetadataFiles.addAll(ReachableFileUtil.metadataFileLocations(table, recursive));
     otherMetadataFiles.add(ReachableFileUtil.versionHintLocation(table));
     otherMetadataFiles.addAll(ReachableFileUtil.statisticsFilesLocations(table));
+    otherMetadataFiles.addAll(ReachableFileUtil.partitionStatisticsFilesLocations(table));
     return toFileInfoDS(otherMetadataFiles, OTHERS);
   }
 
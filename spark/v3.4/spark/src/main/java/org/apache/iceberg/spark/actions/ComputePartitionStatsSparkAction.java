@@ -0,0 +1,93 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.actions;
+
+import org.apache.iceberg.PartitionStatisticsFile;
+import org.apache.iceberg.PartitionStatsUtil;
+import org.apache.iceberg.Snapshot;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.actions.ComputePartitionStats;
+import org.apache.iceberg.actions.ImmutableComputePartitionStats;
+import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
+import org.apache.iceberg.spark.JobGroupInfo;
+import org.apache.spark.sql.SparkSession;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An action that computes the partition statistics file of a snapshot and registers it in the table
+ * metadata.
+ *
+ * <p>Stats are computed on the driver from manifests. When an ancestor of the snapshot has a
+ * partition statistics file, only the manifests written since that ancestor are read, unless files
+ * were removed since.
+ */
+public class ComputePartitionStatsSparkAction
+    extends BaseSparkAction<ComputePartitionStatsSparkAction> implements ComputePartitionStats {
+
+  private static final Logger LOG = LoggerFactory.getLogger(ComputePartitionStatsSparkAction.class);
+
+  private final Table table;
+  private Long snapshotId = null;
+
+  ComputePartitionStatsSparkAction(SparkSession spark, Table table) {
+    super(spark);
+    this.table = table;
+  }
+
+  @Override
+  protected ComputePartitionStatsSparkAction self() {
+    return this;
+  }
+
+  @Override
+  public ComputePartitionStatsSparkAction snapshot(long newSnapshotId) {
+    Snapshot snapshot = table.snapshot(newSnapshotId);
+    Preconditions.checkArgument(snapshot != null, "Snapshot not found: %s", newSnapshotId);
+    this.snapshotId = newSnapshotId;
+    return this;
+  }
+
+  @Override
+  public Result execute() {
+    String desc = String.format("Computing partition stats for %s", table.name());
+    JobGroupInfo info = newJobGroupInfo("COMPUTE-PARTITION-STATS", desc);
+    return withJobGroupInfo(info, this::doExecute);
+  }
+
+  private Result doExecute() {
+    Long statsSnapshotId = snapshotId;
+    if (statsSnapshotId == null) {
+      Snapshot currentSnapshot = table.currentSnapshot();
+      if (currentSnapshot == null) {
+        LOG.info("Nothing to compute for table {}: no snapshots", table.name());
+        return ImmutableComputePartitionStats.Result.builder().build();
+      }
+
+      statsSnapshotId = currentSnapshot.snapshotId();
+    }
+
+    PartitionStatisticsFile statsFile =
+        PartitionStatsUtil.computeAndWriteStatsFile(table, statsSnapshotId);
+    table.updatePartitionStatistics().setPartitionStatistics(statsFile).commit();
+    LOG.info("Registered partition stats file {} for table {}", statsFile.path(), table.name());
+
+    return ImmutableComputePartitionStats.Result.builder().statisticsFile(statsFile).build();
+  }
+}
@@ -50,6 +50,7 @@ import org.apache.iceberg.exceptions.ValidationException;
 import org.apache.iceberg.hadoop.HiddenPathFilter;
 import org.apache.iceberg.io.BulkDeletionFailureException;
 import org.apache.iceberg.io.SupportsBulkOperations;
+import org.apache.iceberg.io.SupportsPrefixOperations;
 import org.apache.iceberg.relocated.com.google.common.annotations.VisibleForTesting;
 import org.apache.iceberg.relocated.com.google.common.base.Preconditions;
 import org.apache.iceberg.relocated.com.google.common.base.Strings;
@@ -58,6 +59,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Iterators;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.relocated.com.google.common.collect.Maps;
 import org.apache.iceberg.spark.JobGroupInfo;
+import org.apache.iceberg.spark.source.SerializableTableWithSize;
 import org.apache.iceberg.util.Pair;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
@@ -71,6 +73,7 @@ import org.apache.spark.sql.Encoder;
 import org.apache.spark.sql.Encoders;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.functions;
 import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructField;
 import org.apache.spark.sql.types.StructType;
@@ -97,18 +100,32 @@ import scala.Tuple2;
  * dataset provided which are not found in table metadata will be deleted, using the same {@link
  * Table#location()} and {@link #olderThan(long)} filtering as above.
  *
+ * <p>By default, actual and valid files are compared with a join on the normalized path. With
+ * {@link #SORTED_MERGE_ENABLED}, both sides are instead range-partitioned by path together and
+ * compared with a streaming merge over the sorted rows of each partition. With {@link
+ * #PREFIX_LISTING_ENABLED}, directories found on the driver are listed on executors using {@link
+ * SupportsPrefixOperations#listPrefix(String)} instead of walking them with the Hadoop {@link
+ * FileSystem}; this requires {@link Table#io()} to support prefix operations.
+ *
  * <p><em>Note:</em> It is dangerous to call this action with a short retention interval as it might
  * corrupt the state of the table if another operation is writing at the same time.
  */
 public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFilesSparkAction>
     implements DeleteOrphanFiles {
 
+  public static final String SORTED_MERGE_ENABLED = "sorted-merge.enabled";
+  public static final boolean SORTED_MERGE_ENABLED_DEFAULT = false;
+
+  public static final String PREFIX_LISTING_ENABLED = "prefix-listing.enabled";
+  public static final boolean PREFIX_LISTING_ENABLED_DEFAULT = false;
+
   private static final Logger LOG = LoggerFactory.getLogger(DeleteOrphanFilesSparkAction.class);
   private static final Map<String, String> EQUAL_SCHEMES_DEFAULT = ImmutableMap.of("s3n,s3a", "s3");
   private static final int MAX_DRIVER_LISTING_DEPTH = 3;
   private static final int MAX_DRIVER_LISTING_DIRECT_SUB_DIRS = 10;
   private static final int MAX_EXECUTOR_LISTING_DEPTH = 2000;
   private static final int MAX_EXECUTOR_LISTING_DIRECT_SUB_DIRS = Integer.MAX_VALUE;
+  private static final String IS_VALID = "_is_valid";
 
   private final SerializableConfiguration hadoopConf;
   private final int listingParallelism;
@@ -248,7 +265,8 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     Dataset<FileURI> validFileIdentDS = validFileIdentDS();
 
     List<String> orphanFiles =
-        findOrphanFiles(spark(), actualFileIdentDS, validFileIdentDS, prefixMismatchMode);
+        findOrphanFiles(
+            spark(), actualFileIdentDS, validFileIdentDS, prefixMismatchMode, sortedMerge());
 
     if (deleteFunc == null && table.io() instanceof SupportsBulkOperations) {
       deleteFiles((SupportsBulkOperations) table.io(), orphanFiles);
@@ -275,6 +293,22 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     return ImmutableDeleteOrphanFiles.Result.builder().orphanFileLocations(orphanFiles).build();
   }
 
+  private boolean sortedMerge() {
+    return PropertyUtil.propertyAsBoolean(
+        options(), SORTED_MERGE_ENABLED, SORTED_MERGE_ENABLED_DEFAULT);
+  }
+
+  private boolean prefixListing() {
+    boolean enabled =
+        PropertyUtil.propertyAsBoolean(
+            options(), PREFIX_LISTING_ENABLED, PREFIX_LISTING_ENABLED_DEFAULT);
+    Preconditions.checkArgument(
+        !enabled || table.io() instanceof SupportsPrefixOperations,
+        "Cannot use prefix listing: %s does not support prefix operations",
+        table.io().getClass().getName());
+    return enabled;
+  }
+
   private Dataset<FileURI> validFileIdentDS() {
     // transform before union to avoid extra serialization/deserialization
     FileInfoToFileURI toFileURI = new FileInfoToFileURI(equalSchemes, equalAuthorities);
@@ -327,9 +361,18 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     int parallelism = Math.min(subDirs.size(), listingParallelism);
     JavaRDD<String> subDirRDD = sparkContext().parallelize(subDirs, parallelism);
 
-    Broadcast<SerializableConfiguration> conf = sparkContext().broadcast(hadoopConf);
-    ListDirsRecursively listDirs = new ListDirsRecursively(conf, olderThanTimestamp, pathFilter);
-    JavaRDD<String> matchingLeafFileRDD = subDirRDD.mapPartitions(listDirs);
+    JavaRDD<String> matchingLeafFileRDD;
+    if (prefixListing()) {
+      Broadcast<Table> tableBroadcast =
+          sparkContext().broadcast(SerializableTableWithSize.copyOf(table));
+      ListDirsByPrefix listDirs =
+          new ListDirsByPrefix(tableBroadcast, olderThanTimestamp, pathFilter);
+      matchingLeafFileRDD = subDirRDD.mapPartitions(listDirs);
+    } else {
+      Broadcast<SerializableConfiguration> conf = sparkContext().broadcast(hadoopConf);
+      ListDirsRecursively listDirs = new ListDirsRecursively(conf, olderThanTimestamp, pathFilter);
+      matchingLeafFileRDD = subDirRDD.mapPartitions(listDirs);
+    }
 
     JavaRDD<String> completeMatchingFileRDD = matchingFileRDD.union(matchingLeafFileRDD);
     return spark().createDataset(completeMatchingFileRDD.rdd(), Encoders.STRING());
@@ -393,17 +436,35 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
       Dataset<FileURI> actualFileIdentDS,
       Dataset<FileURI> validFileIdentDS,
       PrefixMismatchMode prefixMismatchMode) {
+    return findOrphanFiles(
+        spark, actualFileIdentDS, validFileIdentDS, prefixMismatchMode, false /* join */);
+  }
+
+  @VisibleForTesting
+  static List<String> findOrphanFiles(
+      SparkSession spark,
+      Dataset<FileURI> actualFileIdentDS,
+      Dataset<FileURI> validFileIdentDS,
+      PrefixMismatchMode prefixMismatchMode,
+      boolean sortedMerge) {
 
     SetAccumulator<Pair<String, String>> conflicts = new SetAccumulator<>();
     spark.sparkContext().register(conflicts);
 
-    Column joinCond = actualFileIdentDS.col("path").equalTo(validFileIdentDS.col("path"));
-
-    List<String> orphanFiles =
-        actualFileIdentDS
-            .joinWith(validFileIdentDS, joinCond, "leftouter")
-            .mapPartitions(new FindOrphanFiles(prefixMismatchMode, conflicts), Encoders.STRING())
-            .collectAsList();
+    List<String> orphanFiles;
+    if (sortedMerge) {
+      orphanFiles =
+          sortedByPath(spark, actualFileIdentDS, validFileIdentDS)
+              .mapPartitions(new MergeOrphanFiles(prefixMismatchMode, conflicts), Encoders.STRING())
+              .collectAsList();
+    } else {
+      Column joinCond = actualFileIdentDS.col("path").equalTo(validFileIdentDS.col("path"));
+      orphanFiles =
+          actualFileIdentDS
+              .joinWith(validFileIdentDS, joinCond, "leftouter")
+              .mapPartitions(new FindOrphanFiles(prefixMismatchMode, conflicts), Encoders.STRING())
+              .collectAsList();
+    }
 
     if (prefixMismatchMode == PrefixMismatchMode.ERROR && !conflicts.value().isEmpty()) {
       throw new ValidationException(
@@ -421,6 +482,24 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     return orphanFiles;
   }
 
+  /**
+   * Tags actual and valid files and range-partitions them by path together, so that all rows for a
+   * path land in the same partition, sorted by path with valid rows before actual rows.
+   */
+  private static Dataset<Row> sortedByPath(
+      SparkSession spark, Dataset<FileURI> actualFileIdentDS, Dataset<FileURI> validFileIdentDS) {
+    int numPartitions = spark.sessionState().conf().numShufflePartitions();
+    Dataset<Row> taggedFileIdentDS =
+        validFileIdentDS
+            .withColumn(IS_VALID, functions.lit(true))
+            .unionByName(actualFileIdentDS.withColumn(IS_VALID, functions.lit(false)));
+    Column path = taggedFileIdentDS.col("path");
+    Column isValid = taggedFileIdentDS.col(IS_VALID);
+    return taggedFileIdentDS
+        .repartitionByRange(numPartitions, path)
+        .sortWithinPartitions(path, isValid.desc());
+  }
+
   private static Map<String, String> flattenMap(Map<String, String> map) {
     Map<String, String> flattenedMap = Maps.newHashMap();
     if (map != null) {
@@ -478,6 +557,134 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
     }
   }
 
+  private static class ListDirsByPrefix implements FlatMapFunction<Iterator<String>, String> {
+
+    private final Broadcast<Table> table;
+    private final long olderThanTimestamp;
+    private final PathFilter pathFilter;
+
+    ListDirsByPrefix(Broadcast<Table> table, long olderThanTimestamp, PathFilter pathFilter) {
+      this.table = table;
+      this.olderThanTimestamp = olderThanTimestamp;
+      this.pathFilter = pathFilter;
+    }
+
+    @Override
+    public Iterator<String> call(Iterator<String> dirs) throws Exception {
+      SupportsPrefixOperations io = (SupportsPrefixOperations) table.value().io();
+      List<String> files = Lists.newArrayList();
+
+      while (dirs.hasNext()) {
+        String dir = dirs.next();
+        int dirDepth = new Path(dir).depth();
+        String prefix = dir.endsWith("/") ? dir : dir + "/";
+
+        for (org.apache.iceberg.io.FileInfo file : io.listPrefix(prefix)) {
+          if (file.createdAtMillis() < olderThanTimestamp
+              && isVisible(new Path(file.location()), dirDepth)) {
+            files.add(file.location());
+          }
+        }
+      }
+
+      return files.iterator();
+    }
+
+    // prefix listing is flat, so apply the filter to every path component below the listed dir
+    private boolean isVisible(Path file, int dirDepth) {
+      Path current = file;
+      while (current != null && current.depth() > dirDepth) {
+        if (!pathFilter.accept(current)) {
+          return false;
+        }
+
+        current = current.getParent();
+      }
+
+      return true;
+    }
+  }
+
+  /**
+   * Finds orphan files in rows produced by {@link #sortedByPath(SparkSession, Dataset, Dataset)}.
+   *
+   * <p>Only valid files with the current path are kept in memory while scanning a partition.
+   */
+  private static class MergeOrphanFiles implements MapPartitionsFunction<Row, String> {
+
+    private final PrefixMismatchMode mode;
+    private final SetAccumulator<Pair<String, String>> conflicts;
+
+    MergeOrphanFiles(PrefixMismatchMode mode, SetAccumulator<Pair<String, String>> conflicts) {
+      this.mode = mode;
+      this.conflicts = conflicts;
+    }
+
+    @Override
+    public Iterator<String> call(Iterator<Row> rows) throws Exception {
+      List<String> orphanFiles = Lists.newArrayList();
+      List<FileURI> validFiles = Lists.newArrayList();
+      String currentPath = null;
+
+      while (rows.hasNext()) {
+        Row row = rows.next();
+        String path = row.getAs("path");
+
+        if (!path.equals(currentPath)) {
+          currentPath = path;
+          validFiles.clear();
+        }
+
+        FileURI file =
+            new FileURI(
+                row.getAs("scheme"), row.getAs("authority"), path, row.getAs("uriAsString"));
+
+        if (row.<Boolean>getAs(IS_VALID)) {
+          validFiles.add(file);
+        } else if (isOrphan(file, validFiles)) {
+          orphanFiles.add(file.uriAsString);
+        }
+      }
+
+      return orphanFiles.iterator();
+    }
+
+    private boolean isOrphan(FileURI actual, List<FileURI> validFiles) {
+      if (validFiles.isEmpty()) {
+        return true;
+      }
+
+      List<Pair<String, String>> mismatches = Lists.newArrayList();
+      for (FileURI valid : validFiles) {
+        boolean schemeMatch = uriComponentMatch(valid.scheme, actual.scheme);
+        boolean authorityMatch = uriComponentMatch(valid.authority, actual.authority);
+
+        if (schemeMatch && authorityMatch) {
+          return false;
+        }
+
+        if (!schemeMatch) {
+          mismatches.add(Pair.of(valid.scheme, actual.scheme));
+        }
+
+        if (!authorityMatch) {
+          mismatches.add(Pair.of(valid.authority, actual.authority));
+        }
+      }
+
+      if (mode == PrefixMismatchMode.DELETE) {
+        return true;
+      }
+
+      mismatches.forEach(conflicts::add);
+      return false;
+    }
+  }
+
+  private static boolean uriComponentMatch(String valid, String actual) {
+    return Strings.isNullOrEmpty(valid) || valid.equalsIgnoreCase(actual);
+  }
+
   private static class FindOrphanFiles
       implements MapPartitionsFunction<Tuple2<FileURI, FileURI>, String> {
 
@@ -520,10 +727,6 @@ public class DeleteOrphanFilesSparkAction extends BaseSparkAction<DeleteOrphanFi
         return null;
       }
     }
-
-    private boolean uriComponentMatch(String valid, String actual) {
-      return Strings.isNullOrEmpty(valid) || valid.equalsIgnoreCase(actual);
-    }
   }
 
   @VisibleForTesting
@@ -21,6 +21,8 @@ package org.apache.iceberg.spark.actions;
 import static org.apache.iceberg.MetadataTableType.ENTRIES;
 
 import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.UUID;
@@ -53,6 +55,7 @@ import org.apache.iceberg.relocated.com.google.common.collect.Lists;
 import org.apache.iceberg.spark.JobGroupInfo;
 import org.apache.iceberg.spark.SparkDataFile;
 import org.apache.iceberg.types.Types;
+import org.apache.iceberg.util.LowerBoundSortKey;
 import org.apache.iceberg.util.PropertyUtil;
 import org.apache.iceberg.util.Tasks;
 import org.apache.iceberg.util.ThreadPools;
@@ -65,10 +68,15 @@ import org.apache.spark.sql.Encoder;
 import org.apache.spark.sql.Encoders;
 import org.apache.spark.sql.Row;
 import org.apache.spark.sql.SparkSession;
+import org.apache.spark.sql.expressions.UserDefinedFunction;
+import org.apache.spark.sql.functions;
 import org.apache.spark.sql.internal.SQLConf;
+import org.apache.spark.sql.types.DataTypes;
 import org.apache.spark.sql.types.StructType;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import scala.collection.JavaConverters;
+import scala.collection.Seq;
 
 /**
  * An action that rewrites manifests in a distributed manner and co-locates metadata for partitions.
@@ -76,7 +84,9 @@ import org.slf4j.LoggerFactory;
  * <p>By default, this action rewrites all manifests for the current partition spec and writes the
  * result to the metadata folder. The behavior can be modified by passing a custom predicate to
  * {@link #rewriteIf(Predicate)} and a custom spec id to {@link #specId(int)}. In addition, there is
- * a way to configure a custom location for new manifests via {@link #stagingLocation}.
+ * a way to configure a custom location for new manifests via {@link #stagingLocation}. Data files
+ * can also be ordered by the lower bounds of data columns within partitions via {@link
+ * #sortBy(List)}.
  */
 public class RewriteManifestsSparkAction
     extends BaseSnapshotUpdateSparkAction<RewriteManifestsSparkAction> implements RewriteManifests {
@@ -94,6 +104,7 @@ public class RewriteManifestsSparkAction
   private PartitionSpec spec = null;
   private Predicate<ManifestFile> predicate = manifest -> true;
   private String stagingLocation = null;
+  private LowerBoundSortKey sortKey = null;
 
   RewriteManifestsSparkAction(SparkSession spark, Table table) {
     super(spark);
@@ -139,6 +150,12 @@ public class RewriteManifestsSparkAction
     return this;
   }
 
+  @Override
+  public RewriteManifestsSparkAction sortBy(List<String> columns) {
+    this.sortKey = LowerBoundSortKey.of(table.schema(), columns);
+    return this;
+  }
+
   @Override
   public RewriteManifests.Result execute() {
     String desc =
@@ -230,8 +247,18 @@ public class RewriteManifestsSparkAction
     // as we should not worry about having too much metadata per partition
     long maxNumManifestEntries = Long.MAX_VALUE;
 
-    return manifestEntryDF
-        .repartition(numManifests)
+    Dataset<Row> clusteredDF;
+    if (sortKey != null) {
+      Column sortKeyColumn = sortKeyColumn(manifestEntryDF);
+      clusteredDF =
+          manifestEntryDF
+              .repartitionByRange(numManifests, sortKeyColumn)
+              .sortWithinPartitions(sortKeyColumn);
+    } else {
+      clusteredDF = manifestEntryDF.repartition(numManifests);
+    }
+
+    return clusteredDF
         .mapPartitions(
             toManifests(
                 tableBroadcast,
@@ -259,9 +286,15 @@ public class RewriteManifestsSparkAction
     return withReusableDS(
         manifestEntryDF,
         df -> {
-          Column partitionColumn = df.col("data_file.partition");
-          return df.repartitionByRange(numManifests, partitionColumn)
-              .sortWithinPartitions(partitionColumn)
+          Column[] clusterColumns;
+          if (sortKey != null) {
+            clusterColumns = new Column[] {df.col("data_file.partition"), sortKeyColumn(df)};
+          } else {
+            clusterColumns = new Column[] {df.col("data_file.partition")};
+          }
+
+          return df.repartitionByRange(numManifests, clusterColumns)
+              .sortWithinPartitions(clusterColumns)
               .mapPartitions(
                   toManifests(
                       tableBroadcast,
@@ -276,6 +309,24 @@ public class RewriteManifestsSparkAction
         });
   }
 
+  private Column sortKeyColumn(Dataset<Row> df) {
+    LowerBoundSortKey key = sortKey;
+    Column lowerBounds = df.col("data_file.lower_bounds");
+    Column[] bounds =
+        Arrays.stream(key.fieldIds()).mapToObj(lowerBounds::getItem).toArray(Column[]::new);
+    UserDefinedFunction sortKeyUDF =
+        functions
+            .udf(
+                (Seq<byte[]> values) ->
+                    key.key(
+                        JavaConverters.seqAsJavaList(values).stream()
+                            .map(value -> value != null ? ByteBuffer.wrap(value) : null)
+                            .toArray(ByteBuffer[]::new)),
+                DataTypes.BinaryType)
+            .withName("LOWER_BOUND_SORT_KEY");
+    return sortKeyUDF.apply(functions.array(bounds));
+  }
+
   private <T, U> U withReusableDS(Dataset<T> ds, Function<Dataset<T>, U> func) {
     Dataset<T> reusableDS;
     boolean useCaching =
@@ -384,7 +435,8 @@ public class RewriteManifestsSparkAction
     Types.StructType manifestFileType = DataFile.getType(spec.partitionType());
     SparkDataFile wrapper = new SparkDataFile(combinedFileType, manifestFileType, sparkType);
 
-    ManifestWriter<DataFile> writer = ManifestFiles.write(format, spec, outputFile, null);
+    ManifestWriter<DataFile> writer =
+        ManifestFiles.write(format, spec, outputFile, null, tableBroadcast.value().properties());
 
     try {
       for (int index = startIndex; index < endIndex; index++) {
@@ -83,6 +83,7 @@ import org.apache.spark.sql.connector.write.RequiresDistributionAndOrdering;
 import org.apache.spark.sql.connector.write.RowLevelOperation.Command;
 import org.apache.spark.sql.connector.write.WriterCommitMessage;
 import org.apache.spark.sql.types.StructType;
+import org.apache.spark.unsafe.types.UTF8String;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -373,6 +374,20 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
   }
 
   private abstract static class BaseDeltaWriter implements DeltaWriter<InternalRow> {
+    private UTF8String lastFile = null;
+    private String lastFilePath = null;
+
+    // decodes the file path only once for consecutive deletes in the same data file, which also
+    // allows delete writers to skip hashing paths they have just seen
+    protected String filePath(InternalRow id, int fileOrdinal) {
+      UTF8String file = id.getUTF8String(fileOrdinal);
+      if (!file.equals(lastFile)) {
+        this.lastFile = file.clone();
+        this.lastFilePath = file.toString();
+      }
+
+      return lastFilePath;
+    }
 
     protected InternalRowWrapper initPartitionRowWrapper(Types.StructType partitionType) {
       StructType sparkPartitionType = (StructType) SparkSchemaUtil.convert(partitionType);
@@ -402,7 +417,8 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       long targetFileSize = context.targetDataFileSize();
 
       if (table.spec().isPartitioned() && fanoutEnabled && !inputOrdered) {
-        return new FanoutDataWriter<>(writers, files, io, targetFileSize);
+        int maxOpenWriters = context.fanoutMaxOpenWriters();
+        return new FanoutDataWriter<>(writers, files, io, targetFileSize, maxOpenWriters);
       } else {
         return new ClusteredDataWriter<>(writers, files, io, targetFileSize);
       }
@@ -417,11 +433,13 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       FileIO io = table.io();
       boolean inputOrdered = context.inputOrdered();
       long targetFileSize = context.targetDeleteFileSize();
+      long spillThreshold = context.deleteSortSpillThreshold();
 
       if (inputOrdered) {
         return new ClusteredPositionDeleteWriter<>(writers, files, io, targetFileSize);
       } else {
-        return new FanoutPositionOnlyDeleteWriter<>(writers, files, io, targetFileSize);
+        return new FanoutPositionOnlyDeleteWriter<>(
+            writers, files, io, targetFileSize, spillThreshold);
       }
     }
   }
@@ -470,7 +488,7 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       StructProjection partitionProjection = partitionProjections.get(specId);
       partitionProjection.wrap(partitionRowWrapper.wrap(partition));
 
-      String file = id.getString(fileOrdinal);
+      String file = filePath(id, fileOrdinal);
       long position = id.getLong(positionOrdinal);
       positionDelete.set(file, position, null);
       delegate.write(positionDelete, spec, partitionProjection);
@@ -559,7 +577,7 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       StructProjection partitionProjection = deletePartitionProjections.get(specId);
       partitionProjection.wrap(deletePartitionRowWrapper.wrap(partition));
 
-      String file = id.getString(fileOrdinal);
+      String file = filePath(id, fileOrdinal);
       long position = id.getLong(positionOrdinal);
       delegate.delete(file, position, spec, partitionProjection);
     }
@@ -660,8 +678,10 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
     private final StructType metadataSparkType;
     private final FileFormat deleteFileFormat;
     private final long targetDeleteFileSize;
+    private final long deleteSortSpillThreshold;
     private final String queryId;
     private final boolean fanoutWriterEnabled;
+    private final int fanoutMaxOpenWriters;
     private final boolean inputOrdered;
 
     Context(
@@ -676,9 +696,11 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       this.deleteSparkType = info.rowIdSchema().get();
       this.deleteFileFormat = writeConf.deleteFileFormat();
       this.targetDeleteFileSize = writeConf.targetDeleteFileSize();
+      this.deleteSortSpillThreshold = writeConf.deleteSortSpillThreshold();
       this.metadataSparkType = info.metadataSchema().get();
       this.queryId = info.queryId();
       this.fanoutWriterEnabled = writeConf.fanoutWriterEnabled();
+      this.fanoutMaxOpenWriters = writeConf.fanoutMaxOpenWriters();
       this.inputOrdered = writeRequirements.hasOrdering();
     }
 
@@ -710,6 +732,10 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       return targetDeleteFileSize;
     }
 
+    long deleteSortSpillThreshold() {
+      return deleteSortSpillThreshold;
+    }
+
     String queryId() {
       return queryId;
     }
@@ -718,6 +744,10 @@ class SparkPositionDeltaWrite implements DeltaWrite, RequiresDistributionAndOrde
       return fanoutWriterEnabled;
     }
 
+    int fanoutMaxOpenWriters() {
+      return fanoutMaxOpenWriters;
+    }
+
     boolean inputOrdered() {
       return inputOrdered;
     }
@@ -99,6 +99,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
   private final StructType dsSchema;
   private final Map<String, String> extraSnapshotMetadata;
   private final boolean partitionedFanoutEnabled;
+  private final int fanoutMaxOpenWriters;
   private final SparkWriteRequirements writeRequirements;
 
   private boolean cleanupOnAbort = true;
@@ -126,6 +127,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     this.dsSchema = dsSchema;
     this.extraSnapshotMetadata = writeConf.extraSnapshotMetadata();
     this.partitionedFanoutEnabled = writeConf.fanoutWriterEnabled();
+    this.fanoutMaxOpenWriters = writeConf.fanoutMaxOpenWriters();
     this.writeRequirements = writeRequirements;
     this.outputSpecId = writeConf.outputSpecId();
   }
@@ -186,7 +188,8 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         targetFileSize,
         writeSchema,
         dsSchema,
-        partitionedFanoutEnabled);
+        partitionedFanoutEnabled,
+        fanoutMaxOpenWriters);
   }
 
   private void commitOperation(SnapshotUpdate<?> operation, String description) {
@@ -615,6 +618,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
     private final Schema writeSchema;
     private final StructType dsSchema;
     private final boolean partitionedFanoutEnabled;
+    private final int fanoutMaxOpenWriters;
     private final String queryId;
 
     protected WriterFactory(
@@ -625,7 +629,8 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         long targetFileSize,
         Schema writeSchema,
         StructType dsSchema,
-        boolean partitionedFanoutEnabled) {
+        boolean partitionedFanoutEnabled,
+        int fanoutMaxOpenWriters) {
       this.tableBroadcast = tableBroadcast;
       this.format = format;
       this.outputSpecId = outputSpecId;
@@ -633,6 +638,7 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
       this.writeSchema = writeSchema;
       this.dsSchema = dsSchema;
       this.partitionedFanoutEnabled = partitionedFanoutEnabled;
+      this.fanoutMaxOpenWriters = fanoutMaxOpenWriters;
       this.queryId = queryId;
     }
 
@@ -671,7 +677,8 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
             writeSchema,
             dsSchema,
             targetFileSize,
-            partitionedFanoutEnabled);
+            partitionedFanoutEnabled,
+            fanoutMaxOpenWriters);
       }
     }
   }
@@ -735,9 +742,12 @@ abstract class SparkWrite implements Write, RequiresDistributionAndOrdering {
         Schema dataSchema,
         StructType dataSparkType,
         long targetFileSize,
-        boolean fanoutEnabled) {
+        boolean fanoutEnabled,
+        int fanoutMaxOpenWriters) {
       if (fanoutEnabled) {
-        this.delegate = new FanoutDataWriter<>(writerFactory, fileFactory, io, targetFileSize);
+        this.delegate =
+            new FanoutDataWriter<>(
+                writerFactory, fileFactory, io, targetFileSize, fanoutMaxOpenWriters);
       } else {
         this.delegate = new ClusteredDataWriter<>(writerFactory, fileFactory, io, targetFileSize);
       }
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import org.apache.iceberg.PartitionKey;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.data.GenericRecord;
+import org.apache.iceberg.data.Record;
+import org.apache.iceberg.relocated.com.google.common.collect.Lists;
+import org.apache.iceberg.types.Types;
+import org.apache.spark.sql.execution.vectorized.OnHeapColumnVector;
+import org.apache.spark.sql.types.DataTypes;
+import org.apache.spark.sql.vectorized.ColumnVector;
+import org.apache.spark.sql.vectorized.ColumnarBatch;
+import org.apache.spark.unsafe.types.UTF8String;
+import org.junit.Assert;
+import org.junit.Test;
+
+public class TestSparkBatchPartitioner {
+  private static final Schema SCHEMA =
+      new Schema(
+          Types.NestedField.required(1, "id", Types.LongType.get()),
+          Types.NestedField.optional(2, "data", Types.StringType.get()),
+          Types.NestedField.optional(3, "date", Types.DateType.get()));
+
+  @Test
+  public void testPartition() {
+    PartitionSpec spec =
+        PartitionSpec.builderFor(SCHEMA).bucket("id", 4).truncate("data", 1).month("date").build();
+
+    long[] ids = new long[] {1L, 2L, 3L, 4L, 5L, 6L};
+    String[] data = new String[] {"a", "ab", null, "b", "a", "bc"};
+    Integer[] dates = new Integer[] {0, 1, 40, null, -1, 31};
+
+    OnHeapColumnVector idVector = new OnHeapColumnVector(ids.length, DataTypes.LongType);
+    OnHeapColumnVector dataVector = new OnHeapColumnVector(ids.length, DataTypes.StringType);
+    OnHeapColumnVector dateVector = new OnHeapColumnVector(ids.length, DataTypes.DateType);
+    for (int row = 0; row < ids.length; row += 1) {
+      idVector.putLong(row, ids[row]);
+      if (data[row] != null) {
+        dataVector.putByteArray(row, UTF8String.fromString(data[row]).getBytes());
+      } else {
+        dataVector.putNull(row);
+      }
+
+      if (dates[row] != null) {
+        dateVector.putInt(row, dates[row]);
+      } else {
+        dateVector.putNull(row);
+      }
+    }
+
+    ColumnarBatch batch =
+        new ColumnarBatch(new ColumnVector[] {idVector, dataVector, dateVector}, ids.length);
+    Map<PartitionKey, int[]> partitions = new SparkBatchPartitioner(spec, SCHEMA).partition(batch);
+
+    PartitionKey expected = new PartitionKey(spec, SCHEMA);
+    List<Integer> rows = Lists.newArrayList();
+    for (Map.Entry<PartitionKey, int[]> entry : partitions.entrySet()) {
+      for (int row : entry.getValue()) {
+        Record record = GenericRecord.create(SCHEMA);
+        record.set(0, ids[row]);
+        record.set(1, data[row]);
+        record.set(2, dates[row]);
+        expected.partition(record);
+        Assert.assertEquals("Partition for row " + row, expected, entry.getKey());
+        rows.add(row);
+      }
+    }
+
+    Assert.assertEquals("Should partition every row", ids.length, rows.size());
+    batch.close();
+  }
+
+  @Test
+  public void testBucketUUID() {
+    Schema schema = new Schema(Types.NestedField.optional(1, "uuid", Types.UUIDType.get()));
+    PartitionSpec spec = PartitionSpec.builderFor(schema).bucket("uuid", 16).build();
+
+    UUID[] uuids =
+        new UUID[] {
+          UUID.fromString("f79c3e09-677c-4bbd-a479-3f349cb785e7"),
+          null,
+          UUID.fromString("0f8fad5b-d9cb-469f-a165-70867728950e"),
+          UUID.fromString("7c9e6679-7425-40de-944b-e07fc1f90ae7")
+        };
+
+    OnHeapColumnVector uuidVector = new OnHeapColumnVector(uuids.length, DataTypes.StringType);
+    for (int row = 0; row < uuids.length; row += 1) {
+      if (uuids[row] != null) {
+        uuidVector.putByteArray(row, UTF8String.fromString(uuids[row].toString()).getBytes());
+      } else {
+        uuidVector.putNull(row);
+      }
+    }
+
+    ColumnarBatch batch = new ColumnarBatch(new ColumnVector[] {uuidVector}, uuids.length);
+    Map<PartitionKey, int[]> partitions = new SparkBatchPartitioner(spec, schema).partition(batch);
+
+    PartitionKey expected = new PartitionKey(spec, schema);
+    int numRows = 0;
+    for (Map.Entry<PartitionKey, int[]> entry : partitions.entrySet()) {
+      for (int row : entry.getValue()) {
+        Record record = GenericRecord.create(schema);
+        record.set(0, uuids[row]);
+        expected.partition(record);
+        Assert.assertEquals("Partition for row " + row, expected, entry.getKey());
+        numRows += 1;
+      }
+    }
+
+    Assert.assertEquals("Should partition every row", uuids.length, numRows);
+    batch.close();
+  }
+}
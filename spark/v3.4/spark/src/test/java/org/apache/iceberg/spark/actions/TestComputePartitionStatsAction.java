@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ *
+ *   http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an
+ * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY
+ * KIND, either express or implied.  See the License for the
+ * specific language governing permissions and limitations
+ * under the License.
+ */
+package org.apache.iceberg.spark.actions;
+
+import static org.apache.iceberg.types.Types.NestedField.optional;
+
+import java.io.File;
+import org.apache.hadoop.conf.Configuration;
+import org.apache.iceberg.DataFile;
+import org.apache.iceberg.DataFiles;
+import org.apache.iceberg.PartitionSpec;
+import org.apache.iceberg.PartitionStatisticsFile;
+import org.apache.iceberg.Schema;
+import org.apache.iceberg.Table;
+import org.apache.iceberg.TestHelpers;
+import org.apache.iceberg.actions.ComputePartitionStats;
+import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableSet;
+import org.apache.iceberg.relocated.com.google.common.collect.Maps;
+import org.apache.iceberg.spark.SparkTestBase;
+import org.apache.iceberg.types.Types;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class TestComputePartitionStatsAction extends SparkTestBase {
+  private static final HadoopTables TABLES = new HadoopTables(new Configuration());
+  private static final Schema SCHEMA =
+      new Schema(
+          optional(1, "c1", Types.IntegerType.get()), optional(2, "c2", Types.StringType.get()));
+
+  private static final PartitionSpec SPEC = PartitionSpec.builderFor(SCHEMA).identity("c1").build();
+
+  static final DataFile FILE_A =
+      DataFiles.builder(SPEC)
+          .withPath("/path/to/data-a.parquet")
+          .withFileSizeInBytes(10)
+          .withPartition(TestHelpers.Row.of(0))
+          .withRecordCount(1)
+          .build();
+  static final DataFile FILE_B =
+      DataFiles.builder(SPEC)
+          .withPath("/path/to/data-b.parquet")
+          .withFileSizeInBytes(10)
+          .withPartition(TestHelpers.Row.of(1))
+          .withRecordCount(1)
+          .build();
+
+  @Rule public TemporaryFolder temp = new TemporaryFolder();
+
+  private Table table;
+
+  @Before
+  public void setupTableLocation() throws Exception {
+    File tableDir = temp.newFolder();
+    String tableLocation = tableDir.toURI().toString();
+    this.table = TABLES.create(SCHEMA, SPEC, Maps.newHashMap(), tableLocation);
+  }
+
+  @Test
+  public void testEmptyTable() {
+    ComputePartitionStats.Result result = SparkActions.get().computePartitionStats(table).execute();
+
+    Assert.assertNull("Should not write stats for an empty table", result.statisticsFile());
+    Assert.assertEquals(
+        "Should not register stats files", ImmutableList.of(), table.partitionStatisticsFiles());
+  }
+
+  @Test
+  public void testComputeStatsForSnapshots() {
+    table.newAppend().appendFile(FILE_A).commit();
+    long firstSnapshotId = table.currentSnapshot().snapshotId();
+    table.newAppend().appendFile(FILE_B).commit();
+
+    ComputePartitionStats.Result first =
+        SparkActions.get().computePartitionStats(table).snapshot(firstSnapshotId).execute();
+    ComputePartitionStats.Result current =
+        SparkActions.get().computePartitionStats(table).execute();
+
+    PartitionStatisticsFile firstFile = first.statisticsFile();
+    PartitionStatisticsFile currentFile = current.statisticsFile();
+    Assert.assertEquals(
+        "Should compute stats for snapshot", firstSnapshotId, firstFile.snapshotId());
+    Assert.assertEquals(
+        "Should compute stats for current snapshot",
+        table.currentSnapshot().snapshotId(),
+        currentFile.snapshotId());
+
+    table.refresh();
+    Assert.assertEquals(
+        "Should register both stats files",
+        ImmutableSet.of(firstFile, currentFile),
+        ImmutableSet.copyOf(table.partitionStatisticsFiles()));
+
+    long partitionCount =
+        spark.read().format("iceberg").load(table.location() + "#partitions").count();
+    Assert.assertEquals("Partitions table should use stats file", 2L, partitionCount);
+  }
+}
@@ -242,6 +242,52 @@ public abstract class TestRemoveOrphanFilesAction extends SparkTestBase {
     }
   }
 
+  @Test
+  public void testSortedMergeWithPrefixListing() throws IOException, InterruptedException {
+    Table table = TABLES.create(SCHEMA, SPEC, Maps.newHashMap(), tableLocation);
+
+    List<ThreeColumnRecord> records =
+        Lists.newArrayList(new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA"));
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class).coalesce(1);
+
+    df.select("c1", "c2", "c3").write().format("iceberg").mode("append").save(tableLocation);
+    df.select("c1", "c2", "c3").write().format("iceberg").mode("append").save(tableLocation);
+
+    List<String> validFiles = snapshotFiles(table.currentSnapshot().snapshotId());
+    Assert.assertEquals("Should be 2 valid files", 2, validFiles.size());
+
+    df.coalesce(1).write().mode("append").parquet(tableLocation + "/data/c2_trunc=AA/c3=AAAA");
+    df.coalesce(1).write().mode("append").parquet(tableLocation + "/data/invalid/invalid");
+    // deeper than the driver listing depth, so this dir is listed by prefix on executors
+    df.coalesce(1)
+        .write()
+        .mode("append")
+        .parquet(tableLocation + "/data/c2_trunc=AA/c3=AAAA/nested/deeper/deepest");
+
+    waitUntilAfter(System.currentTimeMillis());
+
+    DeleteOrphanFiles.Result result =
+        SparkActions.get()
+            .deleteOrphanFiles(table)
+            .option(DeleteOrphanFilesSparkAction.SORTED_MERGE_ENABLED, "true")
+            .option(DeleteOrphanFilesSparkAction.PREFIX_LISTING_ENABLED, "true")
+            .olderThan(System.currentTimeMillis())
+            .execute();
+
+    Assert.assertEquals("Should delete 3 files", 3, Iterables.size(result.orphanFileLocations()));
+
+    Path dataPath = new Path(tableLocation + "/data");
+    FileSystem fs = dataPath.getFileSystem(spark.sessionState().newHadoopConf());
+
+    for (String fileLocation : validFiles) {
+      Assert.assertTrue("All snapshot files must remain", fs.exists(new Path(fileLocation)));
+    }
+
+    for (String fileLocation : result.orphanFileLocations()) {
+      Assert.assertFalse("Orphan files must be deleted", fs.exists(new Path(fileLocation)));
+    }
+  }
+
   @Test
   public void orphanedFileRemovedWithParallelTasks() throws InterruptedException, IOException {
     Table table = TABLES.create(SCHEMA, SPEC, Maps.newHashMap(), tableLocation);
@@ -1081,5 +1127,11 @@ public abstract class TestRemoveOrphanFilesAction extends SparkTestBase {
         DeleteOrphanFilesSparkAction.findOrphanFiles(
             spark, toFileUri.apply(actualFileDS), toFileUri.apply(validFileDS), mode);
     Assert.assertEquals(expectedOrphanFiles, orphanFiles);
+
+    List<String> mergedOrphanFiles =
+        DeleteOrphanFilesSparkAction.findOrphanFiles(
+            spark, toFileUri.apply(actualFileDS), toFileUri.apply(validFileDS), mode, true);
+    Assert.assertEquals(
+        "Sorted merge should find the same orphan files", expectedOrphanFiles, mergedOrphanFiles);
   }
 }
@@ -35,6 +35,7 @@ import java.util.Map;
 import org.apache.hadoop.conf.Configuration;
 import org.apache.iceberg.DataFile;
 import org.apache.iceberg.ManifestFile;
+import org.apache.iceberg.ManifestFiles;
 import org.apache.iceberg.PartitionSpec;
 import org.apache.iceberg.Schema;
 import org.apache.iceberg.Snapshot;
@@ -43,6 +44,8 @@ import org.apache.iceberg.TableProperties;
 import org.apache.iceberg.actions.RewriteManifests;
 import org.apache.iceberg.exceptions.CommitStateUnknownException;
 import org.apache.iceberg.hadoop.HadoopTables;
+import org.apache.iceberg.io.CloseableIterable;
+import org.apache.iceberg.relocated.com.google.common.collect.ImmutableList;
 import org.apache.iceberg.relocated.com.google.common.collect.ImmutableMap;
 import org.apache.iceberg.relocated.com.google.common.collect.Iterables;
 import org.apache.iceberg.relocated.com.google.common.collect.Lists;
@@ -51,6 +54,7 @@ import org.apache.iceberg.spark.SparkTableUtil;
 import org.apache.iceberg.spark.SparkTestBase;
 import org.apache.iceberg.spark.SparkWriteOptions;
 import org.apache.iceberg.spark.source.ThreeColumnRecord;
+import org.apache.iceberg.types.Conversions;
 import org.apache.iceberg.types.Types;
 import org.apache.spark.sql.Dataset;
 import org.apache.spark.sql.Encoders;
@@ -424,6 +428,97 @@ public class TestRewriteManifestsAction extends SparkTestBase {
     Assert.assertEquals("Rows must match", records, actualRecords);
   }
 
+  @Test
+  public void testRewriteManifestsSortedByLowerBounds() throws IOException {
+    PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c3").build();
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, snapshotIdInheritanceEnabled);
+    options.put(TableProperties.FORMAT_VERSION, "2");
+    options.put(TableProperties.MANIFEST_COLUMN_BOUNDS, "c1");
+    Table table = TABLES.create(SCHEMA, spec, options, tableLocation);
+
+    // all records belong to the same partition and each file has a distinct range of c1
+    List<ThreeColumnRecord> records = Lists.newArrayList();
+    for (int i = 0; i < 50; i++) {
+      records.add(new ThreeColumnRecord(i, String.valueOf(i), "0"));
+    }
+    Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class);
+    writeDF(df.repartitionByRange(10, df.col("c1")));
+    writeDF(df.repartitionByRange(10, df.col("c1").desc()));
+
+    table.refresh();
+
+    List<ManifestFile> manifests = table.currentSnapshot().allManifests(table.io());
+    Assert.assertEquals("Should have 2 manifests before rewrite", 2, manifests.size());
+
+    // set the target manifest size to force splitting entries into 2 manifests
+    table
+        .updateProperties()
+        .set(
+            TableProperties.MANIFEST_TARGET_SIZE_BYTES,
+            String.valueOf(manifests.get(0).length() + manifests.get(1).length() - 1))
+        .commit();
+
+    SparkActions actions = SparkActions.get();
+
+    RewriteManifests.Result result =
+        actions
+            .rewriteManifests(table)
+            .sortBy(ImmutableList.of("c1"))
+            .stagingLocation(temp.newFolder().toString())
+            .execute();
+
+    Assert.assertEquals(
+        "Action should add 2 manifests", 2, Iterables.size(result.addedManifests()));
+
+    table.refresh();
+
+    int c1FieldId = table.schema().findField("c1").fieldId();
+    List<int[]> ranges = Lists.newArrayList();
+    for (ManifestFile manifest : table.currentSnapshot().allManifests(table.io())) {
+      int min = Integer.MAX_VALUE;
+      int max = Integer.MIN_VALUE;
+      int maxUpper = Integer.MIN_VALUE;
+      try (CloseableIterable<DataFile> files = ManifestFiles.read(manifest, table.io())) {
+        for (DataFile file : files) {
+          int lower =
+              Conversions.fromByteBuffer(
+                  Types.IntegerType.get(), file.lowerBounds().get(c1FieldId));
+          int upper =
+              Conversions.fromByteBuffer(
+                  Types.IntegerType.get(), file.upperBounds().get(c1FieldId));
+          min = Math.min(min, lower);
+          max = Math.max(max, lower);
+          maxUpper = Math.max(maxUpper, upper);
+        }
+      }
+
+      // the summaries of the sorted manifests are what planning uses to skip them
+      Assert.assertNotNull("Should summarize column bounds", manifest.columnLowerBounds());
+      Assert.assertEquals(
+          "Should summarize the lower bound of c1",
+          min,
+          (int)
+              Conversions.fromByteBuffer(
+                  Types.IntegerType.get(), manifest.columnLowerBounds().get(c1FieldId)));
+      Assert.assertEquals(
+          "Should summarize the upper bound of c1",
+          maxUpper,
+          (int)
+              Conversions.fromByteBuffer(
+                  Types.IntegerType.get(), manifest.columnUpperBounds().get(c1FieldId)));
+
+      ranges.add(new int[] {min, max});
+    }
+
+    ranges.sort((range1, range2) -> Integer.compare(range1[0], range2[0]));
+    Assert.assertTrue(
+        "Manifests should cover disjoint ranges of c1", ranges.get(0)[1] <= ranges.get(1)[0]);
+
+    Dataset<Row> resultDF = spark.read().format("iceberg").load(tableLocation);
+    Assert.assertEquals("Row count must match", 100, resultDF.count());
+  }
+
   @Test
   public void testRewriteManifestsWithPredicate() throws IOException {
     PartitionSpec spec = PartitionSpec.builderFor(SCHEMA).identity("c1").truncate("c2", 2).build();
@@ -554,6 +649,42 @@ public class TestRewriteManifestsAction extends SparkTestBase {
     Assert.assertEquals("Rows must match", expectedRecords, actualRecords);
   }
 
+  @Test
+  public void testRewriteManifestsKeepsColumnBounds() {
+    PartitionSpec spec = PartitionSpec.unpartitioned();
+    Map<String, String> options = Maps.newHashMap();
+    options.put(TableProperties.SNAPSHOT_ID_INHERITANCE_ENABLED, snapshotIdInheritanceEnabled);
+    options.put(TableProperties.FORMAT_VERSION, "2");
+    options.put(TableProperties.MANIFEST_COLUMN_BOUNDS, "c1");
+    Table table = TABLES.create(SCHEMA, spec, options, tableLocation);
+
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(1, "AAAAAAAAAA", "AAAA")));
+    writeRecords(Lists.newArrayList(new ThreeColumnRecord(5, "BBBBBBBBBB", "BBBB")));
+
+    table.refresh();
+
+    SparkActions.get().rewriteManifests(table).rewriteIf(manifest -> true).execute();
+
+    table.refresh();
+
+    ManifestFile manifest =
+        Iterables.getOnlyElement(table.currentSnapshot().allManifests(table.io()));
+    int c1FieldId = table.schema().findField("c1").fieldId();
+    Assert.assertNotNull("Should summarize column bounds", manifest.columnLowerBounds());
+    Assert.assertEquals(
+        "Should keep the lower bound of c1",
+        1,
+        (int)
+            Conversions.fromByteBuffer(
+                Types.IntegerType.get(), manifest.columnLowerBounds().get(c1FieldId)));
+    Assert.assertEquals(
+        "Should keep the upper bound of c1",
+        5,
+        (int)
+            Conversions.fromByteBuffer(
+                Types.IntegerType.get(), manifest.columnUpperBounds().get(c1FieldId)));
+  }
+
   private void writeRecords(List<ThreeColumnRecord> records) {
     Dataset<Row> df = spark.createDataFrame(records, ThreeColumnRecord.class);
     writeDF(df);